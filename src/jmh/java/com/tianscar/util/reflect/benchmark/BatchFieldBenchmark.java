@@ -0,0 +1,99 @@
+package com.tianscar.util.reflect.benchmark;
+
+import com.tianscar.util.reflect.FieldAccessor;
+import com.tianscar.util.reflect.Reflects;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading an {@code int} field of many objects one by one through {@link Reflects#getIntField(Object, Field)}
+ * and a {@link FieldAccessor} with the batch methods, which check the field type and resolve the accessor once.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchFieldBenchmark {
+
+    static final class Target {
+        private int intValue;
+        Target(int intValue) {
+            this.intValue = intValue;
+        }
+    }
+
+    private static final int SIZE = 1024;
+
+    private Field field;
+    private FieldAccessor accessor;
+    private Target[] objects;
+    private List<Target> list;
+    private int[] values;
+
+    @Setup
+    public void setup() throws NoSuchFieldException {
+        field = Target.class.getDeclaredField("intValue");
+        accessor = Reflects.accessor(field);
+        objects = new Target[SIZE];
+        for (int i = 0; i < SIZE; i ++) {
+            objects[i] = new Target(i);
+        }
+        list = Arrays.asList(objects);
+        values = new int[SIZE];
+    }
+
+    @Benchmark
+    public int[] getIntFieldLoop() {
+        for (int i = 0; i < objects.length; i ++) {
+            values[i] = Reflects.getIntField(objects[i], field);
+        }
+        return values;
+    }
+
+    @Benchmark
+    public int[] getIntAccessorLoop() {
+        for (int i = 0; i < objects.length; i ++) {
+            values[i] = accessor.getInt(objects[i]);
+        }
+        return values;
+    }
+
+    @Benchmark
+    public int[] getInts() {
+        accessor.getInts(objects, values);
+        return values;
+    }
+
+    @Benchmark
+    public int[] getIntsList() {
+        accessor.getInts(list, values);
+        return values;
+    }
+
+    @Benchmark
+    public int[] getFields() {
+        Reflects.getFields(objects, field, values);
+        return values;
+    }
+
+    @Benchmark
+    public void setInts() {
+        accessor.setInts(objects, values);
+    }
+
+}
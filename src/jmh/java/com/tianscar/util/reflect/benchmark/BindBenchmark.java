@@ -0,0 +1,74 @@
+package com.tianscar.util.reflect.benchmark;
+
+import com.tianscar.util.reflect.Bind;
+import com.tianscar.util.reflect.MethodInvoker;
+import com.tianscar.util.reflect.Reflects;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares calling the private members of {@code java.lang.String} through an interface bound with
+ * {@link Reflects#bind(Class, Object)} with {@link Reflects#invokeMethod(Object, Method, Object...)} and a
+ * {@link MethodInvoker}, which box the arguments into an array. Requires Java 9+.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BindBenchmark {
+
+    public interface StringInternals {
+        byte coder(); // Java 9+
+        @Bind(value = "hash", kind = Bind.Kind.GETTER)
+        int hash();
+    }
+
+    private final String target = "TEST STRING";
+
+    private Method coderMethod;
+    private MethodInvoker coderInvoker;
+    private StringInternals internals;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        target.hashCode();
+        coderMethod = String.class.getDeclaredMethod("coder");
+        coderInvoker = Reflects.invoker(coderMethod);
+        internals = Reflects.bind(StringInternals.class, target);
+    }
+
+    @Benchmark
+    public Object invokeReflects() throws InvocationTargetException {
+        return Reflects.invokeMethod(target, coderMethod);
+    }
+
+    @Benchmark
+    public byte invokeByteInvoker() throws InvocationTargetException {
+        return coderInvoker.invokeByte(target);
+    }
+
+    @Benchmark
+    public byte invokeBound() {
+        return internals.coder();
+    }
+
+    @Benchmark
+    public int getIntBound() {
+        return internals.hash();
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.tianscar.util.reflect.benchmark;
+
+import com.tianscar.util.reflect.Reflects;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares dirty-checking an entity against its snapshot with {@link Reflects#deepEquals(Object, Object)},
+ * {@link Reflects#fieldHash(Object)} and {@link Reflects#diff(Object, Object)}, which compare primitive fields
+ * without boxing, with a loop over {@link Field#get(Object)} and {@link Object#equals(Object)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompareBenchmark {
+
+    static final class Entity {
+        private long id = 42L;
+        private int version = 3;
+        private double balance = 1234.5;
+        private float rate = 0.25f;
+        private boolean active = true;
+        private char grade = 'A';
+        private short flags = 7;
+        private String name = "TEST ENTITY";
+        private String email = "test@example.com";
+    }
+
+    private Entity entity;
+    private Entity snapshot;
+    private Field[] fields;
+
+    @Setup
+    public void setup() {
+        entity = new Entity();
+        snapshot = Reflects.deepClone(entity);
+        fields = Entity.class.getDeclaredFields();
+        for (Field field : fields) {
+            field.setAccessible(true);
+        }
+    }
+
+    @Benchmark
+    public boolean equalsFieldGet() throws IllegalAccessException {
+        for (Field field : fields) {
+            Object value = field.get(entity);
+            Object other = field.get(snapshot);
+            if (value == null ? other != null : !value.equals(other)) return false;
+        }
+        return true;
+    }
+
+    @Benchmark
+    public boolean deepEquals() {
+        return Reflects.deepEquals(entity, snapshot);
+    }
+
+    @Benchmark
+    public int fieldHash() {
+        return Reflects.fieldHash(entity);
+    }
+
+    @Benchmark
+    public List<String> diff() {
+        return Reflects.diff(entity, snapshot);
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.tianscar.util.reflect.benchmark;
+
+import com.tianscar.util.reflect.ConstructorFactory;
+import com.tianscar.util.reflect.Lambdas;
+import com.tianscar.util.reflect.Reflects;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Compares the instantiation paths, from the {@code new} operator to {@link Reflects}, {@link ConstructorFactory}
+ * and {@link Lambdas}, as well as allocating an instance without running any constructor.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConstructorBenchmark {
+
+    static final class Target {
+        final int x;
+        final int y;
+        Target() {
+            this(0, 0);
+        }
+        Target(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    private static final MethodHandle CONSTRUCTOR;
+
+    static {
+        try {
+            CONSTRUCTOR = MethodHandles.lookup().findConstructor(Target.class, MethodType.methodType(void.class, int.class, int.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private int x = 1;
+    private int y = 2;
+    private Integer boxedX = 1;
+    private Integer boxedY = 2;
+
+    private Constructor<Target> constructor;
+    private ConstructorFactory<Target> factory;
+    private Supplier<Target> supplier;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        constructor = Target.class.getDeclaredConstructor(int.class, int.class);
+        constructor.setAccessible(true);
+        factory = Reflects.factory(constructor);
+        supplier = Lambdas.supplier(Target.class.getDeclaredConstructor());
+    }
+
+    @Benchmark
+    public Target direct() {
+        return new Target(x, y);
+    }
+
+    @Benchmark
+    public Target reflect() throws ReflectiveOperationException {
+        return constructor.newInstance(boxedX, boxedY);
+    }
+
+    @Benchmark
+    public Target methodHandle() throws Throwable {
+        return (Target) CONSTRUCTOR.invokeExact(x, y);
+    }
+
+    @Benchmark
+    public Target reflects() throws InstantiationException, InvocationTargetException {
+        return Reflects.newInstance(constructor, boxedX, boxedY);
+    }
+
+    @Benchmark
+    public Target factory() throws InstantiationException, InvocationTargetException {
+        return factory.newInstance(boxedX, boxedY);
+    }
+
+    @Benchmark
+    public Target supplier() {
+        return supplier.get();
+    }
+
+    @Benchmark
+    public Target allocateInstance() throws InstantiationException {
+        return Reflects.allocateInstance(Target.class);
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.tianscar.util.reflect.benchmark;
+
+import com.tianscar.util.reflect.Reflects;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares copying every field of an object through {@link Reflects#copyFields(Object, Object)} and
+ * {@link Reflects#shallowClone(Object)} with {@code Object.clone()} and one reflective access per field.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CopyBenchmark {
+
+    static class Base {
+        private long id = 1L;
+        private String name = "name";
+        private int version = 2;
+    }
+
+    static final class Target extends Base implements Cloneable {
+        private boolean active = true;
+        private byte flags = 3;
+        private char grade = 'A';
+        private short count = 4;
+        private float ratio = 5.0f;
+        private double amount = 6.0;
+        private Object payload = new Object();
+        private final int[] values = new int[] {7, 8};
+        @Override
+        public Target clone() {
+            try {
+                return (Target) super.clone();
+            } catch (CloneNotSupportedException e) {
+                throw new AssertionError(e);
+            }
+        }
+    }
+
+    private final Target src = new Target();
+    private final Target dst = new Target();
+    private Field[] fields;
+
+    @Setup
+    public void setup() {
+        List<Field> list = new ArrayList<Field>();
+        for (Class<?> cl = Target.class; cl != Object.class; cl = cl.getSuperclass()) {
+            for (Field field : cl.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) continue;
+                field.setAccessible(true);
+                list.add(field);
+            }
+        }
+        fields = list.toArray(new Field[0]);
+    }
+
+    @Benchmark
+    public Target objectClone() {
+        return src.clone();
+    }
+
+    @Benchmark
+    public Target shallowClone() {
+        return Reflects.shallowClone(src);
+    }
+
+    @Benchmark
+    public Target copyFields() {
+        Reflects.copyFields(src, dst);
+        return dst;
+    }
+
+    @Benchmark
+    public Target reflectFieldByField() throws IllegalAccessException {
+        for (Field field : fields) {
+            field.set(dst, field.get(src));
+        }
+        return dst;
+    }
+
+    @Benchmark
+    public Target reflectsFieldByField() {
+        for (Field field : fields) {
+            Reflects.setField(dst, field, Reflects.getField(src, field));
+        }
+        return dst;
+    }
+
+}
@@ -0,0 +1,713 @@
+package com.tianscar.util.reflect.benchmark;
+
+import com.tianscar.util.reflect.FieldAccessor;
+import com.tianscar.util.reflect.Reflects;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the access paths to instance fields of every type, from direct access to {@link Reflects} and {@link FieldAccessor}.
+ * Accessible or not, {@link Reflects} looks up the accessor it caches per field on every call, which accesses these
+ * fields through Unsafe (run with {@code -Dcom.tianscar.util.reflect.fieldAccessor=varhandle} to compare with the
+ * {@code VarHandle} backend on Java 9+); the difference with the {@link FieldAccessor} benchmarks is the cost
+ * of this lookup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldBenchmark {
+
+    static final class Target {
+        boolean booleanValue;
+        byte byteValue;
+        char charValue;
+        short shortValue;
+        int intValue;
+        long longValue;
+        float floatValue;
+        double doubleValue;
+        Object objectValue;
+    }
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodHandle BOOLEAN_GETTER;
+    private static final MethodHandle BOOLEAN_SETTER;
+    private static final VarHandle BOOLEAN_HANDLE;
+    private static final MethodHandle BYTE_GETTER;
+    private static final MethodHandle BYTE_SETTER;
+    private static final VarHandle BYTE_HANDLE;
+    private static final MethodHandle CHAR_GETTER;
+    private static final MethodHandle CHAR_SETTER;
+    private static final VarHandle CHAR_HANDLE;
+    private static final MethodHandle SHORT_GETTER;
+    private static final MethodHandle SHORT_SETTER;
+    private static final VarHandle SHORT_HANDLE;
+    private static final MethodHandle INT_GETTER;
+    private static final MethodHandle INT_SETTER;
+    private static final VarHandle INT_HANDLE;
+    private static final MethodHandle LONG_GETTER;
+    private static final MethodHandle LONG_SETTER;
+    private static final VarHandle LONG_HANDLE;
+    private static final MethodHandle FLOAT_GETTER;
+    private static final MethodHandle FLOAT_SETTER;
+    private static final VarHandle FLOAT_HANDLE;
+    private static final MethodHandle DOUBLE_GETTER;
+    private static final MethodHandle DOUBLE_SETTER;
+    private static final VarHandle DOUBLE_HANDLE;
+    private static final MethodHandle OBJECT_GETTER;
+    private static final MethodHandle OBJECT_SETTER;
+    private static final VarHandle OBJECT_HANDLE;
+
+    static {
+        try {
+            BOOLEAN_GETTER = LOOKUP.findGetter(Target.class, "booleanValue", boolean.class);
+            BOOLEAN_SETTER = LOOKUP.findSetter(Target.class, "booleanValue", boolean.class);
+            BOOLEAN_HANDLE = LOOKUP.findVarHandle(Target.class, "booleanValue", boolean.class);
+            BYTE_GETTER = LOOKUP.findGetter(Target.class, "byteValue", byte.class);
+            BYTE_SETTER = LOOKUP.findSetter(Target.class, "byteValue", byte.class);
+            BYTE_HANDLE = LOOKUP.findVarHandle(Target.class, "byteValue", byte.class);
+            CHAR_GETTER = LOOKUP.findGetter(Target.class, "charValue", char.class);
+            CHAR_SETTER = LOOKUP.findSetter(Target.class, "charValue", char.class);
+            CHAR_HANDLE = LOOKUP.findVarHandle(Target.class, "charValue", char.class);
+            SHORT_GETTER = LOOKUP.findGetter(Target.class, "shortValue", short.class);
+            SHORT_SETTER = LOOKUP.findSetter(Target.class, "shortValue", short.class);
+            SHORT_HANDLE = LOOKUP.findVarHandle(Target.class, "shortValue", short.class);
+            INT_GETTER = LOOKUP.findGetter(Target.class, "intValue", int.class);
+            INT_SETTER = LOOKUP.findSetter(Target.class, "intValue", int.class);
+            INT_HANDLE = LOOKUP.findVarHandle(Target.class, "intValue", int.class);
+            LONG_GETTER = LOOKUP.findGetter(Target.class, "longValue", long.class);
+            LONG_SETTER = LOOKUP.findSetter(Target.class, "longValue", long.class);
+            LONG_HANDLE = LOOKUP.findVarHandle(Target.class, "longValue", long.class);
+            FLOAT_GETTER = LOOKUP.findGetter(Target.class, "floatValue", float.class);
+            FLOAT_SETTER = LOOKUP.findSetter(Target.class, "floatValue", float.class);
+            FLOAT_HANDLE = LOOKUP.findVarHandle(Target.class, "floatValue", float.class);
+            DOUBLE_GETTER = LOOKUP.findGetter(Target.class, "doubleValue", double.class);
+            DOUBLE_SETTER = LOOKUP.findSetter(Target.class, "doubleValue", double.class);
+            DOUBLE_HANDLE = LOOKUP.findVarHandle(Target.class, "doubleValue", double.class);
+            OBJECT_GETTER = LOOKUP.findGetter(Target.class, "objectValue", Object.class);
+            OBJECT_SETTER = LOOKUP.findSetter(Target.class, "objectValue", Object.class);
+            OBJECT_HANDLE = LOOKUP.findVarHandle(Target.class, "objectValue", Object.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Target target = new Target();
+    private Field booleanField;
+    private FieldAccessor booleanAccessor;
+    private Field byteField;
+    private FieldAccessor byteAccessor;
+    private Field charField;
+    private FieldAccessor charAccessor;
+    private Field shortField;
+    private FieldAccessor shortAccessor;
+    private Field intField;
+    private FieldAccessor intAccessor;
+    private Field longField;
+    private FieldAccessor longAccessor;
+    private Field floatField;
+    private FieldAccessor floatAccessor;
+    private Field doubleField;
+    private FieldAccessor doubleAccessor;
+    private Field objectField;
+    private FieldAccessor objectAccessor;
+    private boolean booleanValue = true;
+    private byte byteValue = (byte) 1;
+    private char charValue = 'c';
+    private short shortValue = (short) 1;
+    private int intValue = 1;
+    private long longValue = 1L;
+    private float floatValue = 1.0f;
+    private double doubleValue = 1.0;
+    private Object objectValue = "TEST STRING";
+
+    @Setup
+    public void setup() throws NoSuchFieldException {
+        booleanField = Target.class.getDeclaredField("booleanValue");
+        booleanField.setAccessible(true);
+        booleanAccessor = Reflects.accessor(booleanField);
+        byteField = Target.class.getDeclaredField("byteValue");
+        byteField.setAccessible(true);
+        byteAccessor = Reflects.accessor(byteField);
+        charField = Target.class.getDeclaredField("charValue");
+        charField.setAccessible(true);
+        charAccessor = Reflects.accessor(charField);
+        shortField = Target.class.getDeclaredField("shortValue");
+        shortField.setAccessible(true);
+        shortAccessor = Reflects.accessor(shortField);
+        intField = Target.class.getDeclaredField("intValue");
+        intField.setAccessible(true);
+        intAccessor = Reflects.accessor(intField);
+        longField = Target.class.getDeclaredField("longValue");
+        longField.setAccessible(true);
+        longAccessor = Reflects.accessor(longField);
+        floatField = Target.class.getDeclaredField("floatValue");
+        floatField.setAccessible(true);
+        floatAccessor = Reflects.accessor(floatField);
+        doubleField = Target.class.getDeclaredField("doubleValue");
+        doubleField.setAccessible(true);
+        doubleAccessor = Reflects.accessor(doubleField);
+        objectField = Target.class.getDeclaredField("objectValue");
+        objectField.setAccessible(true);
+        objectAccessor = Reflects.accessor(objectField);
+    }
+
+    @Benchmark
+    public boolean getBooleanDirect() {
+        return target.booleanValue;
+    }
+
+    @Benchmark
+    public boolean getBooleanReflect() throws IllegalAccessException {
+        return booleanField.getBoolean(target);
+    }
+
+    @Benchmark
+    public boolean getBooleanMethodHandle() throws Throwable {
+        return (boolean) BOOLEAN_GETTER.invokeExact(target);
+    }
+
+    @Benchmark
+    public boolean getBooleanVarHandle() {
+        return (boolean) BOOLEAN_HANDLE.get(target);
+    }
+
+    @Benchmark
+    public boolean getBooleanReflects() {
+        return Reflects.getBooleanField(target, booleanField);
+    }
+
+    @Benchmark
+    public boolean getBooleanAccessor() {
+        return booleanAccessor.getBoolean(target);
+    }
+
+    @Benchmark
+    public void setBooleanDirect() {
+        target.booleanValue = booleanValue;
+    }
+
+    @Benchmark
+    public void setBooleanReflect() throws IllegalAccessException {
+        booleanField.setBoolean(target, booleanValue);
+    }
+
+    @Benchmark
+    public void setBooleanMethodHandle() throws Throwable {
+        BOOLEAN_SETTER.invokeExact(target, booleanValue);
+    }
+
+    @Benchmark
+    public void setBooleanVarHandle() {
+        BOOLEAN_HANDLE.set(target, booleanValue);
+    }
+
+    @Benchmark
+    public void setBooleanReflects() {
+        Reflects.setBooleanField(target, booleanField, booleanValue);
+    }
+
+    @Benchmark
+    public void setBooleanAccessor() {
+        booleanAccessor.setBoolean(target, booleanValue);
+    }
+
+    @Benchmark
+    public byte getByteDirect() {
+        return target.byteValue;
+    }
+
+    @Benchmark
+    public byte getByteReflect() throws IllegalAccessException {
+        return byteField.getByte(target);
+    }
+
+    @Benchmark
+    public byte getByteMethodHandle() throws Throwable {
+        return (byte) BYTE_GETTER.invokeExact(target);
+    }
+
+    @Benchmark
+    public byte getByteVarHandle() {
+        return (byte) BYTE_HANDLE.get(target);
+    }
+
+    @Benchmark
+    public byte getByteReflects() {
+        return Reflects.getByteField(target, byteField);
+    }
+
+    @Benchmark
+    public byte getByteAccessor() {
+        return byteAccessor.getByte(target);
+    }
+
+    @Benchmark
+    public void setByteDirect() {
+        target.byteValue = byteValue;
+    }
+
+    @Benchmark
+    public void setByteReflect() throws IllegalAccessException {
+        byteField.setByte(target, byteValue);
+    }
+
+    @Benchmark
+    public void setByteMethodHandle() throws Throwable {
+        BYTE_SETTER.invokeExact(target, byteValue);
+    }
+
+    @Benchmark
+    public void setByteVarHandle() {
+        BYTE_HANDLE.set(target, byteValue);
+    }
+
+    @Benchmark
+    public void setByteReflects() {
+        Reflects.setByteField(target, byteField, byteValue);
+    }
+
+    @Benchmark
+    public void setByteAccessor() {
+        byteAccessor.setByte(target, byteValue);
+    }
+
+    @Benchmark
+    public char getCharDirect() {
+        return target.charValue;
+    }
+
+    @Benchmark
+    public char getCharReflect() throws IllegalAccessException {
+        return charField.getChar(target);
+    }
+
+    @Benchmark
+    public char getCharMethodHandle() throws Throwable {
+        return (char) CHAR_GETTER.invokeExact(target);
+    }
+
+    @Benchmark
+    public char getCharVarHandle() {
+        return (char) CHAR_HANDLE.get(target);
+    }
+
+    @Benchmark
+    public char getCharReflects() {
+        return Reflects.getCharField(target, charField);
+    }
+
+    @Benchmark
+    public char getCharAccessor() {
+        return charAccessor.getChar(target);
+    }
+
+    @Benchmark
+    public void setCharDirect() {
+        target.charValue = charValue;
+    }
+
+    @Benchmark
+    public void setCharReflect() throws IllegalAccessException {
+        charField.setChar(target, charValue);
+    }
+
+    @Benchmark
+    public void setCharMethodHandle() throws Throwable {
+        CHAR_SETTER.invokeExact(target, charValue);
+    }
+
+    @Benchmark
+    public void setCharVarHandle() {
+        CHAR_HANDLE.set(target, charValue);
+    }
+
+    @Benchmark
+    public void setCharReflects() {
+        Reflects.setCharField(target, charField, charValue);
+    }
+
+    @Benchmark
+    public void setCharAccessor() {
+        charAccessor.setChar(target, charValue);
+    }
+
+    @Benchmark
+    public short getShortDirect() {
+        return target.shortValue;
+    }
+
+    @Benchmark
+    public short getShortReflect() throws IllegalAccessException {
+        return shortField.getShort(target);
+    }
+
+    @Benchmark
+    public short getShortMethodHandle() throws Throwable {
+        return (short) SHORT_GETTER.invokeExact(target);
+    }
+
+    @Benchmark
+    public short getShortVarHandle() {
+        return (short) SHORT_HANDLE.get(target);
+    }
+
+    @Benchmark
+    public short getShortReflects() {
+        return Reflects.getShortField(target, shortField);
+    }
+
+    @Benchmark
+    public short getShortAccessor() {
+        return shortAccessor.getShort(target);
+    }
+
+    @Benchmark
+    public void setShortDirect() {
+        target.shortValue = shortValue;
+    }
+
+    @Benchmark
+    public void setShortReflect() throws IllegalAccessException {
+        shortField.setShort(target, shortValue);
+    }
+
+    @Benchmark
+    public void setShortMethodHandle() throws Throwable {
+        SHORT_SETTER.invokeExact(target, shortValue);
+    }
+
+    @Benchmark
+    public void setShortVarHandle() {
+        SHORT_HANDLE.set(target, shortValue);
+    }
+
+    @Benchmark
+    public void setShortReflects() {
+        Reflects.setShortField(target, shortField, shortValue);
+    }
+
+    @Benchmark
+    public void setShortAccessor() {
+        shortAccessor.setShort(target, shortValue);
+    }
+
+    @Benchmark
+    public int getIntDirect() {
+        return target.intValue;
+    }
+
+    @Benchmark
+    public int getIntReflect() throws IllegalAccessException {
+        return intField.getInt(target);
+    }
+
+    @Benchmark
+    public int getIntMethodHandle() throws Throwable {
+        return (int) INT_GETTER.invokeExact(target);
+    }
+
+    @Benchmark
+    public int getIntVarHandle() {
+        return (int) INT_HANDLE.get(target);
+    }
+
+    @Benchmark
+    public int getIntReflects() {
+        return Reflects.getIntField(target, intField);
+    }
+
+    @Benchmark
+    public int getIntAccessor() {
+        return intAccessor.getInt(target);
+    }
+
+    @Benchmark
+    public void setIntDirect() {
+        target.intValue = intValue;
+    }
+
+    @Benchmark
+    public void setIntReflect() throws IllegalAccessException {
+        intField.setInt(target, intValue);
+    }
+
+    @Benchmark
+    public void setIntMethodHandle() throws Throwable {
+        INT_SETTER.invokeExact(target, intValue);
+    }
+
+    @Benchmark
+    public void setIntVarHandle() {
+        INT_HANDLE.set(target, intValue);
+    }
+
+    @Benchmark
+    public void setIntReflects() {
+        Reflects.setIntField(target, intField, intValue);
+    }
+
+    @Benchmark
+    public void setIntAccessor() {
+        intAccessor.setInt(target, intValue);
+    }
+
+    @Benchmark
+    public long getLongDirect() {
+        return target.longValue;
+    }
+
+    @Benchmark
+    public long getLongReflect() throws IllegalAccessException {
+        return longField.getLong(target);
+    }
+
+    @Benchmark
+    public long getLongMethodHandle() throws Throwable {
+        return (long) LONG_GETTER.invokeExact(target);
+    }
+
+    @Benchmark
+    public long getLongVarHandle() {
+        return (long) LONG_HANDLE.get(target);
+    }
+
+    @Benchmark
+    public long getLongReflects() {
+        return Reflects.getLongField(target, longField);
+    }
+
+    @Benchmark
+    public long getLongAccessor() {
+        return longAccessor.getLong(target);
+    }
+
+    @Benchmark
+    public void setLongDirect() {
+        target.longValue = longValue;
+    }
+
+    @Benchmark
+    public void setLongReflect() throws IllegalAccessException {
+        longField.setLong(target, longValue);
+    }
+
+    @Benchmark
+    public void setLongMethodHandle() throws Throwable {
+        LONG_SETTER.invokeExact(target, longValue);
+    }
+
+    @Benchmark
+    public void setLongVarHandle() {
+        LONG_HANDLE.set(target, longValue);
+    }
+
+    @Benchmark
+    public void setLongReflects() {
+        Reflects.setLongField(target, longField, longValue);
+    }
+
+    @Benchmark
+    public void setLongAccessor() {
+        longAccessor.setLong(target, longValue);
+    }
+
+    @Benchmark
+    public float getFloatDirect() {
+        return target.floatValue;
+    }
+
+    @Benchmark
+    public float getFloatReflect() throws IllegalAccessException {
+        return floatField.getFloat(target);
+    }
+
+    @Benchmark
+    public float getFloatMethodHandle() throws Throwable {
+        return (float) FLOAT_GETTER.invokeExact(target);
+    }
+
+    @Benchmark
+    public float getFloatVarHandle() {
+        return (float) FLOAT_HANDLE.get(target);
+    }
+
+    @Benchmark
+    public float getFloatReflects() {
+        return Reflects.getFloatField(target, floatField);
+    }
+
+    @Benchmark
+    public float getFloatAccessor() {
+        return floatAccessor.getFloat(target);
+    }
+
+    @Benchmark
+    public void setFloatDirect() {
+        target.floatValue = floatValue;
+    }
+
+    @Benchmark
+    public void setFloatReflect() throws IllegalAccessException {
+        floatField.setFloat(target, floatValue);
+    }
+
+    @Benchmark
+    public void setFloatMethodHandle() throws Throwable {
+        FLOAT_SETTER.invokeExact(target, floatValue);
+    }
+
+    @Benchmark
+    public void setFloatVarHandle() {
+        FLOAT_HANDLE.set(target, floatValue);
+    }
+
+    @Benchmark
+    public void setFloatReflects() {
+        Reflects.setFloatField(target, floatField, floatValue);
+    }
+
+    @Benchmark
+    public void setFloatAccessor() {
+        floatAccessor.setFloat(target, floatValue);
+    }
+
+    @Benchmark
+    public double getDoubleDirect() {
+        return target.doubleValue;
+    }
+
+    @Benchmark
+    public double getDoubleReflect() throws IllegalAccessException {
+        return doubleField.getDouble(target);
+    }
+
+    @Benchmark
+    public double getDoubleMethodHandle() throws Throwable {
+        return (double) DOUBLE_GETTER.invokeExact(target);
+    }
+
+    @Benchmark
+    public double getDoubleVarHandle() {
+        return (double) DOUBLE_HANDLE.get(target);
+    }
+
+    @Benchmark
+    public double getDoubleReflects() {
+        return Reflects.getDoubleField(target, doubleField);
+    }
+
+    @Benchmark
+    public double getDoubleAccessor() {
+        return doubleAccessor.getDouble(target);
+    }
+
+    @Benchmark
+    public void setDoubleDirect() {
+        target.doubleValue = doubleValue;
+    }
+
+    @Benchmark
+    public void setDoubleReflect() throws IllegalAccessException {
+        doubleField.setDouble(target, doubleValue);
+    }
+
+    @Benchmark
+    public void setDoubleMethodHandle() throws Throwable {
+        DOUBLE_SETTER.invokeExact(target, doubleValue);
+    }
+
+    @Benchmark
+    public void setDoubleVarHandle() {
+        DOUBLE_HANDLE.set(target, doubleValue);
+    }
+
+    @Benchmark
+    public void setDoubleReflects() {
+        Reflects.setDoubleField(target, doubleField, doubleValue);
+    }
+
+    @Benchmark
+    public void setDoubleAccessor() {
+        doubleAccessor.setDouble(target, doubleValue);
+    }
+
+    @Benchmark
+    public Object getObjectDirect() {
+        return target.objectValue;
+    }
+
+    @Benchmark
+    public Object getObjectReflect() throws IllegalAccessException {
+        return objectField.get(target);
+    }
+
+    @Benchmark
+    public Object getObjectMethodHandle() throws Throwable {
+        return (Object) OBJECT_GETTER.invokeExact(target);
+    }
+
+    @Benchmark
+    public Object getObjectVarHandle() {
+        return (Object) OBJECT_HANDLE.get(target);
+    }
+
+    @Benchmark
+    public Object getObjectReflects() {
+        return Reflects.getObjectField(target, objectField);
+    }
+
+    @Benchmark
+    public Object getObjectAccessor() {
+        return objectAccessor.getObject(target);
+    }
+
+    @Benchmark
+    public void setObjectDirect() {
+        target.objectValue = objectValue;
+    }
+
+    @Benchmark
+    public void setObjectReflect() throws IllegalAccessException {
+        objectField.set(target, objectValue);
+    }
+
+    @Benchmark
+    public void setObjectMethodHandle() throws Throwable {
+        OBJECT_SETTER.invokeExact(target, objectValue);
+    }
+
+    @Benchmark
+    public void setObjectVarHandle() {
+        OBJECT_HANDLE.set(target, objectValue);
+    }
+
+    @Benchmark
+    public void setObjectReflects() {
+        Reflects.setObjectField(target, objectField, objectValue);
+    }
+
+    @Benchmark
+    public void setObjectAccessor() {
+        objectAccessor.setObject(target, objectValue);
+    }
+
+}
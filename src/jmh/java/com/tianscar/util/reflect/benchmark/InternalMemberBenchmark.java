@@ -0,0 +1,85 @@
+package com.tianscar.util.reflect.benchmark;
+
+import com.tianscar.util.reflect.FieldAccessor;
+import com.tianscar.util.reflect.MethodInvoker;
+import com.tianscar.util.reflect.Reflects;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the access paths to private members of {@code java.lang.String}, which can't be made accessible on Java 16+,
+ * through the same cached accessors and invokers as accessible members. Requires Java 9+.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InternalMemberBenchmark {
+
+    private final String target = "TEST STRING";
+
+    private Field hashField;
+    private FieldAccessor hashAccessor;
+    private Method coderMethod;
+    private MethodInvoker coderInvoker;
+
+    @Setup
+    public void setup() throws NoSuchFieldException, NoSuchMethodException {
+        target.hashCode();
+        hashField = String.class.getDeclaredField("hash");
+        hashAccessor = Reflects.accessor(hashField);
+        coderMethod = String.class.getDeclaredMethod("coder"); // Java 9+
+        coderInvoker = Reflects.invoker(coderMethod);
+    }
+
+    @Benchmark
+    public int getIntDirect() {
+        return target.hashCode();
+    }
+
+    @Benchmark
+    public int getIntReflects() {
+        return Reflects.getIntField(target, hashField);
+    }
+
+    @Benchmark
+    public Object getReflects() {
+        return Reflects.getField(target, hashField);
+    }
+
+    @Benchmark
+    public int getIntAccessor() {
+        return hashAccessor.getInt(target);
+    }
+
+    @Benchmark
+    public byte invokeByteReflects() throws InvocationTargetException {
+        return Reflects.invokeByteMethod(target, coderMethod);
+    }
+
+    @Benchmark
+    public Object invokeInvoker() throws InvocationTargetException {
+        return coderInvoker.invoke(target);
+    }
+
+    @Benchmark
+    public byte invokeByteInvoker() throws InvocationTargetException {
+        return coderInvoker.invokeByte(target);
+    }
+
+}
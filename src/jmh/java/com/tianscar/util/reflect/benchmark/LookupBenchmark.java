@@ -0,0 +1,80 @@
+package com.tianscar.util.reflect.benchmark;
+
+import com.tianscar.util.reflect.FieldAccessor;
+import com.tianscar.util.reflect.MethodInvoker;
+import com.tianscar.util.reflect.Reflects;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares resolving a member by name in a superclass with {@link Reflects#findField(Class, String)} and
+ * {@link Reflects#findMethod(Class, String, Class[])} with walking the hierarchy with
+ * {@link Class#getDeclaredField(String)} and {@link Class#getDeclaredMethod(String, Class[])}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LookupBenchmark {
+
+    static class Base {
+        private int value;
+        private int value() {
+            return value;
+        }
+    }
+
+    static class Middle extends Base {
+        private int other;
+    }
+
+    static final class Leaf extends Middle {
+        private int leaf;
+    }
+
+    @Benchmark
+    public Field getDeclaredField() {
+        for (Class<?> clazz = Leaf.class; clazz != null; clazz = clazz.getSuperclass()) {
+            try {
+                return clazz.getDeclaredField("value");
+            } catch (NoSuchFieldException ignored) {
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public FieldAccessor findField() {
+        return Reflects.findField(Leaf.class, "value");
+    }
+
+    @Benchmark
+    public Method getDeclaredMethod() {
+        for (Class<?> clazz = Leaf.class; clazz != null; clazz = clazz.getSuperclass()) {
+            try {
+                return clazz.getDeclaredMethod("value");
+            } catch (NoSuchMethodException ignored) {
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public MethodInvoker findMethod() {
+        return Reflects.findMethod(Leaf.class, "value");
+    }
+
+}
@@ -0,0 +1,170 @@
+package com.tianscar.util.reflect.benchmark;
+
+import com.tianscar.util.reflect.Lambdas;
+import com.tianscar.util.reflect.MethodInvoker;
+import com.tianscar.util.reflect.Reflects;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntBinaryOperator;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * Compares the invocation paths of static and instance methods, from direct calls to {@link Reflects},
+ * {@link MethodInvoker} and {@link Lambdas}.
+ * Accessible or not, {@link Reflects} looks up the invoker it caches per method on every call, which invokes
+ * a method handle from the trusted lookup on Java 8+ and a generated accessor on Java 6-7; the difference with the
+ * {@link MethodInvoker} benchmarks is the cost of this lookup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MethodBenchmark {
+
+    static final class Target {
+        int value = 1;
+        int add(int a) {
+            return value + a;
+        }
+        static int multiply(int a, int b) {
+            return a * b;
+        }
+    }
+
+    private static final MethodHandle ADD;
+    private static final MethodHandle MULTIPLY;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            ADD = lookup.findVirtual(Target.class, "add", MethodType.methodType(int.class, int.class));
+            MULTIPLY = lookup.findStatic(Target.class, "multiply", MethodType.methodType(int.class, int.class, int.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Target target = new Target();
+    private int a = 2;
+    private int b = 3;
+    private Integer boxedA = 2;
+    private Integer boxedB = 3;
+
+    private Method addMethod;
+    private Method multiplyMethod;
+    private MethodInvoker addInvoker;
+    private MethodInvoker multiplyInvoker;
+    private ToIntBiFunction<Target, Integer> addLambda;
+    private IntBinaryOperator multiplyLambda;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() throws NoSuchMethodException {
+        addMethod = Target.class.getDeclaredMethod("add", int.class);
+        addMethod.setAccessible(true);
+        multiplyMethod = Target.class.getDeclaredMethod("multiply", int.class, int.class);
+        multiplyMethod.setAccessible(true);
+        addInvoker = Reflects.invoker(addMethod);
+        multiplyInvoker = Reflects.invoker(multiplyMethod);
+        addLambda = Lambdas.lambda(ToIntBiFunction.class, addMethod);
+        multiplyLambda = Lambdas.lambda(IntBinaryOperator.class, multiplyMethod);
+    }
+
+    @Benchmark
+    public int instanceDirect() {
+        return target.add(a);
+    }
+
+    @Benchmark
+    public Object instanceReflect() throws InvocationTargetException, IllegalAccessException {
+        return addMethod.invoke(target, boxedA);
+    }
+
+    @Benchmark
+    public int instanceMethodHandle() throws Throwable {
+        return (int) ADD.invokeExact(target, a);
+    }
+
+    @Benchmark
+    public Object instanceReflects() throws InvocationTargetException {
+        return Reflects.invokeMethod(target, addMethod, boxedA);
+    }
+
+    @Benchmark
+    public int instanceReflectsInt() throws InvocationTargetException {
+        return Reflects.invokeIntMethod(target, addMethod, boxedA);
+    }
+
+    @Benchmark
+    public Object instanceInvoker() throws InvocationTargetException {
+        return addInvoker.invoke(target, new Object[] { boxedA });
+    }
+
+    @Benchmark
+    public int instanceInvokerInt() throws InvocationTargetException {
+        return addInvoker.invokeInt(target, boxedA);
+    }
+
+    @Benchmark
+    public int instanceLambda() {
+        return addLambda.applyAsInt(target, boxedA);
+    }
+
+    @Benchmark
+    public int staticDirect() {
+        return Target.multiply(a, b);
+    }
+
+    @Benchmark
+    public Object staticReflect() throws InvocationTargetException, IllegalAccessException {
+        return multiplyMethod.invoke(null, boxedA, boxedB);
+    }
+
+    @Benchmark
+    public int staticMethodHandle() throws Throwable {
+        return (int) MULTIPLY.invokeExact(a, b);
+    }
+
+    @Benchmark
+    public Object staticReflects() throws InvocationTargetException {
+        return Reflects.invokeMethod(null, multiplyMethod, boxedA, boxedB);
+    }
+
+    @Benchmark
+    public int staticReflectsInt() throws InvocationTargetException {
+        return Reflects.invokeIntMethod(null, multiplyMethod, boxedA, boxedB);
+    }
+
+    @Benchmark
+    public Object staticInvoker() throws InvocationTargetException {
+        return multiplyInvoker.invoke(null, new Object[] { boxedA, boxedB });
+    }
+
+    @Benchmark
+    public int staticInvokerInt() throws InvocationTargetException {
+        return multiplyInvoker.invokeInt(null, boxedA, boxedB);
+    }
+
+    @Benchmark
+    public int staticLambda() {
+        return multiplyLambda.applyAsInt(a, b);
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.tianscar.util.reflect.benchmark;
+
+import com.tianscar.util.reflect.Reflects;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares writing and reading an object graph with {@link Reflects#serialize(Object, ByteBuffer)} and
+ * {@link Reflects#deserialize(ByteBuffer)} with Java serialization.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializeBenchmark {
+
+    static final class Item implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private long id;
+        private int quantity;
+        private double price;
+        private boolean active;
+        private String name;
+        private int[] history = new int[32];
+    }
+
+    static final class Order implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private long id;
+        private final List<Item> items = new ArrayList<Item>();
+    }
+
+    private final Order order = new Order();
+    private final ByteBuffer heapBuffer = ByteBuffer.allocate(1 << 20).order(ByteOrder.nativeOrder());
+    private final ByteBuffer directBuffer = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.nativeOrder());
+    private byte[] serialized;
+
+    @Setup
+    public void setup() throws IOException {
+        order.id = 1L;
+        for (int i = 0; i < 100; i ++) {
+            Item item = new Item();
+            item.id = i;
+            item.quantity = i * 2;
+            item.price = i * 0.5;
+            item.active = (i & 1) == 0;
+            item.name = "item" + i;
+            order.items.add(item);
+        }
+        Reflects.serialize(order, heapBuffer);
+        ((Buffer) heapBuffer).flip();
+        Reflects.serialize(order, directBuffer);
+        ((Buffer) directBuffer).flip();
+        serialized = javaSerialize();
+    }
+
+    @Benchmark
+    public ByteBuffer serializeHeap() {
+        ((Buffer) heapBuffer).clear();
+        Reflects.serialize(order, heapBuffer);
+        return heapBuffer;
+    }
+
+    @Benchmark
+    public ByteBuffer serializeDirect() {
+        ((Buffer) directBuffer).clear();
+        Reflects.serialize(order, directBuffer);
+        return directBuffer;
+    }
+
+    @Benchmark
+    public Object deserializeHeap() throws ClassNotFoundException {
+        ((Buffer) heapBuffer).rewind();
+        return Reflects.deserialize(heapBuffer);
+    }
+
+    @Benchmark
+    public Object deserializeDirect() throws ClassNotFoundException {
+        ((Buffer) directBuffer).rewind();
+        return Reflects.deserialize(directBuffer);
+    }
+
+    @Benchmark
+    public byte[] javaSerialize() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1 << 16);
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(order);
+        out.close();
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public Object javaDeserialize() throws IOException, ClassNotFoundException {
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized));
+        try {
+            return in.readObject();
+        } finally {
+            in.close();
+        }
+    }
+
+}
@@ -0,0 +1,274 @@
+package com.tianscar.util.reflect.benchmark;
+
+import com.tianscar.util.reflect.FieldAccessor;
+import com.tianscar.util.reflect.Reflects;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the access paths to static fields, from direct access to {@link Reflects} and {@link FieldAccessor}.
+ * Accessible or not, {@link Reflects} looks up the accessor it caches per field on every call, which accesses these
+ * fields through Unsafe (run with {@code -Dcom.tianscar.util.reflect.fieldAccessor=varhandle} to compare with the
+ * {@code VarHandle} backend on Java 9+); the difference with the {@link FieldAccessor} benchmarks is the cost
+ * of this lookup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StaticFieldBenchmark {
+
+    static final class Target {
+        static int intValue;
+        static long longValue;
+        static Object objectValue;
+    }
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodHandle INT_GETTER;
+    private static final MethodHandle INT_SETTER;
+    private static final VarHandle INT_HANDLE;
+    private static final MethodHandle LONG_GETTER;
+    private static final MethodHandle LONG_SETTER;
+    private static final VarHandle LONG_HANDLE;
+    private static final MethodHandle OBJECT_GETTER;
+    private static final MethodHandle OBJECT_SETTER;
+    private static final VarHandle OBJECT_HANDLE;
+
+    static {
+        try {
+            INT_GETTER = LOOKUP.findStaticGetter(Target.class, "intValue", int.class);
+            INT_SETTER = LOOKUP.findStaticSetter(Target.class, "intValue", int.class);
+            INT_HANDLE = LOOKUP.findStaticVarHandle(Target.class, "intValue", int.class);
+            LONG_GETTER = LOOKUP.findStaticGetter(Target.class, "longValue", long.class);
+            LONG_SETTER = LOOKUP.findStaticSetter(Target.class, "longValue", long.class);
+            LONG_HANDLE = LOOKUP.findStaticVarHandle(Target.class, "longValue", long.class);
+            OBJECT_GETTER = LOOKUP.findStaticGetter(Target.class, "objectValue", Object.class);
+            OBJECT_SETTER = LOOKUP.findStaticSetter(Target.class, "objectValue", Object.class);
+            OBJECT_HANDLE = LOOKUP.findStaticVarHandle(Target.class, "objectValue", Object.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private Field intField;
+    private FieldAccessor intAccessor;
+    private Field longField;
+    private FieldAccessor longAccessor;
+    private Field objectField;
+    private FieldAccessor objectAccessor;
+    private int intValue = 1;
+    private long longValue = 1L;
+    private Object objectValue = "TEST STRING";
+
+    @Setup
+    public void setup() throws NoSuchFieldException {
+        intField = Target.class.getDeclaredField("intValue");
+        intField.setAccessible(true);
+        intAccessor = Reflects.accessor(intField);
+        longField = Target.class.getDeclaredField("longValue");
+        longField.setAccessible(true);
+        longAccessor = Reflects.accessor(longField);
+        objectField = Target.class.getDeclaredField("objectValue");
+        objectField.setAccessible(true);
+        objectAccessor = Reflects.accessor(objectField);
+    }
+
+    @Benchmark
+    public int getIntDirect() {
+        return Target.intValue;
+    }
+
+    @Benchmark
+    public int getIntReflect() throws IllegalAccessException {
+        return intField.getInt(null);
+    }
+
+    @Benchmark
+    public int getIntMethodHandle() throws Throwable {
+        return (int) INT_GETTER.invokeExact();
+    }
+
+    @Benchmark
+    public int getIntVarHandle() {
+        return (int) INT_HANDLE.get();
+    }
+
+    @Benchmark
+    public int getIntReflects() {
+        return Reflects.getIntField(null, intField);
+    }
+
+    @Benchmark
+    public int getIntAccessor() {
+        return intAccessor.getInt(null);
+    }
+
+    @Benchmark
+    public void setIntDirect() {
+        Target.intValue = intValue;
+    }
+
+    @Benchmark
+    public void setIntReflect() throws IllegalAccessException {
+        intField.setInt(null, intValue);
+    }
+
+    @Benchmark
+    public void setIntMethodHandle() throws Throwable {
+        INT_SETTER.invokeExact(intValue);
+    }
+
+    @Benchmark
+    public void setIntVarHandle() {
+        INT_HANDLE.set(intValue);
+    }
+
+    @Benchmark
+    public void setIntReflects() {
+        Reflects.setIntField(null, intField, intValue);
+    }
+
+    @Benchmark
+    public void setIntAccessor() {
+        intAccessor.setInt(null, intValue);
+    }
+
+    @Benchmark
+    public long getLongDirect() {
+        return Target.longValue;
+    }
+
+    @Benchmark
+    public long getLongReflect() throws IllegalAccessException {
+        return longField.getLong(null);
+    }
+
+    @Benchmark
+    public long getLongMethodHandle() throws Throwable {
+        return (long) LONG_GETTER.invokeExact();
+    }
+
+    @Benchmark
+    public long getLongVarHandle() {
+        return (long) LONG_HANDLE.get();
+    }
+
+    @Benchmark
+    public long getLongReflects() {
+        return Reflects.getLongField(null, longField);
+    }
+
+    @Benchmark
+    public long getLongAccessor() {
+        return longAccessor.getLong(null);
+    }
+
+    @Benchmark
+    public void setLongDirect() {
+        Target.longValue = longValue;
+    }
+
+    @Benchmark
+    public void setLongReflect() throws IllegalAccessException {
+        longField.setLong(null, longValue);
+    }
+
+    @Benchmark
+    public void setLongMethodHandle() throws Throwable {
+        LONG_SETTER.invokeExact(longValue);
+    }
+
+    @Benchmark
+    public void setLongVarHandle() {
+        LONG_HANDLE.set(longValue);
+    }
+
+    @Benchmark
+    public void setLongReflects() {
+        Reflects.setLongField(null, longField, longValue);
+    }
+
+    @Benchmark
+    public void setLongAccessor() {
+        longAccessor.setLong(null, longValue);
+    }
+
+    @Benchmark
+    public Object getObjectDirect() {
+        return Target.objectValue;
+    }
+
+    @Benchmark
+    public Object getObjectReflect() throws IllegalAccessException {
+        return objectField.get(null);
+    }
+
+    @Benchmark
+    public Object getObjectMethodHandle() throws Throwable {
+        return (Object) OBJECT_GETTER.invokeExact();
+    }
+
+    @Benchmark
+    public Object getObjectVarHandle() {
+        return (Object) OBJECT_HANDLE.get();
+    }
+
+    @Benchmark
+    public Object getObjectReflects() {
+        return Reflects.getObjectField(null, objectField);
+    }
+
+    @Benchmark
+    public Object getObjectAccessor() {
+        return objectAccessor.getObject(null);
+    }
+
+    @Benchmark
+    public void setObjectDirect() {
+        Target.objectValue = objectValue;
+    }
+
+    @Benchmark
+    public void setObjectReflect() throws IllegalAccessException {
+        objectField.set(null, objectValue);
+    }
+
+    @Benchmark
+    public void setObjectMethodHandle() throws Throwable {
+        OBJECT_SETTER.invokeExact(objectValue);
+    }
+
+    @Benchmark
+    public void setObjectVarHandle() {
+        OBJECT_HANDLE.set(objectValue);
+    }
+
+    @Benchmark
+    public void setObjectReflects() {
+        Reflects.setObjectField(null, objectField, objectValue);
+    }
+
+    @Benchmark
+    public void setObjectAccessor() {
+        objectAccessor.setObject(null, objectValue);
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.tianscar.util.reflect.benchmark;
+
+import com.tianscar.util.reflect.StringAccess;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares converting between Latin-1 bytes and strings with {@link StringAccess} and with the copying
+ * {@code String} constructor and {@link String#getBytes(Charset)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringBenchmark {
+
+    private static final Charset ISO_8859_1 = Charset.forName("ISO-8859-1");
+
+    private final byte[] bytes;
+    private final String string;
+
+    public StringBenchmark() {
+        bytes = new byte[1024];
+        Arrays.fill(bytes, (byte) 'a');
+        string = new String(bytes, ISO_8859_1);
+    }
+
+    @Benchmark
+    public String newString() {
+        return new String(bytes, ISO_8859_1);
+    }
+
+    @Benchmark
+    public String wrap() {
+        return StringAccess.wrap(bytes, StringAccess.LATIN1);
+    }
+
+    @Benchmark
+    public byte[] getBytes() {
+        return string.getBytes(ISO_8859_1);
+    }
+
+    @Benchmark
+    public Object value() {
+        return StringAccess.value(string);
+    }
+
+}
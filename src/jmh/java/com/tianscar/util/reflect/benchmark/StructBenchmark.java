@@ -0,0 +1,114 @@
+package com.tianscar.util.reflect.benchmark;
+
+import com.tianscar.util.reflect.StructLayout;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares staging objects off-heap and rehydrating them with {@link StructLayout} with hand-written
+ * {@link ByteBuffer} puts and gets of each field.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StructBenchmark {
+
+    static final class Row {
+        private long id;
+        private int count;
+        private double price;
+        private boolean active;
+    }
+
+    private static final int COUNT = 1024;
+
+    private final StructLayout<Row> layout = StructLayout.of(Row.class);
+    private Row[] rows;
+    private Row[] copies;
+    private ByteBuffer buffer;
+    private long address;
+
+    @Setup
+    public void setup() {
+        rows = new Row[COUNT];
+        copies = new Row[COUNT];
+        for (int i = 0; i < COUNT; i ++) {
+            Row row = rows[i] = new Row();
+            row.id = i;
+            row.count = -i;
+            row.price = i / 4.0;
+            row.active = (i & 1) == 0;
+        }
+        buffer = ByteBuffer.allocateDirect((int) layout.size() * COUNT).order(ByteOrder.nativeOrder());
+        address = layout.allocate(COUNT);
+    }
+
+    @TearDown
+    public void tearDown() {
+        StructLayout.free(address);
+    }
+
+    @Benchmark
+    public ByteBuffer writeByteBuffer() {
+        for (int i = 0; i < COUNT; i ++) {
+            Row row = rows[i];
+            int index = i * 24;
+            buffer.putLong(index, row.id);
+            buffer.putDouble(index + 8, row.price);
+            buffer.putInt(index + 16, row.count);
+            buffer.put(index + 20, row.active ? (byte) 1 : (byte) 0);
+        }
+        return buffer;
+    }
+
+    @Benchmark
+    public Row[] readByteBuffer() {
+        for (int i = 0; i < COUNT; i ++) {
+            Row row = copies[i] = new Row();
+            int index = i * 24;
+            row.id = buffer.getLong(index);
+            row.price = buffer.getDouble(index + 8);
+            row.count = buffer.getInt(index + 16);
+            row.active = buffer.get(index + 20) != 0;
+        }
+        return copies;
+    }
+
+    @Benchmark
+    public ByteBuffer writeAllBuffer() {
+        layout.writeAll(rows, buffer, 0);
+        return buffer;
+    }
+
+    @Benchmark
+    public long writeAllAddress() {
+        layout.writeAll(rows, address);
+        return address;
+    }
+
+    @Benchmark
+    public Row[] readAllAddress() {
+        for (int i = 0; i < COUNT; i ++) {
+            copies[i] = null;
+        }
+        layout.readAll(address, copies);
+        return copies;
+    }
+
+}
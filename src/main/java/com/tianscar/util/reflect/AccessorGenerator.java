@@ -0,0 +1,180 @@
+package com.tianscar.util.reflect;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.tianscar.util.reflect.ClassFileWriter.*;
+import static java.lang.reflect.Modifier.isStatic;
+
+// Generates a class per method or constructor which calls it directly, like the JDK does for Method#invoke after
+// 15 invocations (sun.reflect.MethodAccessorGenerator), but from the first invocation and only once per member.
+// The generated classes implement InvocationHandler, so they don't need to see any class of this library,
+// invoke(target, null, args) calls the member on target (ignored for static methods and constructors) with args.
+//
+// They extend sun.reflect.MagicAccessorImpl, which HotSpot exempts from verification and access checks, so they
+// may call private members (Java 6-8 only, it's encapsulated since Java 9). They are defined with
+// Unsafe#defineAnonymousClass in the declaring class of the member on Java 7-8, so they're unloaded once unreachable,
+// and by their own class loader on Java 6. Android doesn't run JVM bytecode, there's no generator there.
+final class AccessorGenerator {
+
+    private AccessorGenerator() {
+        throw new AssertionError("No " + AccessorGenerator.class.getName() + " instances for you!");
+    }
+
+    private static final String MAGIC_ACCESSOR = "sun/reflect/MagicAccessorImpl";
+    private static final String INVOCATION_HANDLER = "java/lang/reflect/InvocationHandler";
+    private static final String INVOKE_DESCRIPTOR = "(Ljava/lang/Object;Ljava/lang/reflect/Method;[Ljava/lang/Object;)Ljava/lang/Object;";
+
+    private static final boolean available;
+    private static final AtomicInteger counter = new AtomicInteger();
+
+    static {
+        boolean _available;
+        try {
+            Class.forName(MAGIC_ACCESSOR.replace('/', '.')); // Java 6-8
+            _available = Reflects.unsafe != null;
+        } catch (ClassNotFoundException e) {
+            _available = false; // Java 9+ and Android
+        }
+        available = _available;
+    }
+
+    static boolean isAvailable() {
+        return available;
+    }
+
+    private static final class AccessorClassLoader extends ClassLoader {
+        AccessorClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+        Class<?> define(String name, byte[] bytes) {
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+
+    // Anonymous classes can't be referred to by name from the bytecode of another class
+    private static boolean isNamed(Class<?> clazz) {
+        try {
+            return Class.forName(clazz.getName(), false, clazz.getClassLoader()) == clazz;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    // Returns the accessor of the specified method or constructor, or null if it can't be generated
+    static InvocationHandler generate(Member member) {
+        if (!available || !isNamed(member.getDeclaringClass())) return null;
+        String name = "com/tianscar/util/reflect/GeneratedAccessor" + counter.incrementAndGet();
+        byte[] bytes;
+        try {
+            bytes = build(name, member);
+        } catch (IOException e) {
+            return null; // Unexpected
+        }
+        Class<?> host = member.getDeclaringClass();
+        Class<?> clazz;
+        try {
+            if (ClassDefiner.isAnonymousClassAvailable()) clazz = ClassDefiner.defineAnonymousClass(host, bytes); // Java 7-8
+            else clazz = new AccessorClassLoader(host.getClassLoader()).define(name.replace('/', '.'), bytes); // Java 6
+            return (InvocationHandler) Reflects.allocateInstance(clazz);
+        } catch (UnsupportedOperationException e) {
+            return null; // Unexpected
+        } catch (InstantiationException e) {
+            return null; // Unexpected
+        } catch (LinkageError e) {
+            return null; // Unexpected
+        }
+    }
+
+    private static Class<?> wrapper(Class<?> primitive) {
+        if (primitive == boolean.class) return Boolean.class;
+        else if (primitive == byte.class) return Byte.class;
+        else if (primitive == char.class) return Character.class;
+        else if (primitive == short.class) return Short.class;
+        else if (primitive == int.class) return Integer.class;
+        else if (primitive == long.class) return Long.class;
+        else if (primitive == float.class) return Float.class;
+        else return Double.class;
+    }
+
+    // Pushes every element of the argument array, unboxed or cast to its parameter type;
+    // returns the number of stack slots taken by the arguments
+    private static int loadArgs(ClassFileWriter writer, List<Integer> code, Class<?>[] parameterTypes) throws IOException {
+        int slots = 0;
+        for (int i = 0; i < parameterTypes.length; i ++) {
+            Class<?> type = parameterTypes[i];
+            code.add(ALOAD_3);
+            push(code, i);
+            code.add(AALOAD);
+            if (type.isPrimitive()) {
+                String wrapper = internalName(wrapper(type));
+                op(code, CHECKCAST, writer.classRef(wrapper));
+                op(code, INVOKEVIRTUAL, writer.methodRef(wrapper, type.getName() + "Value", "()" + descriptor(type), false));
+            }
+            else if (type != Object.class) op(code, CHECKCAST, writer.classRef(internalName(type)));
+            slots += slots(type);
+        }
+        return slots;
+    }
+
+    private static byte[] build(String name, Member member) throws IOException {
+        Class<?> declaringClass = member.getDeclaringClass();
+        String owner = internalName(declaringClass);
+        boolean isInterface = declaringClass.isInterface();
+        boolean version52 = member instanceof Method && isInterface && isStatic(member.getModifiers());
+        ClassFileWriter writer = new ClassFileWriter(version52 ? 52 : 49, // Java 5, unless invoking a static interface method
+                ACC_PUBLIC | ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC, name, MAGIC_ACCESSOR, INVOCATION_HANDLER);
+        List<Integer> code = new ArrayList<Integer>();
+        int maxStack;
+        if (member instanceof Constructor) {
+            Class<?>[] parameterTypes = ((Constructor<?>) member).getParameterTypes();
+            op(code, NEW, writer.classRef(owner));
+            code.add(DUP);
+            maxStack = 2 + loadArgs(writer, code, parameterTypes) + 2;
+            op(code, INVOKESPECIAL, writer.methodRef(owner, "<init>", descriptor(parameterTypes, void.class), false));
+        }
+        else {
+            Method method = (Method) member;
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            Class<?> returnType = method.getReturnType();
+            boolean isStatic = isStatic(method.getModifiers());
+            if (!isStatic) {
+                code.add(ALOAD_1);
+                op(code, CHECKCAST, writer.classRef(owner));
+            }
+            int slots = loadArgs(writer, code, parameterTypes);
+            maxStack = Math.max((isStatic ? 0 : 1) + slots + 2, 2);
+            int methodRef = writer.methodRef(owner, method.getName(), descriptor(parameterTypes, returnType), isInterface);
+            if (isStatic) op(code, INVOKESTATIC, methodRef);
+            else if (isInterface) {
+                op(code, INVOKEINTERFACE, methodRef);
+                code.add(1 + slots);
+                code.add(0);
+            }
+            // Private methods too, HotSpot doesn't dispatch them
+            else op(code, INVOKEVIRTUAL, methodRef);
+            if (returnType == void.class) code.add(ACONST_NULL);
+            else if (returnType.isPrimitive()) {
+                String wrapper = internalName(wrapper(returnType));
+                op(code, INVOKESTATIC, writer.methodRef(wrapper, "valueOf", "(" + descriptor(returnType) + ")L" + wrapper + ";", false));
+            }
+        }
+        code.add(ARETURN);
+        // public <init>() { super(); }
+        List<Integer> init = new ArrayList<Integer>();
+        init.add(ALOAD_0);
+        op(init, INVOKESPECIAL, writer.methodRef(MAGIC_ACCESSOR, "<init>", "()V", false));
+        init.add(RETURN);
+        writer.method(ACC_PUBLIC, "<init>", "()V", 1, 1, init);
+        // public Object invoke(Object target, Method method, Object[] args)
+        writer.method(ACC_PUBLIC, "invoke", INVOKE_DESCRIPTOR, maxStack, 4, code);
+        return writer.toByteArray();
+    }
+
+}
@@ -0,0 +1,1563 @@
+package com.tianscar.util.reflect;
+
+import sun.misc.Unsafe;
+
+import java.nio.ByteOrder;
+
+/**
+ * Direct element access of arrays, including internal arrays of JDK classes obtained from
+ * {@link FieldAccessor} (e.g. {@code String.value} or {@code ArrayList.elementData}), without intermediate copies.
+ *
+ * <p>The base offset and the index scale of every array type are resolved once. Elements can be accessed with
+ * the memory ordering access modes of {@code java.lang.invoke.VarHandle} (volatile, acquire/release, opaque,
+ * compare-and-set, get-and-set and get-and-add), and primitive arrays can be copied in bulk between each other
+ * and from or to off-heap memory, regardless of their component types. {@code boolean}, {@code byte},
+ * {@code char} and {@code short} atomics are emulated with a compare-and-set on the aligned {@code int} word
+ * which contains the element, so atomicity is only guaranteed between accesses using these access modes.
+ *
+ * <p>Every index is checked, unlike {@code sun.misc.Unsafe}.
+ */
+public final class ArrayAccess {
+
+    private ArrayAccess() {
+        throw new AssertionError("No " + ArrayAccess.class.getName() + " instances for you!");
+    }
+
+    private static final Unsafe unsafe = Reflects.unsafe;
+    private static final boolean BIG_ENDIAN = ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN;
+
+    private static final long OBJECT_BASE = unsafe.arrayBaseOffset(Object[].class);
+    private static final int OBJECT_SHIFT = shift(unsafe.arrayIndexScale(Object[].class));
+    private static final long BOOLEAN_BASE = unsafe.arrayBaseOffset(boolean[].class);
+    private static final int BOOLEAN_SHIFT = shift(unsafe.arrayIndexScale(boolean[].class));
+    private static final long BYTE_BASE = unsafe.arrayBaseOffset(byte[].class);
+    private static final int BYTE_SHIFT = shift(unsafe.arrayIndexScale(byte[].class));
+    private static final long CHAR_BASE = unsafe.arrayBaseOffset(char[].class);
+    private static final int CHAR_SHIFT = shift(unsafe.arrayIndexScale(char[].class));
+    private static final long SHORT_BASE = unsafe.arrayBaseOffset(short[].class);
+    private static final int SHORT_SHIFT = shift(unsafe.arrayIndexScale(short[].class));
+    private static final long INT_BASE = unsafe.arrayBaseOffset(int[].class);
+    private static final int INT_SHIFT = shift(unsafe.arrayIndexScale(int[].class));
+    private static final long LONG_BASE = unsafe.arrayBaseOffset(long[].class);
+    private static final int LONG_SHIFT = shift(unsafe.arrayIndexScale(long[].class));
+    private static final long FLOAT_BASE = unsafe.arrayBaseOffset(float[].class);
+    private static final int FLOAT_SHIFT = shift(unsafe.arrayIndexScale(float[].class));
+    private static final long DOUBLE_BASE = unsafe.arrayBaseOffset(double[].class);
+    private static final int DOUBLE_SHIFT = shift(unsafe.arrayIndexScale(double[].class));
+
+    // Java 6 doesn't have Unsafe#copyMemory(Object, long, Object, long, long), so we copy byte by byte there.
+    private static final boolean copyMemoryAvailable;
+
+    static {
+        boolean _copyMemoryAvailable;
+        try {
+            Unsafe.class.getMethod("copyMemory", Object.class, long.class, Object.class, long.class, long.class); // Java 7+
+            _copyMemoryAvailable = true;
+        } catch (NoSuchMethodException e) {
+            _copyMemoryAvailable = false; // Java 6
+        }
+        copyMemoryAvailable = _copyMemoryAvailable;
+    }
+
+    private static int shift(int scale) {
+        return Integer.numberOfTrailingZeros(scale);
+    }
+
+    private static long offset(int length, int index, long base, int shift) {
+        if (index < 0 || index >= length) throw new ArrayIndexOutOfBoundsException(index);
+        return base + ((long) index << shift);
+    }
+
+    private static void checkStore(Object[] array, Object value) {
+        if (value != null && array.getClass() != Object[].class && !array.getClass().getComponentType().isInstance(value))
+            throw new ArrayStoreException(value.getClass().getName());
+    }
+
+    private static int wordShift(long offset, int size) {
+        int byteShift = (int) (offset & 3L);
+        if (BIG_ENDIAN) byteShift = 4 - size - byteShift;
+        return byteShift << 3;
+    }
+
+    private static int getBitsVolatile(Object array, long offset, int size) {
+        int shift = wordShift(offset, size);
+        int mask = (size == 1 ? 0xFF : 0xFFFF) << shift;
+        return (unsafe.getIntVolatile(array, offset & ~3L) & mask) >>> shift;
+    }
+
+    private static boolean compareAndSwapBits(Object array, long offset, int size, int expected, int value) {
+        int shift = wordShift(offset, size);
+        int mask = (size == 1 ? 0xFF : 0xFFFF) << shift;
+        long wordOffset = offset & ~3L;
+        expected = (expected << shift) & mask;
+        value = (value << shift) & mask;
+        int word;
+        do {
+            word = unsafe.getIntVolatile(array, wordOffset);
+            if ((word & mask) != expected) return false;
+        } while (!unsafe.compareAndSwapInt(array, wordOffset, word, (word & ~mask) | value));
+        return true;
+    }
+
+    private static int getAndSetBits(Object array, long offset, int size, int value) {
+        int shift = wordShift(offset, size);
+        int mask = (size == 1 ? 0xFF : 0xFFFF) << shift;
+        long wordOffset = offset & ~3L;
+        value = (value << shift) & mask;
+        int word;
+        do {
+            word = unsafe.getIntVolatile(array, wordOffset);
+        } while (!unsafe.compareAndSwapInt(array, wordOffset, word, (word & ~mask) | value));
+        return (word & mask) >>> shift;
+    }
+
+    /**
+     * Returns the offset of the first element of the specified array type, relative to the start of an array.
+     *
+     * @param arrayClass the class of the array
+     * @return the base offset of the array type
+     *
+     * @throws    IllegalArgumentException  if the specified class is not an array class
+     * @throws    NullPointerException      if the specified class is null
+     */
+    public static long baseOffset(Class<?> arrayClass) throws IllegalArgumentException, NullPointerException {
+        if (!arrayClass.isArray()) throw new IllegalArgumentException("Illegal type; expected array");
+        return unsafe.arrayBaseOffset(arrayClass);
+    }
+
+    /**
+     * Returns the size in bytes of an element of the specified array type.
+     *
+     * @param arrayClass the class of the array
+     * @return the index scale of the array type
+     *
+     * @throws    IllegalArgumentException  if the specified class is not an array class
+     * @throws    NullPointerException      if the specified class is null
+     */
+    public static int indexScale(Class<?> arrayClass) throws IllegalArgumentException, NullPointerException {
+        if (!arrayClass.isArray()) throw new IllegalArgumentException("Illegal type; expected array");
+        return unsafe.arrayIndexScale(arrayClass);
+    }
+
+    // Returns the base offset of a primitive array and checks the byte range against its length
+    private static long checkRange(Object array, long offset, long bytes) {
+        // NOTE: will throw NullPointerException, as specified, if array is null
+        Class<?> clazz = array.getClass();
+        if (!clazz.isArray() || !clazz.getComponentType().isPrimitive())
+            throw new IllegalArgumentException("Illegal type; expected primitive array");
+        long base;
+        int shift;
+        int length;
+        if (array instanceof byte[]) {
+            base = BYTE_BASE;
+            shift = BYTE_SHIFT;
+            length = ((byte[]) array).length;
+        }
+        else if (array instanceof boolean[]) {
+            base = BOOLEAN_BASE;
+            shift = BOOLEAN_SHIFT;
+            length = ((boolean[]) array).length;
+        }
+        else if (array instanceof char[]) {
+            base = CHAR_BASE;
+            shift = CHAR_SHIFT;
+            length = ((char[]) array).length;
+        }
+        else if (array instanceof short[]) {
+            base = SHORT_BASE;
+            shift = SHORT_SHIFT;
+            length = ((short[]) array).length;
+        }
+        else if (array instanceof int[]) {
+            base = INT_BASE;
+            shift = INT_SHIFT;
+            length = ((int[]) array).length;
+        }
+        else if (array instanceof long[]) {
+            base = LONG_BASE;
+            shift = LONG_SHIFT;
+            length = ((long[]) array).length;
+        }
+        else if (array instanceof float[]) {
+            base = FLOAT_BASE;
+            shift = FLOAT_SHIFT;
+            length = ((float[]) array).length;
+        }
+        else {
+            base = DOUBLE_BASE;
+            shift = DOUBLE_SHIFT;
+            length = ((double[]) array).length;
+        }
+        if (offset < 0 || bytes < 0 || offset > ((long) length << shift) - bytes)
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + bytes + ") out of bounds for length " + ((long) length << shift));
+        return base;
+    }
+
+    private static void copyMemory0(Object src, long srcOffset, Object dst, long dstOffset, long bytes) {
+        if (copyMemoryAvailable) unsafe.copyMemory(src, srcOffset, dst, dstOffset, bytes); // Java 7+
+        else {
+            // Java 6
+            if (src == dst && srcOffset < dstOffset) {
+                for (long i = bytes - 1; i >= 0; i --) {
+                    putByte(dst, dstOffset + i, getByte(src, srcOffset + i));
+                }
+            }
+            else {
+                for (long i = 0; i < bytes; i ++) {
+                    putByte(dst, dstOffset + i, getByte(src, srcOffset + i));
+                }
+            }
+        }
+    }
+
+    private static byte getByte(Object base, long offset) {
+        return base == null ? unsafe.getByte(offset) : unsafe.getByte(base, offset);
+    }
+
+    private static void putByte(Object base, long offset, byte value) {
+        if (base == null) unsafe.putByte(offset, value);
+        else unsafe.putByte(base, offset, value);
+    }
+
+    /**
+     * Copies bytes between two primitive arrays of any component types, like {@code memmove}.
+     * The offsets are in bytes relative to the first element of the arrays, and multibyte elements
+     * are copied in the native byte order.
+     *
+     * @param src the source array
+     * @param srcOffset the byte offset in the source array
+     * @param dst the destination array
+     * @param dstOffset the byte offset in the destination array
+     * @param bytes the number of bytes to copy
+     *
+     * @throws    IllegalArgumentException  if either of the specified objects is not a primitive array
+     * @throws    IndexOutOfBoundsException if either byte range is out of the bounds of its array
+     * @throws    NullPointerException      if either of the specified arrays is null
+     */
+    public static void copyMemory(Object src, long srcOffset, Object dst, long dstOffset, long bytes)
+            throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        long srcBase = checkRange(src, srcOffset, bytes);
+        long dstBase = checkRange(dst, dstOffset, bytes);
+        copyMemory0(src, srcBase + srcOffset, dst, dstBase + dstOffset, bytes);
+    }
+
+    /**
+     * Copies bytes from a primitive array of any component type to off-heap memory.
+     * The offset is in bytes relative to the first element of the array, and multibyte elements
+     * are copied in the native byte order.
+     *
+     * <p>The address is not checked, it must point to at least {@code bytes} bytes of allocated memory.
+     *
+     * @param src the source array
+     * @param srcOffset the byte offset in the source array
+     * @param address the destination address
+     * @param bytes the number of bytes to copy
+     *
+     * @throws    IllegalArgumentException  if the specified object is not a primitive array
+     * @throws    IndexOutOfBoundsException if the byte range is out of the bounds of the array
+     * @throws    NullPointerException      if the specified array is null
+     */
+    public static void copyToMemory(Object src, long srcOffset, long address, long bytes)
+            throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        long srcBase = checkRange(src, srcOffset, bytes);
+        copyMemory0(src, srcBase + srcOffset, null, address, bytes);
+    }
+
+    /**
+     * Copies bytes from off-heap memory to a primitive array of any component type.
+     * The offset is in bytes relative to the first element of the array, and multibyte elements
+     * are copied in the native byte order.
+     *
+     * <p>The address is not checked, it must point to at least {@code bytes} bytes of allocated memory.
+     *
+     * @param address the source address
+     * @param dst the destination array
+     * @param dstOffset the byte offset in the destination array
+     * @param bytes the number of bytes to copy
+     *
+     * @throws    IllegalArgumentException  if the specified object is not a primitive array
+     * @throws    IndexOutOfBoundsException if the byte range is out of the bounds of the array
+     * @throws    NullPointerException      if the specified array is null
+     */
+    public static void copyFromMemory(long address, Object dst, long dstOffset, long bytes)
+            throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        long dstBase = checkRange(dst, dstOffset, bytes);
+        copyMemory0(null, address, dst, dstBase + dstOffset, bytes);
+    }
+
+    /**
+     * Gets an element of a reference array with volatile memory semantics.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @return the value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T getObjectVolatile(T[] array, int index) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        return (T) unsafe.getObjectVolatile(array, offset(array.length, index, OBJECT_BASE, OBJECT_SHIFT));
+    }
+
+    /**
+     * Gets an element of a reference array with acquire memory semantics,
+     * subsequent loads and stores are not reordered before this access.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @return the value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T getObjectAcquire(T[] array, int index) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        return (T) unsafe.getObjectVolatile(array, offset(array.length, index, OBJECT_BASE, OBJECT_SHIFT));
+    }
+
+    /**
+     * Gets an element of a reference array in program order,
+     * but with no assurance of memory ordering effects with respect to other variables.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @return the value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T getObjectOpaque(T[] array, int index) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        return (T) unsafe.getObjectVolatile(array, offset(array.length, index, OBJECT_BASE, OBJECT_SHIFT));
+    }
+
+    /**
+     * Sets an element of a reference array with volatile memory semantics.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param value the new value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     * @throws    ArrayStoreException       if the value cannot be stored in the array
+     */
+    public static <T> void setObjectVolatile(T[] array, int index, T value) throws NullPointerException, ArrayIndexOutOfBoundsException, ArrayStoreException {
+        checkStore(array, value);
+        unsafe.putObjectVolatile(array, offset(array.length, index, OBJECT_BASE, OBJECT_SHIFT), value);
+    }
+
+    /**
+     * Sets an element of a reference array with release memory semantics,
+     * prior loads and stores are not reordered after this access.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param value the new value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     * @throws    ArrayStoreException       if the value cannot be stored in the array
+     */
+    public static <T> void setObjectRelease(T[] array, int index, T value) throws NullPointerException, ArrayIndexOutOfBoundsException, ArrayStoreException {
+        checkStore(array, value);
+        unsafe.putOrderedObject(array, offset(array.length, index, OBJECT_BASE, OBJECT_SHIFT), value);
+    }
+
+    /**
+     * Sets an element of a reference array in program order,
+     * but with no assurance of memory ordering effects with respect to other variables.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param value the new value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     * @throws    ArrayStoreException       if the value cannot be stored in the array
+     */
+    public static <T> void setObjectOpaque(T[] array, int index, T value) throws NullPointerException, ArrayIndexOutOfBoundsException, ArrayStoreException {
+        checkStore(array, value);
+        unsafe.putOrderedObject(array, offset(array.length, index, OBJECT_BASE, OBJECT_SHIFT), value);
+    }
+
+    /**
+     * Atomically sets an element of a reference array to {@code value} with volatile memory semantics
+     * if its current value is the same reference as {@code expected}.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param expected the expected value
+     * @param value the new value of the element
+     * @return true if successful, false if the current value was not {@code expected}
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     * @throws    ArrayStoreException       if the value cannot be stored in the array
+     */
+    public static <T> boolean compareAndSetObject(T[] array, int index, T expected, T value) throws NullPointerException, ArrayIndexOutOfBoundsException, ArrayStoreException {
+        checkStore(array, value);
+        return unsafe.compareAndSwapObject(array, offset(array.length, index, OBJECT_BASE, OBJECT_SHIFT), expected, value);
+    }
+
+    /**
+     * Atomically sets an element of a reference array to {@code value} with volatile memory semantics
+     * and returns the previous value.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param value the new value of the element
+     * @return the previous value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     * @throws    ArrayStoreException       if the value cannot be stored in the array
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T getAndSetObject(T[] array, int index, T value) throws NullPointerException, ArrayIndexOutOfBoundsException, ArrayStoreException {
+        checkStore(array, value);
+        long offset = offset(array.length, index, OBJECT_BASE, OBJECT_SHIFT);
+        Object current;
+        do {
+            current = unsafe.getObjectVolatile(array, offset);
+        } while (!unsafe.compareAndSwapObject(array, offset, current, value));
+        return (T) current;
+    }
+
+    /**
+     * Gets an element of a {@code boolean[]} array with volatile memory semantics.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @return the value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static boolean getBooleanVolatile(boolean[] array, int index) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        return getBitsVolatile(array, offset(array.length, index, BOOLEAN_BASE, BOOLEAN_SHIFT), 1) != 0;
+    }
+
+    /**
+     * Gets an element of a {@code boolean[]} array with acquire memory semantics,
+     * subsequent loads and stores are not reordered before this access.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @return the value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static boolean getBooleanAcquire(boolean[] array, int index) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        return getBitsVolatile(array, offset(array.length, index, BOOLEAN_BASE, BOOLEAN_SHIFT), 1) != 0;
+    }
+
+    /**
+     * Gets an element of a {@code boolean[]} array in program order,
+     * but with no assurance of memory ordering effects with respect to other variables.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @return the value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static boolean getBooleanOpaque(boolean[] array, int index) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        return getBitsVolatile(array, offset(array.length, index, BOOLEAN_BASE, BOOLEAN_SHIFT), 1) != 0;
+    }
+
+    /**
+     * Sets an element of a {@code boolean[]} array with volatile memory semantics.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param value the new value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static void setBooleanVolatile(boolean[] array, int index, boolean value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        getAndSetBits(array, offset(array.length, index, BOOLEAN_BASE, BOOLEAN_SHIFT), 1, value ? 1 : 0);
+    }
+
+    /**
+     * Sets an element of a {@code boolean[]} array with release memory semantics,
+     * prior loads and stores are not reordered after this access.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param value the new value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static void setBooleanRelease(boolean[] array, int index, boolean value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        getAndSetBits(array, offset(array.length, index, BOOLEAN_BASE, BOOLEAN_SHIFT), 1, value ? 1 : 0);
+    }
+
+    /**
+     * Sets an element of a {@code boolean[]} array in program order,
+     * but with no assurance of memory ordering effects with respect to other variables.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param value the new value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static void setBooleanOpaque(boolean[] array, int index, boolean value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        getAndSetBits(array, offset(array.length, index, BOOLEAN_BASE, BOOLEAN_SHIFT), 1, value ? 1 : 0);
+    }
+
+    /**
+     * Atomically sets an element of a {@code boolean[]} array to {@code value} with volatile memory semantics
+     * if its current value equals {@code expected}.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param expected the expected value
+     * @param value the new value of the element
+     * @return true if successful, false if the current value was not {@code expected}
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static boolean compareAndSetBoolean(boolean[] array, int index, boolean expected, boolean value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        return compareAndSwapBits(array, offset(array.length, index, BOOLEAN_BASE, BOOLEAN_SHIFT), 1, expected ? 1 : 0, value ? 1 : 0);
+    }
+
+    /**
+     * Atomically sets an element of a {@code boolean[]} array to {@code value} with volatile memory semantics
+     * and returns the previous value.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param value the new value of the element
+     * @return the previous value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static boolean getAndSetBoolean(boolean[] array, int index, boolean value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        return getAndSetBits(array, offset(array.length, index, BOOLEAN_BASE, BOOLEAN_SHIFT), 1, value ? 1 : 0) != 0;
+    }
+
+    /**
+     * Gets an element of a {@code byte[]} array with volatile memory semantics.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @return the value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static byte getByteVolatile(byte[] array, int index) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        return (byte) getBitsVolatile(array, offset(array.length, index, BYTE_BASE, BYTE_SHIFT), 1);
+    }
+
+    /**
+     * Gets an element of a {@code byte[]} array with acquire memory semantics,
+     * subsequent loads and stores are not reordered before this access.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @return the value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static byte getByteAcquire(byte[] array, int index) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        return (byte) getBitsVolatile(array, offset(array.length, index, BYTE_BASE, BYTE_SHIFT), 1);
+    }
+
+    /**
+     * Gets an element of a {@code byte[]} array in program order,
+     * but with no assurance of memory ordering effects with respect to other variables.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @return the value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static byte getByteOpaque(byte[] array, int index) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        return (byte) getBitsVolatile(array, offset(array.length, index, BYTE_BASE, BYTE_SHIFT), 1);
+    }
+
+    /**
+     * Sets an element of a {@code byte[]} array with volatile memory semantics.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param value the new value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static void setByteVolatile(byte[] array, int index, byte value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        getAndSetBits(array, offset(array.length, index, BYTE_BASE, BYTE_SHIFT), 1, value);
+    }
+
+    /**
+     * Sets an element of a {@code byte[]} array with release memory semantics,
+     * prior loads and stores are not reordered after this access.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param value the new value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static void setByteRelease(byte[] array, int index, byte value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        getAndSetBits(array, offset(array.length, index, BYTE_BASE, BYTE_SHIFT), 1, value);
+    }
+
+    /**
+     * Sets an element of a {@code byte[]} array in program order,
+     * but with no assurance of memory ordering effects with respect to other variables.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param value the new value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static void setByteOpaque(byte[] array, int index, byte value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        getAndSetBits(array, offset(array.length, index, BYTE_BASE, BYTE_SHIFT), 1, value);
+    }
+
+    /**
+     * Atomically sets an element of a {@code byte[]} array to {@code value} with volatile memory semantics
+     * if its current value equals {@code expected}.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param expected the expected value
+     * @param value the new value of the element
+     * @return true if successful, false if the current value was not {@code expected}
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static boolean compareAndSetByte(byte[] array, int index, byte expected, byte value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        return compareAndSwapBits(array, offset(array.length, index, BYTE_BASE, BYTE_SHIFT), 1, expected, value);
+    }
+
+    /**
+     * Atomically sets an element of a {@code byte[]} array to {@code value} with volatile memory semantics
+     * and returns the previous value.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param value the new value of the element
+     * @return the previous value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static byte getAndSetByte(byte[] array, int index, byte value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        return (byte) getAndSetBits(array, offset(array.length, index, BYTE_BASE, BYTE_SHIFT), 1, value);
+    }
+
+    /**
+     * Atomically adds {@code delta} to an element of a {@code byte[]} array with volatile memory semantics
+     * and returns the previous value.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param delta the value to add
+     * @return the previous value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static byte getAndAddByte(byte[] array, int index, byte delta) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        long offset = offset(array.length, index, BYTE_BASE, BYTE_SHIFT);
+        byte current;
+        do {
+            current = (byte) getBitsVolatile(array, offset, 1);
+        } while (!compareAndSwapBits(array, offset, 1, current, current + delta));
+        return current;
+    }
+
+    /**
+     * Gets an element of a {@code char[]} array with volatile memory semantics.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @return the value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static char getCharVolatile(char[] array, int index) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        return (char) getBitsVolatile(array, offset(array.length, index, CHAR_BASE, CHAR_SHIFT), 2);
+    }
+
+    /**
+     * Gets an element of a {@code char[]} array with acquire memory semantics,
+     * subsequent loads and stores are not reordered before this access.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @return the value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static char getCharAcquire(char[] array, int index) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        return (char) getBitsVolatile(array, offset(array.length, index, CHAR_BASE, CHAR_SHIFT), 2);
+    }
+
+    /**
+     * Gets an element of a {@code char[]} array in program order,
+     * but with no assurance of memory ordering effects with respect to other variables.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @return the value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static char getCharOpaque(char[] array, int index) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        return (char) getBitsVolatile(array, offset(array.length, index, CHAR_BASE, CHAR_SHIFT), 2);
+    }
+
+    /**
+     * Sets an element of a {@code char[]} array with volatile memory semantics.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param value the new value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static void setCharVolatile(char[] array, int index, char value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        getAndSetBits(array, offset(array.length, index, CHAR_BASE, CHAR_SHIFT), 2, value);
+    }
+
+    /**
+     * Sets an element of a {@code char[]} array with release memory semantics,
+     * prior loads and stores are not reordered after this access.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param value the new value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static void setCharRelease(char[] array, int index, char value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        getAndSetBits(array, offset(array.length, index, CHAR_BASE, CHAR_SHIFT), 2, value);
+    }
+
+    /**
+     * Sets an element of a {@code char[]} array in program order,
+     * but with no assurance of memory ordering effects with respect to other variables.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param value the new value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static void setCharOpaque(char[] array, int index, char value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        getAndSetBits(array, offset(array.length, index, CHAR_BASE, CHAR_SHIFT), 2, value);
+    }
+
+    /**
+     * Atomically sets an element of a {@code char[]} array to {@code value} with volatile memory semantics
+     * if its current value equals {@code expected}.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param expected the expected value
+     * @param value the new value of the element
+     * @return true if successful, false if the current value was not {@code expected}
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static boolean compareAndSetChar(char[] array, int index, char expected, char value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        return compareAndSwapBits(array, offset(array.length, index, CHAR_BASE, CHAR_SHIFT), 2, expected, value);
+    }
+
+    /**
+     * Atomically sets an element of a {@code char[]} array to {@code value} with volatile memory semantics
+     * and returns the previous value.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param value the new value of the element
+     * @return the previous value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static char getAndSetChar(char[] array, int index, char value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        return (char) getAndSetBits(array, offset(array.length, index, CHAR_BASE, CHAR_SHIFT), 2, value);
+    }
+
+    /**
+     * Atomically adds {@code delta} to an element of a {@code char[]} array with volatile memory semantics
+     * and returns the previous value.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param delta the value to add
+     * @return the previous value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static char getAndAddChar(char[] array, int index, char delta) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        long offset = offset(array.length, index, CHAR_BASE, CHAR_SHIFT);
+        char current;
+        do {
+            current = (char) getBitsVolatile(array, offset, 2);
+        } while (!compareAndSwapBits(array, offset, 2, current, current + delta));
+        return current;
+    }
+
+    /**
+     * Gets an element of a {@code short[]} array with volatile memory semantics.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @return the value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static short getShortVolatile(short[] array, int index) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        return (short) getBitsVolatile(array, offset(array.length, index, SHORT_BASE, SHORT_SHIFT), 2);
+    }
+
+    /**
+     * Gets an element of a {@code short[]} array with acquire memory semantics,
+     * subsequent loads and stores are not reordered before this access.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @return the value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static short getShortAcquire(short[] array, int index) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        return (short) getBitsVolatile(array, offset(array.length, index, SHORT_BASE, SHORT_SHIFT), 2);
+    }
+
+    /**
+     * Gets an element of a {@code short[]} array in program order,
+     * but with no assurance of memory ordering effects with respect to other variables.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @return the value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static short getShortOpaque(short[] array, int index) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        return (short) getBitsVolatile(array, offset(array.length, index, SHORT_BASE, SHORT_SHIFT), 2);
+    }
+
+    /**
+     * Sets an element of a {@code short[]} array with volatile memory semantics.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param value the new value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static void setShortVolatile(short[] array, int index, short value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        getAndSetBits(array, offset(array.length, index, SHORT_BASE, SHORT_SHIFT), 2, value);
+    }
+
+    /**
+     * Sets an element of a {@code short[]} array with release memory semantics,
+     * prior loads and stores are not reordered after this access.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param value the new value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static void setShortRelease(short[] array, int index, short value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        getAndSetBits(array, offset(array.length, index, SHORT_BASE, SHORT_SHIFT), 2, value);
+    }
+
+    /**
+     * Sets an element of a {@code short[]} array in program order,
+     * but with no assurance of memory ordering effects with respect to other variables.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param value the new value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static void setShortOpaque(short[] array, int index, short value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        getAndSetBits(array, offset(array.length, index, SHORT_BASE, SHORT_SHIFT), 2, value);
+    }
+
+    /**
+     * Atomically sets an element of a {@code short[]} array to {@code value} with volatile memory semantics
+     * if its current value equals {@code expected}.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param expected the expected value
+     * @param value the new value of the element
+     * @return true if successful, false if the current value was not {@code expected}
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static boolean compareAndSetShort(short[] array, int index, short expected, short value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        return compareAndSwapBits(array, offset(array.length, index, SHORT_BASE, SHORT_SHIFT), 2, expected, value);
+    }
+
+    /**
+     * Atomically sets an element of a {@code short[]} array to {@code value} with volatile memory semantics
+     * and returns the previous value.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param value the new value of the element
+     * @return the previous value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static short getAndSetShort(short[] array, int index, short value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        return (short) getAndSetBits(array, offset(array.length, index, SHORT_BASE, SHORT_SHIFT), 2, value);
+    }
+
+    /**
+     * Atomically adds {@code delta} to an element of a {@code short[]} array with volatile memory semantics
+     * and returns the previous value.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param delta the value to add
+     * @return the previous value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static short getAndAddShort(short[] array, int index, short delta) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        long offset = offset(array.length, index, SHORT_BASE, SHORT_SHIFT);
+        short current;
+        do {
+            current = (short) getBitsVolatile(array, offset, 2);
+        } while (!compareAndSwapBits(array, offset, 2, current, current + delta));
+        return current;
+    }
+
+    /**
+     * Gets an element of an {@code int[]} array with volatile memory semantics.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @return the value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static int getIntVolatile(int[] array, int index) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        return unsafe.getIntVolatile(array, offset(array.length, index, INT_BASE, INT_SHIFT));
+    }
+
+    /**
+     * Gets an element of an {@code int[]} array with acquire memory semantics,
+     * subsequent loads and stores are not reordered before this access.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @return the value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static int getIntAcquire(int[] array, int index) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        return unsafe.getIntVolatile(array, offset(array.length, index, INT_BASE, INT_SHIFT));
+    }
+
+    /**
+     * Gets an element of an {@code int[]} array in program order,
+     * but with no assurance of memory ordering effects with respect to other variables.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @return the value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static int getIntOpaque(int[] array, int index) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        return unsafe.getIntVolatile(array, offset(array.length, index, INT_BASE, INT_SHIFT));
+    }
+
+    /**
+     * Sets an element of an {@code int[]} array with volatile memory semantics.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param value the new value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static void setIntVolatile(int[] array, int index, int value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        unsafe.putIntVolatile(array, offset(array.length, index, INT_BASE, INT_SHIFT), value);
+    }
+
+    /**
+     * Sets an element of an {@code int[]} array with release memory semantics,
+     * prior loads and stores are not reordered after this access.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param value the new value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static void setIntRelease(int[] array, int index, int value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        unsafe.putOrderedInt(array, offset(array.length, index, INT_BASE, INT_SHIFT), value);
+    }
+
+    /**
+     * Sets an element of an {@code int[]} array in program order,
+     * but with no assurance of memory ordering effects with respect to other variables.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param value the new value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static void setIntOpaque(int[] array, int index, int value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        unsafe.putOrderedInt(array, offset(array.length, index, INT_BASE, INT_SHIFT), value);
+    }
+
+    /**
+     * Atomically sets an element of an {@code int[]} array to {@code value} with volatile memory semantics
+     * if its current value equals {@code expected}.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param expected the expected value
+     * @param value the new value of the element
+     * @return true if successful, false if the current value was not {@code expected}
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static boolean compareAndSetInt(int[] array, int index, int expected, int value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        return unsafe.compareAndSwapInt(array, offset(array.length, index, INT_BASE, INT_SHIFT), expected, value);
+    }
+
+    /**
+     * Atomically sets an element of an {@code int[]} array to {@code value} with volatile memory semantics
+     * and returns the previous value.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param value the new value of the element
+     * @return the previous value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static int getAndSetInt(int[] array, int index, int value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        long offset = offset(array.length, index, INT_BASE, INT_SHIFT);
+        int current;
+        do {
+            current = unsafe.getIntVolatile(array, offset);
+        } while (!unsafe.compareAndSwapInt(array, offset, current, value));
+        return current;
+    }
+
+    /**
+     * Atomically adds {@code delta} to an element of an {@code int[]} array with volatile memory semantics
+     * and returns the previous value.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param delta the value to add
+     * @return the previous value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static int getAndAddInt(int[] array, int index, int delta) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        long offset = offset(array.length, index, INT_BASE, INT_SHIFT);
+        int current;
+        do {
+            current = unsafe.getIntVolatile(array, offset);
+        } while (!unsafe.compareAndSwapInt(array, offset, current, current + delta));
+        return current;
+    }
+
+    /**
+     * Gets an element of a {@code long[]} array with volatile memory semantics.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @return the value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static long getLongVolatile(long[] array, int index) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        return unsafe.getLongVolatile(array, offset(array.length, index, LONG_BASE, LONG_SHIFT));
+    }
+
+    /**
+     * Gets an element of a {@code long[]} array with acquire memory semantics,
+     * subsequent loads and stores are not reordered before this access.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @return the value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static long getLongAcquire(long[] array, int index) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        return unsafe.getLongVolatile(array, offset(array.length, index, LONG_BASE, LONG_SHIFT));
+    }
+
+    /**
+     * Gets an element of a {@code long[]} array in program order,
+     * but with no assurance of memory ordering effects with respect to other variables.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @return the value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static long getLongOpaque(long[] array, int index) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        return unsafe.getLongVolatile(array, offset(array.length, index, LONG_BASE, LONG_SHIFT));
+    }
+
+    /**
+     * Sets an element of a {@code long[]} array with volatile memory semantics.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param value the new value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static void setLongVolatile(long[] array, int index, long value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        unsafe.putLongVolatile(array, offset(array.length, index, LONG_BASE, LONG_SHIFT), value);
+    }
+
+    /**
+     * Sets an element of a {@code long[]} array with release memory semantics,
+     * prior loads and stores are not reordered after this access.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param value the new value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static void setLongRelease(long[] array, int index, long value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        unsafe.putOrderedLong(array, offset(array.length, index, LONG_BASE, LONG_SHIFT), value);
+    }
+
+    /**
+     * Sets an element of a {@code long[]} array in program order,
+     * but with no assurance of memory ordering effects with respect to other variables.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param value the new value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static void setLongOpaque(long[] array, int index, long value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        unsafe.putOrderedLong(array, offset(array.length, index, LONG_BASE, LONG_SHIFT), value);
+    }
+
+    /**
+     * Atomically sets an element of a {@code long[]} array to {@code value} with volatile memory semantics
+     * if its current value equals {@code expected}.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param expected the expected value
+     * @param value the new value of the element
+     * @return true if successful, false if the current value was not {@code expected}
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static boolean compareAndSetLong(long[] array, int index, long expected, long value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        return unsafe.compareAndSwapLong(array, offset(array.length, index, LONG_BASE, LONG_SHIFT), expected, value);
+    }
+
+    /**
+     * Atomically sets an element of a {@code long[]} array to {@code value} with volatile memory semantics
+     * and returns the previous value.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param value the new value of the element
+     * @return the previous value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static long getAndSetLong(long[] array, int index, long value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        long offset = offset(array.length, index, LONG_BASE, LONG_SHIFT);
+        long current;
+        do {
+            current = unsafe.getLongVolatile(array, offset);
+        } while (!unsafe.compareAndSwapLong(array, offset, current, value));
+        return current;
+    }
+
+    /**
+     * Atomically adds {@code delta} to an element of a {@code long[]} array with volatile memory semantics
+     * and returns the previous value.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param delta the value to add
+     * @return the previous value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static long getAndAddLong(long[] array, int index, long delta) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        long offset = offset(array.length, index, LONG_BASE, LONG_SHIFT);
+        long current;
+        do {
+            current = unsafe.getLongVolatile(array, offset);
+        } while (!unsafe.compareAndSwapLong(array, offset, current, current + delta));
+        return current;
+    }
+
+    /**
+     * Gets an element of a {@code float[]} array with volatile memory semantics.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @return the value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static float getFloatVolatile(float[] array, int index) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        return Float.intBitsToFloat(unsafe.getIntVolatile(array, offset(array.length, index, FLOAT_BASE, FLOAT_SHIFT)));
+    }
+
+    /**
+     * Gets an element of a {@code float[]} array with acquire memory semantics,
+     * subsequent loads and stores are not reordered before this access.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @return the value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static float getFloatAcquire(float[] array, int index) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        return Float.intBitsToFloat(unsafe.getIntVolatile(array, offset(array.length, index, FLOAT_BASE, FLOAT_SHIFT)));
+    }
+
+    /**
+     * Gets an element of a {@code float[]} array in program order,
+     * but with no assurance of memory ordering effects with respect to other variables.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @return the value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static float getFloatOpaque(float[] array, int index) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        return Float.intBitsToFloat(unsafe.getIntVolatile(array, offset(array.length, index, FLOAT_BASE, FLOAT_SHIFT)));
+    }
+
+    /**
+     * Sets an element of a {@code float[]} array with volatile memory semantics.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param value the new value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static void setFloatVolatile(float[] array, int index, float value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        unsafe.putIntVolatile(array, offset(array.length, index, FLOAT_BASE, FLOAT_SHIFT), Float.floatToRawIntBits(value));
+    }
+
+    /**
+     * Sets an element of a {@code float[]} array with release memory semantics,
+     * prior loads and stores are not reordered after this access.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param value the new value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static void setFloatRelease(float[] array, int index, float value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        unsafe.putOrderedInt(array, offset(array.length, index, FLOAT_BASE, FLOAT_SHIFT), Float.floatToRawIntBits(value));
+    }
+
+    /**
+     * Sets an element of a {@code float[]} array in program order,
+     * but with no assurance of memory ordering effects with respect to other variables.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param value the new value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static void setFloatOpaque(float[] array, int index, float value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        unsafe.putOrderedInt(array, offset(array.length, index, FLOAT_BASE, FLOAT_SHIFT), Float.floatToRawIntBits(value));
+    }
+
+    /**
+     * Atomically sets an element of a {@code float[]} array to {@code value} with volatile memory semantics
+     * if its current value has the same raw bits as {@code expected}.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param expected the expected value
+     * @param value the new value of the element
+     * @return true if successful, false if the current value was not {@code expected}
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static boolean compareAndSetFloat(float[] array, int index, float expected, float value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        return unsafe.compareAndSwapInt(array, offset(array.length, index, FLOAT_BASE, FLOAT_SHIFT), Float.floatToRawIntBits(expected), Float.floatToRawIntBits(value));
+    }
+
+    /**
+     * Atomically sets an element of a {@code float[]} array to {@code value} with volatile memory semantics
+     * and returns the previous value.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param value the new value of the element
+     * @return the previous value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static float getAndSetFloat(float[] array, int index, float value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        long offset = offset(array.length, index, FLOAT_BASE, FLOAT_SHIFT);
+        int current;
+        do {
+            current = unsafe.getIntVolatile(array, offset);
+        } while (!unsafe.compareAndSwapInt(array, offset, current, Float.floatToRawIntBits(value)));
+        return Float.intBitsToFloat(current);
+    }
+
+    /**
+     * Atomically adds {@code delta} to an element of a {@code float[]} array with volatile memory semantics
+     * and returns the previous value.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param delta the value to add
+     * @return the previous value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static float getAndAddFloat(float[] array, int index, float delta) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        long offset = offset(array.length, index, FLOAT_BASE, FLOAT_SHIFT);
+        int current;
+        do {
+            current = unsafe.getIntVolatile(array, offset);
+        } while (!unsafe.compareAndSwapInt(array, offset, current, Float.floatToRawIntBits(Float.intBitsToFloat(current) + delta)));
+        return Float.intBitsToFloat(current);
+    }
+
+    /**
+     * Gets an element of a {@code double[]} array with volatile memory semantics.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @return the value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static double getDoubleVolatile(double[] array, int index) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        return Double.longBitsToDouble(unsafe.getLongVolatile(array, offset(array.length, index, DOUBLE_BASE, DOUBLE_SHIFT)));
+    }
+
+    /**
+     * Gets an element of a {@code double[]} array with acquire memory semantics,
+     * subsequent loads and stores are not reordered before this access.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @return the value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static double getDoubleAcquire(double[] array, int index) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        return Double.longBitsToDouble(unsafe.getLongVolatile(array, offset(array.length, index, DOUBLE_BASE, DOUBLE_SHIFT)));
+    }
+
+    /**
+     * Gets an element of a {@code double[]} array in program order,
+     * but with no assurance of memory ordering effects with respect to other variables.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @return the value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static double getDoubleOpaque(double[] array, int index) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        return Double.longBitsToDouble(unsafe.getLongVolatile(array, offset(array.length, index, DOUBLE_BASE, DOUBLE_SHIFT)));
+    }
+
+    /**
+     * Sets an element of a {@code double[]} array with volatile memory semantics.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param value the new value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static void setDoubleVolatile(double[] array, int index, double value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        unsafe.putLongVolatile(array, offset(array.length, index, DOUBLE_BASE, DOUBLE_SHIFT), Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * Sets an element of a {@code double[]} array with release memory semantics,
+     * prior loads and stores are not reordered after this access.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param value the new value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static void setDoubleRelease(double[] array, int index, double value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        unsafe.putOrderedLong(array, offset(array.length, index, DOUBLE_BASE, DOUBLE_SHIFT), Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * Sets an element of a {@code double[]} array in program order,
+     * but with no assurance of memory ordering effects with respect to other variables.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param value the new value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static void setDoubleOpaque(double[] array, int index, double value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        unsafe.putOrderedLong(array, offset(array.length, index, DOUBLE_BASE, DOUBLE_SHIFT), Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * Atomically sets an element of a {@code double[]} array to {@code value} with volatile memory semantics
+     * if its current value has the same raw bits as {@code expected}.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param expected the expected value
+     * @param value the new value of the element
+     * @return true if successful, false if the current value was not {@code expected}
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static boolean compareAndSetDouble(double[] array, int index, double expected, double value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        return unsafe.compareAndSwapLong(array, offset(array.length, index, DOUBLE_BASE, DOUBLE_SHIFT), Double.doubleToRawLongBits(expected), Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * Atomically sets an element of a {@code double[]} array to {@code value} with volatile memory semantics
+     * and returns the previous value.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param value the new value of the element
+     * @return the previous value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static double getAndSetDouble(double[] array, int index, double value) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        long offset = offset(array.length, index, DOUBLE_BASE, DOUBLE_SHIFT);
+        long current;
+        do {
+            current = unsafe.getLongVolatile(array, offset);
+        } while (!unsafe.compareAndSwapLong(array, offset, current, Double.doubleToRawLongBits(value)));
+        return Double.longBitsToDouble(current);
+    }
+
+    /**
+     * Atomically adds {@code delta} to an element of a {@code double[]} array with volatile memory semantics
+     * and returns the previous value.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param delta the value to add
+     * @return the previous value of the element
+     *
+     * @throws    NullPointerException      if the specified array is null
+     * @throws    ArrayIndexOutOfBoundsException if the index is out of bounds
+     */
+    public static double getAndAddDouble(double[] array, int index, double delta) throws NullPointerException, ArrayIndexOutOfBoundsException {
+        long offset = offset(array.length, index, DOUBLE_BASE, DOUBLE_SHIFT);
+        long current;
+        do {
+            current = unsafe.getLongVolatile(array, offset);
+        } while (!unsafe.compareAndSwapLong(array, offset, current, Double.doubleToRawLongBits(Double.longBitsToDouble(current) + delta)));
+        return Double.longBitsToDouble(current);
+    }
+
+}
@@ -0,0 +1,241 @@
+package com.tianscar.util.reflect;
+
+import sun.misc.Unsafe;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.nio.Buffer;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+// Reads the format written by BinaryWriter, objects are allocated when their OBJECT value is read
+// and filled when their body is reached.
+final class BinaryReader {
+
+    private final Unsafe unsafe;
+    private final ByteBuffer buffer;
+    private final ClassLoader classLoader;
+    private final List<Object> objects = new ArrayList<Object>();
+    private final List<Class<?>> classes = new ArrayList<Class<?>>();
+
+    BinaryReader(Unsafe unsafe, ByteBuffer buffer, ClassLoader classLoader) {
+        this.unsafe = unsafe;
+        this.buffer = buffer;
+        this.classLoader = classLoader;
+    }
+
+    Object read() throws ClassNotFoundException {
+        Object root = readValue();
+        for (int i = 0; i < objects.size(); i ++) {
+            Object object = objects.get(i);
+            if (object.getClass().isArray()) readArray(object);
+            else readObject(object);
+        }
+        return root;
+    }
+
+    private String readString() {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining() >> 1) throw new IllegalArgumentException("Illegal string length: " + length);
+        char[] chars = new char[length];
+        buffer.asCharBuffer().get(chars);
+        skip(length << 1);
+        return new String(chars);
+    }
+
+    private Class<?> forName(String name) throws ClassNotFoundException {
+        if (name.equals("boolean")) return boolean.class;
+        else if (name.equals("byte")) return byte.class;
+        else if (name.equals("char")) return char.class;
+        else if (name.equals("short")) return short.class;
+        else if (name.equals("int")) return int.class;
+        else if (name.equals("long")) return long.class;
+        else if (name.equals("float")) return float.class;
+        else if (name.equals("double")) return double.class;
+        else if (name.equals("void")) return void.class;
+        else return Class.forName(name, false, classLoader);
+    }
+
+    private Class<?> readClass() throws ClassNotFoundException {
+        int id = buffer.getInt();
+        if (id == -1) {
+            Class<?> clazz = forName(readString());
+            classes.add(clazz);
+            return clazz;
+        }
+        else if (id >= 0 && id < classes.size()) return classes.get(id);
+        else throw new IllegalArgumentException("Illegal class id: " + id);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Object readValue() throws ClassNotFoundException {
+        byte tag = buffer.get();
+        switch (tag) {
+            case BinaryWriter.NULL:
+                return null;
+            case BinaryWriter.REFERENCE:
+                int handle = buffer.getInt();
+                if (handle >= 0 && handle < objects.size()) return objects.get(handle);
+                else throw new IllegalArgumentException("Illegal handle: " + handle);
+            case BinaryWriter.OBJECT:
+                Class<?> clazz = readClass();
+                Object object;
+                if (clazz.isArray()) {
+                    int length = buffer.getInt();
+                    // Every element takes at least a byte, don't let corrupted data allocate huge arrays
+                    if (length < 0 || length > buffer.remaining()) throw new IllegalArgumentException("Illegal array length: " + length);
+                    object = Array.newInstance(clazz.getComponentType(), length);
+                }
+                else {
+                    try {
+                        object = unsafe.allocateInstance(clazz); // Java 6+
+                    } catch (InstantiationException e) {
+                        throw new IllegalArgumentException(e);
+                    }
+                }
+                objects.add(object);
+                return object;
+            case BinaryWriter.STRING:
+                return readString();
+            case BinaryWriter.CLASS:
+                return forName(readString());
+            case BinaryWriter.ENUM:
+                Class enumClass = readClass();
+                if (!enumClass.isEnum()) throw new IllegalArgumentException("Illegal enum class: " + enumClass.getName());
+                return Enum.valueOf(enumClass, readString());
+            default:
+                throw new IllegalArgumentException("Illegal tag: " + tag);
+        }
+    }
+
+    private void skip(int bytes) {
+        ((Buffer) buffer).position(buffer.position() + bytes);
+    }
+
+    // Heap buffers of the native byte order are copied to in bulk, the view buffers are used otherwise
+    private boolean copyFromHeapBuffer(Object array, long bytes) {
+        if (!buffer.hasArray() || buffer.order() != ByteOrder.nativeOrder()) return false;
+        if (buffer.remaining() < bytes) throw new BufferUnderflowException();
+        ArrayAccess.copyMemory(buffer.array(), buffer.arrayOffset() + buffer.position(), array, 0, bytes);
+        skip((int) bytes);
+        return true;
+    }
+
+    private void readArray(Object array) throws ClassNotFoundException {
+        if (array instanceof Object[]) {
+            Object[] objects = (Object[]) array;
+            Class<?> componentType = array.getClass().getComponentType();
+            for (int i = 0; i < objects.length; i ++) {
+                Object element = readValue();
+                if (element != null && !componentType.isInstance(element))
+                    throw new IllegalArgumentException("Illegal array element type; expected " + Reflects.getTypeName(componentType));
+                objects[i] = element;
+            }
+        }
+        else if (array instanceof byte[]) buffer.get((byte[]) array);
+        else if (array instanceof boolean[]) {
+            boolean[] booleans = (boolean[]) array;
+            for (int i = 0; i < booleans.length; i ++) {
+                booleans[i] = buffer.get() != 0;
+            }
+        }
+        else if (array instanceof char[]) {
+            char[] chars = (char[]) array;
+            if (!copyFromHeapBuffer(chars, (long) chars.length << 1)) {
+                buffer.asCharBuffer().get(chars);
+                skip(chars.length << 1);
+            }
+        }
+        else if (array instanceof short[]) {
+            short[] shorts = (short[]) array;
+            if (!copyFromHeapBuffer(shorts, (long) shorts.length << 1)) {
+                buffer.asShortBuffer().get(shorts);
+                skip(shorts.length << 1);
+            }
+        }
+        else if (array instanceof int[]) {
+            int[] ints = (int[]) array;
+            if (!copyFromHeapBuffer(ints, (long) ints.length << 2)) {
+                buffer.asIntBuffer().get(ints);
+                skip(ints.length << 2);
+            }
+        }
+        else if (array instanceof long[]) {
+            long[] longs = (long[]) array;
+            if (!copyFromHeapBuffer(longs, (long) longs.length << 3)) {
+                buffer.asLongBuffer().get(longs);
+                skip(longs.length << 3);
+            }
+        }
+        else if (array instanceof float[]) {
+            float[] floats = (float[]) array;
+            if (!copyFromHeapBuffer(floats, (long) floats.length << 2)) {
+                buffer.asFloatBuffer().get(floats);
+                skip(floats.length << 2);
+            }
+        }
+        else {
+            double[] doubles = (double[]) array;
+            if (!copyFromHeapBuffer(doubles, (long) doubles.length << 3)) {
+                buffer.asDoubleBuffer().get(doubles);
+                skip(doubles.length << 3);
+            }
+        }
+    }
+
+    private Object readReference(Field field) throws ClassNotFoundException {
+        Object value = readValue();
+        if (value != null && !field.getType().isInstance(value))
+            throw new IllegalArgumentException("Illegal field type; expected " + Reflects.getTypeName(field.getType()));
+        return value;
+    }
+
+    private void readObject(Object object) throws ClassNotFoundException {
+        FieldLayout layout = Reflects.layout(object.getClass());
+        long[] offsets = layout.offsets;
+        if (offsets == null) {
+            readObjectReflectively(object, layout);
+            return;
+        }
+        for (int i : layout.serialOrder) {
+            long offset = offsets[i];
+            switch (layout.types[i]) {
+                case FieldLayout.BOOLEAN: unsafe.putBoolean(object, offset, buffer.get() != 0); break;
+                case FieldLayout.BYTE: unsafe.putByte(object, offset, buffer.get()); break;
+                case FieldLayout.CHAR: unsafe.putChar(object, offset, buffer.getChar()); break;
+                case FieldLayout.SHORT: unsafe.putShort(object, offset, buffer.getShort()); break;
+                case FieldLayout.INT: unsafe.putInt(object, offset, buffer.getInt()); break;
+                case FieldLayout.LONG: unsafe.putLong(object, offset, buffer.getLong()); break;
+                case FieldLayout.FLOAT: unsafe.putFloat(object, offset, buffer.getFloat()); break;
+                case FieldLayout.DOUBLE: unsafe.putDouble(object, offset, buffer.getDouble()); break;
+                default: unsafe.putObject(object, offset, readReference(layout.fields[i])); break;
+            }
+        }
+    }
+
+    // Java 15+ hidden classes and records
+    private void readObjectReflectively(Object object, FieldLayout layout) throws ClassNotFoundException {
+        for (int i : layout.serialOrder) {
+            Field field = layout.fields[i];
+            try {
+                switch (layout.types[i]) {
+                    case FieldLayout.BOOLEAN: field.setBoolean(object, buffer.get() != 0); break;
+                    case FieldLayout.BYTE: field.setByte(object, buffer.get()); break;
+                    case FieldLayout.CHAR: field.setChar(object, buffer.getChar()); break;
+                    case FieldLayout.SHORT: field.setShort(object, buffer.getShort()); break;
+                    case FieldLayout.INT: field.setInt(object, buffer.getInt()); break;
+                    case FieldLayout.LONG: field.setLong(object, buffer.getLong()); break;
+                    case FieldLayout.FLOAT: field.setFloat(object, buffer.getFloat()); break;
+                    case FieldLayout.DOUBLE: field.setDouble(object, buffer.getDouble()); break;
+                    default: field.set(object, readReference(field)); break;
+                }
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,223 @@
+package com.tianscar.util.reflect;
+
+import sun.misc.Unsafe;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Writes an object graph breadth first, without recursion:
+//   stream    := value body*            (a body for every OBJECT value, in the order of their handles)
+//   value     := NULL | REFERENCE handle:int | OBJECT class [length:int if array] | STRING string
+//              | CLASS string | ENUM class string
+//   class     := id:int                 (a class written before)
+//              | -1 string              (a new class, gets the next id)
+//   string    := length:int char*
+//   body      := field*                 (primitives raw, references as values, in FieldLayout#serialOrder)
+//              | element*               (primitive arrays in bulk, reference arrays as values)
+// Everything is written in the byte order of the buffer.
+final class BinaryWriter {
+
+    static final byte NULL = 0;
+    static final byte REFERENCE = 1;
+    static final byte OBJECT = 2;
+    static final byte STRING = 3;
+    static final byte CLASS = 4;
+    static final byte ENUM = 5;
+
+    private final Unsafe unsafe;
+    private final ByteBuffer buffer;
+    private final Map<Object, Integer> handles = new IdentityHashMap<Object, Integer>();
+    private final List<Object> objects = new ArrayList<Object>();
+    private final Map<Class<?>, Integer> classIds = new HashMap<Class<?>, Integer>();
+
+    BinaryWriter(Unsafe unsafe, ByteBuffer buffer) {
+        this.unsafe = unsafe;
+        this.buffer = buffer;
+    }
+
+    void write(Object root) {
+        writeValue(root);
+        for (int i = 0; i < objects.size(); i ++) {
+            Object object = objects.get(i);
+            if (object.getClass().isArray()) writeArray(object);
+            else writeObject(object);
+        }
+    }
+
+    private void writeString(String string) {
+        int length = string.length();
+        buffer.putInt(length);
+        for (int i = 0; i < length; i ++) {
+            buffer.putChar(string.charAt(i));
+        }
+    }
+
+    private void writeClass(Class<?> clazz) {
+        Integer id = classIds.get(clazz);
+        if (id != null) buffer.putInt(id);
+        else {
+            classIds.put(clazz, classIds.size());
+            buffer.putInt(-1);
+            writeString(clazz.getName());
+        }
+    }
+
+    private void writeValue(Object value) {
+        if (value == null) {
+            buffer.put(NULL);
+            return;
+        }
+        Class<?> clazz = value.getClass();
+        if (clazz == String.class) {
+            buffer.put(STRING);
+            writeString((String) value);
+        }
+        else if (clazz == Class.class) {
+            buffer.put(CLASS);
+            writeString(((Class<?>) value).getName());
+        }
+        else if (value instanceof Enum) {
+            buffer.put(ENUM);
+            writeClass(((Enum<?>) value).getDeclaringClass());
+            writeString(((Enum<?>) value).name());
+        }
+        else {
+            Integer handle = handles.get(value);
+            if (handle != null) {
+                buffer.put(REFERENCE);
+                buffer.putInt(handle);
+            }
+            else {
+                handles.put(value, objects.size());
+                objects.add(value);
+                buffer.put(OBJECT);
+                writeClass(clazz);
+                if (clazz.isArray()) buffer.putInt(Array.getLength(value));
+            }
+        }
+    }
+
+    private void skip(int bytes) {
+        ((Buffer) buffer).position(buffer.position() + bytes);
+    }
+
+    // Heap buffers of the native byte order are copied from in bulk, the view buffers are used otherwise
+    private boolean copyToHeapBuffer(Object array, long bytes) {
+        if (!buffer.hasArray() || buffer.order() != ByteOrder.nativeOrder()) return false;
+        if (buffer.remaining() < bytes) throw new BufferOverflowException();
+        ArrayAccess.copyMemory(array, 0, buffer.array(), buffer.arrayOffset() + buffer.position(), bytes);
+        skip((int) bytes);
+        return true;
+    }
+
+    private void writeArray(Object array) {
+        if (array instanceof Object[]) {
+            for (Object element : (Object[]) array) {
+                writeValue(element);
+            }
+        }
+        else if (array instanceof byte[]) buffer.put((byte[]) array);
+        else if (array instanceof boolean[]) {
+            for (boolean element : (boolean[]) array) {
+                buffer.put(element ? (byte) 1 : (byte) 0);
+            }
+        }
+        else if (array instanceof char[]) {
+            char[] chars = (char[]) array;
+            if (!copyToHeapBuffer(chars, (long) chars.length << 1)) {
+                buffer.asCharBuffer().put(chars);
+                skip(chars.length << 1);
+            }
+        }
+        else if (array instanceof short[]) {
+            short[] shorts = (short[]) array;
+            if (!copyToHeapBuffer(shorts, (long) shorts.length << 1)) {
+                buffer.asShortBuffer().put(shorts);
+                skip(shorts.length << 1);
+            }
+        }
+        else if (array instanceof int[]) {
+            int[] ints = (int[]) array;
+            if (!copyToHeapBuffer(ints, (long) ints.length << 2)) {
+                buffer.asIntBuffer().put(ints);
+                skip(ints.length << 2);
+            }
+        }
+        else if (array instanceof long[]) {
+            long[] longs = (long[]) array;
+            if (!copyToHeapBuffer(longs, (long) longs.length << 3)) {
+                buffer.asLongBuffer().put(longs);
+                skip(longs.length << 3);
+            }
+        }
+        else if (array instanceof float[]) {
+            float[] floats = (float[]) array;
+            if (!copyToHeapBuffer(floats, (long) floats.length << 2)) {
+                buffer.asFloatBuffer().put(floats);
+                skip(floats.length << 2);
+            }
+        }
+        else {
+            double[] doubles = (double[]) array;
+            if (!copyToHeapBuffer(doubles, (long) doubles.length << 3)) {
+                buffer.asDoubleBuffer().put(doubles);
+                skip(doubles.length << 3);
+            }
+        }
+    }
+
+    private void writeObject(Object object) {
+        FieldLayout layout = Reflects.layout(object.getClass());
+        long[] offsets = layout.offsets;
+        if (offsets == null) {
+            writeObjectReflectively(object, layout);
+            return;
+        }
+        for (int i : layout.serialOrder) {
+            long offset = offsets[i];
+            switch (layout.types[i]) {
+                case FieldLayout.BOOLEAN: buffer.put(unsafe.getBoolean(object, offset) ? (byte) 1 : (byte) 0); break;
+                case FieldLayout.BYTE: buffer.put(unsafe.getByte(object, offset)); break;
+                case FieldLayout.CHAR: buffer.putChar(unsafe.getChar(object, offset)); break;
+                case FieldLayout.SHORT: buffer.putShort(unsafe.getShort(object, offset)); break;
+                case FieldLayout.INT: buffer.putInt(unsafe.getInt(object, offset)); break;
+                case FieldLayout.LONG: buffer.putLong(unsafe.getLong(object, offset)); break;
+                case FieldLayout.FLOAT: buffer.putFloat(unsafe.getFloat(object, offset)); break;
+                case FieldLayout.DOUBLE: buffer.putDouble(unsafe.getDouble(object, offset)); break;
+                default: writeValue(unsafe.getObject(object, offset)); break;
+            }
+        }
+    }
+
+    // Java 15+ hidden classes and records
+    private void writeObjectReflectively(Object object, FieldLayout layout) {
+        for (int i : layout.serialOrder) {
+            Field field = layout.fields[i];
+            try {
+                switch (layout.types[i]) {
+                    case FieldLayout.BOOLEAN: buffer.put(field.getBoolean(object) ? (byte) 1 : (byte) 0); break;
+                    case FieldLayout.BYTE: buffer.put(field.getByte(object)); break;
+                    case FieldLayout.CHAR: buffer.putChar(field.getChar(object)); break;
+                    case FieldLayout.SHORT: buffer.putShort(field.getShort(object)); break;
+                    case FieldLayout.INT: buffer.putInt(field.getInt(object)); break;
+                    case FieldLayout.LONG: buffer.putLong(field.getLong(object)); break;
+                    case FieldLayout.FLOAT: buffer.putFloat(field.getFloat(object)); break;
+                    case FieldLayout.DOUBLE: buffer.putDouble(field.getDouble(object)); break;
+                    default: writeValue(field.get(object)); break;
+                }
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.tianscar.util.reflect;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maps a method of an interface bound with {@link Reflects#bind(Class, Object)} or
+ * {@link Reflects#bindStatic(Class, Class)} onto a member of the target class.
+ *
+ * <p>Without this annotation, an interface method is mapped onto the method of the same name and parameter types,
+ * or onto the field of the same name if it has the shape of a getter (no parameters and a return value)
+ * or a setter (one parameter and no return value) and there is no such method.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Bind {
+
+    /**
+     * The kinds of members an interface method can be mapped onto.
+     */
+    enum Kind {
+        /**
+         * A method if there is one of a compatible signature, otherwise a field getter or setter.
+         */
+        AUTO,
+        /**
+         * A method, invoked with the arguments of the interface method.
+         */
+        METHOD,
+        /**
+         * A field getter, the interface method must have no parameters and a return value.
+         */
+        GETTER,
+        /**
+         * A field setter, the interface method must have one parameter and no return value.
+         */
+        SETTER
+    }
+
+    /**
+     * The name of the member.
+     *
+     * @return the name of the member, or an empty string for the name of the annotated method
+     */
+    String value() default "";
+
+    /**
+     * The kind of the member.
+     *
+     * @return the kind of the member
+     */
+    Kind kind() default Kind.AUTO;
+
+}
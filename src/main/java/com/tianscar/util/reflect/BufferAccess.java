@@ -0,0 +1,172 @@
+package com.tianscar.util.reflect;
+
+import sun.misc.Unsafe;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+
+/**
+ * Zero-copy access to direct NIO buffers.
+ *
+ * <p>The native address of direct buffers is read through the cached offset of {@code Buffer.address},
+ * arbitrary native memory can be wrapped as a {@link ByteBuffer} through the private constructor used by
+ * {@code JNIEnv#NewDirectByteBuffer}, and direct and mapped buffers can be released explicitly instead of
+ * waiting for the garbage collector, with {@code sun.misc.Unsafe#invokeCleaner} on Java 9+ and with
+ * their internal {@code Cleaner} on Java 6-8.
+ */
+public final class BufferAccess {
+
+    private BufferAccess() {
+        throw new AssertionError("No " + BufferAccess.class.getName() + " instances for you!");
+    }
+
+    private static final Unsafe unsafe = Reflects.unsafe;
+
+    private static final long addressOffset;
+    private static final ConstructorFactory<?> directBufferFactory;
+    private static final boolean longCapacity;
+
+    // Java 9+
+    private static final Method invokeCleanerMethod;
+    // Java 6-8
+    private static final Method cleanerMethod;
+    private static final Method attachmentMethod;
+
+    static {
+        long _addressOffset;
+        try {
+            _addressOffset = unsafe.objectFieldOffset(Buffer.class.getDeclaredField("address")); // Java 6+
+        } catch (NoSuchFieldException e) {
+            _addressOffset = -1; // Unexpected
+        }
+        addressOffset = _addressOffset;
+        ConstructorFactory<?> _directBufferFactory;
+        boolean _longCapacity = false;
+        try {
+            Class<?> directBufferClass = Class.forName("java.nio.DirectByteBuffer");
+            Constructor<?> constructor;
+            try {
+                constructor = directBufferClass.getDeclaredConstructor(long.class, int.class); // Java 6-20
+            } catch (NoSuchMethodException e) {
+                constructor = directBufferClass.getDeclaredConstructor(long.class, long.class); // Java 21+
+                _longCapacity = true;
+            }
+            _directBufferFactory = Reflects.factory(constructor);
+        } catch (ClassNotFoundException e) {
+            _directBufferFactory = null; // Unexpected
+        } catch (NoSuchMethodException e) {
+            _directBufferFactory = null; // Unexpected
+        }
+        directBufferFactory = _directBufferFactory;
+        longCapacity = _longCapacity;
+        Method _invokeCleanerMethod;
+        try {
+            _invokeCleanerMethod = Unsafe.class.getMethod("invokeCleaner", ByteBuffer.class); // Java 9+
+        } catch (NoSuchMethodException e) {
+            _invokeCleanerMethod = null; // Java 6-8
+        }
+        invokeCleanerMethod = _invokeCleanerMethod;
+        Method _cleanerMethod = null;
+        Method _attachmentMethod = null;
+        if (invokeCleanerMethod == null) {
+            try {
+                Class<?> directBufferInterface = Class.forName("sun.nio.ch.DirectBuffer");
+                _cleanerMethod = directBufferInterface.getMethod("cleaner");
+                try {
+                    _attachmentMethod = directBufferInterface.getMethod("attachment"); // Java 7-8
+                } catch (NoSuchMethodException e) {
+                    _attachmentMethod = directBufferInterface.getMethod("viewedBuffer"); // Java 6
+                }
+            } catch (ClassNotFoundException e) {
+                _cleanerMethod = null; // Unexpected
+            } catch (NoSuchMethodException e) {
+                _cleanerMethod = null; // Unexpected
+            }
+        }
+        cleanerMethod = _cleanerMethod;
+        attachmentMethod = _attachmentMethod;
+    }
+
+    /**
+     * Returns the native address of the first element of the specified direct buffer.
+     *
+     * @param buffer the direct buffer
+     * @return the address of the buffer
+     *
+     * @throws    IllegalArgumentException       if the specified buffer is not direct
+     * @throws    UnsupportedOperationException  if buffers don't have a native address on this runtime environment
+     * @throws    NullPointerException           if the specified buffer is null
+     */
+    public static long address(Buffer buffer) throws IllegalArgumentException, UnsupportedOperationException, NullPointerException {
+        if (!buffer.isDirect()) throw new IllegalArgumentException("Illegal buffer; expected direct");
+        if (addressOffset == -1) throw new UnsupportedOperationException("Unsupported Buffer layout");
+        return unsafe.getLong(buffer, addressOffset);
+    }
+
+    /**
+     * Creates a direct byte buffer of the specified native memory, without copying.
+     *
+     * <p>The buffer doesn't own the memory, {@link #free(ByteBuffer)} has no effect on it, and it must not be
+     * accessed after the memory has been released. Its byte order is {@link java.nio.ByteOrder#BIG_ENDIAN}.
+     *
+     * @param address the address of the memory
+     * @param capacity the size of the memory in bytes
+     * @return the buffer
+     *
+     * @throws    IllegalArgumentException       if the specified capacity is negative
+     * @throws    UnsupportedOperationException  if native memory can't be wrapped on this runtime environment
+     */
+    public static ByteBuffer wrap(long address, int capacity) throws IllegalArgumentException, UnsupportedOperationException {
+        if (capacity < 0) throw new IllegalArgumentException("Illegal capacity: " + capacity);
+        if (directBufferFactory == null) throw new UnsupportedOperationException("Unsupported ByteBuffer layout");
+        try {
+            return (ByteBuffer) (longCapacity ?
+                    directBufferFactory.newInstance(address, (long) capacity) : // Java 21+
+                    directBufferFactory.newInstance(address, capacity));        // Java 6-20
+        } catch (InstantiationException e) {
+            throw new UnsupportedOperationException(e); // Unexpected
+        } catch (InvocationTargetException e) {
+            throw new UnsupportedOperationException(e.getCause()); // Unexpected
+        }
+    }
+
+    /**
+     * Releases the native memory of the specified direct buffer, or unmaps the specified mapped buffer,
+     * instead of waiting for the garbage collector. Has no effect if it has already been released, or if the
+     * buffer doesn't own its memory.
+     *
+     * <p>The buffer, and every buffer created from it, must not be accessed afterwards, otherwise the
+     * runtime environment may crash.
+     *
+     * @param buffer the direct buffer
+     *
+     * @throws    IllegalArgumentException       if the specified buffer is not direct, or is a slice or a duplicate
+     *                                           of another buffer
+     * @throws    UnsupportedOperationException  if buffers can't be released on this runtime environment
+     * @throws    NullPointerException           if the specified buffer is null
+     */
+    public static void free(ByteBuffer buffer) throws IllegalArgumentException, UnsupportedOperationException, NullPointerException {
+        if (!buffer.isDirect()) throw new IllegalArgumentException("Illegal buffer; expected direct");
+        try {
+            if (invokeCleanerMethod != null) invokeCleanerMethod.invoke(unsafe, buffer); // Java 9+
+            else if (cleanerMethod != null) { // Java 6-8
+                if (attachmentMethod.invoke(buffer) != null) throw new IllegalArgumentException("duplicate or slice");
+                Object cleaner = cleanerMethod.invoke(buffer);
+                if (cleaner != null) cleaner.getClass().getMethod("clean").invoke(cleaner);
+            }
+            else throw new UnsupportedOperationException("Unsupported ByteBuffer layout");
+        } catch (IllegalAccessException e) {
+            throw new UnsupportedOperationException(e); // Unexpected
+        } catch (NoSuchMethodException e) {
+            throw new UnsupportedOperationException(e); // Unexpected
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IllegalArgumentException) throw (IllegalArgumentException) cause;
+            else throw new UnsupportedOperationException(cause); // Unexpected
+        }
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.tianscar.util.reflect;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+
+// Used on Java 6-7, calls the constructor through an accessor class generated by AccessorGenerator.
+final class BytecodeConstructorFactory<T> extends ConstructorFactory<T> {
+
+    private final InvocationHandler accessor;
+
+    BytecodeConstructorFactory(Constructor<T> constructor, InvocationHandler accessor) {
+        super(constructor);
+        this.accessor = accessor;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T newInstance(Object... args) throws InstantiationException, InvocationTargetException {
+        checkInstantiable();
+        args = checkArgs(args);
+        if (MethodInvoker.needsWidening(parameterTypes, args)) {
+            // The accessor casts the arguments to the exact wrappers of primitive parameters
+            if (isArgumentMismatch(args)) throw new IllegalArgumentException("argument type mismatch");
+            args = MethodInvoker.widen(parameterTypes, args);
+        }
+        try {
+            return (T) accessor.invoke(null, null, args);
+        } catch (Throwable e) {
+            if ((e instanceof ClassCastException || e instanceof NullPointerException) && isArgumentMismatch(args))
+                throw new IllegalArgumentException("argument type mismatch");
+            else throw new InvocationTargetException(e);
+        }
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.tianscar.util.reflect;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+// Used on Java 6-7, calls the method through an accessor class generated by AccessorGenerator.
+final class BytecodeMethodInvoker extends MethodInvoker {
+
+    private final InvocationHandler accessor;
+
+    BytecodeMethodInvoker(Method method, InvocationHandler accessor) {
+        super(method);
+        this.accessor = accessor;
+        if (isStatic) Reflects.ensureClassInitialized(declaringClass);
+    }
+
+    @Override
+    public Object invoke(Object object, Object... args) throws InvocationTargetException {
+        checkObject(object);
+        args = checkArgs(args);
+        if (needsWidening(parameterTypes, args)) {
+            // The accessor casts the arguments to the exact wrappers of primitive parameters
+            if (isArgumentMismatch(args)) throw new IllegalArgumentException("argument type mismatch");
+            args = widen(parameterTypes, args);
+        }
+        try {
+            return accessor.invoke(object, null, args);
+        } catch (Throwable e) {
+            if ((e instanceof ClassCastException || e instanceof NullPointerException) && isArgumentMismatch(args))
+                throw new IllegalArgumentException("argument type mismatch");
+            else throw new InvocationTargetException(e);
+        }
+    }
+
+}
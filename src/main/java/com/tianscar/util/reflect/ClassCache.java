@@ -0,0 +1,56 @@
+package com.tianscar.util.reflect;
+
+import java.lang.ref.SoftReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+// A value computed once per class, which never keeps the class (nor its class loader) reachable.
+// Java 7+ store the values in a ClassValue, Java 6 and Android (which lacks ClassValue before API level 34) in a
+// WeakHashMap. The values usually reference their class, so they are softly reachable there, otherwise the keys
+// would never be cleared.
+abstract class ClassCache<T> {
+
+    // Java 6 doesn't have java.lang.ClassValue, so we probe it once.
+    private static final boolean classValueAvailable;
+
+    static {
+        boolean _classValueAvailable;
+        try {
+            Class.forName("java.lang.ClassValue"); // Java 7+
+            _classValueAvailable = true;
+        } catch (ClassNotFoundException e) {
+            _classValueAvailable = false; // Java 6
+        }
+        classValueAvailable = _classValueAvailable;
+    }
+
+    private final Object classValue;                        // Java 7+
+    private final Map<Class<?>, SoftReference<T>> values;   // Java 6
+
+    ClassCache() {
+        if (classValueAvailable) {
+            classValue = ClassValueStorage.create(this);
+            values = null;
+        }
+        else {
+            classValue = null;
+            values = new WeakHashMap<Class<?>, SoftReference<T>>();
+        }
+    }
+
+    abstract T computeValue(Class<?> clazz);
+
+    final T get(Class<?> clazz) {
+        if (classValue != null) return ClassValueStorage.get(classValue, clazz); // Java 7+
+        synchronized (values) {
+            SoftReference<T> reference = values.get(clazz);
+            T value = reference == null ? null : reference.get();
+            if (value == null) {
+                value = computeValue(clazz);
+                values.put(clazz, new SoftReference<T>(value));
+            }
+            return value;
+        }
+    }
+
+}
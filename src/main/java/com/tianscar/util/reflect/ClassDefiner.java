@@ -0,0 +1,189 @@
+package com.tianscar.util.reflect;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.security.ProtectionDomain;
+
+// Defines classes from bytecode next to a host class, with the newest mechanism of the runtime environment.
+// Everything is called reflectively, as the methods span Java 6 to Java 15+ and this class must load on all of them.
+final class ClassDefiner {
+
+    private ClassDefiner() {
+        throw new AssertionError("No " + ClassDefiner.class.getName() + " instances for you!");
+    }
+
+    // Java 7+
+    private static final Method inMethod;
+    // Java 9+
+    private static final Method lookupDefineClassMethod;
+    // Java 15+
+    private static final Method defineHiddenClassMethod;
+    private static final Object nestmateOptions;
+    private static final Method lookupClassMethod;
+    // Java 16+
+    private static final Method defineHiddenClassWithClassDataMethod;
+    private static final Object noOptions;
+    // Java 7-16
+    private static final Method defineAnonymousClassMethod;
+    private static final Method ensureClassInitializedMethod;
+    // Java 6-8
+    private static final Method classLoaderDefineClassMethod;
+    private static final Method unsafeDefineClassMethod;
+
+    static {
+        Method _inMethod = null;
+        Method _lookupDefineClassMethod = null;
+        Method _defineHiddenClassMethod = null;
+        Object _nestmateOptions = null;
+        Method _lookupClassMethod = null;
+        Method _defineHiddenClassWithClassDataMethod = null;
+        Object _noOptions = null;
+        if (Reflects.lookup != null) {
+            Class<?> lookupClazz = Reflects.lookup.getClass();
+            try {
+                _inMethod = lookupClazz.getMethod("in", Class.class);
+                _lookupClassMethod = lookupClazz.getMethod("lookupClass");
+            } catch (NoSuchMethodException e) {
+                _inMethod = null; // Unexpected
+            }
+            try {
+                _lookupDefineClassMethod = lookupClazz.getMethod("defineClass", byte[].class); // Java 9+
+            } catch (NoSuchMethodException e) {
+                _lookupDefineClassMethod = null; // Java 7-8
+            }
+            try {
+                Class<?> classOptionClazz = Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+                _nestmateOptions = Array.newInstance(classOptionClazz, 1);
+                Array.set(_nestmateOptions, 0, classOptionClazz.getField("NESTMATE").get(null));
+                _defineHiddenClassMethod = lookupClazz.getMethod("defineHiddenClass",
+                        byte[].class, boolean.class, _nestmateOptions.getClass()); // Java 15+
+            } catch (ClassNotFoundException e) {
+                _defineHiddenClassMethod = null; // Java 7-14
+            } catch (NoSuchFieldException e) {
+                _defineHiddenClassMethod = null; // Unexpected
+            } catch (IllegalAccessException e) {
+                _defineHiddenClassMethod = null; // Unexpected
+            } catch (NoSuchMethodException e) {
+                _defineHiddenClassMethod = null; // Unexpected
+            }
+            if (_defineHiddenClassMethod != null) {
+                _noOptions = Array.newInstance(_nestmateOptions.getClass().getComponentType(), 0);
+                try {
+                    _defineHiddenClassWithClassDataMethod = lookupClazz.getMethod("defineHiddenClassWithClassData",
+                            byte[].class, Object.class, boolean.class, _noOptions.getClass()); // Java 16+
+                } catch (NoSuchMethodException e) {
+                    _defineHiddenClassWithClassDataMethod = null; // Java 15
+                }
+            }
+        }
+        inMethod = _inMethod;
+        lookupDefineClassMethod = _lookupDefineClassMethod;
+        defineHiddenClassMethod = _defineHiddenClassMethod;
+        nestmateOptions = _nestmateOptions;
+        lookupClassMethod = _lookupClassMethod;
+        defineHiddenClassWithClassDataMethod = _defineHiddenClassWithClassDataMethod;
+        noOptions = _noOptions;
+        Method _defineAnonymousClassMethod = null;
+        Method _ensureClassInitializedMethod = null;
+        Method _unsafeDefineClassMethod = null;
+        if (Reflects.unsafe != null) {
+            try {
+                _defineAnonymousClassMethod = Reflects.unsafe.getClass()
+                        .getMethod("defineAnonymousClass", Class.class, byte[].class, Object[].class); // Java 7-16
+                _ensureClassInitializedMethod = Reflects.unsafe.getClass().getMethod("ensureClassInitialized", Class.class);
+            } catch (NoSuchMethodException e) {
+                _defineAnonymousClassMethod = null; // Java 6 and Java 17+
+            }
+            try {
+                _unsafeDefineClassMethod = Reflects.unsafe.getClass().getMethod("defineClass",
+                        String.class, byte[].class, int.class, int.class, ClassLoader.class, ProtectionDomain.class); // Java 6-10
+            } catch (NoSuchMethodException e) {
+                _unsafeDefineClassMethod = null; // Java 11+
+            }
+        }
+        defineAnonymousClassMethod = _defineAnonymousClassMethod;
+        ensureClassInitializedMethod = _ensureClassInitializedMethod;
+        unsafeDefineClassMethod = _unsafeDefineClassMethod;
+        Method _classLoaderDefineClassMethod;
+        if (lookupDefineClassMethod != null) _classLoaderDefineClassMethod = null; // Java 9+
+        else {
+            try {
+                _classLoaderDefineClassMethod = ClassLoader.class.getDeclaredMethod("defineClass",
+                        String.class, byte[].class, int.class, int.class, ProtectionDomain.class);
+                if (!Reflects.trySetAccessible(_classLoaderDefineClassMethod)) _classLoaderDefineClassMethod = null;
+            } catch (NoSuchMethodException e) {
+                _classLoaderDefineClassMethod = null; // Unexpected
+            }
+        }
+        classLoaderDefineClassMethod = _classLoaderDefineClassMethod;
+    }
+
+    private static Object invoke(Method method, Object object, Object... args)
+            throws IllegalArgumentException, UnsupportedOperationException, LinkageError {
+        try {
+            return method.invoke(object, args);
+        } catch (IllegalAccessException e) {
+            throw new UnsupportedOperationException(e); // Unexpected
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            else if (cause instanceof Error) throw (Error) cause;
+            else throw new UnsupportedOperationException(cause); // Unexpected
+        }
+    }
+
+    static Class<?> defineClass(Class<?> host, byte[] bytes) throws IllegalArgumentException, UnsupportedOperationException, LinkageError {
+        Class<?> clazz;
+        if (lookupDefineClassMethod != null)
+            clazz = (Class<?>) invoke(lookupDefineClassMethod, invoke(inMethod, Reflects.lookup, host), (Object) bytes); // Java 9+
+        else if (host.getClassLoader() != null && classLoaderDefineClassMethod != null)
+            clazz = (Class<?>) invoke(classLoaderDefineClassMethod, host.getClassLoader(),
+                    null, bytes, 0, bytes.length, host.getProtectionDomain()); // Java 6-8
+        else if (unsafeDefineClassMethod != null)
+            clazz = (Class<?>) invoke(unsafeDefineClassMethod, Reflects.unsafe,
+                    null, bytes, 0, bytes.length, host.getClassLoader(), host.getProtectionDomain()); // Java 6-8, bootstrap class loader
+        else throw new UnsupportedOperationException("Unsupported class definition");
+        Reflects.ensureClassInitialized(clazz);
+        return clazz;
+    }
+
+    static boolean isHiddenClassAvailable() {
+        return defineHiddenClassMethod != null;
+    }
+
+    static boolean isClassDataAvailable() {
+        return defineHiddenClassWithClassDataMethod != null;
+    }
+
+    static boolean isAnonymousClassAvailable() {
+        return defineAnonymousClassMethod != null;
+    }
+
+    // Java 7-16 only, the class is initialized on its first active use
+    static Class<?> defineAnonymousClass(Class<?> host, byte[] bytes) throws IllegalArgumentException, UnsupportedOperationException, LinkageError {
+        if (defineAnonymousClassMethod == null) throw new UnsupportedOperationException("Unsupported anonymous class definition");
+        return (Class<?>) invoke(defineAnonymousClassMethod, Reflects.unsafe, host, bytes, null);
+    }
+
+    static Class<?> defineHiddenClass(Class<?> host, byte[] bytes) throws IllegalArgumentException, UnsupportedOperationException, LinkageError {
+        if (defineHiddenClassMethod != null) return (Class<?>) invoke(lookupClassMethod, invoke(defineHiddenClassMethod,
+                invoke(inMethod, Reflects.lookup, host), bytes, true, nestmateOptions)); // Java 15+
+        else if (defineAnonymousClassMethod != null) {
+            Class<?> clazz = defineAnonymousClass(host, bytes); // Java 7-14
+            invoke(ensureClassInitializedMethod, Reflects.unsafe, clazz);
+            return clazz;
+        }
+        else return defineClass(host, bytes); // Java 6
+    }
+
+    // Java 16+ only, defines a hidden class in the package of the host and initializes it, its static initializer
+    // gets the specified data with MethodHandles#classData; unlike normal classes, it's unloaded once unreachable
+    static Class<?> defineHiddenClass(Class<?> host, byte[] bytes, Object classData)
+            throws IllegalArgumentException, UnsupportedOperationException, LinkageError {
+        if (defineHiddenClassWithClassDataMethod == null) throw new UnsupportedOperationException("Unsupported class data");
+        return (Class<?>) invoke(lookupClassMethod, invoke(defineHiddenClassWithClassDataMethod,
+                invoke(inMethod, Reflects.lookup, host), bytes, classData, true, noOptions));
+    }
+
+}
@@ -0,0 +1,218 @@
+package com.tianscar.util.reflect;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// A minimal class file writer, just enough for the straight-line methods of generated accessors and bindings,
+// which need neither stack map frames nor exception tables.
+final class ClassFileWriter {
+
+    static final int ACC_PUBLIC = 0x0001, ACC_PRIVATE = 0x0002, ACC_STATIC = 0x0008, ACC_FINAL = 0x0010,
+            ACC_SUPER = 0x0020, ACC_SYNTHETIC = 0x1000;
+
+    static final int ACONST_NULL = 0x01, ICONST_0 = 0x03, BIPUSH = 0x10, SIPUSH = 0x11, LDC_W = 0x13,
+            ILOAD = 0x15, LLOAD = 0x16, FLOAD = 0x17, DLOAD = 0x18, ALOAD = 0x19,
+            ALOAD_0 = 0x2a, ALOAD_1 = 0x2b, ALOAD_3 = 0x2d, AALOAD = 0x32, DUP = 0x59,
+            IRETURN = 0xac, LRETURN = 0xad, FRETURN = 0xae, DRETURN = 0xaf, ARETURN = 0xb0, RETURN = 0xb1,
+            GETSTATIC = 0xb2, PUTSTATIC = 0xb3, GETFIELD = 0xb4, PUTFIELD = 0xb5,
+            INVOKEVIRTUAL = 0xb6, INVOKESPECIAL = 0xb7, INVOKESTATIC = 0xb8, INVOKEINTERFACE = 0xb9,
+            NEW = 0xbb, CHECKCAST = 0xc0;
+
+    private static final int CONSTANT_UTF8 = 1, CONSTANT_CLASS = 7, CONSTANT_STRING = 8, CONSTANT_FIELDREF = 9, CONSTANT_METHODREF = 10,
+            CONSTANT_INTERFACE_METHODREF = 11, CONSTANT_NAME_AND_TYPE = 12;
+
+    private final int version;
+    private final int access;
+    private final int thisClass;
+    private final int superClass;
+    private final int[] interfaces;
+    private final ByteArrayOutputStream poolBytes = new ByteArrayOutputStream();
+    private final DataOutputStream pool = new DataOutputStream(poolBytes);
+    private final Map<String, Integer> constants = new HashMap<String, Integer>();
+    private int poolCount = 1;
+    private final ByteArrayOutputStream fieldBytes = new ByteArrayOutputStream();
+    private final DataOutputStream fields = new DataOutputStream(fieldBytes);
+    private int fieldCount;
+    private final ByteArrayOutputStream methodBytes = new ByteArrayOutputStream();
+    private final DataOutputStream methods = new DataOutputStream(methodBytes);
+    private int methodCount;
+
+    ClassFileWriter(int version, int access, String name, String superName, String... interfaceNames) throws IOException {
+        this.version = version;
+        this.access = access;
+        thisClass = classRef(name);
+        superClass = classRef(superName);
+        interfaces = new int[interfaceNames.length];
+        for (int i = 0; i < interfaceNames.length; i ++) {
+            interfaces[i] = classRef(interfaceNames[i]);
+        }
+    }
+
+    static String internalName(Class<?> clazz) {
+        return clazz.isArray() ? descriptor(clazz) : clazz.getName().replace('.', '/');
+    }
+
+    static String descriptor(Class<?> clazz) {
+        if (clazz == void.class) return "V";
+        else if (clazz == boolean.class) return "Z";
+        else if (clazz == byte.class) return "B";
+        else if (clazz == char.class) return "C";
+        else if (clazz == short.class) return "S";
+        else if (clazz == int.class) return "I";
+        else if (clazz == long.class) return "J";
+        else if (clazz == float.class) return "F";
+        else if (clazz == double.class) return "D";
+        else if (clazz.isArray()) return clazz.getName().replace('.', '/');
+        else return "L" + clazz.getName().replace('.', '/') + ";";
+    }
+
+    static String descriptor(Class<?>[] parameterTypes, Class<?> returnType) {
+        StringBuilder builder = new StringBuilder("(");
+        for (Class<?> parameterType : parameterTypes) {
+            builder.append(descriptor(parameterType));
+        }
+        return builder.append(')').append(descriptor(returnType)).toString();
+    }
+
+    static int slots(Class<?> type) {
+        return type == long.class || type == double.class ? 2 : type == void.class ? 0 : 1;
+    }
+
+    private int constant(String key, int tag, int... operands) throws IOException {
+        Integer index = constants.get(key);
+        if (index != null) return index;
+        pool.writeByte(tag);
+        for (int operand : operands) {
+            pool.writeShort(operand);
+        }
+        constants.put(key, poolCount);
+        return poolCount ++;
+    }
+
+    int utf8(String value) throws IOException {
+        String key = "U" + value;
+        Integer index = constants.get(key);
+        if (index != null) return index;
+        pool.writeByte(CONSTANT_UTF8);
+        pool.writeUTF(value);
+        constants.put(key, poolCount);
+        return poolCount ++;
+    }
+
+    int classRef(String internalName) throws IOException {
+        return constant("C" + internalName, CONSTANT_CLASS, utf8(internalName));
+    }
+
+    int stringRef(String value) throws IOException {
+        return constant("S" + value, CONSTANT_STRING, utf8(value));
+    }
+
+    private int nameAndType(String name, String descriptor) throws IOException {
+        return constant("N" + name + descriptor, CONSTANT_NAME_AND_TYPE, utf8(name), utf8(descriptor));
+    }
+
+    int fieldRef(String owner, String name, String descriptor) throws IOException {
+        return constant("F" + owner + "." + name + descriptor, CONSTANT_FIELDREF, classRef(owner), nameAndType(name, descriptor));
+    }
+
+    int methodRef(String owner, String name, String descriptor, boolean isInterface) throws IOException {
+        return constant((isInterface ? "I" : "M") + owner + "." + name + descriptor,
+                isInterface ? CONSTANT_INTERFACE_METHODREF : CONSTANT_METHODREF, classRef(owner), nameAndType(name, descriptor));
+    }
+
+    static void push(List<Integer> code, int value) {
+        if (value <= 5) code.add(ICONST_0 + value);
+        else if (value <= Byte.MAX_VALUE) {
+            code.add(BIPUSH);
+            code.add(value);
+        }
+        else {
+            code.add(SIPUSH);
+            code.add(value >> 8 & 0xFF);
+            code.add(value & 0xFF);
+        }
+    }
+
+    static void op(List<Integer> code, int opcode, int index) {
+        code.add(opcode);
+        code.add(index >> 8 & 0xFF);
+        code.add(index & 0xFF);
+    }
+
+    // Loads the local variable of the specified type, the index must fit in a byte
+    static void load(List<Integer> code, Class<?> type, int index) {
+        if (type == long.class) code.add(LLOAD);
+        else if (type == float.class) code.add(FLOAD);
+        else if (type == double.class) code.add(DLOAD);
+        else if (type.isPrimitive()) code.add(ILOAD);
+        else code.add(ALOAD);
+        code.add(index);
+    }
+
+    static int returnOpcode(Class<?> type) {
+        if (type == void.class) return RETURN;
+        else if (type == long.class) return LRETURN;
+        else if (type == float.class) return FRETURN;
+        else if (type == double.class) return DRETURN;
+        else if (type.isPrimitive()) return IRETURN;
+        else return ARETURN;
+    }
+
+    void field(int access, String name, String descriptor) throws IOException {
+        fields.writeShort(access);
+        fields.writeShort(utf8(name));
+        fields.writeShort(utf8(descriptor));
+        fields.writeShort(0); // Attributes
+        fieldCount ++;
+    }
+
+    void method(int access, String name, String descriptor, int maxStack, int maxLocals, List<Integer> code) throws IOException {
+        methods.writeShort(access);
+        methods.writeShort(utf8(name));
+        methods.writeShort(utf8(descriptor));
+        methods.writeShort(1);
+        methods.writeShort(utf8("Code"));
+        methods.writeInt(12 + code.size());
+        methods.writeShort(maxStack);
+        methods.writeShort(maxLocals);
+        methods.writeInt(code.size());
+        for (int b : code) {
+            methods.writeByte(b);
+        }
+        methods.writeShort(0); // Exception table
+        methods.writeShort(0); // Attributes
+        methodCount ++;
+    }
+
+    byte[] toByteArray() throws IOException {
+        pool.flush();
+        fields.flush();
+        methods.flush();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(0xCAFEBABE);
+        out.writeShort(0);
+        out.writeShort(version);
+        out.writeShort(poolCount);
+        poolBytes.writeTo(out);
+        out.writeShort(access);
+        out.writeShort(thisClass);
+        out.writeShort(superClass);
+        out.writeShort(interfaces.length);
+        for (int index : interfaces) {
+            out.writeShort(index);
+        }
+        out.writeShort(fieldCount);
+        fieldBytes.writeTo(out);
+        out.writeShort(methodCount);
+        methodBytes.writeTo(out);
+        out.writeShort(0); // Class attributes
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+}
@@ -0,0 +1,282 @@
+package com.tianscar.util.reflect;
+
+import sun.misc.Unsafe;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+// Everything Reflects resolves about the members declared by a class, cached in a ClassCache by Reflects#metadata.
+// Each entry is resolved on its first use, racing threads may resolve it twice but always publish the same one:
+// the maps with putIfAbsent, the fields with compareAndSet.
+final class ClassMetadata {
+
+    private static final AtomicReferenceFieldUpdater<ClassMetadata, FieldLayout> layoutUpdater =
+            AtomicReferenceFieldUpdater.newUpdater(ClassMetadata.class, FieldLayout.class, "layout");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<ClassMetadata, StructLayout> structLayoutUpdater =
+            AtomicReferenceFieldUpdater.newUpdater(ClassMetadata.class, StructLayout.class, "structLayout");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<ClassMetadata, Map> declaredFieldsUpdater =
+            AtomicReferenceFieldUpdater.newUpdater(ClassMetadata.class, Map.class, "declaredFields");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<ClassMetadata, Map> declaredMethodsUpdater =
+            AtomicReferenceFieldUpdater.newUpdater(ClassMetadata.class, Map.class, "declaredMethods");
+
+    private final Class<?> clazz;
+    private volatile FieldLayout layout;
+    private volatile StructLayout<?> structLayout;
+    // Whether access to a member was granted, so denied members never take the failing path again.
+    private final ConcurrentMap<AccessibleObject, Boolean> accessible = newMap();
+    private final ConcurrentMap<Field, FieldAccessor> accessors = newMap();
+    private final ConcurrentMap<Method, MethodInvoker> invokers = newMap();
+    private final ConcurrentMap<Constructor<?>, ConstructorFactory<?>> factories = newMap();
+    // The classes generated by AccessorGenerator are shared by every invoker and factory of the same member.
+    private final ConcurrentMap<Member, InvocationHandler> generatedAccessors = newMap();
+    // The members declared by the class, indexed by name on the first lookup, Class#getDeclaredFields and
+    // Class#getDeclaredMethods copy them on every call.
+    private volatile Map<String, Field> declaredFields;
+    private volatile Map<String, Method[]> declaredMethods;
+    // The members found in the class hierarchy by name (and parameter types), or NOT_FOUND.
+    private final ConcurrentMap<String, Object> foundFields = newMap();
+    private final ConcurrentMap<MethodKey, Object> foundMethods = newMap();
+    private static final Object NOT_FOUND = new Object();
+    // The bindings of interfaces onto target classes this class is either side of, see Reflects#binding.
+    private final ConcurrentMap<BindingKey, InterfaceBinding> bindings = newMap();
+
+    private static final class MethodKey {
+        private final String name;
+        private final Class<?>[] parameterTypes;
+        private final int hashCode;
+        MethodKey(String name, Class<?>[] parameterTypes) {
+            this.name = name;
+            this.parameterTypes = parameterTypes;
+            this.hashCode = name.hashCode() * 31 + Arrays.hashCode(parameterTypes);
+        }
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof MethodKey)) return false;
+            MethodKey key = (MethodKey) o;
+            return name.equals(key.name) && Arrays.equals(parameterTypes, key.parameterTypes);
+        }
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final class BindingKey {
+        private final Class<?> iface;
+        private final Class<?> targetClass;
+        private final boolean isStatic;
+        BindingKey(Class<?> iface, Class<?> targetClass, boolean isStatic) {
+            this.iface = iface;
+            this.targetClass = targetClass;
+            this.isStatic = isStatic;
+        }
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof BindingKey)) return false;
+            BindingKey key = (BindingKey) o;
+            return iface == key.iface && targetClass == key.targetClass && isStatic == key.isStatic;
+        }
+        @Override
+        public int hashCode() {
+            return (iface.hashCode() * 31 + targetClass.hashCode()) * 2 + (isStatic ? 1 : 0);
+        }
+    }
+
+    ClassMetadata(Class<?> clazz) {
+        this.clazz = clazz;
+    }
+
+    // Most classes only ever have a few of their members accessed
+    private static <K, V> ConcurrentMap<K, V> newMap() {
+        return new ConcurrentHashMap<K, V>(4, 0.75f, 1);
+    }
+
+    FieldLayout layout(Unsafe unsafe) {
+        FieldLayout layout = this.layout;
+        if (layout == null && !layoutUpdater.compareAndSet(this, null, layout = new FieldLayout(unsafe, clazz)))
+            layout = this.layout;
+        return layout;
+    }
+
+    StructLayout<?> structLayout() throws UnsupportedOperationException {
+        StructLayout<?> structLayout = this.structLayout;
+        if (structLayout == null && !structLayoutUpdater.compareAndSet(this, null,
+                structLayout = StructLayout.create(clazz, Reflects.layout(clazz)))) structLayout = this.structLayout;
+        return structLayout;
+    }
+
+    Boolean getAccessible(AccessibleObject member) {
+        return accessible.get(member);
+    }
+
+    void putAccessible(AccessibleObject member, Boolean granted) {
+        accessible.putIfAbsent(member, granted);
+    }
+
+    // Returns null if no accessor can be generated on this runtime environment
+    InvocationHandler generatedAccessor(Member member) {
+        InvocationHandler accessor = generatedAccessors.get(member);
+        if (accessor == null) {
+            accessor = AccessorGenerator.generate(member);
+            if (accessor == null) return null;
+            InvocationHandler previous = generatedAccessors.putIfAbsent(member, accessor);
+            if (previous != null) accessor = previous;
+        }
+        return accessor;
+    }
+
+    FieldAccessor accessor(Field field) {
+        FieldAccessor accessor = accessors.get(field);
+        if (accessor == null) {
+            accessor = Reflects.accessor(field);
+            FieldAccessor previous = accessors.putIfAbsent(field, accessor);
+            if (previous != null) accessor = previous;
+        }
+        return accessor;
+    }
+
+    MethodInvoker invoker(Method method) {
+        MethodInvoker invoker = invokers.get(method);
+        if (invoker == null) {
+            invoker = Reflects.invoker(method);
+            MethodInvoker previous = invokers.putIfAbsent(method, invoker);
+            if (previous != null) invoker = previous;
+        }
+        return invoker;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> ConstructorFactory<T> factory(Constructor<T> constructor) {
+        ConstructorFactory<?> factory = factories.get(constructor);
+        if (factory == null) {
+            factory = Reflects.factory(constructor);
+            ConstructorFactory<?> previous = factories.putIfAbsent(constructor, factory);
+            if (previous != null) factory = previous;
+        }
+        return (ConstructorFactory<T>) factory;
+    }
+
+    private Map<String, Field> declaredFields() {
+        Map<String, Field> fields = declaredFields;
+        if (fields == null) {
+            fields = new HashMap<String, Field>();
+            for (Field field : clazz.getDeclaredFields()) {
+                fields.put(field.getName(), field);
+            }
+            if (!declaredFieldsUpdater.compareAndSet(this, null, fields)) fields = declaredFields;
+        }
+        return fields;
+    }
+
+    private Map<String, Method[]> declaredMethods() {
+        Map<String, Method[]> methods = declaredMethods;
+        if (methods == null) {
+            Map<String, List<Method>> lists = new HashMap<String, List<Method>>();
+            for (Method method : clazz.getDeclaredMethods()) {
+                List<Method> list = lists.get(method.getName());
+                if (list == null) lists.put(method.getName(), list = new ArrayList<Method>(1));
+                list.add(method);
+            }
+            methods = new HashMap<String, Method[]>(lists.size() * 4 / 3 + 1);
+            for (Map.Entry<String, List<Method>> entry : lists.entrySet()) {
+                methods.put(entry.getKey(), entry.getValue().toArray(new Method[0]));
+            }
+            if (!declaredMethodsUpdater.compareAndSet(this, null, methods)) methods = declaredMethods;
+        }
+        return methods;
+    }
+
+    // Returns the methods of the specified name declared by the class, or null
+    Method[] declaredMethods(String name) {
+        return declaredMethods().get(name);
+    }
+
+    // Searches like the JVM resolves fields: the class itself, then its superinterfaces, then its superclass
+    private Field searchField(String name) {
+        Field field = declaredFields().get(name);
+        if (field != null) return field;
+        for (Class<?> superinterface : clazz.getInterfaces()) {
+            field = Reflects.metadata(superinterface).findField(name);
+            if (field != null) return field;
+        }
+        Class<?> superclass = clazz.getSuperclass();
+        return superclass == null ? null : Reflects.metadata(superclass).findField(name);
+    }
+
+    Field findField(String name) {
+        Object field = foundFields.get(name);
+        if (field == null) {
+            field = searchField(name);
+            if (field == null) field = NOT_FOUND;
+            foundFields.putIfAbsent(name, field);
+        }
+        return field == NOT_FOUND ? null : (Field) field;
+    }
+
+    // Bridge methods share the parameter types of the methods they bridge to, but not the return type
+    private Method declaredMethod(String name, Class<?>[] parameterTypes) {
+        Method[] methods = declaredMethods().get(name);
+        if (methods == null) return null;
+        Method found = null;
+        for (Method method : methods) {
+            if (!Arrays.equals(method.getParameterTypes(), parameterTypes)) continue;
+            if (found == null || found.getReturnType().isAssignableFrom(method.getReturnType())) found = method;
+        }
+        return found;
+    }
+
+    // Searches like Class#getMethod, but including non-public methods: the class itself, then its superclass
+    // (and the hierarchy of it), then its superinterfaces
+    private Method searchMethod(String name, Class<?>[] parameterTypes) {
+        Method method = declaredMethod(name, parameterTypes);
+        if (method != null) return method;
+        Class<?> superclass = clazz.getSuperclass();
+        if (superclass != null) {
+            method = Reflects.metadata(superclass).findMethod(name, parameterTypes);
+            if (method != null) return method;
+        }
+        for (Class<?> superinterface : clazz.getInterfaces()) {
+            method = Reflects.metadata(superinterface).findMethod(name, parameterTypes);
+            if (method != null) return method;
+        }
+        return null;
+    }
+
+    Method findMethod(String name, Class<?>[] parameterTypes) {
+        MethodKey key = new MethodKey(name, parameterTypes);
+        Object method = foundMethods.get(key);
+        if (method == null) {
+            method = searchMethod(name, parameterTypes);
+            if (method == null) method = NOT_FOUND;
+            foundMethods.putIfAbsent(new MethodKey(name, parameterTypes.clone()), method);
+        }
+        return method == NOT_FOUND ? null : (Method) method;
+    }
+
+    InterfaceBinding binding(Class<?> iface, Class<?> targetClass, boolean isStatic) throws IllegalArgumentException {
+        BindingKey key = new BindingKey(iface, targetClass, isStatic);
+        InterfaceBinding binding = bindings.get(key);
+        if (binding == null) {
+            binding = InterfaceBinding.create(iface, targetClass, isStatic);
+            InterfaceBinding previous = bindings.putIfAbsent(key, binding);
+            if (previous != null) binding = previous;
+        }
+        return binding;
+    }
+
+}
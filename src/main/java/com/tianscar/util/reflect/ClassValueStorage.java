@@ -0,0 +1,24 @@
+package com.tianscar.util.reflect;
+
+// Java 7+ only, never load this class before checking that java.lang.ClassValue is available.
+final class ClassValueStorage {
+
+    private ClassValueStorage() {
+        throw new AssertionError("No " + ClassValueStorage.class.getName() + " instances for you!");
+    }
+
+    static <T> Object create(final ClassCache<T> cache) {
+        return new ClassValue<T>() {
+            @Override
+            protected T computeValue(Class<?> clazz) {
+                return cache.computeValue(clazz);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T get(Object classValue, Class<?> clazz) {
+        return ((ClassValue<T>) classValue).get(clazz);
+    }
+
+}
@@ -0,0 +1,236 @@
+package com.tianscar.util.reflect;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+import static java.lang.reflect.Modifier.isAbstract;
+
+/**
+ * A prepared factory of instances of a class through one of its constructors,
+ * obtained from {@link Reflects#factory(Constructor)}.
+ *
+ * <p>The constructor is resolved and, on Java 7+, unreflected through the trusted lookup once when the
+ * factory is created, so repeated instantiations don't redo any lookup or accessibility work.
+ * The fixed-arity variants of up to four arguments don't allocate an argument array.
+ * A factory is immutable and safe to share between threads.
+ *
+ * @param <T> the class of the created instances
+ */
+public abstract class ConstructorFactory<T> {
+
+    static final Object[] EMPTY_ARGS = new Object[0];
+
+    final Constructor<T> constructor;
+    final Class<?>[] parameterTypes;
+    private final boolean isAbstract;
+    private final boolean isEnum;
+
+    ConstructorFactory(Constructor<T> constructor) {
+        this.constructor = constructor;
+        this.parameterTypes = constructor.getParameterTypes();
+        Class<T> declaringClass = constructor.getDeclaringClass();
+        this.isAbstract = isAbstract(declaringClass.getModifiers());
+        this.isEnum = declaringClass.isEnum();
+    }
+
+    /**
+     * Returns the {@code Constructor} object this factory was created from.
+     *
+     * @return the underlying constructor
+     */
+    public Constructor<T> getConstructor() {
+        return constructor;
+    }
+
+    final void checkInstantiable() throws InstantiationException {
+        if (isAbstract) throw new InstantiationException(constructor.getDeclaringClass().getName());
+        if (isEnum) throw new IllegalArgumentException("Cannot reflectively create enum objects");
+    }
+
+    final Object[] checkArgs(Object[] args) {
+        if (args == null) args = EMPTY_ARGS;
+        checkArgCount(args.length);
+        return args;
+    }
+
+    final void checkArgCount(int count) {
+        if (count != parameterTypes.length) throw new IllegalArgumentException("wrong number of arguments");
+    }
+
+    // Tells whether a failed instantiation was caused by the arguments rather than by the underlying constructor,
+    // so the argument checks don't need to run before every instantiation.
+    final boolean isArgumentMismatch(Object... args) {
+        for (int i = 0; i < parameterTypes.length; i ++) {
+            if (!MethodInvoker.isConvertible(parameterTypes[i], args[i])) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Uses the underlying constructor to create and initialize a new instance of the
+     * constructor's declaring class, with the specified initialization parameters.
+     * Individual parameters are automatically unwrapped to match
+     * primitive formal parameters, and both primitive and reference
+     * parameters are subject to method invocation conversions as necessary.
+     *
+     * <p>If the constructor's declaring class is an inner class in a
+     * non-static context, the first argument to the constructor needs
+     * to be the enclosing instance.
+     *
+     * @param args array of objects to be passed as arguments to
+     * the constructor call
+     * @return a new object created by calling the constructor
+     *
+     * @throws    IllegalArgumentException  if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion; if
+     *              this constructor pertains to an enum class.
+     * @throws    InstantiationException    if the class that declares the
+     *              underlying constructor represents an abstract class.
+     * @throws    InvocationTargetException if the underlying constructor
+     *              throws an exception.
+     *
+     * @see Reflects#newInstance(Constructor, Object...)
+     */
+    public abstract T newInstance(Object... args)
+            throws InstantiationException, InvocationTargetException, IllegalArgumentException;
+
+    /**
+     * Uses the underlying constructor to create and initialize a new instance with no arguments,
+     * without allocating an argument array.
+     *
+     * @return a new object created by calling the constructor
+     *
+     * @throws    IllegalArgumentException  if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion; if
+     *              this constructor pertains to an enum class.
+     * @throws    InstantiationException    if the class that declares the
+     *              underlying constructor represents an abstract class.
+     * @throws    InvocationTargetException if the underlying constructor
+     *              throws an exception.
+     *
+     * @see #newInstance(Object...)
+     */
+    public T newInstance()
+            throws InstantiationException, InvocationTargetException, IllegalArgumentException {
+        return newInstance(EMPTY_ARGS);
+    }
+
+    /**
+     * Uses the underlying constructor to create and initialize a new instance with one argument,
+     * without allocating an argument array.
+     *
+     * @param arg0 the first argument to be passed to the constructor call
+     * @return a new object created by calling the constructor
+     *
+     * @throws    IllegalArgumentException  if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion; if
+     *              this constructor pertains to an enum class.
+     * @throws    InstantiationException    if the class that declares the
+     *              underlying constructor represents an abstract class.
+     * @throws    InvocationTargetException if the underlying constructor
+     *              throws an exception.
+     *
+     * @see #newInstance(Object...)
+     */
+    public T newInstance(Object arg0)
+            throws InstantiationException, InvocationTargetException, IllegalArgumentException {
+        return newInstance(new Object[] {arg0});
+    }
+
+    /**
+     * Uses the underlying constructor to create and initialize a new instance with two arguments,
+     * without allocating an argument array.
+     *
+     * @param arg0 the first argument to be passed to the constructor call
+     * @param arg1 the second argument to be passed to the constructor call
+     * @return a new object created by calling the constructor
+     *
+     * @throws    IllegalArgumentException  if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion; if
+     *              this constructor pertains to an enum class.
+     * @throws    InstantiationException    if the class that declares the
+     *              underlying constructor represents an abstract class.
+     * @throws    InvocationTargetException if the underlying constructor
+     *              throws an exception.
+     *
+     * @see #newInstance(Object...)
+     */
+    public T newInstance(Object arg0, Object arg1)
+            throws InstantiationException, InvocationTargetException, IllegalArgumentException {
+        return newInstance(new Object[] {arg0, arg1});
+    }
+
+    /**
+     * Uses the underlying constructor to create and initialize a new instance with three arguments,
+     * without allocating an argument array.
+     *
+     * @param arg0 the first argument to be passed to the constructor call
+     * @param arg1 the second argument to be passed to the constructor call
+     * @param arg2 the third argument to be passed to the constructor call
+     * @return a new object created by calling the constructor
+     *
+     * @throws    IllegalArgumentException  if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion; if
+     *              this constructor pertains to an enum class.
+     * @throws    InstantiationException    if the class that declares the
+     *              underlying constructor represents an abstract class.
+     * @throws    InvocationTargetException if the underlying constructor
+     *              throws an exception.
+     *
+     * @see #newInstance(Object...)
+     */
+    public T newInstance(Object arg0, Object arg1, Object arg2)
+            throws InstantiationException, InvocationTargetException, IllegalArgumentException {
+        return newInstance(new Object[] {arg0, arg1, arg2});
+    }
+
+    /**
+     * Uses the underlying constructor to create and initialize a new instance with four arguments,
+     * without allocating an argument array.
+     *
+     * @param arg0 the first argument to be passed to the constructor call
+     * @param arg1 the second argument to be passed to the constructor call
+     * @param arg2 the third argument to be passed to the constructor call
+     * @param arg3 the fourth argument to be passed to the constructor call
+     * @return a new object created by calling the constructor
+     *
+     * @throws    IllegalArgumentException  if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion; if
+     *              this constructor pertains to an enum class.
+     * @throws    InstantiationException    if the class that declares the
+     *              underlying constructor represents an abstract class.
+     * @throws    InvocationTargetException if the underlying constructor
+     *              throws an exception.
+     *
+     * @see #newInstance(Object...)
+     */
+    public T newInstance(Object arg0, Object arg1, Object arg2, Object arg3)
+            throws InstantiationException, InvocationTargetException, IllegalArgumentException {
+        return newInstance(new Object[] {arg0, arg1, arg2, arg3});
+    }
+
+}
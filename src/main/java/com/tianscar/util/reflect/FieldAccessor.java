@@ -0,0 +1,3139 @@
+package com.tianscar.util.reflect;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.RandomAccess;
+
+import static java.lang.reflect.Modifier.isStatic;
+
+/**
+ * A precomputed accessor of a static or instance field, obtained from {@link Reflects#accessor(Field)}.
+ *
+ * <p>The backend, the field offset, the static base and the field type are resolved once when the
+ * accessor is created, so repeated accesses don't redo any metadata or accessibility work.
+ * An accessor is immutable and safe to share between threads.
+ *
+ * <p>If the underlying field is a static field, the {@code object} argument of every method
+ * is ignored; it may be null. If the underlying field is static, the class that declared the
+ * field is initialized when the accessor is created.
+ *
+ * <p>Besides plain accesses, an accessor provides the memory ordering access modes of
+ * {@code java.lang.invoke.VarHandle} (volatile, acquire/release, opaque, compare-and-set,
+ * get-and-set and get-and-add) for every field, whether it is declared {@code volatile} or not.
+ * They are backed by {@code VarHandle} on Java 9+ and by the {@code int}, {@code long} and
+ * reference atomics of {@code sun.misc.Unsafe} otherwise; {@code boolean}, {@code byte},
+ * {@code char} and {@code short} atomics are emulated with a compare-and-set on the aligned
+ * {@code int} word which contains the field. Atomicity is only guaranteed between accesses
+ * using these access modes.
+ *
+ * <p>The batch methods ({@link #getInts(Object[], int[])}, {@link #setInts(java.util.List, int[])}...) gather
+ * the field of many objects into a primitive array, or scatter a primitive array into it, checking the field
+ * type once per batch, e.g. to build columnar vectors from row objects.
+ */
+public abstract class FieldAccessor {
+
+    final Field field;
+    final Class<?> declaringClass;
+    final Class<?> type;
+    final boolean isStatic;
+
+    FieldAccessor(Field field) {
+        this.field = field;
+        this.declaringClass = field.getDeclaringClass();
+        this.type = field.getType();
+        this.isStatic = isStatic(field.getModifiers());
+    }
+
+    /**
+     * Returns the {@code Field} object this accessor was created from.
+     *
+     * @return the underlying field
+     */
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * Returns a {@code Class} object that identifies the declared type of the underlying field.
+     *
+     * @return a {@code Class} object identifying the declared type of the underlying field
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    final Object checkObject(Object object) {
+        if (declaringClass.isInstance(object)) return object;
+        else return Reflects.checkObject(object, field); // throws NullPointerException or IllegalArgumentException
+    }
+
+    static IllegalArgumentException illegalType(String expected) {
+        return new IllegalArgumentException("Illegal field type; expected " + expected);
+    }
+
+    static UnsupportedOperationException unsupportedAccessMode() {
+        return new UnsupportedOperationException("Access mode requires sun.misc.Unsafe or java.lang.invoke.VarHandle");
+    }
+
+    /**
+     * Gets the value of the field, primitive values are wrapped in an appropriate object.
+     *
+     * @param object the object to extract the value from
+     * @return the value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof).
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     *
+     * @see Reflects#getField(Object, Field)
+     */
+    public abstract Object get(Object object) throws IllegalArgumentException, NullPointerException;
+
+    /**
+     * Gets the value of a non-primitive field.
+     *
+     * @param object the object to extract the non-primitive value from
+     * @return the value of the non-primitive field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field value is primitive.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     *
+     * @see Reflects#getObjectField(Object, Field)
+     */
+    public abstract Object getObject(Object object) throws IllegalArgumentException, NullPointerException;
+
+    /**
+     * Gets the value of a {@code boolean} field.
+     *
+     * @param object the object to extract the {@code boolean} value from
+     * @return the value of the {@code boolean} field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code boolean}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     *
+     * @see Reflects#getBooleanField(Object, Field)
+     */
+    public abstract boolean getBoolean(Object object) throws IllegalArgumentException, NullPointerException;
+
+    /**
+     * Gets the value of a {@code byte} field.
+     *
+     * @param object the object to extract the {@code byte} value from
+     * @return the value of the {@code byte} field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code byte}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     *
+     * @see Reflects#getByteField(Object, Field)
+     */
+    public abstract byte getByte(Object object) throws IllegalArgumentException, NullPointerException;
+
+    /**
+     * Gets the value of a {@code char} field.
+     *
+     * @param object the object to extract the {@code char} value from
+     * @return the value of the {@code char} field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code char}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     *
+     * @see Reflects#getCharField(Object, Field)
+     */
+    public abstract char getChar(Object object) throws IllegalArgumentException, NullPointerException;
+
+    /**
+     * Gets the value of a {@code short} field.
+     *
+     * @param object the object to extract the {@code short} value from
+     * @return the value of the {@code short} field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code short}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     *
+     * @see Reflects#getShortField(Object, Field)
+     */
+    public abstract short getShort(Object object) throws IllegalArgumentException, NullPointerException;
+
+    /**
+     * Gets the value of an {@code int} field.
+     *
+     * @param object the object to extract the {@code int} value from
+     * @return the value of the {@code int} field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code int}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     *
+     * @see Reflects#getIntField(Object, Field)
+     */
+    public abstract int getInt(Object object) throws IllegalArgumentException, NullPointerException;
+
+    /**
+     * Gets the value of a {@code long} field.
+     *
+     * @param object the object to extract the {@code long} value from
+     * @return the value of the {@code long} field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code long}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     *
+     * @see Reflects#getLongField(Object, Field)
+     */
+    public abstract long getLong(Object object) throws IllegalArgumentException, NullPointerException;
+
+    /**
+     * Gets the value of a {@code float} field.
+     *
+     * @param object the object to extract the {@code float} value from
+     * @return the value of the {@code float} field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code float}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     *
+     * @see Reflects#getFloatField(Object, Field)
+     */
+    public abstract float getFloat(Object object) throws IllegalArgumentException, NullPointerException;
+
+    /**
+     * Gets the value of a {@code double} field.
+     *
+     * @param object the object to extract the {@code double} value from
+     * @return the value of the {@code double} field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code double}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     *
+     * @see Reflects#getDoubleField(Object, Field)
+     */
+    public abstract double getDouble(Object object) throws IllegalArgumentException, NullPointerException;
+
+    /**
+     * Sets the value of the field, the new value is automatically unwrapped
+     * if the underlying field has a primitive type.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if an unwrapping conversion fails.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     *
+     * @see Reflects#setField(Object, Field, Object)
+     */
+    public abstract void set(Object object, Object value) throws IllegalArgumentException, NullPointerException;
+
+    /**
+     * Sets the value of a non-primitive field.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the value cannot be assigned to the field.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     *
+     * @see Reflects#setObjectField(Object, Field, Object)
+     */
+    public abstract void setObject(Object object, Object value) throws IllegalArgumentException, NullPointerException;
+
+    /**
+     * Sets the value of a {@code boolean} field.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code boolean}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     *
+     * @see Reflects#setBooleanField(Object, Field, boolean)
+     */
+    public abstract void setBoolean(Object object, boolean value) throws IllegalArgumentException, NullPointerException;
+
+    /**
+     * Sets the value of a {@code byte} field.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code byte}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     *
+     * @see Reflects#setByteField(Object, Field, byte)
+     */
+    public abstract void setByte(Object object, byte value) throws IllegalArgumentException, NullPointerException;
+
+    /**
+     * Sets the value of a {@code char} field.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code char}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     *
+     * @see Reflects#setCharField(Object, Field, char)
+     */
+    public abstract void setChar(Object object, char value) throws IllegalArgumentException, NullPointerException;
+
+    /**
+     * Sets the value of a {@code short} field.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code short}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     *
+     * @see Reflects#setShortField(Object, Field, short)
+     */
+    public abstract void setShort(Object object, short value) throws IllegalArgumentException, NullPointerException;
+
+    /**
+     * Sets the value of an {@code int} field.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code int}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     *
+     * @see Reflects#setIntField(Object, Field, int)
+     */
+    public abstract void setInt(Object object, int value) throws IllegalArgumentException, NullPointerException;
+
+    /**
+     * Sets the value of a {@code long} field.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code long}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     *
+     * @see Reflects#setLongField(Object, Field, long)
+     */
+    public abstract void setLong(Object object, long value) throws IllegalArgumentException, NullPointerException;
+
+    /**
+     * Sets the value of a {@code float} field.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code float}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     *
+     * @see Reflects#setFloatField(Object, Field, float)
+     */
+    public abstract void setFloat(Object object, float value) throws IllegalArgumentException, NullPointerException;
+
+    /**
+     * Sets the value of a {@code double} field.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code double}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     *
+     * @see Reflects#setDoubleField(Object, Field, double)
+     */
+    public abstract void setDouble(Object object, double value) throws IllegalArgumentException, NullPointerException;
+
+    /**
+     * Gets the value of a non-primitive field with volatile memory semantics,
+     * as if the field was declared {@code volatile}.
+     *
+     * @param object the object to extract the non-primitive value from
+     * @return the value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field value is primitive.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public Object getObjectVolatile(Object object) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Gets the value of a non-primitive field with acquire memory semantics,
+     * subsequent loads and stores are not reordered before this access.
+     *
+     * @param object the object to extract the non-primitive value from
+     * @return the value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field value is primitive.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public Object getObjectAcquire(Object object) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Gets the value of a non-primitive field in program order,
+     * but with no assurance of memory ordering effects with respect to other variables.
+     *
+     * @param object the object to extract the non-primitive value from
+     * @return the value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field value is primitive.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public Object getObjectOpaque(Object object) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Sets the value of a non-primitive field with volatile memory semantics,
+     * as if the field was declared {@code volatile}.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the value cannot be assigned to the field.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public void setObjectVolatile(Object object, Object value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Sets the value of a non-primitive field with release memory semantics,
+     * prior loads and stores are not reordered after this access.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the value cannot be assigned to the field.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public void setObjectRelease(Object object, Object value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Sets the value of a non-primitive field in program order,
+     * but with no assurance of memory ordering effects with respect to other variables.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the value cannot be assigned to the field.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public void setObjectOpaque(Object object, Object value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Atomically sets the value of a non-primitive field to {@code value} with volatile memory semantics
+     * if its current value is the same reference as {@code expected}.
+     *
+     * @param object the object whose field should be modified
+     * @param expected the expected value
+     * @param value the new value for the field of {@code object}
+     * being modified
+     * @return true if successful, false if the current value was not {@code expected}
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the value cannot be assigned to the field.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public boolean compareAndSetObject(Object object, Object expected, Object value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Atomically sets the value of a non-primitive field to {@code value} with volatile memory semantics
+     * and returns the previous value.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     * @return the previous value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the value cannot be assigned to the field.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public Object getAndSetObject(Object object, Object value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Gets the value of a {@code boolean} field with volatile memory semantics,
+     * as if the field was declared {@code volatile}.
+     *
+     * @param object the object to extract the {@code boolean} value from
+     * @return the value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code boolean}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public boolean getBooleanVolatile(Object object) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Gets the value of a {@code boolean} field with acquire memory semantics,
+     * subsequent loads and stores are not reordered before this access.
+     *
+     * @param object the object to extract the {@code boolean} value from
+     * @return the value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code boolean}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public boolean getBooleanAcquire(Object object) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Gets the value of a {@code boolean} field in program order,
+     * but with no assurance of memory ordering effects with respect to other variables.
+     *
+     * @param object the object to extract the {@code boolean} value from
+     * @return the value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code boolean}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public boolean getBooleanOpaque(Object object) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Sets the value of a {@code boolean} field with volatile memory semantics,
+     * as if the field was declared {@code volatile}.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code boolean}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public void setBooleanVolatile(Object object, boolean value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Sets the value of a {@code boolean} field with release memory semantics,
+     * prior loads and stores are not reordered after this access.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code boolean}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public void setBooleanRelease(Object object, boolean value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Sets the value of a {@code boolean} field in program order,
+     * but with no assurance of memory ordering effects with respect to other variables.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code boolean}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public void setBooleanOpaque(Object object, boolean value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Atomically sets the value of a {@code boolean} field to {@code value} with volatile memory semantics
+     * if its current value equals {@code expected}.
+     *
+     * @param object the object whose field should be modified
+     * @param expected the expected value
+     * @param value the new value for the field of {@code object}
+     * being modified
+     * @return true if successful, false if the current value was not {@code expected}
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code boolean}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public boolean compareAndSetBoolean(Object object, boolean expected, boolean value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Atomically sets the value of a {@code boolean} field to {@code value} with volatile memory semantics
+     * and returns the previous value.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     * @return the previous value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code boolean}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public boolean getAndSetBoolean(Object object, boolean value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Gets the value of a {@code byte} field with volatile memory semantics,
+     * as if the field was declared {@code volatile}.
+     *
+     * @param object the object to extract the {@code byte} value from
+     * @return the value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code byte}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public byte getByteVolatile(Object object) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Gets the value of a {@code byte} field with acquire memory semantics,
+     * subsequent loads and stores are not reordered before this access.
+     *
+     * @param object the object to extract the {@code byte} value from
+     * @return the value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code byte}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public byte getByteAcquire(Object object) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Gets the value of a {@code byte} field in program order,
+     * but with no assurance of memory ordering effects with respect to other variables.
+     *
+     * @param object the object to extract the {@code byte} value from
+     * @return the value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code byte}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public byte getByteOpaque(Object object) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Sets the value of a {@code byte} field with volatile memory semantics,
+     * as if the field was declared {@code volatile}.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code byte}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public void setByteVolatile(Object object, byte value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Sets the value of a {@code byte} field with release memory semantics,
+     * prior loads and stores are not reordered after this access.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code byte}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public void setByteRelease(Object object, byte value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Sets the value of a {@code byte} field in program order,
+     * but with no assurance of memory ordering effects with respect to other variables.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code byte}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public void setByteOpaque(Object object, byte value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Atomically sets the value of a {@code byte} field to {@code value} with volatile memory semantics
+     * if its current value equals {@code expected}.
+     *
+     * @param object the object whose field should be modified
+     * @param expected the expected value
+     * @param value the new value for the field of {@code object}
+     * being modified
+     * @return true if successful, false if the current value was not {@code expected}
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code byte}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public boolean compareAndSetByte(Object object, byte expected, byte value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Atomically sets the value of a {@code byte} field to {@code value} with volatile memory semantics
+     * and returns the previous value.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     * @return the previous value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code byte}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public byte getAndSetByte(Object object, byte value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Atomically adds {@code delta} to the value of a {@code byte} field with volatile memory semantics
+     * and returns the previous value.
+     *
+     * @param object the object whose field should be modified
+     * @param delta the value to add
+     * @return the previous value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code byte}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public byte getAndAddByte(Object object, byte delta) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Gets the value of a {@code char} field with volatile memory semantics,
+     * as if the field was declared {@code volatile}.
+     *
+     * @param object the object to extract the {@code char} value from
+     * @return the value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code char}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public char getCharVolatile(Object object) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Gets the value of a {@code char} field with acquire memory semantics,
+     * subsequent loads and stores are not reordered before this access.
+     *
+     * @param object the object to extract the {@code char} value from
+     * @return the value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code char}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public char getCharAcquire(Object object) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Gets the value of a {@code char} field in program order,
+     * but with no assurance of memory ordering effects with respect to other variables.
+     *
+     * @param object the object to extract the {@code char} value from
+     * @return the value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code char}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public char getCharOpaque(Object object) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Sets the value of a {@code char} field with volatile memory semantics,
+     * as if the field was declared {@code volatile}.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code char}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public void setCharVolatile(Object object, char value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Sets the value of a {@code char} field with release memory semantics,
+     * prior loads and stores are not reordered after this access.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code char}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public void setCharRelease(Object object, char value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Sets the value of a {@code char} field in program order,
+     * but with no assurance of memory ordering effects with respect to other variables.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code char}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public void setCharOpaque(Object object, char value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Atomically sets the value of a {@code char} field to {@code value} with volatile memory semantics
+     * if its current value equals {@code expected}.
+     *
+     * @param object the object whose field should be modified
+     * @param expected the expected value
+     * @param value the new value for the field of {@code object}
+     * being modified
+     * @return true if successful, false if the current value was not {@code expected}
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code char}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public boolean compareAndSetChar(Object object, char expected, char value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Atomically sets the value of a {@code char} field to {@code value} with volatile memory semantics
+     * and returns the previous value.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     * @return the previous value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code char}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public char getAndSetChar(Object object, char value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Atomically adds {@code delta} to the value of a {@code char} field with volatile memory semantics
+     * and returns the previous value.
+     *
+     * @param object the object whose field should be modified
+     * @param delta the value to add
+     * @return the previous value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code char}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public char getAndAddChar(Object object, char delta) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Gets the value of a {@code short} field with volatile memory semantics,
+     * as if the field was declared {@code volatile}.
+     *
+     * @param object the object to extract the {@code short} value from
+     * @return the value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code short}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public short getShortVolatile(Object object) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Gets the value of a {@code short} field with acquire memory semantics,
+     * subsequent loads and stores are not reordered before this access.
+     *
+     * @param object the object to extract the {@code short} value from
+     * @return the value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code short}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public short getShortAcquire(Object object) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Gets the value of a {@code short} field in program order,
+     * but with no assurance of memory ordering effects with respect to other variables.
+     *
+     * @param object the object to extract the {@code short} value from
+     * @return the value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code short}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public short getShortOpaque(Object object) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Sets the value of a {@code short} field with volatile memory semantics,
+     * as if the field was declared {@code volatile}.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code short}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public void setShortVolatile(Object object, short value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Sets the value of a {@code short} field with release memory semantics,
+     * prior loads and stores are not reordered after this access.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code short}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public void setShortRelease(Object object, short value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Sets the value of a {@code short} field in program order,
+     * but with no assurance of memory ordering effects with respect to other variables.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code short}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public void setShortOpaque(Object object, short value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Atomically sets the value of a {@code short} field to {@code value} with volatile memory semantics
+     * if its current value equals {@code expected}.
+     *
+     * @param object the object whose field should be modified
+     * @param expected the expected value
+     * @param value the new value for the field of {@code object}
+     * being modified
+     * @return true if successful, false if the current value was not {@code expected}
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code short}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public boolean compareAndSetShort(Object object, short expected, short value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Atomically sets the value of a {@code short} field to {@code value} with volatile memory semantics
+     * and returns the previous value.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     * @return the previous value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code short}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public short getAndSetShort(Object object, short value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Atomically adds {@code delta} to the value of a {@code short} field with volatile memory semantics
+     * and returns the previous value.
+     *
+     * @param object the object whose field should be modified
+     * @param delta the value to add
+     * @return the previous value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code short}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public short getAndAddShort(Object object, short delta) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Gets the value of an {@code int} field with volatile memory semantics,
+     * as if the field was declared {@code volatile}.
+     *
+     * @param object the object to extract the {@code int} value from
+     * @return the value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code int}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public int getIntVolatile(Object object) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Gets the value of an {@code int} field with acquire memory semantics,
+     * subsequent loads and stores are not reordered before this access.
+     *
+     * @param object the object to extract the {@code int} value from
+     * @return the value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code int}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public int getIntAcquire(Object object) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Gets the value of an {@code int} field in program order,
+     * but with no assurance of memory ordering effects with respect to other variables.
+     *
+     * @param object the object to extract the {@code int} value from
+     * @return the value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code int}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public int getIntOpaque(Object object) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Sets the value of an {@code int} field with volatile memory semantics,
+     * as if the field was declared {@code volatile}.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code int}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public void setIntVolatile(Object object, int value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Sets the value of an {@code int} field with release memory semantics,
+     * prior loads and stores are not reordered after this access.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code int}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public void setIntRelease(Object object, int value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Sets the value of an {@code int} field in program order,
+     * but with no assurance of memory ordering effects with respect to other variables.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code int}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public void setIntOpaque(Object object, int value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Atomically sets the value of an {@code int} field to {@code value} with volatile memory semantics
+     * if its current value equals {@code expected}.
+     *
+     * @param object the object whose field should be modified
+     * @param expected the expected value
+     * @param value the new value for the field of {@code object}
+     * being modified
+     * @return true if successful, false if the current value was not {@code expected}
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code int}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public boolean compareAndSetInt(Object object, int expected, int value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Atomically sets the value of an {@code int} field to {@code value} with volatile memory semantics
+     * and returns the previous value.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     * @return the previous value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code int}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public int getAndSetInt(Object object, int value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Atomically adds {@code delta} to the value of an {@code int} field with volatile memory semantics
+     * and returns the previous value.
+     *
+     * @param object the object whose field should be modified
+     * @param delta the value to add
+     * @return the previous value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code int}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public int getAndAddInt(Object object, int delta) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Gets the value of a {@code long} field with volatile memory semantics,
+     * as if the field was declared {@code volatile}.
+     *
+     * @param object the object to extract the {@code long} value from
+     * @return the value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code long}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public long getLongVolatile(Object object) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Gets the value of a {@code long} field with acquire memory semantics,
+     * subsequent loads and stores are not reordered before this access.
+     *
+     * @param object the object to extract the {@code long} value from
+     * @return the value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code long}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public long getLongAcquire(Object object) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Gets the value of a {@code long} field in program order,
+     * but with no assurance of memory ordering effects with respect to other variables.
+     *
+     * @param object the object to extract the {@code long} value from
+     * @return the value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code long}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public long getLongOpaque(Object object) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Sets the value of a {@code long} field with volatile memory semantics,
+     * as if the field was declared {@code volatile}.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code long}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public void setLongVolatile(Object object, long value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Sets the value of a {@code long} field with release memory semantics,
+     * prior loads and stores are not reordered after this access.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code long}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public void setLongRelease(Object object, long value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Sets the value of a {@code long} field in program order,
+     * but with no assurance of memory ordering effects with respect to other variables.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code long}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public void setLongOpaque(Object object, long value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Atomically sets the value of a {@code long} field to {@code value} with volatile memory semantics
+     * if its current value equals {@code expected}.
+     *
+     * @param object the object whose field should be modified
+     * @param expected the expected value
+     * @param value the new value for the field of {@code object}
+     * being modified
+     * @return true if successful, false if the current value was not {@code expected}
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code long}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public boolean compareAndSetLong(Object object, long expected, long value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Atomically sets the value of a {@code long} field to {@code value} with volatile memory semantics
+     * and returns the previous value.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     * @return the previous value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code long}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public long getAndSetLong(Object object, long value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Atomically adds {@code delta} to the value of a {@code long} field with volatile memory semantics
+     * and returns the previous value.
+     *
+     * @param object the object whose field should be modified
+     * @param delta the value to add
+     * @return the previous value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code long}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public long getAndAddLong(Object object, long delta) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Gets the value of a {@code float} field with volatile memory semantics,
+     * as if the field was declared {@code volatile}.
+     *
+     * @param object the object to extract the {@code float} value from
+     * @return the value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code float}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public float getFloatVolatile(Object object) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Gets the value of a {@code float} field with acquire memory semantics,
+     * subsequent loads and stores are not reordered before this access.
+     *
+     * @param object the object to extract the {@code float} value from
+     * @return the value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code float}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public float getFloatAcquire(Object object) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Gets the value of a {@code float} field in program order,
+     * but with no assurance of memory ordering effects with respect to other variables.
+     *
+     * @param object the object to extract the {@code float} value from
+     * @return the value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code float}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public float getFloatOpaque(Object object) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Sets the value of a {@code float} field with volatile memory semantics,
+     * as if the field was declared {@code volatile}.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code float}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public void setFloatVolatile(Object object, float value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Sets the value of a {@code float} field with release memory semantics,
+     * prior loads and stores are not reordered after this access.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code float}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public void setFloatRelease(Object object, float value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Sets the value of a {@code float} field in program order,
+     * but with no assurance of memory ordering effects with respect to other variables.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code float}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public void setFloatOpaque(Object object, float value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Atomically sets the value of a {@code float} field to {@code value} with volatile memory semantics
+     * if its current value has the same raw bits as {@code expected}.
+     *
+     * @param object the object whose field should be modified
+     * @param expected the expected value
+     * @param value the new value for the field of {@code object}
+     * being modified
+     * @return true if successful, false if the current value was not {@code expected}
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code float}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public boolean compareAndSetFloat(Object object, float expected, float value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Atomically sets the value of a {@code float} field to {@code value} with volatile memory semantics
+     * and returns the previous value.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     * @return the previous value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code float}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public float getAndSetFloat(Object object, float value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Atomically adds {@code delta} to the value of a {@code float} field with volatile memory semantics
+     * and returns the previous value.
+     *
+     * @param object the object whose field should be modified
+     * @param delta the value to add
+     * @return the previous value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code float}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public float getAndAddFloat(Object object, float delta) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Gets the value of a {@code double} field with volatile memory semantics,
+     * as if the field was declared {@code volatile}.
+     *
+     * @param object the object to extract the {@code double} value from
+     * @return the value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code double}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public double getDoubleVolatile(Object object) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Gets the value of a {@code double} field with acquire memory semantics,
+     * subsequent loads and stores are not reordered before this access.
+     *
+     * @param object the object to extract the {@code double} value from
+     * @return the value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code double}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public double getDoubleAcquire(Object object) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Gets the value of a {@code double} field in program order,
+     * but with no assurance of memory ordering effects with respect to other variables.
+     *
+     * @param object the object to extract the {@code double} value from
+     * @return the value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code double}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public double getDoubleOpaque(Object object) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Sets the value of a {@code double} field with volatile memory semantics,
+     * as if the field was declared {@code volatile}.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code double}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public void setDoubleVolatile(Object object, double value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Sets the value of a {@code double} field with release memory semantics,
+     * prior loads and stores are not reordered after this access.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code double}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public void setDoubleRelease(Object object, double value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Sets the value of a {@code double} field in program order,
+     * but with no assurance of memory ordering effects with respect to other variables.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code double}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public void setDoubleOpaque(Object object, double value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Atomically sets the value of a {@code double} field to {@code value} with volatile memory semantics
+     * if its current value has the same raw bits as {@code expected}.
+     *
+     * @param object the object whose field should be modified
+     * @param expected the expected value
+     * @param value the new value for the field of {@code object}
+     * being modified
+     * @return true if successful, false if the current value was not {@code expected}
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code double}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public boolean compareAndSetDouble(Object object, double expected, double value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Atomically sets the value of a {@code double} field to {@code value} with volatile memory semantics
+     * and returns the previous value.
+     *
+     * @param object the object whose field should be modified
+     * @param value the new value for the field of {@code object}
+     * being modified
+     * @return the previous value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code double}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public double getAndSetDouble(Object object, double value) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    /**
+     * Atomically adds {@code delta} to the value of a {@code double} field with volatile memory semantics
+     * and returns the previous value.
+     *
+     * @param object the object whose field should be modified
+     * @param delta the value to add
+     * @return the previous value of the field
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an
+     *              instance of the class or interface declaring the underlying
+     *              field (or a subclass or implementor thereof),
+     *              or if the field type is not {@code double}.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the field is an instance field.
+     * @throws    UnsupportedOperationException if neither {@code sun.misc.Unsafe}
+     *              nor {@code java.lang.invoke.VarHandle} is available.
+     */
+    public double getAndAddDouble(Object object, double delta) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        throw unsupportedAccessMode();
+    }
+
+    // The plain accesses without the field type check, which the batch methods do once for the whole batch.
+    // Overridden with direct accesses by the accessors which can skip it.
+
+    boolean loadBoolean(Object object) {
+        return getBoolean(object);
+    }
+
+    void storeBoolean(Object object, boolean value) {
+        setBoolean(object, value);
+    }
+
+    byte loadByte(Object object) {
+        return getByte(object);
+    }
+
+    void storeByte(Object object, byte value) {
+        setByte(object, value);
+    }
+
+    char loadChar(Object object) {
+        return getChar(object);
+    }
+
+    void storeChar(Object object, char value) {
+        setChar(object, value);
+    }
+
+    short loadShort(Object object) {
+        return getShort(object);
+    }
+
+    void storeShort(Object object, short value) {
+        setShort(object, value);
+    }
+
+    int loadInt(Object object) {
+        return getInt(object);
+    }
+
+    void storeInt(Object object, int value) {
+        setInt(object, value);
+    }
+
+    long loadLong(Object object) {
+        return getLong(object);
+    }
+
+    void storeLong(Object object, long value) {
+        setLong(object, value);
+    }
+
+    float loadFloat(Object object) {
+        return getFloat(object);
+    }
+
+    void storeFloat(Object object, float value) {
+        setFloat(object, value);
+    }
+
+    double loadDouble(Object object) {
+        return getDouble(object);
+    }
+
+    void storeDouble(Object object, double value) {
+        setDouble(object, value);
+    }
+
+    Object loadObject(Object object) {
+        return getObject(object);
+    }
+
+    void storeObject(Object object, Object value) {
+        setObject(object, value);
+    }
+
+    private static void checkLength(int count, int length) throws IndexOutOfBoundsException {
+        if (length < count) throw new IndexOutOfBoundsException("Illegal length: " + length + "; expected at least " + count);
+    }
+
+    /**
+     * Gets the values of a {@code boolean} field of the specified objects into the specified array, in order.
+     * The field type is checked once for the whole batch, instead of once per object.
+     *
+     * @param objects the objects to extract the values from
+     * @param values the array to store the values into, from index 0
+     *
+     * @throws    IllegalArgumentException   if some of the specified objects is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code boolean}.
+     * @throws    IndexOutOfBoundsException  if the specified array is shorter than the specified objects
+     * @throws    NullPointerException       if the specified objects or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     */
+    public void getBooleans(Object[] objects, boolean[] values) throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        if (type != boolean.class) throw illegalType("boolean");
+        checkLength(objects.length, values.length);
+        for (int i = 0; i < objects.length; i ++) {
+            values[i] = loadBoolean(objects[i]);
+        }
+    }
+
+    /**
+     * Gets the values of a {@code boolean} field of the specified objects into the specified array, in order.
+     * The field type is checked once for the whole batch, instead of once per object.
+     *
+     * @param objects the objects to extract the values from
+     * @param values the array to store the values into, from index 0
+     *
+     * @throws    IllegalArgumentException   if some of the specified objects is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code boolean}.
+     * @throws    IndexOutOfBoundsException  if the specified array is shorter than the specified objects
+     * @throws    NullPointerException       if the specified objects or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     */
+    public void getBooleans(List<?> objects, boolean[] values) throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        if (type != boolean.class) throw illegalType("boolean");
+        checkLength(objects.size(), values.length);
+        if (objects instanceof RandomAccess) {
+            for (int i = 0, size = objects.size(); i < size; i ++) {
+                values[i] = loadBoolean(objects.get(i));
+            }
+        }
+        else {
+            int i = 0;
+            for (Object object : objects) {
+                values[i ++] = loadBoolean(object);
+            }
+        }
+    }
+
+    /**
+     * Sets a {@code boolean} field of the specified objects to the values of the same index in the specified array.
+     * The field type is checked once for the whole batch, instead of once per object.
+     *
+     * @param objects the objects whose field should be modified
+     * @param values the new values for the field, from index 0
+     *
+     * @throws    IllegalArgumentException   if some of the specified objects is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code boolean}.
+     * @throws    IndexOutOfBoundsException  if the specified array is shorter than the specified objects
+     * @throws    NullPointerException       if the specified objects or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     */
+    public void setBooleans(Object[] objects, boolean[] values) throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        if (type != boolean.class) throw illegalType("boolean");
+        checkLength(objects.length, values.length);
+        for (int i = 0; i < objects.length; i ++) {
+            storeBoolean(objects[i], values[i]);
+        }
+    }
+
+    /**
+     * Sets a {@code boolean} field of the specified objects to the values of the same index in the specified array.
+     * The field type is checked once for the whole batch, instead of once per object.
+     *
+     * @param objects the objects whose field should be modified
+     * @param values the new values for the field, from index 0
+     *
+     * @throws    IllegalArgumentException   if some of the specified objects is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code boolean}.
+     * @throws    IndexOutOfBoundsException  if the specified array is shorter than the specified objects
+     * @throws    NullPointerException       if the specified objects or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     */
+    public void setBooleans(List<?> objects, boolean[] values) throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        if (type != boolean.class) throw illegalType("boolean");
+        checkLength(objects.size(), values.length);
+        if (objects instanceof RandomAccess) {
+            for (int i = 0, size = objects.size(); i < size; i ++) {
+                storeBoolean(objects.get(i), values[i]);
+            }
+        }
+        else {
+            int i = 0;
+            for (Object object : objects) {
+                storeBoolean(object, values[i ++]);
+            }
+        }
+    }
+
+    /**
+     * Gets the values of a {@code byte} field of the specified objects into the specified array, in order.
+     * The field type is checked once for the whole batch, instead of once per object.
+     *
+     * @param objects the objects to extract the values from
+     * @param values the array to store the values into, from index 0
+     *
+     * @throws    IllegalArgumentException   if some of the specified objects is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code byte}.
+     * @throws    IndexOutOfBoundsException  if the specified array is shorter than the specified objects
+     * @throws    NullPointerException       if the specified objects or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     */
+    public void getBytes(Object[] objects, byte[] values) throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        if (type != byte.class) throw illegalType("byte");
+        checkLength(objects.length, values.length);
+        for (int i = 0; i < objects.length; i ++) {
+            values[i] = loadByte(objects[i]);
+        }
+    }
+
+    /**
+     * Gets the values of a {@code byte} field of the specified objects into the specified array, in order.
+     * The field type is checked once for the whole batch, instead of once per object.
+     *
+     * @param objects the objects to extract the values from
+     * @param values the array to store the values into, from index 0
+     *
+     * @throws    IllegalArgumentException   if some of the specified objects is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code byte}.
+     * @throws    IndexOutOfBoundsException  if the specified array is shorter than the specified objects
+     * @throws    NullPointerException       if the specified objects or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     */
+    public void getBytes(List<?> objects, byte[] values) throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        if (type != byte.class) throw illegalType("byte");
+        checkLength(objects.size(), values.length);
+        if (objects instanceof RandomAccess) {
+            for (int i = 0, size = objects.size(); i < size; i ++) {
+                values[i] = loadByte(objects.get(i));
+            }
+        }
+        else {
+            int i = 0;
+            for (Object object : objects) {
+                values[i ++] = loadByte(object);
+            }
+        }
+    }
+
+    /**
+     * Sets a {@code byte} field of the specified objects to the values of the same index in the specified array.
+     * The field type is checked once for the whole batch, instead of once per object.
+     *
+     * @param objects the objects whose field should be modified
+     * @param values the new values for the field, from index 0
+     *
+     * @throws    IllegalArgumentException   if some of the specified objects is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code byte}.
+     * @throws    IndexOutOfBoundsException  if the specified array is shorter than the specified objects
+     * @throws    NullPointerException       if the specified objects or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     */
+    public void setBytes(Object[] objects, byte[] values) throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        if (type != byte.class) throw illegalType("byte");
+        checkLength(objects.length, values.length);
+        for (int i = 0; i < objects.length; i ++) {
+            storeByte(objects[i], values[i]);
+        }
+    }
+
+    /**
+     * Sets a {@code byte} field of the specified objects to the values of the same index in the specified array.
+     * The field type is checked once for the whole batch, instead of once per object.
+     *
+     * @param objects the objects whose field should be modified
+     * @param values the new values for the field, from index 0
+     *
+     * @throws    IllegalArgumentException   if some of the specified objects is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code byte}.
+     * @throws    IndexOutOfBoundsException  if the specified array is shorter than the specified objects
+     * @throws    NullPointerException       if the specified objects or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     */
+    public void setBytes(List<?> objects, byte[] values) throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        if (type != byte.class) throw illegalType("byte");
+        checkLength(objects.size(), values.length);
+        if (objects instanceof RandomAccess) {
+            for (int i = 0, size = objects.size(); i < size; i ++) {
+                storeByte(objects.get(i), values[i]);
+            }
+        }
+        else {
+            int i = 0;
+            for (Object object : objects) {
+                storeByte(object, values[i ++]);
+            }
+        }
+    }
+
+    /**
+     * Gets the values of a {@code char} field of the specified objects into the specified array, in order.
+     * The field type is checked once for the whole batch, instead of once per object.
+     *
+     * @param objects the objects to extract the values from
+     * @param values the array to store the values into, from index 0
+     *
+     * @throws    IllegalArgumentException   if some of the specified objects is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code char}.
+     * @throws    IndexOutOfBoundsException  if the specified array is shorter than the specified objects
+     * @throws    NullPointerException       if the specified objects or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     */
+    public void getChars(Object[] objects, char[] values) throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        if (type != char.class) throw illegalType("char");
+        checkLength(objects.length, values.length);
+        for (int i = 0; i < objects.length; i ++) {
+            values[i] = loadChar(objects[i]);
+        }
+    }
+
+    /**
+     * Gets the values of a {@code char} field of the specified objects into the specified array, in order.
+     * The field type is checked once for the whole batch, instead of once per object.
+     *
+     * @param objects the objects to extract the values from
+     * @param values the array to store the values into, from index 0
+     *
+     * @throws    IllegalArgumentException   if some of the specified objects is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code char}.
+     * @throws    IndexOutOfBoundsException  if the specified array is shorter than the specified objects
+     * @throws    NullPointerException       if the specified objects or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     */
+    public void getChars(List<?> objects, char[] values) throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        if (type != char.class) throw illegalType("char");
+        checkLength(objects.size(), values.length);
+        if (objects instanceof RandomAccess) {
+            for (int i = 0, size = objects.size(); i < size; i ++) {
+                values[i] = loadChar(objects.get(i));
+            }
+        }
+        else {
+            int i = 0;
+            for (Object object : objects) {
+                values[i ++] = loadChar(object);
+            }
+        }
+    }
+
+    /**
+     * Sets a {@code char} field of the specified objects to the values of the same index in the specified array.
+     * The field type is checked once for the whole batch, instead of once per object.
+     *
+     * @param objects the objects whose field should be modified
+     * @param values the new values for the field, from index 0
+     *
+     * @throws    IllegalArgumentException   if some of the specified objects is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code char}.
+     * @throws    IndexOutOfBoundsException  if the specified array is shorter than the specified objects
+     * @throws    NullPointerException       if the specified objects or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     */
+    public void setChars(Object[] objects, char[] values) throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        if (type != char.class) throw illegalType("char");
+        checkLength(objects.length, values.length);
+        for (int i = 0; i < objects.length; i ++) {
+            storeChar(objects[i], values[i]);
+        }
+    }
+
+    /**
+     * Sets a {@code char} field of the specified objects to the values of the same index in the specified array.
+     * The field type is checked once for the whole batch, instead of once per object.
+     *
+     * @param objects the objects whose field should be modified
+     * @param values the new values for the field, from index 0
+     *
+     * @throws    IllegalArgumentException   if some of the specified objects is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code char}.
+     * @throws    IndexOutOfBoundsException  if the specified array is shorter than the specified objects
+     * @throws    NullPointerException       if the specified objects or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     */
+    public void setChars(List<?> objects, char[] values) throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        if (type != char.class) throw illegalType("char");
+        checkLength(objects.size(), values.length);
+        if (objects instanceof RandomAccess) {
+            for (int i = 0, size = objects.size(); i < size; i ++) {
+                storeChar(objects.get(i), values[i]);
+            }
+        }
+        else {
+            int i = 0;
+            for (Object object : objects) {
+                storeChar(object, values[i ++]);
+            }
+        }
+    }
+
+    /**
+     * Gets the values of a {@code short} field of the specified objects into the specified array, in order.
+     * The field type is checked once for the whole batch, instead of once per object.
+     *
+     * @param objects the objects to extract the values from
+     * @param values the array to store the values into, from index 0
+     *
+     * @throws    IllegalArgumentException   if some of the specified objects is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code short}.
+     * @throws    IndexOutOfBoundsException  if the specified array is shorter than the specified objects
+     * @throws    NullPointerException       if the specified objects or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     */
+    public void getShorts(Object[] objects, short[] values) throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        if (type != short.class) throw illegalType("short");
+        checkLength(objects.length, values.length);
+        for (int i = 0; i < objects.length; i ++) {
+            values[i] = loadShort(objects[i]);
+        }
+    }
+
+    /**
+     * Gets the values of a {@code short} field of the specified objects into the specified array, in order.
+     * The field type is checked once for the whole batch, instead of once per object.
+     *
+     * @param objects the objects to extract the values from
+     * @param values the array to store the values into, from index 0
+     *
+     * @throws    IllegalArgumentException   if some of the specified objects is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code short}.
+     * @throws    IndexOutOfBoundsException  if the specified array is shorter than the specified objects
+     * @throws    NullPointerException       if the specified objects or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     */
+    public void getShorts(List<?> objects, short[] values) throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        if (type != short.class) throw illegalType("short");
+        checkLength(objects.size(), values.length);
+        if (objects instanceof RandomAccess) {
+            for (int i = 0, size = objects.size(); i < size; i ++) {
+                values[i] = loadShort(objects.get(i));
+            }
+        }
+        else {
+            int i = 0;
+            for (Object object : objects) {
+                values[i ++] = loadShort(object);
+            }
+        }
+    }
+
+    /**
+     * Sets a {@code short} field of the specified objects to the values of the same index in the specified array.
+     * The field type is checked once for the whole batch, instead of once per object.
+     *
+     * @param objects the objects whose field should be modified
+     * @param values the new values for the field, from index 0
+     *
+     * @throws    IllegalArgumentException   if some of the specified objects is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code short}.
+     * @throws    IndexOutOfBoundsException  if the specified array is shorter than the specified objects
+     * @throws    NullPointerException       if the specified objects or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     */
+    public void setShorts(Object[] objects, short[] values) throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        if (type != short.class) throw illegalType("short");
+        checkLength(objects.length, values.length);
+        for (int i = 0; i < objects.length; i ++) {
+            storeShort(objects[i], values[i]);
+        }
+    }
+
+    /**
+     * Sets a {@code short} field of the specified objects to the values of the same index in the specified array.
+     * The field type is checked once for the whole batch, instead of once per object.
+     *
+     * @param objects the objects whose field should be modified
+     * @param values the new values for the field, from index 0
+     *
+     * @throws    IllegalArgumentException   if some of the specified objects is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code short}.
+     * @throws    IndexOutOfBoundsException  if the specified array is shorter than the specified objects
+     * @throws    NullPointerException       if the specified objects or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     */
+    public void setShorts(List<?> objects, short[] values) throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        if (type != short.class) throw illegalType("short");
+        checkLength(objects.size(), values.length);
+        if (objects instanceof RandomAccess) {
+            for (int i = 0, size = objects.size(); i < size; i ++) {
+                storeShort(objects.get(i), values[i]);
+            }
+        }
+        else {
+            int i = 0;
+            for (Object object : objects) {
+                storeShort(object, values[i ++]);
+            }
+        }
+    }
+
+    /**
+     * Gets the values of an {@code int} field of the specified objects into the specified array, in order.
+     * The field type is checked once for the whole batch, instead of once per object.
+     *
+     * @param objects the objects to extract the values from
+     * @param values the array to store the values into, from index 0
+     *
+     * @throws    IllegalArgumentException   if some of the specified objects is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code int}.
+     * @throws    IndexOutOfBoundsException  if the specified array is shorter than the specified objects
+     * @throws    NullPointerException       if the specified objects or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     */
+    public void getInts(Object[] objects, int[] values) throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        if (type != int.class) throw illegalType("int");
+        checkLength(objects.length, values.length);
+        for (int i = 0; i < objects.length; i ++) {
+            values[i] = loadInt(objects[i]);
+        }
+    }
+
+    /**
+     * Gets the values of an {@code int} field of the specified objects into the specified array, in order.
+     * The field type is checked once for the whole batch, instead of once per object.
+     *
+     * @param objects the objects to extract the values from
+     * @param values the array to store the values into, from index 0
+     *
+     * @throws    IllegalArgumentException   if some of the specified objects is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code int}.
+     * @throws    IndexOutOfBoundsException  if the specified array is shorter than the specified objects
+     * @throws    NullPointerException       if the specified objects or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     */
+    public void getInts(List<?> objects, int[] values) throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        if (type != int.class) throw illegalType("int");
+        checkLength(objects.size(), values.length);
+        if (objects instanceof RandomAccess) {
+            for (int i = 0, size = objects.size(); i < size; i ++) {
+                values[i] = loadInt(objects.get(i));
+            }
+        }
+        else {
+            int i = 0;
+            for (Object object : objects) {
+                values[i ++] = loadInt(object);
+            }
+        }
+    }
+
+    /**
+     * Sets an {@code int} field of the specified objects to the values of the same index in the specified array.
+     * The field type is checked once for the whole batch, instead of once per object.
+     *
+     * @param objects the objects whose field should be modified
+     * @param values the new values for the field, from index 0
+     *
+     * @throws    IllegalArgumentException   if some of the specified objects is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code int}.
+     * @throws    IndexOutOfBoundsException  if the specified array is shorter than the specified objects
+     * @throws    NullPointerException       if the specified objects or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     */
+    public void setInts(Object[] objects, int[] values) throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        if (type != int.class) throw illegalType("int");
+        checkLength(objects.length, values.length);
+        for (int i = 0; i < objects.length; i ++) {
+            storeInt(objects[i], values[i]);
+        }
+    }
+
+    /**
+     * Sets an {@code int} field of the specified objects to the values of the same index in the specified array.
+     * The field type is checked once for the whole batch, instead of once per object.
+     *
+     * @param objects the objects whose field should be modified
+     * @param values the new values for the field, from index 0
+     *
+     * @throws    IllegalArgumentException   if some of the specified objects is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code int}.
+     * @throws    IndexOutOfBoundsException  if the specified array is shorter than the specified objects
+     * @throws    NullPointerException       if the specified objects or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     */
+    public void setInts(List<?> objects, int[] values) throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        if (type != int.class) throw illegalType("int");
+        checkLength(objects.size(), values.length);
+        if (objects instanceof RandomAccess) {
+            for (int i = 0, size = objects.size(); i < size; i ++) {
+                storeInt(objects.get(i), values[i]);
+            }
+        }
+        else {
+            int i = 0;
+            for (Object object : objects) {
+                storeInt(object, values[i ++]);
+            }
+        }
+    }
+
+    /**
+     * Gets the values of a {@code long} field of the specified objects into the specified array, in order.
+     * The field type is checked once for the whole batch, instead of once per object.
+     *
+     * @param objects the objects to extract the values from
+     * @param values the array to store the values into, from index 0
+     *
+     * @throws    IllegalArgumentException   if some of the specified objects is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code long}.
+     * @throws    IndexOutOfBoundsException  if the specified array is shorter than the specified objects
+     * @throws    NullPointerException       if the specified objects or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     */
+    public void getLongs(Object[] objects, long[] values) throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        if (type != long.class) throw illegalType("long");
+        checkLength(objects.length, values.length);
+        for (int i = 0; i < objects.length; i ++) {
+            values[i] = loadLong(objects[i]);
+        }
+    }
+
+    /**
+     * Gets the values of a {@code long} field of the specified objects into the specified array, in order.
+     * The field type is checked once for the whole batch, instead of once per object.
+     *
+     * @param objects the objects to extract the values from
+     * @param values the array to store the values into, from index 0
+     *
+     * @throws    IllegalArgumentException   if some of the specified objects is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code long}.
+     * @throws    IndexOutOfBoundsException  if the specified array is shorter than the specified objects
+     * @throws    NullPointerException       if the specified objects or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     */
+    public void getLongs(List<?> objects, long[] values) throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        if (type != long.class) throw illegalType("long");
+        checkLength(objects.size(), values.length);
+        if (objects instanceof RandomAccess) {
+            for (int i = 0, size = objects.size(); i < size; i ++) {
+                values[i] = loadLong(objects.get(i));
+            }
+        }
+        else {
+            int i = 0;
+            for (Object object : objects) {
+                values[i ++] = loadLong(object);
+            }
+        }
+    }
+
+    /**
+     * Sets a {@code long} field of the specified objects to the values of the same index in the specified array.
+     * The field type is checked once for the whole batch, instead of once per object.
+     *
+     * @param objects the objects whose field should be modified
+     * @param values the new values for the field, from index 0
+     *
+     * @throws    IllegalArgumentException   if some of the specified objects is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code long}.
+     * @throws    IndexOutOfBoundsException  if the specified array is shorter than the specified objects
+     * @throws    NullPointerException       if the specified objects or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     */
+    public void setLongs(Object[] objects, long[] values) throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        if (type != long.class) throw illegalType("long");
+        checkLength(objects.length, values.length);
+        for (int i = 0; i < objects.length; i ++) {
+            storeLong(objects[i], values[i]);
+        }
+    }
+
+    /**
+     * Sets a {@code long} field of the specified objects to the values of the same index in the specified array.
+     * The field type is checked once for the whole batch, instead of once per object.
+     *
+     * @param objects the objects whose field should be modified
+     * @param values the new values for the field, from index 0
+     *
+     * @throws    IllegalArgumentException   if some of the specified objects is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code long}.
+     * @throws    IndexOutOfBoundsException  if the specified array is shorter than the specified objects
+     * @throws    NullPointerException       if the specified objects or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     */
+    public void setLongs(List<?> objects, long[] values) throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        if (type != long.class) throw illegalType("long");
+        checkLength(objects.size(), values.length);
+        if (objects instanceof RandomAccess) {
+            for (int i = 0, size = objects.size(); i < size; i ++) {
+                storeLong(objects.get(i), values[i]);
+            }
+        }
+        else {
+            int i = 0;
+            for (Object object : objects) {
+                storeLong(object, values[i ++]);
+            }
+        }
+    }
+
+    /**
+     * Gets the values of a {@code float} field of the specified objects into the specified array, in order.
+     * The field type is checked once for the whole batch, instead of once per object.
+     *
+     * @param objects the objects to extract the values from
+     * @param values the array to store the values into, from index 0
+     *
+     * @throws    IllegalArgumentException   if some of the specified objects is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code float}.
+     * @throws    IndexOutOfBoundsException  if the specified array is shorter than the specified objects
+     * @throws    NullPointerException       if the specified objects or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     */
+    public void getFloats(Object[] objects, float[] values) throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        if (type != float.class) throw illegalType("float");
+        checkLength(objects.length, values.length);
+        for (int i = 0; i < objects.length; i ++) {
+            values[i] = loadFloat(objects[i]);
+        }
+    }
+
+    /**
+     * Gets the values of a {@code float} field of the specified objects into the specified array, in order.
+     * The field type is checked once for the whole batch, instead of once per object.
+     *
+     * @param objects the objects to extract the values from
+     * @param values the array to store the values into, from index 0
+     *
+     * @throws    IllegalArgumentException   if some of the specified objects is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code float}.
+     * @throws    IndexOutOfBoundsException  if the specified array is shorter than the specified objects
+     * @throws    NullPointerException       if the specified objects or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     */
+    public void getFloats(List<?> objects, float[] values) throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        if (type != float.class) throw illegalType("float");
+        checkLength(objects.size(), values.length);
+        if (objects instanceof RandomAccess) {
+            for (int i = 0, size = objects.size(); i < size; i ++) {
+                values[i] = loadFloat(objects.get(i));
+            }
+        }
+        else {
+            int i = 0;
+            for (Object object : objects) {
+                values[i ++] = loadFloat(object);
+            }
+        }
+    }
+
+    /**
+     * Sets a {@code float} field of the specified objects to the values of the same index in the specified array.
+     * The field type is checked once for the whole batch, instead of once per object.
+     *
+     * @param objects the objects whose field should be modified
+     * @param values the new values for the field, from index 0
+     *
+     * @throws    IllegalArgumentException   if some of the specified objects is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code float}.
+     * @throws    IndexOutOfBoundsException  if the specified array is shorter than the specified objects
+     * @throws    NullPointerException       if the specified objects or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     */
+    public void setFloats(Object[] objects, float[] values) throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        if (type != float.class) throw illegalType("float");
+        checkLength(objects.length, values.length);
+        for (int i = 0; i < objects.length; i ++) {
+            storeFloat(objects[i], values[i]);
+        }
+    }
+
+    /**
+     * Sets a {@code float} field of the specified objects to the values of the same index in the specified array.
+     * The field type is checked once for the whole batch, instead of once per object.
+     *
+     * @param objects the objects whose field should be modified
+     * @param values the new values for the field, from index 0
+     *
+     * @throws    IllegalArgumentException   if some of the specified objects is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code float}.
+     * @throws    IndexOutOfBoundsException  if the specified array is shorter than the specified objects
+     * @throws    NullPointerException       if the specified objects or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     */
+    public void setFloats(List<?> objects, float[] values) throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        if (type != float.class) throw illegalType("float");
+        checkLength(objects.size(), values.length);
+        if (objects instanceof RandomAccess) {
+            for (int i = 0, size = objects.size(); i < size; i ++) {
+                storeFloat(objects.get(i), values[i]);
+            }
+        }
+        else {
+            int i = 0;
+            for (Object object : objects) {
+                storeFloat(object, values[i ++]);
+            }
+        }
+    }
+
+    /**
+     * Gets the values of a {@code double} field of the specified objects into the specified array, in order.
+     * The field type is checked once for the whole batch, instead of once per object.
+     *
+     * @param objects the objects to extract the values from
+     * @param values the array to store the values into, from index 0
+     *
+     * @throws    IllegalArgumentException   if some of the specified objects is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code double}.
+     * @throws    IndexOutOfBoundsException  if the specified array is shorter than the specified objects
+     * @throws    NullPointerException       if the specified objects or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     */
+    public void getDoubles(Object[] objects, double[] values) throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        if (type != double.class) throw illegalType("double");
+        checkLength(objects.length, values.length);
+        for (int i = 0; i < objects.length; i ++) {
+            values[i] = loadDouble(objects[i]);
+        }
+    }
+
+    /**
+     * Gets the values of a {@code double} field of the specified objects into the specified array, in order.
+     * The field type is checked once for the whole batch, instead of once per object.
+     *
+     * @param objects the objects to extract the values from
+     * @param values the array to store the values into, from index 0
+     *
+     * @throws    IllegalArgumentException   if some of the specified objects is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code double}.
+     * @throws    IndexOutOfBoundsException  if the specified array is shorter than the specified objects
+     * @throws    NullPointerException       if the specified objects or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     */
+    public void getDoubles(List<?> objects, double[] values) throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        if (type != double.class) throw illegalType("double");
+        checkLength(objects.size(), values.length);
+        if (objects instanceof RandomAccess) {
+            for (int i = 0, size = objects.size(); i < size; i ++) {
+                values[i] = loadDouble(objects.get(i));
+            }
+        }
+        else {
+            int i = 0;
+            for (Object object : objects) {
+                values[i ++] = loadDouble(object);
+            }
+        }
+    }
+
+    /**
+     * Sets a {@code double} field of the specified objects to the values of the same index in the specified array.
+     * The field type is checked once for the whole batch, instead of once per object.
+     *
+     * @param objects the objects whose field should be modified
+     * @param values the new values for the field, from index 0
+     *
+     * @throws    IllegalArgumentException   if some of the specified objects is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code double}.
+     * @throws    IndexOutOfBoundsException  if the specified array is shorter than the specified objects
+     * @throws    NullPointerException       if the specified objects or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     */
+    public void setDoubles(Object[] objects, double[] values) throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        if (type != double.class) throw illegalType("double");
+        checkLength(objects.length, values.length);
+        for (int i = 0; i < objects.length; i ++) {
+            storeDouble(objects[i], values[i]);
+        }
+    }
+
+    /**
+     * Sets a {@code double} field of the specified objects to the values of the same index in the specified array.
+     * The field type is checked once for the whole batch, instead of once per object.
+     *
+     * @param objects the objects whose field should be modified
+     * @param values the new values for the field, from index 0
+     *
+     * @throws    IllegalArgumentException   if some of the specified objects is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is not {@code double}.
+     * @throws    IndexOutOfBoundsException  if the specified array is shorter than the specified objects
+     * @throws    NullPointerException       if the specified objects or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     */
+    public void setDoubles(List<?> objects, double[] values) throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        if (type != double.class) throw illegalType("double");
+        checkLength(objects.size(), values.length);
+        if (objects instanceof RandomAccess) {
+            for (int i = 0, size = objects.size(); i < size; i ++) {
+                storeDouble(objects.get(i), values[i]);
+            }
+        }
+        else {
+            int i = 0;
+            for (Object object : objects) {
+                storeDouble(object, values[i ++]);
+            }
+        }
+    }
+
+    /**
+     * Gets the values of a non-primitive field of the specified objects into the specified array, in order.
+     * The field type is checked once for the whole batch, instead of once per object.
+     *
+     * @param objects the objects to extract the values from
+     * @param values the array to store the values into, from index 0
+     *
+     * @throws    IllegalArgumentException   if some of the specified objects is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is primitive.
+     * @throws    IndexOutOfBoundsException  if the specified array is shorter than the specified objects
+     * @throws    NullPointerException       if the specified objects or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     */
+    public void getObjects(Object[] objects, Object[] values) throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        if (type.isPrimitive()) throw illegalType("non-primitive");
+        checkLength(objects.length, values.length);
+        for (int i = 0; i < objects.length; i ++) {
+            values[i] = loadObject(objects[i]);
+        }
+    }
+
+    /**
+     * Gets the values of a non-primitive field of the specified objects into the specified array, in order.
+     * The field type is checked once for the whole batch, instead of once per object.
+     *
+     * @param objects the objects to extract the values from
+     * @param values the array to store the values into, from index 0
+     *
+     * @throws    IllegalArgumentException   if some of the specified objects is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is primitive.
+     * @throws    IndexOutOfBoundsException  if the specified array is shorter than the specified objects
+     * @throws    NullPointerException       if the specified objects or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     */
+    public void getObjects(List<?> objects, Object[] values) throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        if (type.isPrimitive()) throw illegalType("non-primitive");
+        checkLength(objects.size(), values.length);
+        if (objects instanceof RandomAccess) {
+            for (int i = 0, size = objects.size(); i < size; i ++) {
+                values[i] = loadObject(objects.get(i));
+            }
+        }
+        else {
+            int i = 0;
+            for (Object object : objects) {
+                values[i ++] = loadObject(object);
+            }
+        }
+    }
+
+    /**
+     * Sets a non-primitive field of the specified objects to the values of the same index in the specified array.
+     * The field type is checked once for the whole batch, instead of once per object.
+     *
+     * @param objects the objects whose field should be modified
+     * @param values the new values for the field, from index 0
+     *
+     * @throws    IllegalArgumentException   if some of the specified objects is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is primitive.
+     * @throws    IndexOutOfBoundsException  if the specified array is shorter than the specified objects
+     * @throws    NullPointerException       if the specified objects or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     */
+    public void setObjects(Object[] objects, Object[] values) throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        if (type.isPrimitive()) throw illegalType("non-primitive");
+        checkLength(objects.length, values.length);
+        for (int i = 0; i < objects.length; i ++) {
+            storeObject(objects[i], values[i]);
+        }
+    }
+
+    /**
+     * Sets a non-primitive field of the specified objects to the values of the same index in the specified array.
+     * The field type is checked once for the whole batch, instead of once per object.
+     *
+     * @param objects the objects whose field should be modified
+     * @param values the new values for the field, from index 0
+     *
+     * @throws    IllegalArgumentException   if some of the specified objects is not
+     *              an instance of the class or interface declaring the
+     *              underlying field (or a subclass or implementor
+     *              thereof), or if the field type is primitive.
+     * @throws    IndexOutOfBoundsException  if the specified array is shorter than the specified objects
+     * @throws    NullPointerException       if the specified objects or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     */
+    public void setObjects(List<?> objects, Object[] values) throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        if (type.isPrimitive()) throw illegalType("non-primitive");
+        checkLength(objects.size(), values.length);
+        if (objects instanceof RandomAccess) {
+            for (int i = 0, size = objects.size(); i < size; i ++) {
+                storeObject(objects.get(i), values[i]);
+            }
+        }
+        else {
+            int i = 0;
+            for (Object object : objects) {
+                storeObject(object, values[i ++]);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,266 @@
+package com.tianscar.util.reflect;
+
+import sun.misc.Unsafe;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.reflect.Modifier.isStatic;
+
+// The instance fields of a class and all its superclasses, resolved once and cached by Reflects#layout(Class).
+final class FieldLayout {
+
+    static final int OBJECT = 0;
+    static final int BOOLEAN = 1;
+    static final int BYTE = 2;
+    static final int CHAR = 3;
+    static final int SHORT = 4;
+    static final int INT = 5;
+    static final int LONG = 6;
+    static final int FLOAT = 7;
+    static final int DOUBLE = 8;
+
+    private final Unsafe unsafe;
+    final Class<?> clazz;
+    // Sorted by offset if the offsets are available, so copies walk the object sequentially
+    final Field[] fields;
+    final int[] types;
+    // null if the fields are accessed via reflection
+    final long[] offsets;
+    final boolean hasReferences;
+    // Indices of the fields of reference types, so graph walks skip the primitive fields, and of the other ones
+    final int[] references;
+    final int[] primitives;
+    // Indices of the fields ordered from the top superclass down, then by name,
+    // unlike the offsets this order doesn't depend on the VM, so it is used by the binary format.
+    final int[] serialOrder;
+    // Computed on the first use by ObjectLayout, which resolves the header size and the object alignment
+    private volatile long instanceSize = -1;
+
+    FieldLayout(Unsafe unsafe, Class<?> clazz) {
+        this.unsafe = unsafe;
+        this.clazz = clazz;
+        List<Field> list = new ArrayList<Field>();
+        for (Class<?> cl = clazz; cl != null; cl = cl.getSuperclass()) {
+            for (Field field : cl.getDeclaredFields()) {
+                if (!isStatic(field.getModifiers())) list.add(field);
+            }
+        }
+        Field[] fields = list.toArray(new Field[0]);
+        long[] offsets;
+        if (unsafe == null) offsets = null; // Unexpected
+        else {
+            offsets = new long[fields.length];
+            try {
+                for (int i = 0; i < fields.length; i ++) {
+                    offsets[i] = unsafe.objectFieldOffset(fields[i]); // Java 6+
+                }
+            } catch (UnsupportedOperationException e) {
+                offsets = null; // Java 15+ hidden classes and records
+            }
+        }
+        if (offsets == null) {
+            for (Field field : fields) {
+                Reflects.trySetAccessible(field);
+            }
+        }
+        else {
+            // Insertion sort, classes rarely have enough fields to need better
+            for (int i = 1; i < fields.length; i ++) {
+                Field field = fields[i];
+                long offset = offsets[i];
+                int j = i - 1;
+                while (j >= 0 && offsets[j] > offset) {
+                    fields[j + 1] = fields[j];
+                    offsets[j + 1] = offsets[j];
+                    j --;
+                }
+                fields[j + 1] = field;
+                offsets[j + 1] = offset;
+            }
+        }
+        this.fields = fields;
+        this.offsets = offsets;
+        types = new int[fields.length];
+        int referenceCount = 0;
+        for (int i = 0; i < fields.length; i ++) {
+            types[i] = typeOf(fields[i].getType());
+            if (types[i] == OBJECT) referenceCount ++;
+        }
+        hasReferences = referenceCount > 0;
+        references = new int[referenceCount];
+        primitives = new int[fields.length - referenceCount];
+        for (int i = 0, j = 0, k = 0; i < fields.length; i ++) {
+            if (types[i] == OBJECT) references[j ++] = i;
+            else primitives[k ++] = i;
+        }
+        serialOrder = new int[fields.length];
+        int[] depths = new int[fields.length];
+        for (int i = 0; i < fields.length; i ++) {
+            int depth = 0;
+            for (Class<?> cl = fields[i].getDeclaringClass(); cl != null; cl = cl.getSuperclass()) {
+                depth ++;
+            }
+            int j = i - 1;
+            while (j >= 0 && compareSerialOrder(depths[j], fields[serialOrder[j]], depth, fields[i]) > 0) {
+                serialOrder[j + 1] = serialOrder[j];
+                depths[j + 1] = depths[j];
+                j --;
+            }
+            serialOrder[j + 1] = i;
+            depths[j + 1] = depth;
+        }
+    }
+
+    private static int compareSerialOrder(int depth1, Field field1, int depth2, Field field2) {
+        if (depth1 != depth2) return depth1 < depth2 ? -1 : 1;
+        else return field1.getName().compareTo(field2.getName());
+    }
+
+    static int typeOf(Class<?> type) {
+        if (type == boolean.class) return BOOLEAN;
+        else if (type == byte.class) return BYTE;
+        else if (type == char.class) return CHAR;
+        else if (type == short.class) return SHORT;
+        else if (type == int.class) return INT;
+        else if (type == long.class) return LONG;
+        else if (type == float.class) return FLOAT;
+        else if (type == double.class) return DOUBLE;
+        else return OBJECT;
+    }
+
+    long instanceSize() {
+        long size = instanceSize;
+        if (size == -1) instanceSize = size = ObjectLayout.computeInstanceSize(this);
+        return size;
+    }
+
+    // Both objects must be instances of clazz
+    void copy(Object src, Object dst) {
+        if (offsets == null) {
+            copyReflectively(src, dst);
+            return;
+        }
+        for (int i = 0; i < offsets.length; i ++) {
+            long offset = offsets[i];
+            switch (types[i]) {
+                case BOOLEAN: unsafe.putBoolean(dst, offset, unsafe.getBoolean(src, offset)); break;
+                case BYTE: unsafe.putByte(dst, offset, unsafe.getByte(src, offset)); break;
+                case CHAR: unsafe.putChar(dst, offset, unsafe.getChar(src, offset)); break;
+                case SHORT: unsafe.putShort(dst, offset, unsafe.getShort(src, offset)); break;
+                case INT: unsafe.putInt(dst, offset, unsafe.getInt(src, offset)); break;
+                case LONG: unsafe.putLong(dst, offset, unsafe.getLong(src, offset)); break;
+                case FLOAT: unsafe.putFloat(dst, offset, unsafe.getFloat(src, offset)); break;
+                case DOUBLE: unsafe.putDouble(dst, offset, unsafe.getDouble(src, offset)); break;
+                default: unsafe.putObject(dst, offset, unsafe.getObject(src, offset)); break;
+            }
+        }
+    }
+
+    // The field at the specified index must be of a primitive type, floating-point values are compared like
+    // Float#equals and Double#equals, so NaN equals itself and 0.0 doesn't equal -0.0
+    boolean primitiveEquals(Object a, Object b, int index) {
+        if (offsets == null) return primitiveEqualsReflectively(a, b, index);
+        long offset = offsets[index];
+        switch (types[index]) {
+            case BOOLEAN: return unsafe.getBoolean(a, offset) == unsafe.getBoolean(b, offset);
+            case BYTE: return unsafe.getByte(a, offset) == unsafe.getByte(b, offset);
+            case CHAR: return unsafe.getChar(a, offset) == unsafe.getChar(b, offset);
+            case SHORT: return unsafe.getShort(a, offset) == unsafe.getShort(b, offset);
+            case INT: return unsafe.getInt(a, offset) == unsafe.getInt(b, offset);
+            case LONG: return unsafe.getLong(a, offset) == unsafe.getLong(b, offset);
+            case FLOAT: return Float.floatToIntBits(unsafe.getFloat(a, offset)) == Float.floatToIntBits(unsafe.getFloat(b, offset));
+            default: return Double.doubleToLongBits(unsafe.getDouble(a, offset)) == Double.doubleToLongBits(unsafe.getDouble(b, offset));
+        }
+    }
+
+    // The field at the specified index must be of a primitive type, hashed like its wrapper type
+    int primitiveHash(Object object, int index) {
+        if (offsets == null) return primitiveHashReflectively(object, index);
+        long offset = offsets[index];
+        switch (types[index]) {
+            case BOOLEAN: return unsafe.getBoolean(object, offset) ? 1231 : 1237;
+            case BYTE: return unsafe.getByte(object, offset);
+            case CHAR: return unsafe.getChar(object, offset);
+            case SHORT: return unsafe.getShort(object, offset);
+            case INT: return unsafe.getInt(object, offset);
+            case LONG: return hash(unsafe.getLong(object, offset));
+            case FLOAT: return Float.floatToIntBits(unsafe.getFloat(object, offset));
+            default: return hash(Double.doubleToLongBits(unsafe.getDouble(object, offset)));
+        }
+    }
+
+    private static int hash(long value) {
+        return (int) (value ^ (value >>> 32));
+    }
+
+    private boolean primitiveEqualsReflectively(Object a, Object b, int index) {
+        Field field = fields[index];
+        try {
+            switch (types[index]) {
+                case BOOLEAN: return field.getBoolean(a) == field.getBoolean(b);
+                case BYTE: return field.getByte(a) == field.getByte(b);
+                case CHAR: return field.getChar(a) == field.getChar(b);
+                case SHORT: return field.getShort(a) == field.getShort(b);
+                case INT: return field.getInt(a) == field.getInt(b);
+                case LONG: return field.getLong(a) == field.getLong(b);
+                case FLOAT: return Float.floatToIntBits(field.getFloat(a)) == Float.floatToIntBits(field.getFloat(b));
+                default: return Double.doubleToLongBits(field.getDouble(a)) == Double.doubleToLongBits(field.getDouble(b));
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private int primitiveHashReflectively(Object object, int index) {
+        Field field = fields[index];
+        try {
+            switch (types[index]) {
+                case BOOLEAN: return field.getBoolean(object) ? 1231 : 1237;
+                case BYTE: return field.getByte(object);
+                case CHAR: return field.getChar(object);
+                case SHORT: return field.getShort(object);
+                case INT: return field.getInt(object);
+                case LONG: return hash(field.getLong(object));
+                case FLOAT: return Float.floatToIntBits(field.getFloat(object));
+                default: return hash(Double.doubleToLongBits(field.getDouble(object)));
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    // The field at the specified index must be of a reference type
+    Object getObject(Object object, int index) {
+        if (offsets != null) return unsafe.getObject(object, offsets[index]);
+        try {
+            return fields[index].get(object);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    // The field at the specified index must be of a reference type
+    void setObject(Object object, int index, Object value) {
+        if (offsets != null) unsafe.putObject(object, offsets[index], value);
+        else {
+            try {
+                fields[index].set(object, value);
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+    }
+
+    private void copyReflectively(Object src, Object dst) {
+        for (Field field : fields) {
+            try {
+                field.set(dst, field.get(src));
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+    }
+
+}
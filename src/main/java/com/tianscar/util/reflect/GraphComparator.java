@@ -0,0 +1,185 @@
+package com.tianscar.util.reflect;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Compares object graphs structurally without recursion, through the cached field layouts: primitive fields are
+// compared with typed loads at their offsets, without boxing, and reference fields are followed.
+// Two graphs are equal if they are isomorphic: the objects of the first one are paired with the objects of the
+// second one as they are reached, and each object must be paired with a single one, so shared references and cycles
+// must have the same shape in both graphs. Immutable values (see GraphCopier#isImmutable) are compared with equals.
+final class GraphComparator {
+
+    // A step of the path from the roots to a pair of objects, only turned into a string for the differences
+    private static final class Path {
+        private final Path parent;
+        private final Field field;
+        private final int index;
+        Path(Path parent, Field field, int index) {
+            this.parent = parent;
+            this.field = field;
+            this.index = index;
+        }
+        private void appendTo(StringBuilder builder) {
+            if (parent != null) parent.appendTo(builder);
+            if (field == null) builder.append('[').append(index).append(']');
+            else {
+                if (builder.length() > 0) builder.append('.');
+                builder.append(field.getName());
+            }
+        }
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder();
+            appendTo(builder);
+            return builder.toString();
+        }
+    }
+
+    private final Map<Object, Object> pairs = new IdentityHashMap<Object, Object>();
+    private final Map<Object, Object> reversePairs = new IdentityHashMap<Object, Object>();
+    // In (first, second, path) triples
+    private final List<Object> pending = new ArrayList<Object>();
+    // null to stop at the first difference, in which case no path is built either
+    private final List<String> differences;
+
+    private GraphComparator(List<String> differences) {
+        this.differences = differences;
+    }
+
+    static boolean equals(Object a, Object b) {
+        return a == b || new GraphComparator(null).compare(a, b);
+    }
+
+    // Returns the paths of the differences, the empty path stands for the roots themselves
+    static List<String> diff(Object a, Object b) {
+        List<String> differences = new ArrayList<String>();
+        if (a != b) new GraphComparator(differences).compare(a, b);
+        return differences;
+    }
+
+    private Path path(Path parent, Field field, int index) {
+        return differences == null ? null : new Path(parent, field, index);
+    }
+
+    // Returns whether the comparison goes on
+    private boolean difference(Path path) {
+        if (differences == null) return false;
+        differences.add(path == null ? "" : path.toString());
+        return true;
+    }
+
+    // Pairs the objects and schedules the comparison of their contents, unless they differ at first sight.
+    // Identical objects are paired as well, so the pairs stay consistent with the hash of each graph.
+    private boolean match(Object a, Object b, Path path) {
+        if (a == null || b == null) return a == b || difference(path);
+        Class<?> clazz = a.getClass();
+        if (clazz != b.getClass()) return difference(path);
+        if (GraphCopier.isImmutable(clazz)) return a.equals(b) || difference(path);
+        Object paired = pairs.get(a);
+        if (paired != null) return paired == b || difference(path);
+        if (reversePairs.containsKey(b)) return difference(path);
+        pairs.put(a, b);
+        reversePairs.put(b, a);
+        if (clazz.isArray()) {
+            if (!(a instanceof Object[])) return primitiveArrayEquals(a, b) || difference(path);
+            if (((Object[]) a).length != ((Object[]) b).length) return difference(path);
+        }
+        pending.add(a);
+        pending.add(b);
+        pending.add(path);
+        return true;
+    }
+
+    private boolean compare(Object a, Object b) {
+        if (!match(a, b, null)) return false;
+        while (!pending.isEmpty()) {
+            int size = pending.size();
+            Path path = (Path) pending.remove(size - 1);
+            Object second = pending.remove(size - 2);
+            Object first = pending.remove(size - 3);
+            if (first instanceof Object[]) {
+                Object[] firstArray = (Object[]) first;
+                Object[] secondArray = (Object[]) second;
+                for (int i = 0; i < firstArray.length; i ++) {
+                    if (!match(firstArray[i], secondArray[i], path(path, null, i))) return false;
+                }
+            }
+            else {
+                FieldLayout layout = Reflects.layout(first.getClass());
+                for (int i : layout.primitives) {
+                    if (!layout.primitiveEquals(first, second, i) && !difference(path(path, layout.fields[i], -1))) return false;
+                }
+                for (int i : layout.references) {
+                    if (!match(layout.getObject(first, i), layout.getObject(second, i), path(path, layout.fields[i], -1))) return false;
+                }
+            }
+        }
+        return differences == null || differences.isEmpty();
+    }
+
+    // Consistent with equals: isomorphic graphs are walked in the same order, and reach the same objects again
+    // at the same steps of the walk, which are hashed as a constant as their contents have been hashed already
+    static int hash(Object object) {
+        IdentitySet reached = new IdentitySet();
+        List<Object> pending = new ArrayList<Object>();
+        int hash = token(object, reached, pending);
+        while (!pending.isEmpty()) {
+            Object current = pending.remove(pending.size() - 1);
+            if (current instanceof Object[]) {
+                for (Object element : (Object[]) current) {
+                    hash = 31 * hash + token(element, reached, pending);
+                }
+            }
+            else {
+                FieldLayout layout = Reflects.layout(current.getClass());
+                for (int i : layout.primitives) {
+                    hash = 31 * hash + layout.primitiveHash(current, i);
+                }
+                for (int i : layout.references) {
+                    hash = 31 * hash + token(layout.getObject(current, i), reached, pending);
+                }
+            }
+        }
+        return hash;
+    }
+
+    private static int token(Object value, IdentitySet reached, List<Object> pending) {
+        if (value == null) return 0;
+        Class<?> clazz = value.getClass();
+        if (GraphCopier.isImmutable(clazz)) return value.hashCode();
+        if (!reached.add(value)) return 1;
+        int hash = clazz.hashCode();
+        if (value instanceof Object[]) hash = 31 * hash + ((Object[]) value).length;
+        else if (clazz.isArray()) return 31 * hash + primitiveArrayHash(value);
+        pending.add(value);
+        return hash;
+    }
+
+    private static boolean primitiveArrayEquals(Object a, Object b) {
+        if (a instanceof boolean[]) return Arrays.equals((boolean[]) a, (boolean[]) b);
+        else if (a instanceof byte[]) return Arrays.equals((byte[]) a, (byte[]) b);
+        else if (a instanceof char[]) return Arrays.equals((char[]) a, (char[]) b);
+        else if (a instanceof short[]) return Arrays.equals((short[]) a, (short[]) b);
+        else if (a instanceof int[]) return Arrays.equals((int[]) a, (int[]) b);
+        else if (a instanceof long[]) return Arrays.equals((long[]) a, (long[]) b);
+        else if (a instanceof float[]) return Arrays.equals((float[]) a, (float[]) b);
+        else return Arrays.equals((double[]) a, (double[]) b);
+    }
+
+    private static int primitiveArrayHash(Object array) {
+        if (array instanceof boolean[]) return Arrays.hashCode((boolean[]) array);
+        else if (array instanceof byte[]) return Arrays.hashCode((byte[]) array);
+        else if (array instanceof char[]) return Arrays.hashCode((char[]) array);
+        else if (array instanceof short[]) return Arrays.hashCode((short[]) array);
+        else if (array instanceof int[]) return Arrays.hashCode((int[]) array);
+        else if (array instanceof long[]) return Arrays.hashCode((long[]) array);
+        else if (array instanceof float[]) return Arrays.hashCode((float[]) array);
+        else return Arrays.hashCode((double[]) array);
+    }
+
+}
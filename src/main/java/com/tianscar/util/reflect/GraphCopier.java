@@ -0,0 +1,82 @@
+package com.tianscar.util.reflect;
+
+import sun.misc.Unsafe;
+
+import java.lang.reflect.Array;
+import java.util.List;
+
+// Copies an object graph without recursion, the pending (source, copy) pairs are kept in lists used as stacks.
+// Copies are allocated without running any constructor and filled through the cached field layouts.
+abstract class GraphCopier {
+
+    final Unsafe unsafe;
+
+    GraphCopier(Unsafe unsafe) {
+        this.unsafe = unsafe;
+    }
+
+    abstract Object copy(Object root);
+
+    // Returns the copy of the specified object if it has been allocated, otherwise null
+    abstract Object getCopy(Object src);
+
+    // Returns the previous copy of the specified object, otherwise null
+    abstract Object putCopyIfAbsent(Object src, Object copy);
+
+    static boolean isImmutable(Class<?> clazz) {
+        return clazz == String.class || clazz == Integer.class || clazz == Long.class || clazz == Boolean.class
+                || clazz == Character.class || clazz == Double.class || clazz == Float.class || clazz == Short.class
+                || clazz == Byte.class || clazz == Class.class || Enum.class.isAssignableFrom(clazz);
+    }
+
+    // Returns the copy of the specified value, allocating and scheduling it if it has not been copied yet
+    final Object resolve(Object value, List<Object> pending) {
+        if (value == null) return null;
+        Class<?> clazz = value.getClass();
+        if (isImmutable(clazz)) return value;
+        Object copy = getCopy(value);
+        if (copy != null) return copy;
+        boolean complete;
+        if (clazz.isArray()) {
+            int length = Array.getLength(value);
+            copy = Array.newInstance(clazz.getComponentType(), length);
+            complete = clazz.getComponentType().isPrimitive();
+            if (complete) System.arraycopy(value, 0, copy, 0, length);
+        }
+        else {
+            FieldLayout layout = Reflects.layout(clazz);
+            try {
+                copy = unsafe.allocateInstance(clazz); // Java 6+
+            } catch (InstantiationException e) {
+                throw new IllegalArgumentException(e);
+            }
+            layout.copy(value, copy);
+            complete = !layout.hasReferences;
+        }
+        Object previous = putCopyIfAbsent(value, copy);
+        if (previous != null) return previous; // Another thread won the race
+        if (!complete) {
+            pending.add(value);
+            pending.add(copy);
+        }
+        return copy;
+    }
+
+    final void fill(Object src, Object copy, List<Object> pending) {
+        if (src instanceof Object[]) {
+            Object[] srcArray = (Object[]) src;
+            Object[] copyArray = (Object[]) copy;
+            for (int i = 0; i < srcArray.length; i ++) {
+                copyArray[i] = resolve(srcArray[i], pending);
+            }
+        }
+        else {
+            FieldLayout layout = Reflects.layout(src.getClass());
+            for (int i : layout.references) {
+                Object value = layout.getObject(src, i);
+                if (value != null) layout.setObject(copy, i, resolve(value, pending));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.tianscar.util.reflect;
+
+import java.lang.reflect.Field;
+
+/**
+ * Receives the objects and references of an object graph walked by a {@link GraphWalker}.
+ *
+ * <p>Both methods walk the whole graph by default, override either or both of them.
+ */
+public abstract class GraphVisitor {
+
+    /**
+     * Called once for every object reached by the walk, including the root.
+     *
+     * @param object the reached object, never null
+     * @return true to walk the references of the object, false to skip them
+     */
+    public boolean visitObject(Object object) {
+        return true;
+    }
+
+    /**
+     * Called for every non-null reference held by an instance field or an element of an object walked,
+     * including references to objects which have already been reached.
+     *
+     * @param referrer the object holding the reference
+     * @param field the instance field holding the reference, or null for an array element
+     * @param index the index of the array element holding the reference, or -1 for an instance field
+     * @param referent the referenced object, never null
+     * @return true to reach the referenced object if it hasn't been reached yet, false to skip it
+     */
+    public boolean visitReference(Object referrer, Field field, int index, Object referent) {
+        return true;
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.tianscar.util.reflect;
+
+import java.util.Arrays;
+
+// A set of objects compared by identity, in a single open-addressing table with linear probing. Unlike a set view
+// of an IdentityHashMap, it stores no values, and adding an object allocates nothing unless the table grows.
+final class IdentitySet {
+
+    private static final int MINIMUM_CAPACITY = 16;
+
+    // The length is a power of two, at most half full
+    private Object[] table;
+    private int size;
+
+    IdentitySet() {
+        table = new Object[MINIMUM_CAPACITY];
+    }
+
+    // Spreads the identity hash codes, which are often sequential, over the whole table
+    private static int index(Object object, int mask) {
+        int h = System.identityHashCode(object) * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    // Returns whether the set did not already contain the specified object, which must not be null
+    boolean add(Object object) {
+        Object[] table = this.table;
+        int mask = table.length - 1;
+        int i = index(object, mask);
+        for (Object o; (o = table[i]) != null; i = (i + 1) & mask) {
+            if (o == object) return false;
+        }
+        table[i] = object;
+        if (++ size << 1 > table.length) resize();
+        return true;
+    }
+
+    boolean contains(Object object) {
+        if (object == null) return false;
+        Object[] table = this.table;
+        int mask = table.length - 1;
+        for (int i = index(object, mask); table[i] != null; i = (i + 1) & mask) {
+            if (table[i] == object) return true;
+        }
+        return false;
+    }
+
+    int size() {
+        return size;
+    }
+
+    // Keeps the table, so the set can be refilled without growing it again
+    void clear() {
+        if (size == 0) return;
+        Arrays.fill(table, null);
+        size = 0;
+    }
+
+    private void resize() {
+        Object[] oldTable = table;
+        Object[] newTable = new Object[oldTable.length << 1];
+        int mask = newTable.length - 1;
+        for (Object o : oldTable) {
+            if (o == null) continue;
+            int i = index(o, mask);
+            while (newTable[i] != null) {
+                i = (i + 1) & mask;
+            }
+            newTable[i] = o;
+        }
+        table = newTable;
+    }
+
+}
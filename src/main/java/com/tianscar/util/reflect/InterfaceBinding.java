@@ -0,0 +1,267 @@
+package com.tianscar.util.reflect;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.reflect.Modifier.isAbstract;
+import static java.lang.reflect.Modifier.isStatic;
+
+// The members of a class an interface is mapped onto by Reflects#bind and Reflects#bindStatic, resolved once per
+// interface and class and cached in the ClassMetadata of either of them (see Reflects#binding). On Java 7+, the
+// interface is implemented by a generated class calling constant method handles; on Java 6 (and Android), by a Proxy.
+abstract class InterfaceBinding {
+
+    final Class<?> iface;
+    final boolean isStatic;
+    // The abstract methods of the interface, and the method or field each one is mapped onto;
+    // a field is got if the interface method returns a value, otherwise it's set.
+    final Method[] methods;
+    final Member[] members;
+
+    InterfaceBinding(Class<?> iface, boolean isStatic, Method[] methods, Member[] members) {
+        this.iface = iface;
+        this.isStatic = isStatic;
+        this.methods = methods;
+        this.members = members;
+    }
+
+    // Returns an implementation of the interface on the target, which is null for static bindings
+    abstract Object bind(Object target);
+
+    static InterfaceBinding create(Class<?> iface, Class<?> clazz, boolean isStatic) throws IllegalArgumentException {
+        if (!iface.isInterface()) throw new IllegalArgumentException(iface.getName() + " is not an interface");
+        List<Method> methods = new ArrayList<Method>();
+        List<Member> members = new ArrayList<Member>();
+        for (Method method : iface.getMethods()) {
+            // Default, static and java.lang.Object methods keep their own implementations
+            if (!isAbstract(method.getModifiers()) || isObjectMethod(method) || isDuplicate(methods, method)) continue;
+            Member member = resolve(clazz, method);
+            if (member == null) throw new IllegalArgumentException("No member of " + clazz.getName() + " for " + method);
+            if (isStatic && !isStatic(member.getModifiers())) throw new IllegalArgumentException(member + " is not static");
+            methods.add(method);
+            members.add(member);
+        }
+        Method[] methodArray = methods.toArray(new Method[0]);
+        Member[] memberArray = members.toArray(new Member[0]);
+        InterfaceBinding binding = generate(iface, isStatic, methodArray, memberArray);
+        return binding != null ? binding : new ProxyBinding(iface, isStatic, methodArray, memberArray); // Java 6
+    }
+
+    // Returns the binding of the generated class, or null if it can't be generated. Also used by Lambdas, which maps
+    // the single abstract method onto a method or a constructor with a static binding, passing the receiver as is.
+    static InterfaceBinding generate(Class<?> iface, boolean isStatic, Method[] methods, Member[] members)
+            throws IllegalArgumentException {
+        if (Reflects.lookup != null && Reflects.unsafe != null) {
+            try {
+                return new MethodHandleInterfaceBinding(iface, isStatic, methods, members); // Java 7+
+            } catch (IOException e) {
+                // Unexpected
+            } catch (IllegalAccessException e) {
+                // Unexpected
+            } catch (NoSuchFieldException e) {
+                // Unexpected
+            } catch (NoSuchMethodException e) {
+                // Unexpected
+            } catch (UnsupportedOperationException e) {
+                // The class can't be defined on this runtime environment
+            } catch (ClassFormatError e) {
+                throw e; // The generated class is malformed
+            } catch (VerifyError e) {
+                throw e;
+            } catch (LinkageError e) {
+                // e.g. the generated class can't be defined in the package of the interface
+            }
+        }
+        return null; // Java 6
+    }
+
+    // The same method may be inherited from several superinterfaces, it's implemented once
+    private static boolean isDuplicate(List<Method> methods, Method method) {
+        for (Method other : methods) {
+            if (other.getName().equals(method.getName()) && other.getReturnType() == method.getReturnType()
+                    && Arrays.equals(other.getParameterTypes(), method.getParameterTypes())) return true;
+        }
+        return false;
+    }
+
+    private static boolean isObjectMethod(Method method) {
+        try {
+            return Object.class.getMethod(method.getName(), method.getParameterTypes()) != null;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static Member resolve(Class<?> clazz, Method method) throws IllegalArgumentException {
+        Bind bind = method.getAnnotation(Bind.class);
+        String name = bind == null || bind.value().length() == 0 ? method.getName() : bind.value();
+        Bind.Kind kind = bind == null ? Bind.Kind.AUTO : bind.kind();
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        Class<?> returnType = method.getReturnType();
+        if (kind == Bind.Kind.AUTO || kind == Bind.Kind.METHOD) {
+            Method found = findMethod(clazz, name, parameterTypes, returnType);
+            if (found != null || kind == Bind.Kind.METHOD) return found;
+        }
+        boolean getter = parameterTypes.length == 0 && returnType != void.class;
+        boolean setter = parameterTypes.length == 1 && returnType == void.class;
+        if (kind == Bind.Kind.GETTER && !getter) throw new IllegalArgumentException(method + " is not a getter");
+        if (kind == Bind.Kind.SETTER && !setter) throw new IllegalArgumentException(method + " is not a setter");
+        if (!getter && !setter) return null;
+        Field field = Reflects.metadata(clazz).findField(name);
+        if (field == null) return null;
+        else if (getter ? isConvertible(field.getType(), returnType) : isConvertible(parameterTypes[0], field.getType())) return field;
+        else throw new IllegalArgumentException("Incompatible type of " + field + " for " + method);
+    }
+
+    // The method of the same name and parameter types, otherwise the only method of the same name the parameters
+    // and the return value can be converted for, as the interface may only declare supertypes of inaccessible types
+    private static Method findMethod(Class<?> clazz, String name, Class<?>[] parameterTypes, Class<?> returnType)
+            throws IllegalArgumentException {
+        Method method = Reflects.metadata(clazz).findMethod(name, parameterTypes);
+        if (method != null) {
+            if (isConvertible(method.getReturnType(), returnType)) return method;
+            else throw new IllegalArgumentException("Incompatible return type of " + method);
+        }
+        for (Class<?> c = clazz; c != null; c = c.getSuperclass()) {
+            Method[] candidates = Reflects.metadata(c).declaredMethods(name);
+            if (candidates == null) continue;
+            for (Method candidate : candidates) {
+                if (candidate.isBridge() || !isConvertible(parameterTypes, candidate.getParameterTypes())
+                        || !isConvertible(candidate.getReturnType(), returnType)) continue;
+                if (method != null && !Arrays.equals(method.getParameterTypes(), candidate.getParameterTypes()))
+                    throw new IllegalArgumentException("Ambiguous methods " + method + " and " + candidate);
+                method = candidate;
+            }
+            if (method != null) return method;
+        }
+        return null;
+    }
+
+    private static boolean isConvertible(Class<?>[] from, Class<?>[] to) {
+        if (from.length != to.length) return false;
+        for (int i = 0; i < from.length; i ++) {
+            if (!isConvertible(from[i], to[i])) return false;
+        }
+        return true;
+    }
+
+    // Whether MethodHandle#asType converts values of the first type to the second one, void to void only
+    static boolean isConvertible(Class<?> from, Class<?> to) {
+        if (from == to || to == void.class) return true;
+        else if (from == void.class) return false;
+        else if (from.isPrimitive()) return to.isPrimitive() ? isWidening(from, to) : to.isAssignableFrom(wrapper(from));
+        else if (to.isPrimitive()) {
+            if (from.isAssignableFrom(wrapper(to))) return true; // Unboxed at runtime
+            Class<?> primitive = primitive(from);
+            return primitive != null && isWidening(primitive, to);
+        }
+        else return true; // Cast at runtime
+    }
+
+    private static boolean isWidening(Class<?> from, Class<?> to) {
+        if (from == to) return true;
+        else if (from == byte.class) return to == short.class || to == int.class || to == long.class || to == float.class || to == double.class;
+        else if (from == short.class || from == char.class) return to == int.class || to == long.class || to == float.class || to == double.class;
+        else if (from == int.class) return to == long.class || to == float.class || to == double.class;
+        else if (from == long.class) return to == float.class || to == double.class;
+        else if (from == float.class) return to == double.class;
+        else return false;
+    }
+
+    private static Class<?> wrapper(Class<?> primitive) {
+        if (primitive == boolean.class) return Boolean.class;
+        else if (primitive == byte.class) return Byte.class;
+        else if (primitive == char.class) return Character.class;
+        else if (primitive == short.class) return Short.class;
+        else if (primitive == int.class) return Integer.class;
+        else if (primitive == long.class) return Long.class;
+        else if (primitive == float.class) return Float.class;
+        else return Double.class;
+    }
+
+    private static Class<?> primitive(Class<?> wrapper) {
+        if (wrapper == Boolean.class) return boolean.class;
+        else if (wrapper == Byte.class) return byte.class;
+        else if (wrapper == Character.class) return char.class;
+        else if (wrapper == Short.class) return short.class;
+        else if (wrapper == Integer.class) return int.class;
+        else if (wrapper == Long.class) return long.class;
+        else if (wrapper == Float.class) return float.class;
+        else if (wrapper == Double.class) return double.class;
+        else return null;
+    }
+
+    private static final class ProxyBinding extends InterfaceBinding {
+
+        // The MethodInvoker or FieldAccessor of each interface method
+        private final Map<Method, Object> targets = new HashMap<Method, Object>();
+
+        ProxyBinding(Class<?> iface, boolean isStatic, Method[] methods, Member[] members) {
+            super(iface, isStatic, methods, members);
+            for (int i = 0; i < methods.length; i ++) {
+                Member member = members[i];
+                ClassMetadata metadata = Reflects.metadata(member.getDeclaringClass());
+                targets.put(methods[i], member instanceof Method ? metadata.invoker((Method) member) : metadata.accessor((Field) member));
+            }
+        }
+
+        @Override
+        Object bind(Object target) {
+            return Proxy.newProxyInstance(iface.getClassLoader(), new Class<?>[] { iface }, new ProxyHandler(this, target));
+        }
+
+    }
+
+    private static final class ProxyHandler implements InvocationHandler {
+
+        private final ProxyBinding binding;
+        private final Object target;
+
+        ProxyHandler(ProxyBinding binding, Object target) {
+            this.binding = binding;
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object member = binding.targets.get(method);
+            Class<?> returnType = method.getReturnType();
+            if (member instanceof MethodInvoker) {
+                MethodInvoker invoker = (MethodInvoker) member;
+                try {
+                    return MethodInvoker.widen(returnType, invoker.invoke(invoker.isStatic ? null : target,
+                            args == null ? MethodInvoker.EMPTY_ARGS : args));
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }
+            else if (member != null) {
+                FieldAccessor accessor = (FieldAccessor) member;
+                Object object = accessor.isStatic ? null : target;
+                if (returnType != void.class) return MethodInvoker.widen(returnType, accessor.get(object));
+                accessor.set(object, MethodInvoker.widen(accessor.type, args[0]));
+                return null;
+            }
+            else if (method.getName().equals("equals") && args != null && args.length == 1) return proxy == args[0];
+            else if (method.getName().equals("hashCode") && args == null) return System.identityHashCode(proxy);
+            else if (method.getName().equals("toString") && args == null)
+                return binding.iface.getName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+            // Java 8+, as the generated class inherits them
+            else if (Reflects.lookup != null && !isAbstract(method.getModifiers()))
+                return MethodHandleInterfaceBinding.invokeDefault(proxy, method, args);
+            else throw new UnsupportedOperationException(method.toString());
+        }
+
+    }
+
+}
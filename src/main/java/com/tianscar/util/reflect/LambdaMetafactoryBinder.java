@@ -0,0 +1,85 @@
+package com.tianscar.util.reflect;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+
+// Java 8+ only, never load this class before checking that the trusted lookup is available.
+final class LambdaMetafactoryBinder {
+
+    private LambdaMetafactoryBinder() {
+        throw new AssertionError("No " + LambdaMetafactoryBinder.class.getName() + " instances for you!");
+    }
+
+    // Throws IllegalAccessException or LinkageError if the lambda class can't be defined or linked,
+    // e.g. the functional interface is not visible from the class loader of the declaring class
+    static Object bind(Class<?> functionalInterface, Method sam, Method method) throws IllegalAccessException {
+        // A full-privilege lookup in the declaring class, so the lambda class becomes its nestmate (or anonymous host class)
+        MethodHandles.Lookup caller = ((MethodHandles.Lookup) Reflects.lookup).in(method.getDeclaringClass());
+        return bind(caller, functionalInterface, sam, caller.unreflect(method));
+    }
+
+    static Object bind(Class<?> functionalInterface, Method sam, Constructor<?> constructor) throws IllegalAccessException {
+        MethodHandles.Lookup caller = ((MethodHandles.Lookup) Reflects.lookup).in(constructor.getDeclaringClass());
+        return bind(caller, functionalInterface, sam, caller.unreflectConstructor(constructor));
+    }
+
+    private static Object bind(MethodHandles.Lookup caller, Class<?> functionalInterface, Method sam, MethodHandle implementation)
+            throws IllegalAccessException {
+        MethodType samType = MethodType.methodType(sam.getReturnType(), sam.getParameterTypes());
+        MethodType implementationType = implementation.type();
+        if (samType.parameterCount() != implementationType.parameterCount())
+            throw new IllegalArgumentException("wrong number of parameters");
+        Class<?>[] instantiatedParameterTypes = new Class<?>[samType.parameterCount()];
+        for (int i = 0; i < instantiatedParameterTypes.length; i ++) {
+            instantiatedParameterTypes[i] = instantiatedType(samType.parameterType(i), implementationType.parameterType(i));
+        }
+        Class<?> instantiatedReturnType = instantiatedType(samType.returnType(), implementationType.returnType());
+        CallSite callSite;
+        try {
+            callSite = LambdaMetafactory.metafactory(caller, sam.getName(), MethodType.methodType(functionalInterface),
+                    samType, implementation, MethodType.methodType(instantiatedReturnType, instantiatedParameterTypes));
+        } catch (LambdaConversionException e) {
+            if (e.getCause() instanceof IllegalAccessException) throw (IllegalAccessException) e.getCause();
+            else throw new IllegalArgumentException(e);
+        } catch (InternalError e) {
+            // Java 15+ wraps the linkage errors of the lambda class
+            if (e.getCause() instanceof LinkageError) throw (LinkageError) e.getCause();
+            else throw e;
+        }
+        try {
+            return callSite.getTarget().invoke();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e); // Unexpected
+        }
+    }
+
+    // The most specific type both erased functional interface type and implementation type agree on
+    private static Class<?> instantiatedType(Class<?> samType, Class<?> implementationType) {
+        if (samType.isPrimitive()) return samType;
+        else if (implementationType.isPrimitive()) return implementationType == void.class ? samType : wrap(implementationType);
+        else return samType.isAssignableFrom(implementationType) ? implementationType : samType;
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        if (type == boolean.class) return Boolean.class;
+        else if (type == byte.class) return Byte.class;
+        else if (type == char.class) return Character.class;
+        else if (type == short.class) return Short.class;
+        else if (type == int.class) return Integer.class;
+        else if (type == long.class) return Long.class;
+        else if (type == float.class) return Float.class;
+        else return Double.class;
+    }
+
+}
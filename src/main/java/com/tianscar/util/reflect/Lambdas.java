@@ -0,0 +1,396 @@
+package com.tianscar.util.reflect;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import static java.lang.reflect.Modifier.isAbstract;
+import static java.lang.reflect.Modifier.isStatic;
+
+/**
+ * Functional interface implementations of fields, methods and constructors, requires Java 8+ (Android API level 24+).
+ *
+ * <p>Methods and constructors are spun into real implementations of the functional interface through
+ * {@code LambdaMetafactory} with the trusted lookup, so the JIT compiler can inline through them as if
+ * they were direct calls. Fields are backed by a {@link FieldAccessor}, as {@code LambdaMetafactory} only accepts
+ * methods and constructors.
+ *
+ * <p>{@code LambdaMetafactory} defines the implementation in the declaring class of the member, so the functional
+ * interface must be visible from its class loader. Otherwise (e.g. a JDK member bound to an interface of the
+ * application), the implementation is generated in the package of the functional interface instead, and calls
+ * the member through a constant method handle, which the JIT compiler inlines through as well. If neither can
+ * be defined (e.g. on Android), a {@link Proxy} backed by a {@link MethodInvoker} or a {@link ConstructorFactory}
+ * is returned instead. On Java 6-7, use these directly.
+ *
+ * <p>The single abstract method of the functional interface takes the receiver as its first parameter if the
+ * method is an instance method, followed by the parameters of the method, like a method reference does.
+ */
+public final class Lambdas {
+
+    private Lambdas() {
+        throw new AssertionError("No " + Lambdas.class.getName() + " instances for you!");
+    }
+
+    private static final boolean lambdaMetafactoryAvailable;
+    static {
+        boolean available;
+        if (Reflects.lookup == null) available = false; // Java 6
+        else {
+            try {
+                Class.forName("java.lang.invoke.LambdaMetafactory"); // Java 8+
+                available = true;
+            } catch (ClassNotFoundException e) {
+                available = false; // Java 7
+            }
+        }
+        lambdaMetafactoryAvailable = available;
+    }
+
+    private static Method getSingleAbstractMethod(Class<?> functionalInterface) throws IllegalArgumentException {
+        if (!functionalInterface.isInterface())
+            throw new IllegalArgumentException(functionalInterface.getName() + " is not an interface");
+        Method sam = null;
+        for (Method method : functionalInterface.getMethods()) {
+            if (!isAbstract(method.getModifiers()) || isObjectMethod(method)) continue;
+            if (sam != null && !(sam.getName().equals(method.getName())
+                    && Arrays.equals(sam.getParameterTypes(), method.getParameterTypes())))
+                throw new IllegalArgumentException(functionalInterface.getName() + " is not a functional interface");
+            sam = method;
+        }
+        if (sam == null) throw new IllegalArgumentException(functionalInterface.getName() + " is not a functional interface");
+        return sam;
+    }
+
+    private static boolean isObjectMethod(Method method) {
+        try {
+            return Object.class.getMethod(method.getName(), method.getParameterTypes()) != null;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static boolean isVisible(Class<?> clazz, ClassLoader classLoader) {
+        try {
+            return Class.forName(clazz.getName(), false, classLoader) == clazz;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private static final class ProxyHandler implements InvocationHandler {
+
+        private final Class<?> functionalInterface;
+        private final Method sam;
+        private final MethodInvoker invoker;
+        private final ConstructorFactory<?> factory;
+
+        ProxyHandler(Class<?> functionalInterface, Method sam, MethodInvoker invoker, ConstructorFactory<?> factory) {
+            this.functionalInterface = functionalInterface;
+            this.sam = sam;
+            this.invoker = invoker;
+            this.factory = factory;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (args == null) args = MethodInvoker.EMPTY_ARGS;
+            if (method.getName().equals(sam.getName()) && Arrays.equals(method.getParameterTypes(), sam.getParameterTypes())) {
+                try {
+                    if (factory != null) return factory.newInstance(args);
+                    else if (invoker.isStatic) return MethodInvoker.widen(sam.getReturnType(), invoker.invoke(null, args));
+                    else return MethodInvoker.widen(sam.getReturnType(),
+                            invoker.invoke(args[0], Arrays.copyOfRange(args, 1, args.length)));
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }
+            else if (method.getName().equals("equals") && args.length == 1) return proxy == args[0];
+            else if (method.getName().equals("hashCode") && args.length == 0) return System.identityHashCode(proxy);
+            else if (method.getName().equals("toString") && args.length == 0)
+                return functionalInterface.getName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+            else if (Reflects.lookup != null && !isAbstract(method.getModifiers()))
+                return MethodHandleInterfaceBinding.invokeDefault(proxy, method, args);
+            else throw new UnsupportedOperationException(method.toString());
+        }
+
+    }
+
+    private static <F> F proxy(Class<F> functionalInterface, InvocationHandler handler) {
+        return functionalInterface.cast(Proxy.newProxyInstance(functionalInterface.getClassLoader(),
+                new Class<?>[] { functionalInterface }, handler));
+    }
+
+    /**
+     * Creates an implementation of the specified functional interface which invokes the specified method.
+     * If the method is an instance method, the first parameter of the functional interface method is the receiver.
+     *
+     * @param functionalInterface the functional interface to implement
+     * @param method the method to invoke
+     * @return an implementation of the functional interface
+     *
+     * @throws    IllegalArgumentException  if the specified class is not a functional interface,
+     *              or if its single abstract method is not compatible with the specified method.
+     * @throws    NullPointerException      if the specified functional interface or method is null
+     */
+    public static <F> F lambda(Class<F> functionalInterface, Method method) throws IllegalArgumentException, NullPointerException {
+        Method sam = getSingleAbstractMethod(functionalInterface);
+        if (sam.getParameterTypes().length != method.getParameterTypes().length + (isStatic(method.getModifiers()) ? 0 : 1))
+            throw new IllegalArgumentException("wrong number of parameters");
+        if (lambdaMetafactoryAvailable && isVisible(functionalInterface, method.getDeclaringClass().getClassLoader())) {
+            try {
+                return functionalInterface.cast(LambdaMetafactoryBinder.bind(functionalInterface, sam, method)); // Java 8+
+            } catch (IllegalAccessException ignored) {
+                // Unexpected
+            } catch (LinkageError ignored) {
+                // e.g. some parameter type is not visible from the class loader of the declaring class
+            }
+        }
+        InterfaceBinding binding = InterfaceBinding.generate(functionalInterface, true,
+                new Method[] { sam }, new Member[] { method });
+        if (binding != null) return functionalInterface.cast(binding.bind(null));
+        return proxy(functionalInterface, new ProxyHandler(functionalInterface, sam, Reflects.invoker(method), null));
+    }
+
+    /**
+     * Creates an implementation of the specified functional interface which creates instances with the specified constructor.
+     *
+     * @param functionalInterface the functional interface to implement
+     * @param constructor the constructor to create instances with
+     * @return an implementation of the functional interface
+     *
+     * @throws    IllegalArgumentException  if the specified class is not a functional interface,
+     *              or if its single abstract method is not compatible with the specified constructor.
+     * @throws    NullPointerException      if the specified functional interface or constructor is null
+     */
+    public static <F> F lambda(Class<F> functionalInterface, Constructor<?> constructor) throws IllegalArgumentException, NullPointerException {
+        Method sam = getSingleAbstractMethod(functionalInterface);
+        if (sam.getParameterTypes().length != constructor.getParameterTypes().length)
+            throw new IllegalArgumentException("wrong number of parameters");
+        if (lambdaMetafactoryAvailable && isVisible(functionalInterface, constructor.getDeclaringClass().getClassLoader())) {
+            try {
+                return functionalInterface.cast(LambdaMetafactoryBinder.bind(functionalInterface, sam, constructor)); // Java 8+
+            } catch (IllegalAccessException ignored) {
+                // Unexpected
+            } catch (LinkageError ignored) {
+                // e.g. some parameter type is not visible from the class loader of the declaring class
+            }
+        }
+        InterfaceBinding binding = InterfaceBinding.generate(functionalInterface, true,
+                new Method[] { sam }, new Member[] { constructor });
+        if (binding != null) return functionalInterface.cast(binding.bind(null));
+        return proxy(functionalInterface, new ProxyHandler(functionalInterface, sam, null, Reflects.factory(constructor)));
+    }
+
+    /**
+     * Creates a {@link Supplier} which creates instances with the specified no-arg constructor.
+     *
+     * @param constructor the no-arg constructor to create instances with
+     * @return the supplier of new instances
+     *
+     * @throws    IllegalArgumentException  if the specified constructor has parameters
+     * @throws    NullPointerException      if the specified constructor is null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Supplier<T> supplier(Constructor<T> constructor) throws IllegalArgumentException, NullPointerException {
+        return lambda(Supplier.class, constructor);
+    }
+
+    private static FieldAccessor accessor(Field field, Class<?> expected) throws IllegalArgumentException {
+        FieldAccessor accessor = Reflects.accessor(field);
+        if (expected == null ? accessor.getType().isPrimitive() : accessor.getType() != expected)
+            throw FieldAccessor.illegalType(expected == null ? "non-primitive" : expected.getName());
+        return accessor;
+    }
+
+    /**
+     * Creates a {@link ToIntFunction} which gets the value of the specified {@code int} field.
+     * If the field is static, the argument of the function is ignored; it may be null.
+     *
+     * @param field the field to get
+     * @return the getter of the field
+     *
+     * @throws    IllegalArgumentException  if the field type is not {@code int}
+     * @throws    NullPointerException      if the specified field is null
+     * @throws    ExceptionInInitializerError if the initialization provoked
+     *              by this method fails.
+     */
+    public static <T> ToIntFunction<T> intGetter(Field field) throws IllegalArgumentException, NullPointerException, ExceptionInInitializerError {
+        final FieldAccessor accessor = accessor(field, int.class);
+        return new ToIntFunction<T>() {
+            @Override
+            public int applyAsInt(T object) {
+                return accessor.getInt(object);
+            }
+        };
+    }
+
+    /**
+     * Creates a {@link ToLongFunction} which gets the value of the specified {@code long} field.
+     * If the field is static, the argument of the function is ignored; it may be null.
+     *
+     * @param field the field to get
+     * @return the getter of the field
+     *
+     * @throws    IllegalArgumentException  if the field type is not {@code long}
+     * @throws    NullPointerException      if the specified field is null
+     * @throws    ExceptionInInitializerError if the initialization provoked
+     *              by this method fails.
+     */
+    public static <T> ToLongFunction<T> longGetter(Field field) throws IllegalArgumentException, NullPointerException, ExceptionInInitializerError {
+        final FieldAccessor accessor = accessor(field, long.class);
+        return new ToLongFunction<T>() {
+            @Override
+            public long applyAsLong(T object) {
+                return accessor.getLong(object);
+            }
+        };
+    }
+
+    /**
+     * Creates a {@link ToDoubleFunction} which gets the value of the specified {@code double} field.
+     * If the field is static, the argument of the function is ignored; it may be null.
+     *
+     * @param field the field to get
+     * @return the getter of the field
+     *
+     * @throws    IllegalArgumentException  if the field type is not {@code double}
+     * @throws    NullPointerException      if the specified field is null
+     * @throws    ExceptionInInitializerError if the initialization provoked
+     *              by this method fails.
+     */
+    public static <T> ToDoubleFunction<T> doubleGetter(Field field) throws IllegalArgumentException, NullPointerException, ExceptionInInitializerError {
+        final FieldAccessor accessor = accessor(field, double.class);
+        return new ToDoubleFunction<T>() {
+            @Override
+            public double applyAsDouble(T object) {
+                return accessor.getDouble(object);
+            }
+        };
+    }
+
+    /**
+     * Creates a {@link Function} which gets the value of the specified non-primitive field.
+     * If the field is static, the argument of the function is ignored; it may be null.
+     *
+     * @param field the field to get
+     * @return the getter of the field
+     *
+     * @throws    IllegalArgumentException  if the field type is primitive
+     * @throws    NullPointerException      if the specified field is null
+     * @throws    ExceptionInInitializerError if the initialization provoked
+     *              by this method fails.
+     */
+    public static <T, R> Function<T, R> getter(Field field) throws IllegalArgumentException, NullPointerException, ExceptionInInitializerError {
+        final FieldAccessor accessor = accessor(field, null);
+        return new Function<T, R>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public R apply(T object) {
+                return (R) accessor.getObject(object);
+            }
+        };
+    }
+
+    /**
+     * Creates an {@link ObjIntConsumer} which sets the value of the specified {@code int} field.
+     * If the field is static, the first argument of the consumer is ignored; it may be null.
+     *
+     * @param field the field to set
+     * @return the setter of the field
+     *
+     * @throws    IllegalArgumentException  if the field type is not {@code int}
+     * @throws    NullPointerException      if the specified field is null
+     * @throws    ExceptionInInitializerError if the initialization provoked
+     *              by this method fails.
+     */
+    public static <T> ObjIntConsumer<T> intSetter(Field field) throws IllegalArgumentException, NullPointerException, ExceptionInInitializerError {
+        final FieldAccessor accessor = accessor(field, int.class);
+        return new ObjIntConsumer<T>() {
+            @Override
+            public void accept(T object, int value) {
+                accessor.setInt(object, value);
+            }
+        };
+    }
+
+    /**
+     * Creates an {@link ObjLongConsumer} which sets the value of the specified {@code long} field.
+     * If the field is static, the first argument of the consumer is ignored; it may be null.
+     *
+     * @param field the field to set
+     * @return the setter of the field
+     *
+     * @throws    IllegalArgumentException  if the field type is not {@code long}
+     * @throws    NullPointerException      if the specified field is null
+     * @throws    ExceptionInInitializerError if the initialization provoked
+     *              by this method fails.
+     */
+    public static <T> ObjLongConsumer<T> longSetter(Field field) throws IllegalArgumentException, NullPointerException, ExceptionInInitializerError {
+        final FieldAccessor accessor = accessor(field, long.class);
+        return new ObjLongConsumer<T>() {
+            @Override
+            public void accept(T object, long value) {
+                accessor.setLong(object, value);
+            }
+        };
+    }
+
+    /**
+     * Creates an {@link ObjDoubleConsumer} which sets the value of the specified {@code double} field.
+     * If the field is static, the first argument of the consumer is ignored; it may be null.
+     *
+     * @param field the field to set
+     * @return the setter of the field
+     *
+     * @throws    IllegalArgumentException  if the field type is not {@code double}
+     * @throws    NullPointerException      if the specified field is null
+     * @throws    ExceptionInInitializerError if the initialization provoked
+     *              by this method fails.
+     */
+    public static <T> ObjDoubleConsumer<T> doubleSetter(Field field) throws IllegalArgumentException, NullPointerException, ExceptionInInitializerError {
+        final FieldAccessor accessor = accessor(field, double.class);
+        return new ObjDoubleConsumer<T>() {
+            @Override
+            public void accept(T object, double value) {
+                accessor.setDouble(object, value);
+            }
+        };
+    }
+
+    /**
+     * Creates a {@link BiConsumer} which sets the value of the specified non-primitive field.
+     * If the field is static, the first argument of the consumer is ignored; it may be null.
+     *
+     * @param field the field to set
+     * @return the setter of the field
+     *
+     * @throws    IllegalArgumentException  if the field type is primitive
+     * @throws    NullPointerException      if the specified field is null
+     * @throws    ExceptionInInitializerError if the initialization provoked
+     *              by this method fails.
+     */
+    public static <T, V> BiConsumer<T, V> setter(Field field) throws IllegalArgumentException, NullPointerException, ExceptionInInitializerError {
+        final FieldAccessor accessor = accessor(field, null);
+        return new BiConsumer<T, V>() {
+            @Override
+            public void accept(T object, V value) {
+                accessor.setObject(object, value);
+            }
+        };
+    }
+
+}
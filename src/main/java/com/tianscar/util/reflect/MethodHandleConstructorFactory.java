@@ -0,0 +1,102 @@
+package com.tianscar.util.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+// Java 7+ only, never load this class before checking that the trusted lookup is available.
+final class MethodHandleConstructorFactory<T> extends ConstructorFactory<T> {
+
+    // (Object[])Object
+    private final MethodHandle spreader;
+    // (Object...)Object with a fixed arity; null if the constructor has too many parameters
+    private final MethodHandle fixed;
+
+    MethodHandleConstructorFactory(Object lookup, Constructor<T> constructor) throws IllegalAccessException {
+        super(constructor);
+        MethodHandle handle = ((MethodHandles.Lookup) lookup).unreflectConstructor(constructor).asFixedArity();
+        handle = handle.asType(handle.type().generic());
+        spreader = handle.asSpreader(Object[].class, parameterTypes.length);
+        fixed = parameterTypes.length > MethodHandleInvoker.MAX_FIXED_ARITY ? null : handle;
+    }
+
+    private InvocationTargetException instantiationFailed(Throwable e, Object... args) throws IllegalArgumentException {
+        if ((e instanceof ClassCastException || e instanceof NullPointerException) && isArgumentMismatch(args))
+            throw new IllegalArgumentException("argument type mismatch");
+        else return new InvocationTargetException(e);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T newInstance(Object... args) throws InstantiationException, InvocationTargetException {
+        checkInstantiable();
+        args = checkArgs(args);
+        try {
+            return (T) (Object) spreader.invokeExact(args);
+        } catch (Throwable e) {
+            throw instantiationFailed(e, args);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T newInstance() throws InstantiationException, InvocationTargetException {
+        checkInstantiable();
+        checkArgCount(0);
+        try {
+            return (T) (Object) fixed.invokeExact();
+        } catch (Throwable e) {
+            throw instantiationFailed(e);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T newInstance(Object arg0) throws InstantiationException, InvocationTargetException {
+        checkInstantiable();
+        checkArgCount(1);
+        try {
+            return (T) (Object) fixed.invokeExact(arg0);
+        } catch (Throwable e) {
+            throw instantiationFailed(e, arg0);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T newInstance(Object arg0, Object arg1) throws InstantiationException, InvocationTargetException {
+        checkInstantiable();
+        checkArgCount(2);
+        try {
+            return (T) (Object) fixed.invokeExact(arg0, arg1);
+        } catch (Throwable e) {
+            throw instantiationFailed(e, arg0, arg1);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T newInstance(Object arg0, Object arg1, Object arg2) throws InstantiationException, InvocationTargetException {
+        checkInstantiable();
+        checkArgCount(3);
+        try {
+            return (T) (Object) fixed.invokeExact(arg0, arg1, arg2);
+        } catch (Throwable e) {
+            throw instantiationFailed(e, arg0, arg1, arg2);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T newInstance(Object arg0, Object arg1, Object arg2, Object arg3) throws InstantiationException, InvocationTargetException {
+        checkInstantiable();
+        checkArgCount(4);
+        try {
+            return (T) (Object) fixed.invokeExact(arg0, arg1, arg2, arg3);
+        } catch (Throwable e) {
+            throw instantiationFailed(e, arg0, arg1, arg2, arg3);
+        }
+    }
+
+}
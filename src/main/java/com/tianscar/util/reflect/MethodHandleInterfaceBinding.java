@@ -0,0 +1,216 @@
+package com.tianscar.util.reflect;
+
+import sun.misc.Unsafe;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.tianscar.util.reflect.ClassFileWriter.*;
+import static java.lang.reflect.Modifier.isStatic;
+
+// Java 7+ only, never load this class before checking that the trusted lookup is available.
+//
+// Implements the interface with a class generated in its package, of which each method loads the method handle of
+// its member from a static final field, so the JIT compiler treats the handle as a constant and inlines through it,
+// and calls it with invokeExact on the arguments as they are, without boxing them into an array.
+// The receiver is kept in an instance field, so the class is generated once per interface and class.
+// The class holds the members through its handles, so it must not outlive the binding: on Java 16+, it's a hidden
+// class which gets its handles from its class data; on Java 7-14, an anonymous class of which the handles are written
+// with Unsafe. On Java 15, whose hidden classes have neither, it's a normal class, which stays loaded with the interface.
+final class MethodHandleInterfaceBinding extends InterfaceBinding {
+
+    private static final String METHOD_HANDLE = "java/lang/invoke/MethodHandle";
+    private static final String METHOD_HANDLES = "java/lang/invoke/MethodHandles";
+    private static final String LOOKUP = "java/lang/invoke/MethodHandles$Lookup";
+    private static final String OBJECT = "java/lang/Object";
+
+    private static final Unsafe unsafe = Reflects.unsafe;
+    private static final AtomicInteger counter = new AtomicInteger();
+
+    // Final fields can't be unreflected as setters
+    private static final MethodHandle setMethodHandle;
+
+    static {
+        MethodHandle _setMethodHandle;
+        try {
+            _setMethodHandle = ((MethodHandles.Lookup) Reflects.lookup).findVirtual(FieldAccessor.class, "set",
+                    MethodType.methodType(void.class, Object.class, Object.class));
+        } catch (NoSuchMethodException e) {
+            _setMethodHandle = null; // Unexpected
+        } catch (IllegalAccessException e) {
+            _setMethodHandle = null; // Unexpected
+        }
+        setMethodHandle = _setMethodHandle;
+    }
+
+    private final Class<?> implementation;
+    private final long targetOffset;
+    // (Object)Object, creates the instances of hidden classes (Java 16+), of which fields have no offset
+    private final MethodHandle constructor;
+
+    MethodHandleInterfaceBinding(Class<?> iface, boolean isStatic, Method[] methods, Member[] members)
+            throws IllegalArgumentException, IOException, IllegalAccessException, NoSuchFieldException, NoSuchMethodException {
+        super(iface, isStatic, methods, members);
+        MethodHandles.Lookup lookup = (MethodHandles.Lookup) Reflects.lookup;
+        MethodHandle[] handles = new MethodHandle[methods.length];
+        for (int i = 0; i < methods.length; i ++) {
+            handles[i] = handle(lookup, methods[i], members[i]);
+        }
+        String name = iface.getName().replace('.', '/') + "$$Binding" + counter.incrementAndGet();
+        Class<?> clazz;
+        if (ClassDefiner.isClassDataAvailable()) {
+            clazz = ClassDefiner.defineHiddenClass(iface, build(name, true), Arrays.asList(handles)); // Java 16+
+            targetOffset = -1;
+            constructor = lookup.findConstructor(clazz, MethodType.methodType(void.class, Object.class))
+                    .asType(MethodType.methodType(Object.class, Object.class));
+        }
+        else {
+            byte[] bytes = build(name, false);
+            // The static fields of hidden classes (Java 15+, including anonymous ones) can't be written with Unsafe
+            if (ClassDefiner.isAnonymousClassAvailable() && !ClassDefiner.isHiddenClassAvailable())
+                clazz = ClassDefiner.defineAnonymousClass(iface, bytes); // Java 7-14
+            else clazz = ClassDefiner.defineClass(iface, bytes); // Java 15
+            // Written before any instance exists, so before the JIT compiler may fold them
+            for (int i = 0; i < handles.length; i ++) {
+                Field field = clazz.getDeclaredField("h" + i);
+                unsafe.putObjectVolatile(unsafe.staticFieldBase(field), unsafe.staticFieldOffset(field), handles[i]);
+            }
+            targetOffset = isStatic ? -1 : unsafe.objectFieldOffset(clazz.getDeclaredField("target"));
+            constructor = null;
+        }
+        implementation = clazz;
+    }
+
+    // Adapts the member to the exact type the generated method invokes it with: the parameters of the interface
+    // method, preceded by the receiver as an Object for instance bindings. The receiver of an instance method bound
+    // statically is the first parameter, like a method reference.
+    private MethodHandle handle(MethodHandles.Lookup lookup, Method method, Member member) throws IllegalAccessException {
+        MethodHandle handle;
+        boolean memberIsStatic = isStatic(member.getModifiers());
+        if (member instanceof Method) handle = lookup.unreflect((Method) member);
+        else if (member instanceof Constructor) handle = lookup.unreflectConstructor((Constructor<?>) member); // Lambdas
+        else if (method.getReturnType() != void.class) handle = lookup.unreflectGetter((Field) member);
+        else {
+            try {
+                handle = lookup.unreflectSetter((Field) member);
+            } catch (IllegalAccessException e) {
+                // Final fields
+                handle = setMethodHandle.bindTo(Reflects.metadata(member.getDeclaringClass()).accessor((Field) member));
+                Class<?> type = ((Field) member).getType();
+                if (memberIsStatic) handle = MethodHandles.insertArguments(handle, 0, (Object) null)
+                        .asType(MethodType.methodType(void.class, type));
+                else handle = handle.asType(MethodType.methodType(void.class, member.getDeclaringClass(), type));
+            }
+        }
+        List<Class<?>> parameterTypes = new ArrayList<Class<?>>();
+        if (!isStatic) {
+            parameterTypes.add(Object.class);
+            if (memberIsStatic) handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            parameterTypes.add(parameterType);
+        }
+        try {
+            return handle.asType(MethodType.methodType(method.getReturnType(), parameterTypes));
+        } catch (WrongMethodTypeException e) {
+            throw new IllegalArgumentException("Incompatible " + member + " for " + method);
+        }
+    }
+
+    private byte[] build(String name, boolean classData) throws IOException {
+        ClassFileWriter writer = new ClassFileWriter(51, // Java 7
+                ACC_PUBLIC | ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC, name, OBJECT, internalName(iface));
+        for (int i = 0; i < methods.length; i ++) {
+            writer.field(ACC_PRIVATE | ACC_STATIC | ACC_FINAL, "h" + i, "L" + METHOD_HANDLE + ";");
+        }
+        if (!isStatic) writer.field(ACC_PRIVATE | ACC_FINAL, "target", "L" + OBJECT + ";");
+        if (classData) {
+            // h<i> = (MethodHandle) MethodHandles.classDataAt(MethodHandles.lookup(), "_", MethodHandle.class, i)
+            List<Integer> clinit = new ArrayList<Integer>();
+            for (int i = 0; i < methods.length; i ++) {
+                op(clinit, INVOKESTATIC, writer.methodRef(METHOD_HANDLES, "lookup", "()L" + LOOKUP + ";", false));
+                op(clinit, LDC_W, writer.stringRef("_"));
+                op(clinit, LDC_W, writer.classRef(METHOD_HANDLE));
+                push(clinit, i);
+                op(clinit, INVOKESTATIC, writer.methodRef(METHOD_HANDLES, "classDataAt",
+                        "(L" + LOOKUP + ";Ljava/lang/String;Ljava/lang/Class;I)L" + OBJECT + ";", false));
+                op(clinit, CHECKCAST, writer.classRef(METHOD_HANDLE));
+                op(clinit, PUTSTATIC, writer.fieldRef(name, "h" + i, "L" + METHOD_HANDLE + ";"));
+            }
+            clinit.add(RETURN);
+            writer.method(ACC_STATIC, "<clinit>", "()V", 4, 0, clinit);
+            // The fields of hidden classes have no offset, so the target is set by a constructor
+            List<Integer> init = new ArrayList<Integer>();
+            init.add(ALOAD_0);
+            op(init, INVOKESPECIAL, writer.methodRef(OBJECT, "<init>", "()V", false));
+            if (!isStatic) {
+                init.add(ALOAD_0);
+                init.add(ALOAD_1);
+                op(init, PUTFIELD, writer.fieldRef(name, "target", "L" + OBJECT + ";"));
+            }
+            init.add(RETURN);
+            writer.method(ACC_PRIVATE, "<init>", "(L" + OBJECT + ";)V", 2, 2, init);
+        }
+        for (int i = 0; i < methods.length; i ++) {
+            Method method = methods[i];
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            Class<?> returnType = method.getReturnType();
+            List<Integer> code = new ArrayList<Integer>();
+            op(code, GETSTATIC, writer.fieldRef(name, "h" + i, "L" + METHOD_HANDLE + ";"));
+            String descriptor = descriptor(parameterTypes, returnType);
+            if (!isStatic) {
+                code.add(ALOAD_0);
+                op(code, GETFIELD, writer.fieldRef(name, "target", "L" + OBJECT + ";"));
+                descriptor = "(L" + OBJECT + ";" + descriptor.substring(1);
+            }
+            int slots = 0;
+            for (Class<?> parameterType : parameterTypes) {
+                load(code, parameterType, 1 + slots);
+                slots += slots(parameterType);
+            }
+            op(code, INVOKEVIRTUAL, writer.methodRef(METHOD_HANDLE, "invokeExact", descriptor, false));
+            code.add(returnOpcode(returnType));
+            int maxStack = Math.max(1 + (isStatic ? 0 : 1) + slots, slots(returnType));
+            writer.method(ACC_PUBLIC, method.getName(), descriptor(parameterTypes, returnType), maxStack, 1 + slots, code);
+        }
+        return writer.toByteArray();
+    }
+
+    // Calls the default implementation of an interface method on a proxy of the interface (Java 8+), the trusted
+    // lookup may call it on any implementation, as if from the interface itself
+    static Object invokeDefault(Object proxy, Method method, Object[] args) throws Throwable {
+        return ((MethodHandles.Lookup) Reflects.lookup).unreflectSpecial(method, method.getDeclaringClass())
+                .bindTo(proxy).invokeWithArguments(args == null ? MethodInvoker.EMPTY_ARGS : args);
+    }
+
+    @Override
+    Object bind(Object target) {
+        if (constructor != null) {
+            try {
+                return (Object) constructor.invokeExact(target); // Java 16+
+            } catch (Throwable e) {
+                throw VarHandleFieldAccessor.rethrow(e); // Unexpected
+            }
+        }
+        Object instance;
+        try {
+            instance = unsafe.allocateInstance(implementation);
+        } catch (InstantiationException e) {
+            throw new UnsupportedOperationException(e); // Unexpected
+        }
+        if (!isStatic) unsafe.putOrderedObject(instance, targetOffset, target); // Published like a final field
+        return instance;
+    }
+
+}
@@ -0,0 +1,693 @@
+package com.tianscar.util.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+// Java 7+ only, never load this class before checking that the trusted lookup is available.
+final class MethodHandleInvoker extends MethodInvoker {
+
+    static final int MAX_FIXED_ARITY = 4;
+
+    // (Object, Object[])Object
+    private final MethodHandle spreader;
+    // (Object, Object[])R, where R is the primitive return type; null if the return type is not primitive
+    private final MethodHandle typedSpreader;
+    // (Object, Object...)Object with a fixed arity; null if the method has too many parameters
+    private final MethodHandle fixed;
+    // (Object, Object...)R with a fixed arity; null if the method has too many parameters or the return type is not primitive
+    private final MethodHandle typedFixed;
+
+    MethodHandleInvoker(Object lookup, Method method) throws IllegalAccessException {
+        super(method);
+        MethodHandle handle = ((MethodHandles.Lookup) lookup).unreflect(method).asFixedArity();
+        // Receiver and parameters as Object, return type kept
+        MethodType type = handle.type().generic().changeReturnType(returnType);
+        handle = handle.asType(type);
+        if (isStatic) handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        int count = parameterTypes.length;
+        boolean isPrimitive = returnType.isPrimitive() && returnType != void.class;
+        MethodHandle typedSpreader = handle.asSpreader(Object[].class, count);
+        spreader = typedSpreader.asType(typedSpreader.type().changeReturnType(Object.class));
+        this.typedSpreader = isPrimitive ? typedSpreader : null;
+        if (count > MAX_FIXED_ARITY) {
+            fixed = null;
+            typedFixed = null;
+        }
+        else {
+            fixed = handle.asType(handle.type().changeReturnType(Object.class));
+            typedFixed = isPrimitive ? handle : null;
+        }
+    }
+
+    private InvocationTargetException invocationFailed(Throwable e, Object... args) throws IllegalArgumentException {
+        if ((e instanceof ClassCastException || e instanceof NullPointerException) && isArgumentMismatch(args))
+            throw new IllegalArgumentException("argument type mismatch");
+        else return new InvocationTargetException(e);
+    }
+
+    @Override
+    public Object invoke(Object object, Object... args) throws InvocationTargetException {
+        checkObject(object);
+        args = checkArgs(args);
+        try {
+            return (Object) spreader.invokeExact(object, args);
+        } catch (Throwable e) {
+            throw invocationFailed(e, args);
+        }
+    }
+
+    @Override
+    public Object invoke(Object object) throws InvocationTargetException {
+        checkArgCount(0);
+        checkObject(object);
+        try {
+            return (Object) fixed.invokeExact(object);
+        } catch (Throwable e) {
+            throw invocationFailed(e);
+        }
+    }
+
+    @Override
+    public Object invoke(Object object, Object arg0) throws InvocationTargetException {
+        checkArgCount(1);
+        checkObject(object);
+        try {
+            return (Object) fixed.invokeExact(object, arg0);
+        } catch (Throwable e) {
+            throw invocationFailed(e, arg0);
+        }
+    }
+
+    @Override
+    public Object invoke(Object object, Object arg0, Object arg1) throws InvocationTargetException {
+        checkArgCount(2);
+        checkObject(object);
+        try {
+            return (Object) fixed.invokeExact(object, arg0, arg1);
+        } catch (Throwable e) {
+            throw invocationFailed(e, arg0, arg1);
+        }
+    }
+
+    @Override
+    public Object invoke(Object object, Object arg0, Object arg1, Object arg2) throws InvocationTargetException {
+        checkArgCount(3);
+        checkObject(object);
+        try {
+            return (Object) fixed.invokeExact(object, arg0, arg1, arg2);
+        } catch (Throwable e) {
+            throw invocationFailed(e, arg0, arg1, arg2);
+        }
+    }
+
+    @Override
+    public Object invoke(Object object, Object arg0, Object arg1, Object arg2, Object arg3) throws InvocationTargetException {
+        checkArgCount(4);
+        checkObject(object);
+        try {
+            return (Object) fixed.invokeExact(object, arg0, arg1, arg2, arg3);
+        } catch (Throwable e) {
+            throw invocationFailed(e, arg0, arg1, arg2, arg3);
+        }
+    }
+
+    @Override
+    public boolean invokeBoolean(Object object, Object... args) throws InvocationTargetException {
+        checkReturnType(boolean.class);
+        checkObject(object);
+        args = checkArgs(args);
+        try {
+            return (boolean) typedSpreader.invokeExact(object, args);
+        } catch (Throwable e) {
+            throw invocationFailed(e, args);
+        }
+    }
+
+    @Override
+    public boolean invokeBoolean(Object object) throws InvocationTargetException {
+        checkReturnType(boolean.class);
+        checkArgCount(0);
+        checkObject(object);
+        try {
+            return (boolean) typedFixed.invokeExact(object);
+        } catch (Throwable e) {
+            throw invocationFailed(e);
+        }
+    }
+
+    @Override
+    public boolean invokeBoolean(Object object, Object arg0) throws InvocationTargetException {
+        checkReturnType(boolean.class);
+        checkArgCount(1);
+        checkObject(object);
+        try {
+            return (boolean) typedFixed.invokeExact(object, arg0);
+        } catch (Throwable e) {
+            throw invocationFailed(e, arg0);
+        }
+    }
+
+    @Override
+    public boolean invokeBoolean(Object object, Object arg0, Object arg1) throws InvocationTargetException {
+        checkReturnType(boolean.class);
+        checkArgCount(2);
+        checkObject(object);
+        try {
+            return (boolean) typedFixed.invokeExact(object, arg0, arg1);
+        } catch (Throwable e) {
+            throw invocationFailed(e, arg0, arg1);
+        }
+    }
+
+    @Override
+    public boolean invokeBoolean(Object object, Object arg0, Object arg1, Object arg2) throws InvocationTargetException {
+        checkReturnType(boolean.class);
+        checkArgCount(3);
+        checkObject(object);
+        try {
+            return (boolean) typedFixed.invokeExact(object, arg0, arg1, arg2);
+        } catch (Throwable e) {
+            throw invocationFailed(e, arg0, arg1, arg2);
+        }
+    }
+
+    @Override
+    public boolean invokeBoolean(Object object, Object arg0, Object arg1, Object arg2, Object arg3) throws InvocationTargetException {
+        checkReturnType(boolean.class);
+        checkArgCount(4);
+        checkObject(object);
+        try {
+            return (boolean) typedFixed.invokeExact(object, arg0, arg1, arg2, arg3);
+        } catch (Throwable e) {
+            throw invocationFailed(e, arg0, arg1, arg2, arg3);
+        }
+    }
+
+    @Override
+    public byte invokeByte(Object object, Object... args) throws InvocationTargetException {
+        checkReturnType(byte.class);
+        checkObject(object);
+        args = checkArgs(args);
+        try {
+            return (byte) typedSpreader.invokeExact(object, args);
+        } catch (Throwable e) {
+            throw invocationFailed(e, args);
+        }
+    }
+
+    @Override
+    public byte invokeByte(Object object) throws InvocationTargetException {
+        checkReturnType(byte.class);
+        checkArgCount(0);
+        checkObject(object);
+        try {
+            return (byte) typedFixed.invokeExact(object);
+        } catch (Throwable e) {
+            throw invocationFailed(e);
+        }
+    }
+
+    @Override
+    public byte invokeByte(Object object, Object arg0) throws InvocationTargetException {
+        checkReturnType(byte.class);
+        checkArgCount(1);
+        checkObject(object);
+        try {
+            return (byte) typedFixed.invokeExact(object, arg0);
+        } catch (Throwable e) {
+            throw invocationFailed(e, arg0);
+        }
+    }
+
+    @Override
+    public byte invokeByte(Object object, Object arg0, Object arg1) throws InvocationTargetException {
+        checkReturnType(byte.class);
+        checkArgCount(2);
+        checkObject(object);
+        try {
+            return (byte) typedFixed.invokeExact(object, arg0, arg1);
+        } catch (Throwable e) {
+            throw invocationFailed(e, arg0, arg1);
+        }
+    }
+
+    @Override
+    public byte invokeByte(Object object, Object arg0, Object arg1, Object arg2) throws InvocationTargetException {
+        checkReturnType(byte.class);
+        checkArgCount(3);
+        checkObject(object);
+        try {
+            return (byte) typedFixed.invokeExact(object, arg0, arg1, arg2);
+        } catch (Throwable e) {
+            throw invocationFailed(e, arg0, arg1, arg2);
+        }
+    }
+
+    @Override
+    public byte invokeByte(Object object, Object arg0, Object arg1, Object arg2, Object arg3) throws InvocationTargetException {
+        checkReturnType(byte.class);
+        checkArgCount(4);
+        checkObject(object);
+        try {
+            return (byte) typedFixed.invokeExact(object, arg0, arg1, arg2, arg3);
+        } catch (Throwable e) {
+            throw invocationFailed(e, arg0, arg1, arg2, arg3);
+        }
+    }
+
+    @Override
+    public char invokeChar(Object object, Object... args) throws InvocationTargetException {
+        checkReturnType(char.class);
+        checkObject(object);
+        args = checkArgs(args);
+        try {
+            return (char) typedSpreader.invokeExact(object, args);
+        } catch (Throwable e) {
+            throw invocationFailed(e, args);
+        }
+    }
+
+    @Override
+    public char invokeChar(Object object) throws InvocationTargetException {
+        checkReturnType(char.class);
+        checkArgCount(0);
+        checkObject(object);
+        try {
+            return (char) typedFixed.invokeExact(object);
+        } catch (Throwable e) {
+            throw invocationFailed(e);
+        }
+    }
+
+    @Override
+    public char invokeChar(Object object, Object arg0) throws InvocationTargetException {
+        checkReturnType(char.class);
+        checkArgCount(1);
+        checkObject(object);
+        try {
+            return (char) typedFixed.invokeExact(object, arg0);
+        } catch (Throwable e) {
+            throw invocationFailed(e, arg0);
+        }
+    }
+
+    @Override
+    public char invokeChar(Object object, Object arg0, Object arg1) throws InvocationTargetException {
+        checkReturnType(char.class);
+        checkArgCount(2);
+        checkObject(object);
+        try {
+            return (char) typedFixed.invokeExact(object, arg0, arg1);
+        } catch (Throwable e) {
+            throw invocationFailed(e, arg0, arg1);
+        }
+    }
+
+    @Override
+    public char invokeChar(Object object, Object arg0, Object arg1, Object arg2) throws InvocationTargetException {
+        checkReturnType(char.class);
+        checkArgCount(3);
+        checkObject(object);
+        try {
+            return (char) typedFixed.invokeExact(object, arg0, arg1, arg2);
+        } catch (Throwable e) {
+            throw invocationFailed(e, arg0, arg1, arg2);
+        }
+    }
+
+    @Override
+    public char invokeChar(Object object, Object arg0, Object arg1, Object arg2, Object arg3) throws InvocationTargetException {
+        checkReturnType(char.class);
+        checkArgCount(4);
+        checkObject(object);
+        try {
+            return (char) typedFixed.invokeExact(object, arg0, arg1, arg2, arg3);
+        } catch (Throwable e) {
+            throw invocationFailed(e, arg0, arg1, arg2, arg3);
+        }
+    }
+
+    @Override
+    public short invokeShort(Object object, Object... args) throws InvocationTargetException {
+        checkReturnType(short.class);
+        checkObject(object);
+        args = checkArgs(args);
+        try {
+            return (short) typedSpreader.invokeExact(object, args);
+        } catch (Throwable e) {
+            throw invocationFailed(e, args);
+        }
+    }
+
+    @Override
+    public short invokeShort(Object object) throws InvocationTargetException {
+        checkReturnType(short.class);
+        checkArgCount(0);
+        checkObject(object);
+        try {
+            return (short) typedFixed.invokeExact(object);
+        } catch (Throwable e) {
+            throw invocationFailed(e);
+        }
+    }
+
+    @Override
+    public short invokeShort(Object object, Object arg0) throws InvocationTargetException {
+        checkReturnType(short.class);
+        checkArgCount(1);
+        checkObject(object);
+        try {
+            return (short) typedFixed.invokeExact(object, arg0);
+        } catch (Throwable e) {
+            throw invocationFailed(e, arg0);
+        }
+    }
+
+    @Override
+    public short invokeShort(Object object, Object arg0, Object arg1) throws InvocationTargetException {
+        checkReturnType(short.class);
+        checkArgCount(2);
+        checkObject(object);
+        try {
+            return (short) typedFixed.invokeExact(object, arg0, arg1);
+        } catch (Throwable e) {
+            throw invocationFailed(e, arg0, arg1);
+        }
+    }
+
+    @Override
+    public short invokeShort(Object object, Object arg0, Object arg1, Object arg2) throws InvocationTargetException {
+        checkReturnType(short.class);
+        checkArgCount(3);
+        checkObject(object);
+        try {
+            return (short) typedFixed.invokeExact(object, arg0, arg1, arg2);
+        } catch (Throwable e) {
+            throw invocationFailed(e, arg0, arg1, arg2);
+        }
+    }
+
+    @Override
+    public short invokeShort(Object object, Object arg0, Object arg1, Object arg2, Object arg3) throws InvocationTargetException {
+        checkReturnType(short.class);
+        checkArgCount(4);
+        checkObject(object);
+        try {
+            return (short) typedFixed.invokeExact(object, arg0, arg1, arg2, arg3);
+        } catch (Throwable e) {
+            throw invocationFailed(e, arg0, arg1, arg2, arg3);
+        }
+    }
+
+    @Override
+    public int invokeInt(Object object, Object... args) throws InvocationTargetException {
+        checkReturnType(int.class);
+        checkObject(object);
+        args = checkArgs(args);
+        try {
+            return (int) typedSpreader.invokeExact(object, args);
+        } catch (Throwable e) {
+            throw invocationFailed(e, args);
+        }
+    }
+
+    @Override
+    public int invokeInt(Object object) throws InvocationTargetException {
+        checkReturnType(int.class);
+        checkArgCount(0);
+        checkObject(object);
+        try {
+            return (int) typedFixed.invokeExact(object);
+        } catch (Throwable e) {
+            throw invocationFailed(e);
+        }
+    }
+
+    @Override
+    public int invokeInt(Object object, Object arg0) throws InvocationTargetException {
+        checkReturnType(int.class);
+        checkArgCount(1);
+        checkObject(object);
+        try {
+            return (int) typedFixed.invokeExact(object, arg0);
+        } catch (Throwable e) {
+            throw invocationFailed(e, arg0);
+        }
+    }
+
+    @Override
+    public int invokeInt(Object object, Object arg0, Object arg1) throws InvocationTargetException {
+        checkReturnType(int.class);
+        checkArgCount(2);
+        checkObject(object);
+        try {
+            return (int) typedFixed.invokeExact(object, arg0, arg1);
+        } catch (Throwable e) {
+            throw invocationFailed(e, arg0, arg1);
+        }
+    }
+
+    @Override
+    public int invokeInt(Object object, Object arg0, Object arg1, Object arg2) throws InvocationTargetException {
+        checkReturnType(int.class);
+        checkArgCount(3);
+        checkObject(object);
+        try {
+            return (int) typedFixed.invokeExact(object, arg0, arg1, arg2);
+        } catch (Throwable e) {
+            throw invocationFailed(e, arg0, arg1, arg2);
+        }
+    }
+
+    @Override
+    public int invokeInt(Object object, Object arg0, Object arg1, Object arg2, Object arg3) throws InvocationTargetException {
+        checkReturnType(int.class);
+        checkArgCount(4);
+        checkObject(object);
+        try {
+            return (int) typedFixed.invokeExact(object, arg0, arg1, arg2, arg3);
+        } catch (Throwable e) {
+            throw invocationFailed(e, arg0, arg1, arg2, arg3);
+        }
+    }
+
+    @Override
+    public long invokeLong(Object object, Object... args) throws InvocationTargetException {
+        checkReturnType(long.class);
+        checkObject(object);
+        args = checkArgs(args);
+        try {
+            return (long) typedSpreader.invokeExact(object, args);
+        } catch (Throwable e) {
+            throw invocationFailed(e, args);
+        }
+    }
+
+    @Override
+    public long invokeLong(Object object) throws InvocationTargetException {
+        checkReturnType(long.class);
+        checkArgCount(0);
+        checkObject(object);
+        try {
+            return (long) typedFixed.invokeExact(object);
+        } catch (Throwable e) {
+            throw invocationFailed(e);
+        }
+    }
+
+    @Override
+    public long invokeLong(Object object, Object arg0) throws InvocationTargetException {
+        checkReturnType(long.class);
+        checkArgCount(1);
+        checkObject(object);
+        try {
+            return (long) typedFixed.invokeExact(object, arg0);
+        } catch (Throwable e) {
+            throw invocationFailed(e, arg0);
+        }
+    }
+
+    @Override
+    public long invokeLong(Object object, Object arg0, Object arg1) throws InvocationTargetException {
+        checkReturnType(long.class);
+        checkArgCount(2);
+        checkObject(object);
+        try {
+            return (long) typedFixed.invokeExact(object, arg0, arg1);
+        } catch (Throwable e) {
+            throw invocationFailed(e, arg0, arg1);
+        }
+    }
+
+    @Override
+    public long invokeLong(Object object, Object arg0, Object arg1, Object arg2) throws InvocationTargetException {
+        checkReturnType(long.class);
+        checkArgCount(3);
+        checkObject(object);
+        try {
+            return (long) typedFixed.invokeExact(object, arg0, arg1, arg2);
+        } catch (Throwable e) {
+            throw invocationFailed(e, arg0, arg1, arg2);
+        }
+    }
+
+    @Override
+    public long invokeLong(Object object, Object arg0, Object arg1, Object arg2, Object arg3) throws InvocationTargetException {
+        checkReturnType(long.class);
+        checkArgCount(4);
+        checkObject(object);
+        try {
+            return (long) typedFixed.invokeExact(object, arg0, arg1, arg2, arg3);
+        } catch (Throwable e) {
+            throw invocationFailed(e, arg0, arg1, arg2, arg3);
+        }
+    }
+
+    @Override
+    public float invokeFloat(Object object, Object... args) throws InvocationTargetException {
+        checkReturnType(float.class);
+        checkObject(object);
+        args = checkArgs(args);
+        try {
+            return (float) typedSpreader.invokeExact(object, args);
+        } catch (Throwable e) {
+            throw invocationFailed(e, args);
+        }
+    }
+
+    @Override
+    public float invokeFloat(Object object) throws InvocationTargetException {
+        checkReturnType(float.class);
+        checkArgCount(0);
+        checkObject(object);
+        try {
+            return (float) typedFixed.invokeExact(object);
+        } catch (Throwable e) {
+            throw invocationFailed(e);
+        }
+    }
+
+    @Override
+    public float invokeFloat(Object object, Object arg0) throws InvocationTargetException {
+        checkReturnType(float.class);
+        checkArgCount(1);
+        checkObject(object);
+        try {
+            return (float) typedFixed.invokeExact(object, arg0);
+        } catch (Throwable e) {
+            throw invocationFailed(e, arg0);
+        }
+    }
+
+    @Override
+    public float invokeFloat(Object object, Object arg0, Object arg1) throws InvocationTargetException {
+        checkReturnType(float.class);
+        checkArgCount(2);
+        checkObject(object);
+        try {
+            return (float) typedFixed.invokeExact(object, arg0, arg1);
+        } catch (Throwable e) {
+            throw invocationFailed(e, arg0, arg1);
+        }
+    }
+
+    @Override
+    public float invokeFloat(Object object, Object arg0, Object arg1, Object arg2) throws InvocationTargetException {
+        checkReturnType(float.class);
+        checkArgCount(3);
+        checkObject(object);
+        try {
+            return (float) typedFixed.invokeExact(object, arg0, arg1, arg2);
+        } catch (Throwable e) {
+            throw invocationFailed(e, arg0, arg1, arg2);
+        }
+    }
+
+    @Override
+    public float invokeFloat(Object object, Object arg0, Object arg1, Object arg2, Object arg3) throws InvocationTargetException {
+        checkReturnType(float.class);
+        checkArgCount(4);
+        checkObject(object);
+        try {
+            return (float) typedFixed.invokeExact(object, arg0, arg1, arg2, arg3);
+        } catch (Throwable e) {
+            throw invocationFailed(e, arg0, arg1, arg2, arg3);
+        }
+    }
+
+    @Override
+    public double invokeDouble(Object object, Object... args) throws InvocationTargetException {
+        checkReturnType(double.class);
+        checkObject(object);
+        args = checkArgs(args);
+        try {
+            return (double) typedSpreader.invokeExact(object, args);
+        } catch (Throwable e) {
+            throw invocationFailed(e, args);
+        }
+    }
+
+    @Override
+    public double invokeDouble(Object object) throws InvocationTargetException {
+        checkReturnType(double.class);
+        checkArgCount(0);
+        checkObject(object);
+        try {
+            return (double) typedFixed.invokeExact(object);
+        } catch (Throwable e) {
+            throw invocationFailed(e);
+        }
+    }
+
+    @Override
+    public double invokeDouble(Object object, Object arg0) throws InvocationTargetException {
+        checkReturnType(double.class);
+        checkArgCount(1);
+        checkObject(object);
+        try {
+            return (double) typedFixed.invokeExact(object, arg0);
+        } catch (Throwable e) {
+            throw invocationFailed(e, arg0);
+        }
+    }
+
+    @Override
+    public double invokeDouble(Object object, Object arg0, Object arg1) throws InvocationTargetException {
+        checkReturnType(double.class);
+        checkArgCount(2);
+        checkObject(object);
+        try {
+            return (double) typedFixed.invokeExact(object, arg0, arg1);
+        } catch (Throwable e) {
+            throw invocationFailed(e, arg0, arg1);
+        }
+    }
+
+    @Override
+    public double invokeDouble(Object object, Object arg0, Object arg1, Object arg2) throws InvocationTargetException {
+        checkReturnType(double.class);
+        checkArgCount(3);
+        checkObject(object);
+        try {
+            return (double) typedFixed.invokeExact(object, arg0, arg1, arg2);
+        } catch (Throwable e) {
+            throw invocationFailed(e, arg0, arg1, arg2);
+        }
+    }
+
+    @Override
+    public double invokeDouble(Object object, Object arg0, Object arg1, Object arg2, Object arg3) throws InvocationTargetException {
+        checkReturnType(double.class);
+        checkArgCount(4);
+        checkObject(object);
+        try {
+            return (double) typedFixed.invokeExact(object, arg0, arg1, arg2, arg3);
+        } catch (Throwable e) {
+            throw invocationFailed(e, arg0, arg1, arg2, arg3);
+        }
+    }
+
+}
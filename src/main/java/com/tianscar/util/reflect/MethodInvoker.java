@@ -0,0 +1,1858 @@
+package com.tianscar.util.reflect;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import static java.lang.reflect.Modifier.isStatic;
+
+/**
+ * A prepared invoker of a static or instance method, obtained from {@link Reflects#invoker(Method)}.
+ *
+ * <p>The method is resolved and, on Java 7+, unreflected through the trusted lookup once when the
+ * invoker is created, so repeated invocations don't redo any lookup or accessibility work.
+ * An invoker is immutable and safe to share between threads.
+ *
+ * <p>The typed variants (e.g. {@link #invokeInt(Object, Object, Object)}) return the primitive result
+ * without wrapping it, and the fixed-arity variants of up to four arguments don't allocate an argument array.
+ *
+ * <p>If the underlying method is static, the {@code object} argument of every method
+ * is ignored; it may be null.
+ */
+public abstract class MethodInvoker {
+
+    static final Object[] EMPTY_ARGS = new Object[0];
+
+    final Method method;
+    final Class<?> declaringClass;
+    final Class<?>[] parameterTypes;
+    final Class<?> returnType;
+    final boolean isStatic;
+
+    MethodInvoker(Method method) {
+        this.method = method;
+        this.declaringClass = method.getDeclaringClass();
+        this.parameterTypes = method.getParameterTypes();
+        this.returnType = method.getReturnType();
+        this.isStatic = isStatic(method.getModifiers());
+    }
+
+    /**
+     * Returns the {@code Method} object this invoker was created from.
+     *
+     * @return the underlying method
+     */
+    public Method getMethod() {
+        return method;
+    }
+
+    final void checkObject(Object object) {
+        // NOTE: will throw NullPointerException, as specified, if object is null
+        if (!isStatic && !declaringClass.isInstance(object)) {
+            if (object == null) throw new NullPointerException();
+            else throw new IllegalArgumentException("object is not an instance of declaring class");
+        }
+    }
+
+    final Object[] checkArgs(Object[] args) {
+        if (args == null) args = EMPTY_ARGS;
+        checkArgCount(args.length);
+        return args;
+    }
+
+    final void checkArgCount(int count) {
+        if (count != parameterTypes.length) throw new IllegalArgumentException("wrong number of arguments");
+    }
+
+    final void checkReturnType(Class<?> expected) {
+        if (returnType != expected) throw new IllegalArgumentException("Illegal return type; expected " + expected.getName());
+    }
+
+    // Tells whether a failed invocation was caused by the arguments rather than by the underlying method,
+    // so the argument checks don't need to run before every invocation.
+    final boolean isArgumentMismatch(Object... args) {
+        for (int i = 0; i < parameterTypes.length; i ++) {
+            if (!isConvertible(parameterTypes[i], args[i])) return true;
+        }
+        return false;
+    }
+
+    static boolean isConvertible(Class<?> type, Object arg) {
+        if (!type.isPrimitive()) return arg == null || type.isInstance(arg);
+        else if (arg == null) return false;
+        Class<?> argType = arg.getClass();
+        if (type == boolean.class) return argType == Boolean.class;
+        else if (type == char.class) return argType == Character.class;
+        else if (type == byte.class) return argType == Byte.class;
+        else if (type == short.class) return argType == Short.class || argType == Byte.class;
+        else if (type == int.class) return argType == Integer.class || argType == Character.class
+                || argType == Short.class || argType == Byte.class;
+        else if (type == long.class) return argType == Long.class || isConvertible(int.class, arg);
+        else if (type == float.class) return argType == Float.class || isConvertible(long.class, arg);
+        else if (type == double.class) return argType == Double.class || isConvertible(float.class, arg);
+        else return false; // void
+    }
+
+    // Converts a convertible argument of a primitive parameter to the wrapper of the parameter type
+    static Object widen(Class<?> type, Object arg) {
+        if (!type.isPrimitive() || type == boolean.class || type == char.class || type == byte.class) return arg;
+        Number number = arg instanceof Character ? Integer.valueOf((Character) arg) : (Number) arg;
+        if (type == short.class) return number.shortValue();
+        else if (type == int.class) return number.intValue();
+        else if (type == long.class) return number.longValue();
+        else if (type == float.class) return number.floatValue();
+        else return number.doubleValue();
+    }
+
+    // Tells whether some argument of a primitive parameter is not of the wrapper of the parameter type
+    static boolean needsWidening(Class<?>[] parameterTypes, Object[] args) {
+        for (int i = 0; i < parameterTypes.length; i ++) {
+            if (parameterTypes[i].isPrimitive() && args[i] != null && !isExactWrapper(parameterTypes[i], args[i])) return true;
+        }
+        return false;
+    }
+
+    static boolean isExactWrapper(Class<?> type, Object arg) {
+        Class<?> argType = arg.getClass();
+        if (type == boolean.class) return argType == Boolean.class;
+        else if (type == char.class) return argType == Character.class;
+        else if (type == byte.class) return argType == Byte.class;
+        else if (type == short.class) return argType == Short.class;
+        else if (type == int.class) return argType == Integer.class;
+        else if (type == long.class) return argType == Long.class;
+        else if (type == float.class) return argType == Float.class;
+        else return argType == Double.class;
+    }
+
+    static Object[] widen(Class<?>[] parameterTypes, Object[] args) {
+        Object[] widened = new Object[args.length];
+        for (int i = 0; i < args.length; i ++) {
+            widened[i] = widen(parameterTypes[i], args[i]);
+        }
+        return widened;
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with the specified parameters.
+     * Individual parameters are automatically unwrapped to match
+     * primitive formal parameters, and both primitive and reference
+     * parameters are subject to method invocation conversions as
+     * necessary. If the value returned by the method has a primitive type,
+     * it is first appropriately wrapped in an object. If the underlying
+     * method return type is void, the invocation returns null.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param args the arguments used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see Reflects#invokeMethod(Object, Method, Object...)
+     */
+    public abstract Object invoke(Object object, Object... args)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException;
+
+    /**
+     * Invokes the underlying method on the specified object with no arguments,
+     * without allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invoke(Object, Object...)
+     */
+    public Object invoke(Object object)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invoke(object, EMPTY_ARGS);
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with one argument,
+     * without allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param arg0 the first argument used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invoke(Object, Object...)
+     */
+    public Object invoke(Object object, Object arg0)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invoke(object, new Object[] {arg0});
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with two arguments,
+     * without allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param arg0 the first argument used for the method call
+     * @param arg1 the second argument used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invoke(Object, Object...)
+     */
+    public Object invoke(Object object, Object arg0, Object arg1)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invoke(object, new Object[] {arg0, arg1});
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with three arguments,
+     * without allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param arg0 the first argument used for the method call
+     * @param arg1 the second argument used for the method call
+     * @param arg2 the third argument used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invoke(Object, Object...)
+     */
+    public Object invoke(Object object, Object arg0, Object arg1, Object arg2)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invoke(object, new Object[] {arg0, arg1, arg2});
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with four arguments,
+     * without allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param arg0 the first argument used for the method call
+     * @param arg1 the second argument used for the method call
+     * @param arg2 the third argument used for the method call
+     * @param arg3 the fourth argument used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invoke(Object, Object...)
+     */
+    public Object invoke(Object object, Object arg0, Object arg1, Object arg2, Object arg3)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invoke(object, new Object[] {arg0, arg1, arg2, arg3});
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with the specified parameters,
+     * and returns the {@code boolean} result without wrapping it.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param args the arguments used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code boolean}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see Reflects#invokeBooleanMethod(Object, Method, Object...)
+     */
+    public boolean invokeBoolean(Object object, Object... args)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        checkReturnType(boolean.class);
+        return (Boolean) invoke(object, args);
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with no arguments,
+     * and returns the {@code boolean} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code boolean}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeBoolean(Object, Object...)
+     */
+    public boolean invokeBoolean(Object object)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeBoolean(object, EMPTY_ARGS);
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with one argument,
+     * and returns the {@code boolean} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param arg0 the first argument used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code boolean}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeBoolean(Object, Object...)
+     */
+    public boolean invokeBoolean(Object object, Object arg0)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeBoolean(object, new Object[] {arg0});
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with two arguments,
+     * and returns the {@code boolean} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param arg0 the first argument used for the method call
+     * @param arg1 the second argument used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code boolean}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeBoolean(Object, Object...)
+     */
+    public boolean invokeBoolean(Object object, Object arg0, Object arg1)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeBoolean(object, new Object[] {arg0, arg1});
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with three arguments,
+     * and returns the {@code boolean} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param arg0 the first argument used for the method call
+     * @param arg1 the second argument used for the method call
+     * @param arg2 the third argument used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code boolean}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeBoolean(Object, Object...)
+     */
+    public boolean invokeBoolean(Object object, Object arg0, Object arg1, Object arg2)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeBoolean(object, new Object[] {arg0, arg1, arg2});
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with four arguments,
+     * and returns the {@code boolean} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param arg0 the first argument used for the method call
+     * @param arg1 the second argument used for the method call
+     * @param arg2 the third argument used for the method call
+     * @param arg3 the fourth argument used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code boolean}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeBoolean(Object, Object...)
+     */
+    public boolean invokeBoolean(Object object, Object arg0, Object arg1, Object arg2, Object arg3)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeBoolean(object, new Object[] {arg0, arg1, arg2, arg3});
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with the specified parameters,
+     * and returns the {@code byte} result without wrapping it.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param args the arguments used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code byte}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see Reflects#invokeByteMethod(Object, Method, Object...)
+     */
+    public byte invokeByte(Object object, Object... args)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        checkReturnType(byte.class);
+        return (Byte) invoke(object, args);
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with no arguments,
+     * and returns the {@code byte} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code byte}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeByte(Object, Object...)
+     */
+    public byte invokeByte(Object object)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeByte(object, EMPTY_ARGS);
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with one argument,
+     * and returns the {@code byte} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param arg0 the first argument used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code byte}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeByte(Object, Object...)
+     */
+    public byte invokeByte(Object object, Object arg0)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeByte(object, new Object[] {arg0});
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with two arguments,
+     * and returns the {@code byte} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param arg0 the first argument used for the method call
+     * @param arg1 the second argument used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code byte}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeByte(Object, Object...)
+     */
+    public byte invokeByte(Object object, Object arg0, Object arg1)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeByte(object, new Object[] {arg0, arg1});
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with three arguments,
+     * and returns the {@code byte} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param arg0 the first argument used for the method call
+     * @param arg1 the second argument used for the method call
+     * @param arg2 the third argument used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code byte}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeByte(Object, Object...)
+     */
+    public byte invokeByte(Object object, Object arg0, Object arg1, Object arg2)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeByte(object, new Object[] {arg0, arg1, arg2});
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with four arguments,
+     * and returns the {@code byte} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param arg0 the first argument used for the method call
+     * @param arg1 the second argument used for the method call
+     * @param arg2 the third argument used for the method call
+     * @param arg3 the fourth argument used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code byte}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeByte(Object, Object...)
+     */
+    public byte invokeByte(Object object, Object arg0, Object arg1, Object arg2, Object arg3)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeByte(object, new Object[] {arg0, arg1, arg2, arg3});
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with the specified parameters,
+     * and returns the {@code char} result without wrapping it.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param args the arguments used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code char}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see Reflects#invokeCharMethod(Object, Method, Object...)
+     */
+    public char invokeChar(Object object, Object... args)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        checkReturnType(char.class);
+        return (Character) invoke(object, args);
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with no arguments,
+     * and returns the {@code char} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code char}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeChar(Object, Object...)
+     */
+    public char invokeChar(Object object)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeChar(object, EMPTY_ARGS);
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with one argument,
+     * and returns the {@code char} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param arg0 the first argument used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code char}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeChar(Object, Object...)
+     */
+    public char invokeChar(Object object, Object arg0)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeChar(object, new Object[] {arg0});
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with two arguments,
+     * and returns the {@code char} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param arg0 the first argument used for the method call
+     * @param arg1 the second argument used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code char}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeChar(Object, Object...)
+     */
+    public char invokeChar(Object object, Object arg0, Object arg1)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeChar(object, new Object[] {arg0, arg1});
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with three arguments,
+     * and returns the {@code char} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param arg0 the first argument used for the method call
+     * @param arg1 the second argument used for the method call
+     * @param arg2 the third argument used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code char}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeChar(Object, Object...)
+     */
+    public char invokeChar(Object object, Object arg0, Object arg1, Object arg2)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeChar(object, new Object[] {arg0, arg1, arg2});
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with four arguments,
+     * and returns the {@code char} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param arg0 the first argument used for the method call
+     * @param arg1 the second argument used for the method call
+     * @param arg2 the third argument used for the method call
+     * @param arg3 the fourth argument used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code char}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeChar(Object, Object...)
+     */
+    public char invokeChar(Object object, Object arg0, Object arg1, Object arg2, Object arg3)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeChar(object, new Object[] {arg0, arg1, arg2, arg3});
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with the specified parameters,
+     * and returns the {@code short} result without wrapping it.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param args the arguments used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code short}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see Reflects#invokeShortMethod(Object, Method, Object...)
+     */
+    public short invokeShort(Object object, Object... args)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        checkReturnType(short.class);
+        return (Short) invoke(object, args);
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with no arguments,
+     * and returns the {@code short} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code short}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeShort(Object, Object...)
+     */
+    public short invokeShort(Object object)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeShort(object, EMPTY_ARGS);
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with one argument,
+     * and returns the {@code short} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param arg0 the first argument used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code short}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeShort(Object, Object...)
+     */
+    public short invokeShort(Object object, Object arg0)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeShort(object, new Object[] {arg0});
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with two arguments,
+     * and returns the {@code short} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param arg0 the first argument used for the method call
+     * @param arg1 the second argument used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code short}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeShort(Object, Object...)
+     */
+    public short invokeShort(Object object, Object arg0, Object arg1)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeShort(object, new Object[] {arg0, arg1});
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with three arguments,
+     * and returns the {@code short} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param arg0 the first argument used for the method call
+     * @param arg1 the second argument used for the method call
+     * @param arg2 the third argument used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code short}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeShort(Object, Object...)
+     */
+    public short invokeShort(Object object, Object arg0, Object arg1, Object arg2)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeShort(object, new Object[] {arg0, arg1, arg2});
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with four arguments,
+     * and returns the {@code short} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param arg0 the first argument used for the method call
+     * @param arg1 the second argument used for the method call
+     * @param arg2 the third argument used for the method call
+     * @param arg3 the fourth argument used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code short}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeShort(Object, Object...)
+     */
+    public short invokeShort(Object object, Object arg0, Object arg1, Object arg2, Object arg3)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeShort(object, new Object[] {arg0, arg1, arg2, arg3});
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with the specified parameters,
+     * and returns the {@code int} result without wrapping it.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param args the arguments used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code int}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see Reflects#invokeIntMethod(Object, Method, Object...)
+     */
+    public int invokeInt(Object object, Object... args)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        checkReturnType(int.class);
+        return (Integer) invoke(object, args);
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with no arguments,
+     * and returns the {@code int} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code int}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeInt(Object, Object...)
+     */
+    public int invokeInt(Object object)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeInt(object, EMPTY_ARGS);
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with one argument,
+     * and returns the {@code int} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param arg0 the first argument used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code int}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeInt(Object, Object...)
+     */
+    public int invokeInt(Object object, Object arg0)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeInt(object, new Object[] {arg0});
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with two arguments,
+     * and returns the {@code int} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param arg0 the first argument used for the method call
+     * @param arg1 the second argument used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code int}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeInt(Object, Object...)
+     */
+    public int invokeInt(Object object, Object arg0, Object arg1)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeInt(object, new Object[] {arg0, arg1});
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with three arguments,
+     * and returns the {@code int} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param arg0 the first argument used for the method call
+     * @param arg1 the second argument used for the method call
+     * @param arg2 the third argument used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code int}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeInt(Object, Object...)
+     */
+    public int invokeInt(Object object, Object arg0, Object arg1, Object arg2)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeInt(object, new Object[] {arg0, arg1, arg2});
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with four arguments,
+     * and returns the {@code int} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param arg0 the first argument used for the method call
+     * @param arg1 the second argument used for the method call
+     * @param arg2 the third argument used for the method call
+     * @param arg3 the fourth argument used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code int}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeInt(Object, Object...)
+     */
+    public int invokeInt(Object object, Object arg0, Object arg1, Object arg2, Object arg3)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeInt(object, new Object[] {arg0, arg1, arg2, arg3});
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with the specified parameters,
+     * and returns the {@code long} result without wrapping it.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param args the arguments used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code long}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see Reflects#invokeLongMethod(Object, Method, Object...)
+     */
+    public long invokeLong(Object object, Object... args)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        checkReturnType(long.class);
+        return (Long) invoke(object, args);
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with no arguments,
+     * and returns the {@code long} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code long}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeLong(Object, Object...)
+     */
+    public long invokeLong(Object object)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeLong(object, EMPTY_ARGS);
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with one argument,
+     * and returns the {@code long} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param arg0 the first argument used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code long}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeLong(Object, Object...)
+     */
+    public long invokeLong(Object object, Object arg0)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeLong(object, new Object[] {arg0});
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with two arguments,
+     * and returns the {@code long} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param arg0 the first argument used for the method call
+     * @param arg1 the second argument used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code long}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeLong(Object, Object...)
+     */
+    public long invokeLong(Object object, Object arg0, Object arg1)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeLong(object, new Object[] {arg0, arg1});
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with three arguments,
+     * and returns the {@code long} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param arg0 the first argument used for the method call
+     * @param arg1 the second argument used for the method call
+     * @param arg2 the third argument used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code long}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeLong(Object, Object...)
+     */
+    public long invokeLong(Object object, Object arg0, Object arg1, Object arg2)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeLong(object, new Object[] {arg0, arg1, arg2});
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with four arguments,
+     * and returns the {@code long} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param arg0 the first argument used for the method call
+     * @param arg1 the second argument used for the method call
+     * @param arg2 the third argument used for the method call
+     * @param arg3 the fourth argument used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code long}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeLong(Object, Object...)
+     */
+    public long invokeLong(Object object, Object arg0, Object arg1, Object arg2, Object arg3)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeLong(object, new Object[] {arg0, arg1, arg2, arg3});
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with the specified parameters,
+     * and returns the {@code float} result without wrapping it.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param args the arguments used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code float}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see Reflects#invokeFloatMethod(Object, Method, Object...)
+     */
+    public float invokeFloat(Object object, Object... args)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        checkReturnType(float.class);
+        return (Float) invoke(object, args);
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with no arguments,
+     * and returns the {@code float} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code float}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeFloat(Object, Object...)
+     */
+    public float invokeFloat(Object object)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeFloat(object, EMPTY_ARGS);
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with one argument,
+     * and returns the {@code float} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param arg0 the first argument used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code float}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeFloat(Object, Object...)
+     */
+    public float invokeFloat(Object object, Object arg0)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeFloat(object, new Object[] {arg0});
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with two arguments,
+     * and returns the {@code float} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param arg0 the first argument used for the method call
+     * @param arg1 the second argument used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code float}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeFloat(Object, Object...)
+     */
+    public float invokeFloat(Object object, Object arg0, Object arg1)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeFloat(object, new Object[] {arg0, arg1});
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with three arguments,
+     * and returns the {@code float} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param arg0 the first argument used for the method call
+     * @param arg1 the second argument used for the method call
+     * @param arg2 the third argument used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code float}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeFloat(Object, Object...)
+     */
+    public float invokeFloat(Object object, Object arg0, Object arg1, Object arg2)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeFloat(object, new Object[] {arg0, arg1, arg2});
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with four arguments,
+     * and returns the {@code float} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param arg0 the first argument used for the method call
+     * @param arg1 the second argument used for the method call
+     * @param arg2 the third argument used for the method call
+     * @param arg3 the fourth argument used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code float}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeFloat(Object, Object...)
+     */
+    public float invokeFloat(Object object, Object arg0, Object arg1, Object arg2, Object arg3)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeFloat(object, new Object[] {arg0, arg1, arg2, arg3});
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with the specified parameters,
+     * and returns the {@code double} result without wrapping it.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param args the arguments used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code double}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see Reflects#invokeDoubleMethod(Object, Method, Object...)
+     */
+    public double invokeDouble(Object object, Object... args)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        checkReturnType(double.class);
+        return (Double) invoke(object, args);
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with no arguments,
+     * and returns the {@code double} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code double}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeDouble(Object, Object...)
+     */
+    public double invokeDouble(Object object)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeDouble(object, EMPTY_ARGS);
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with one argument,
+     * and returns the {@code double} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param arg0 the first argument used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code double}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeDouble(Object, Object...)
+     */
+    public double invokeDouble(Object object, Object arg0)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeDouble(object, new Object[] {arg0});
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with two arguments,
+     * and returns the {@code double} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param arg0 the first argument used for the method call
+     * @param arg1 the second argument used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code double}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeDouble(Object, Object...)
+     */
+    public double invokeDouble(Object object, Object arg0, Object arg1)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeDouble(object, new Object[] {arg0, arg1});
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with three arguments,
+     * and returns the {@code double} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param arg0 the first argument used for the method call
+     * @param arg1 the second argument used for the method call
+     * @param arg2 the third argument used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code double}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeDouble(Object, Object...)
+     */
+    public double invokeDouble(Object object, Object arg0, Object arg1, Object arg2)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeDouble(object, new Object[] {arg0, arg1, arg2});
+    }
+
+    /**
+     * Invokes the underlying method on the specified object with four arguments,
+     * and returns the {@code double} result without wrapping it or allocating an argument array.
+     *
+     * @param object  the object the underlying method is invoked from
+     * @param arg0 the first argument used for the method call
+     * @param arg1 the second argument used for the method call
+     * @param arg2 the third argument used for the method call
+     * @param arg3 the fourth argument used for the method call
+     * @return the result of dispatching the method
+     *
+     * @throws    IllegalArgumentException  if the method is an
+     *              instance method and the specified object argument
+     *              is not an instance of the class or interface
+     *              declaring the underlying method (or of a subclass
+     *              or implementor thereof); if the number of actual
+     *              and formal parameters differ; if an unwrapping
+     *              conversion for primitive arguments fails; or if,
+     *              after possible unwrapping, a parameter value
+     *              cannot be converted to the corresponding formal
+     *              parameter type by a method invocation conversion;
+     *              or if the return type of the method is not {@code double}.
+     * @throws    InvocationTargetException if the underlying method
+     *              throws an exception.
+     * @throws    NullPointerException      if the specified object is null
+     *              and the method is an instance method.
+     *
+     * @see #invokeDouble(Object, Object...)
+     */
+    public double invokeDouble(Object object, Object arg0, Object arg1, Object arg2, Object arg3)
+            throws InvocationTargetException, IllegalArgumentException, NullPointerException {
+        return invokeDouble(object, new Object[] {arg0, arg1, arg2, arg3});
+    }
+
+}
@@ -0,0 +1,239 @@
+package com.tianscar.util.reflect;
+
+import sun.misc.Unsafe;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Memory layout introspection and size estimation of objects, without a {@code -javaagent}.
+ *
+ * <p>Field offsets come from {@code sun.misc.Unsafe#objectFieldOffset} through the field layout {@link Reflects}
+ * caches per class, the size of object headers is measured once from the offset of the first field of a probe
+ * class, array sizes come from {@code arrayBaseOffset} and {@code arrayIndexScale}, and every size is rounded up
+ * to the object alignment of the VM ({@code -XX:ObjectAlignmentInBytes}, 8 bytes if it can't be queried).
+ * The sizes match {@code java.lang.instrument.Instrumentation#getObjectSize} on HotSpot, on other VMs they are
+ * estimates.
+ */
+public final class ObjectLayout {
+
+    private ObjectLayout() {
+        throw new AssertionError("No " + ObjectLayout.class.getName() + " instances for you!");
+    }
+
+    private static final Unsafe unsafe = Reflects.unsafe;
+
+    private static final class HeaderProbe {
+        byte value;
+    }
+
+    private static final int HEADER_SIZE;
+    private static final int REFERENCE_SIZE = unsafe.arrayIndexScale(Object[].class);
+    private static final int ALIGNMENT;
+
+    static {
+        int _headerSize;
+        try {
+            _headerSize = (int) unsafe.objectFieldOffset(HeaderProbe.class.getDeclaredField("value")); // Java 6+
+        } catch (NoSuchFieldException e) {
+            _headerSize = unsafe.addressSize() * 2; // Unexpected
+        }
+        HEADER_SIZE = _headerSize;
+        int _alignment;
+        try {
+            // Only this bean, the platform MBean server would register every other one and start JMX
+            Class<?> diagnosticClass = Class.forName("com.sun.management.HotSpotDiagnosticMXBean");
+            Object diagnostic = ManagementFactory.class.getMethod("getPlatformMXBean", Class.class) // Java 7+
+                    .invoke(null, diagnosticClass);
+            Object option = diagnosticClass.getMethod("getVMOption", String.class).invoke(diagnostic, "ObjectAlignmentInBytes");
+            _alignment = Integer.parseInt((String) option.getClass().getMethod("getValue").invoke(option));
+        } catch (Exception e) {
+            _alignment = 8; // Java 6, not HotSpot, or a 32-bit VM without the option
+        } catch (LinkageError e) {
+            _alignment = 8; // Android, no java.lang.management
+        }
+        ALIGNMENT = _alignment;
+    }
+
+    /**
+     * Returns the size of the header of objects, including the class pointer, which is the offset
+     * of the first possible field. Arrays have a larger header, which includes their length.
+     *
+     * @return the size of the header of objects in bytes
+     */
+    public static int headerSize() {
+        return HEADER_SIZE;
+    }
+
+    /**
+     * Returns the size of object references, which is 4 bytes with compressed oops.
+     *
+     * @return the size of object references in bytes
+     */
+    public static int referenceSize() {
+        return REFERENCE_SIZE;
+    }
+
+    /**
+     * Returns the alignment of objects in the heap, every object size is a multiple of it.
+     *
+     * @return the alignment of objects in bytes
+     */
+    public static int objectAlignment() {
+        return ALIGNMENT;
+    }
+
+    private static long align(long size) {
+        return (size + ALIGNMENT - 1) & -ALIGNMENT;
+    }
+
+    private static int fieldSize(int type) {
+        switch (type) {
+            case FieldLayout.BOOLEAN: case FieldLayout.BYTE: return 1;
+            case FieldLayout.CHAR: case FieldLayout.SHORT: return 2;
+            case FieldLayout.INT: case FieldLayout.FLOAT: return 4;
+            case FieldLayout.LONG: case FieldLayout.DOUBLE: return 8;
+            default: return REFERENCE_SIZE;
+        }
+    }
+
+    // Called once per class by FieldLayout#instanceSize()
+    static long computeInstanceSize(FieldLayout layout) {
+        long end = HEADER_SIZE;
+        int[] types = layout.types;
+        long[] offsets = layout.offsets;
+        if (offsets == null) {
+            // Java 15+ hidden classes and records, assume the fields are packed without gaps
+            for (int type : types) {
+                end += fieldSize(type);
+            }
+        }
+        else {
+            for (int i = 0; i < types.length; i ++) {
+                end = Math.max(end, offsets[i] + fieldSize(types[i]));
+            }
+        }
+        return align(end);
+    }
+
+    private static void checkInstanceClass(Class<?> clazz) throws IllegalArgumentException {
+        if (clazz.isArray() || clazz.isPrimitive() || clazz.isInterface())
+            throw new IllegalArgumentException(clazz.getName() + " has no fixed instance size");
+    }
+
+    /**
+     * Returns the offsets of every instance field declared by the specified class and all its superclasses,
+     * including private fields, in the order they are laid out in memory.
+     *
+     * @param clazz the class to inspect
+     * @return an unmodifiable map of the instance fields to their offsets, ordered by offset
+     *
+     * @throws    IllegalArgumentException     if the specified class is an array, primitive or interface type
+     * @throws    UnsupportedOperationException if the offsets are not available (e.g. for records and hidden classes on Java 15+)
+     * @throws    NullPointerException         if the specified class is null
+     */
+    public static Map<Field, Long> fieldOffsets(Class<?> clazz) throws IllegalArgumentException,
+            UnsupportedOperationException, NullPointerException {
+        checkInstanceClass(clazz);
+        FieldLayout layout = Reflects.layout(clazz);
+        if (layout.offsets == null) throw new UnsupportedOperationException("Unsupported field offsets of " + clazz.getName());
+        Map<Field, Long> offsets = new LinkedHashMap<Field, Long>(layout.fields.length * 4 / 3 + 1);
+        for (int i = 0; i < layout.fields.length; i ++) {
+            offsets.put(layout.fields[i], layout.offsets[i]);
+        }
+        return Collections.unmodifiableMap(offsets);
+    }
+
+    /**
+     * Returns the size of instances of the specified class: the end of its last field, or the header size
+     * if it has no instance fields, rounded up to the object alignment. The size is computed once per class.
+     *
+     * @param clazz the class of the instances
+     * @return the size of instances of the specified class in bytes
+     *
+     * @throws    IllegalArgumentException if the specified class is an array, primitive or interface type
+     * @throws    NullPointerException     if the specified class is null
+     */
+    public static long instanceSize(Class<?> clazz) throws IllegalArgumentException, NullPointerException {
+        checkInstanceClass(clazz);
+        return Reflects.layout(clazz).instanceSize();
+    }
+
+    /**
+     * Returns the size of an array of the specified type and length: its base offset plus the length times
+     * its index scale, rounded up to the object alignment.
+     *
+     * @param arrayClass the type of the array, e.g. {@code int[].class}
+     * @param length the length of the array
+     * @return the size of the array in bytes
+     *
+     * @throws    IllegalArgumentException if the specified class is not an array type, or the length is negative
+     * @throws    NullPointerException     if the specified class is null
+     */
+    public static long arraySize(Class<?> arrayClass, int length) throws IllegalArgumentException, NullPointerException {
+        if (!arrayClass.isArray()) throw new IllegalArgumentException(arrayClass.getName() + " is not an array type");
+        if (length < 0) throw new IllegalArgumentException("Illegal length: " + length);
+        return align(unsafe.arrayBaseOffset(arrayClass) + (long) length * unsafe.arrayIndexScale(arrayClass));
+    }
+
+    /**
+     * Returns the shallow size of the specified object, which doesn't include the objects it references.
+     *
+     * @param object the object to measure
+     * @return the shallow size of the specified object in bytes, or 0 if it is null
+     *
+     * @see #instanceSize(Class)
+     * @see #arraySize(Class, int)
+     */
+    public static long shallowSize(Object object) {
+        if (object == null) return 0;
+        Class<?> clazz = object.getClass();
+        if (clazz.isArray()) return arraySize(clazz, Array.getLength(object));
+        else return Reflects.layout(clazz).instanceSize();
+    }
+
+    // Shared by definition, neither counted nor walked
+    private static boolean isShared(Object object) {
+        return object instanceof Class || object instanceof ClassLoader || object instanceof Enum;
+    }
+
+    private static final class SizeVisitor extends GraphVisitor {
+        private long size;
+        @Override
+        public boolean visitObject(Object object) {
+            size += shallowSize(object);
+            return true;
+        }
+        @Override
+        public boolean visitReference(Object referrer, Field field, int index, Object referent) {
+            return !isShared(referent);
+        }
+    }
+
+    /**
+     * Returns the retained size of the specified object graph: the sum of the shallow sizes of every object
+     * reachable from the specified object through instance fields and array elements, each counted once.
+     * This is the memory that would be freed if nothing outside of the graph referenced its objects.
+     *
+     * <p>Classes, class loaders and enum constants are shared by definition, so they are neither counted
+     * nor walked. The graph is walked by a {@link GraphWalker}, use one directly with a visitor adding
+     * {@link #shallowSize(Object)} to measure several roots without counting their shared objects twice.
+     *
+     * @param object the root of the object graph to measure
+     * @return the retained size of the specified object graph in bytes, or 0 if the object is null
+     *
+     * @throws    IllegalArgumentException if a field of a reachable object cannot be read
+     *              (e.g. a field of a record of the JDK on Java 16+).
+     */
+    public static long retainedSize(Object object) throws IllegalArgumentException {
+        if (object == null || isShared(object)) return 0;
+        SizeVisitor visitor = new SizeVisitor();
+        new GraphWalker().walk(object, visitor);
+        return visitor.size;
+    }
+
+}
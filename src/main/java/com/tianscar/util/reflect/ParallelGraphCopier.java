@@ -0,0 +1,107 @@
+package com.tianscar.util.reflect;
+
+import sun.misc.Unsafe;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Java 7+ only, never load this class before checking that java.util.concurrent.ForkJoinPool is available.
+// Each task drains its own stack of pending (source, copy) pairs, and forks the bottom half of it once it grows
+// past the threshold, so independent subtrees are stolen by idle workers. The bottom of the stack is nearest
+// to the root, its subtrees are the largest.
+final class ParallelGraphCopier extends GraphCopier {
+
+    private static final ForkJoinPool pool;
+    // In (source, copy) pairs
+    private static final int SPLIT_THRESHOLD = 256;
+
+    static {
+        ForkJoinPool _pool;
+        try {
+            _pool = (ForkJoinPool) ForkJoinPool.class.getMethod("commonPool").invoke(null); // Java 8+
+        } catch (Exception e) {
+            _pool = new ForkJoinPool(); // Java 7
+        }
+        pool = _pool;
+    }
+
+    private static final class IdentityKey {
+        private final Object object;
+        IdentityKey(Object object) {
+            this.object = object;
+        }
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof IdentityKey && ((IdentityKey) o).object == object;
+        }
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(object);
+        }
+    }
+
+    private final ConcurrentMap<IdentityKey, Object> copies = new ConcurrentHashMap<IdentityKey, Object>();
+
+    ParallelGraphCopier(Unsafe unsafe) {
+        super(unsafe);
+    }
+
+    @Override
+    Object copy(Object root) {
+        List<Object> pending = new ArrayList<Object>();
+        Object copy = resolve(root, pending);
+        if (!pending.isEmpty()) pool.invoke(new CopyTask(pending));
+        return copy;
+    }
+
+    @Override
+    Object getCopy(Object src) {
+        return copies.get(new IdentityKey(src));
+    }
+
+    @Override
+    Object putCopyIfAbsent(Object src, Object copy) {
+        return copies.putIfAbsent(new IdentityKey(src), copy);
+    }
+
+    private final class CopyTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<Object> pending;
+
+        CopyTask(List<Object> pending) {
+            this.pending = pending;
+        }
+
+        @Override
+        protected void compute() {
+            List<CopyTask> forked = null;
+            while (!pending.isEmpty()) {
+                int size = pending.size();
+                Object copy = pending.remove(size - 1);
+                Object src = pending.remove(size - 2);
+                fill(src, copy, pending);
+                if (pending.size() >= SPLIT_THRESHOLD * 2) {
+                    List<Object> bottom = pending.subList(0, pending.size() / 4 * 2);
+                    CopyTask task = new CopyTask(new ArrayList<Object>(bottom));
+                    bottom.clear();
+                    task.fork();
+                    if (forked == null) forked = new ArrayList<CopyTask>();
+                    forked.add(task);
+                }
+            }
+            if (forked != null) {
+                for (CopyTask task : forked) {
+                    task.join();
+                }
+            }
+        }
+
+    }
+
+}
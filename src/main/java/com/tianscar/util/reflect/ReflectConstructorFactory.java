@@ -0,0 +1,23 @@
+package com.tianscar.util.reflect;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+// Used on Java 6, which doesn't have java.lang.invoke.*, relies on the accessible flag of the constructor.
+final class ReflectConstructorFactory<T> extends ConstructorFactory<T> {
+
+    ReflectConstructorFactory(Constructor<T> constructor) {
+        super(constructor);
+        Reflects.trySetAccessible(constructor);
+    }
+
+    @Override
+    public T newInstance(Object... args) throws InstantiationException, InvocationTargetException {
+        try {
+            return constructor.newInstance(args);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+}
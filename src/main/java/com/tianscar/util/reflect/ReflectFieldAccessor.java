@@ -0,0 +1,209 @@
+package com.tianscar.util.reflect;
+
+import java.lang.reflect.Field;
+
+// Used when sun.misc.Unsafe is unavailable, relies on the accessible flag of the field.
+final class ReflectFieldAccessor extends FieldAccessor {
+
+    ReflectFieldAccessor(Field field) {
+        super(field);
+        Reflects.trySetAccessible(field);
+        if (isStatic) Reflects.ensureClassInitialized(declaringClass);
+    }
+
+    private static IllegalArgumentException illegalAccess(IllegalAccessException e) {
+        return new IllegalArgumentException(e);
+    }
+
+    @Override
+    public Object get(Object object) {
+        try {
+            return field.get(isStatic ? null : checkObject(object));
+        } catch (IllegalAccessException e) {
+            throw illegalAccess(e);
+        }
+    }
+
+    @Override
+    public Object getObject(Object object) {
+        if (type.isPrimitive()) throw illegalType("non-primitive");
+        return get(object);
+    }
+
+    @Override
+    public boolean getBoolean(Object object) {
+        if (type != boolean.class) throw illegalType("boolean");
+        try {
+            return field.getBoolean(isStatic ? null : checkObject(object));
+        } catch (IllegalAccessException e) {
+            throw illegalAccess(e);
+        }
+    }
+
+    @Override
+    public byte getByte(Object object) {
+        if (type != byte.class) throw illegalType("byte");
+        try {
+            return field.getByte(isStatic ? null : checkObject(object));
+        } catch (IllegalAccessException e) {
+            throw illegalAccess(e);
+        }
+    }
+
+    @Override
+    public char getChar(Object object) {
+        if (type != char.class) throw illegalType("char");
+        try {
+            return field.getChar(isStatic ? null : checkObject(object));
+        } catch (IllegalAccessException e) {
+            throw illegalAccess(e);
+        }
+    }
+
+    @Override
+    public short getShort(Object object) {
+        if (type != short.class) throw illegalType("short");
+        try {
+            return field.getShort(isStatic ? null : checkObject(object));
+        } catch (IllegalAccessException e) {
+            throw illegalAccess(e);
+        }
+    }
+
+    @Override
+    public int getInt(Object object) {
+        if (type != int.class) throw illegalType("int");
+        try {
+            return field.getInt(isStatic ? null : checkObject(object));
+        } catch (IllegalAccessException e) {
+            throw illegalAccess(e);
+        }
+    }
+
+    @Override
+    public long getLong(Object object) {
+        if (type != long.class) throw illegalType("long");
+        try {
+            return field.getLong(isStatic ? null : checkObject(object));
+        } catch (IllegalAccessException e) {
+            throw illegalAccess(e);
+        }
+    }
+
+    @Override
+    public float getFloat(Object object) {
+        if (type != float.class) throw illegalType("float");
+        try {
+            return field.getFloat(isStatic ? null : checkObject(object));
+        } catch (IllegalAccessException e) {
+            throw illegalAccess(e);
+        }
+    }
+
+    @Override
+    public double getDouble(Object object) {
+        if (type != double.class) throw illegalType("double");
+        try {
+            return field.getDouble(isStatic ? null : checkObject(object));
+        } catch (IllegalAccessException e) {
+            throw illegalAccess(e);
+        }
+    }
+
+    @Override
+    public void set(Object object, Object value) {
+        try {
+            field.set(isStatic ? null : checkObject(object), value);
+        } catch (IllegalAccessException e) {
+            throw illegalAccess(e);
+        }
+    }
+
+    @Override
+    public void setObject(Object object, Object value) {
+        if (type.isPrimitive() || (value != null && !type.isInstance(value)))
+            throw illegalType(Reflects.getTypeName(type));
+        set(object, value);
+    }
+
+    @Override
+    public void setBoolean(Object object, boolean value) {
+        if (type != boolean.class) throw illegalType("boolean");
+        try {
+            field.setBoolean(isStatic ? null : checkObject(object), value);
+        } catch (IllegalAccessException e) {
+            throw illegalAccess(e);
+        }
+    }
+
+    @Override
+    public void setByte(Object object, byte value) {
+        if (type != byte.class) throw illegalType("byte");
+        try {
+            field.setByte(isStatic ? null : checkObject(object), value);
+        } catch (IllegalAccessException e) {
+            throw illegalAccess(e);
+        }
+    }
+
+    @Override
+    public void setChar(Object object, char value) {
+        if (type != char.class) throw illegalType("char");
+        try {
+            field.setChar(isStatic ? null : checkObject(object), value);
+        } catch (IllegalAccessException e) {
+            throw illegalAccess(e);
+        }
+    }
+
+    @Override
+    public void setShort(Object object, short value) {
+        if (type != short.class) throw illegalType("short");
+        try {
+            field.setShort(isStatic ? null : checkObject(object), value);
+        } catch (IllegalAccessException e) {
+            throw illegalAccess(e);
+        }
+    }
+
+    @Override
+    public void setInt(Object object, int value) {
+        if (type != int.class) throw illegalType("int");
+        try {
+            field.setInt(isStatic ? null : checkObject(object), value);
+        } catch (IllegalAccessException e) {
+            throw illegalAccess(e);
+        }
+    }
+
+    @Override
+    public void setLong(Object object, long value) {
+        if (type != long.class) throw illegalType("long");
+        try {
+            field.setLong(isStatic ? null : checkObject(object), value);
+        } catch (IllegalAccessException e) {
+            throw illegalAccess(e);
+        }
+    }
+
+    @Override
+    public void setFloat(Object object, float value) {
+        if (type != float.class) throw illegalType("float");
+        try {
+            field.setFloat(isStatic ? null : checkObject(object), value);
+        } catch (IllegalAccessException e) {
+            throw illegalAccess(e);
+        }
+    }
+
+    @Override
+    public void setDouble(Object object, double value) {
+        if (type != double.class) throw illegalType("double");
+        try {
+            field.setDouble(isStatic ? null : checkObject(object), value);
+        } catch (IllegalAccessException e) {
+            throw illegalAccess(e);
+        }
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.tianscar.util.reflect;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+// Used on Java 6, which doesn't have java.lang.invoke.*, relies on the accessible flag of the method.
+final class ReflectMethodInvoker extends MethodInvoker {
+
+    ReflectMethodInvoker(Method method) {
+        super(method);
+        Reflects.trySetAccessible(method);
+    }
+
+    @Override
+    public Object invoke(Object object, Object... args) throws InvocationTargetException {
+        try {
+            return method.invoke(object, args);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+}
@@ -3,12 +3,20 @@ package com.tianscar.util.reflect;
 import sun.misc.Unsafe;
 
 import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.List;
 
-import static java.lang.reflect.Modifier.isStatic;
+import static java.lang.reflect.Modifier.isFinal;
 
 /**
  * Compatible layer for <code>java.lang.reflect</code> API which could run on Java 6+ (which meant fully support Android) and bypass the strong encapsulation in Java 16+.
@@ -19,14 +27,37 @@ public final class Reflects {
         throw new AssertionError("No " + Reflects.class.getName() + " instances for you!");
     }
 
-    private static final Unsafe unsafe;
+    static final Unsafe unsafe;
+
+    private static final Class<?>[] EMPTY_TYPES = new Class<?>[0];
+
+    // Java 6-8 doesn't have AccessibleObject#trySetAccessible, so we probe it once.
+    private static final Method trySetAccessibleMethod;
+    // The accessibility, accessors, invokers, factories and field layout of the members of every class,
+    // dropped along with the class when its class loader is unloaded.
+    private static final ClassCache<ClassMetadata> metadataCache = new ClassCache<ClassMetadata>() {
+        @Override
+        ClassMetadata computeValue(Class<?> clazz) {
+            return new ClassMetadata(clazz);
+        }
+    };
 
     // Java 6 doesn't have java.lang.invoke.*, so we use them via reflection.
-    private static final Object lookup;
-    private static final Method unreflectMethod;
-    private static final Method unreflectConstructorMethod;
-    private static final Method bindToMethod;
-    private static final Method invokeWithArgumentsMethod;
+    static final Object lookup;
+
+    // Java 9+ has java.lang.invoke.VarHandle, which is preferred to sun.misc.Unsafe for field access.
+    private static final boolean varHandleAvailable;
+    // "varhandle", "unsafe" or "reflect" forces the backend of field accessors, null for automatic selection.
+    private static final String fieldAccessorBackend;
+
+    // Java 6-7 invoke methods and constructors faster through generated accessors than through method handles.
+    private static final boolean generatedAccessorPreferred;
+    // "methodhandle", "bytecode" or "reflect" forces the backend of method invokers and constructor factories,
+    // null for automatic selection.
+    private static final String methodInvokerBackend;
+
+    // Java 6 doesn't have java.util.concurrent.ForkJoinPool, parallel deep copies run sequentially there.
+    private static final boolean forkJoinAvailable;
 
     static {
         Unsafe _unsafe;
@@ -41,28 +72,20 @@ public final class Reflects {
         }
         unsafe = _unsafe;
 
-        Method _unreflectMethod;
-        Method _unreflectConstructorMethod;
+        Method _trySetAccessibleMethod;
+        try {
+            _trySetAccessibleMethod = AccessibleObject.class.getDeclaredMethod("trySetAccessible"); // Java 9+
+        } catch (NoSuchMethodException e) {
+            _trySetAccessibleMethod = null; // Java 6-8
+        }
+        trySetAccessibleMethod = _trySetAccessibleMethod;
+
         Class<?> lookupClazz;
         try {
-            // Java 7+
-            lookupClazz = Class.forName("java.lang.invoke.MethodHandles$Lookup");
-            _unreflectMethod = lookupClazz.getDeclaredMethod("unreflect", Method.class);
-            _unreflectConstructorMethod = lookupClazz.getDeclaredMethod("unreflectConstructor", Constructor.class);
+            lookupClazz = Class.forName("java.lang.invoke.MethodHandles$Lookup"); // Java 7+
         } catch (ClassNotFoundException e) {
-            // Java 6
-            lookupClazz = null;
-            _unreflectMethod = null;
-            _unreflectConstructorMethod = null;
+            lookupClazz = null; // Java 6
         }
-        catch (NoSuchMethodException e) {
-            // Unexpected
-            lookupClazz = null;
-            _unreflectMethod = null;
-            _unreflectConstructorMethod = null;
-        }
-        unreflectMethod = _unreflectMethod;
-        unreflectConstructorMethod = _unreflectConstructorMethod;
         Object _lookup;
         if (lookupClazz == null) _lookup = null; // Java 6
         else {
@@ -78,24 +101,53 @@ public final class Reflects {
             }
         }
         lookup = _lookup;
-        Method _bindToMethod;
-        Method _invokeWithArgumentsMethod;
+
+        boolean _varHandleAvailable;
+        if (lookup == null) _varHandleAvailable = false; // Java 6
+        else {
+            try {
+                Class.forName("java.lang.invoke.VarHandle"); // Java 9+
+                _varHandleAvailable = true;
+            } catch (ClassNotFoundException e) {
+                _varHandleAvailable = false; // Java 7-8
+            }
+        }
+        varHandleAvailable = _varHandleAvailable;
+        String _fieldAccessorBackend;
         try {
-            // Java 7+
-            Class<?> methodHandleClazz = Class.forName("java.lang.invoke.MethodHandle");
-            _bindToMethod = methodHandleClazz.getDeclaredMethod("bindTo", Object.class);
-            _invokeWithArgumentsMethod = methodHandleClazz.getDeclaredMethod("invokeWithArguments", Object[].class);
+            _fieldAccessorBackend = System.getProperty("com.tianscar.util.reflect.fieldAccessor");
+        } catch (SecurityException e) {
+            _fieldAccessorBackend = null;
+        }
+        fieldAccessorBackend = _fieldAccessorBackend;
+
+        boolean _generatedAccessorPreferred;
+        if (!AccessorGenerator.isAvailable()) _generatedAccessorPreferred = false; // Java 9+ and Android
+        else {
+            try {
+                Class.forName("java.lang.invoke.LambdaMetafactory"); // Java 8
+                _generatedAccessorPreferred = false;
+            } catch (ClassNotFoundException e) {
+                _generatedAccessorPreferred = true; // Java 6-7
+            }
+        }
+        generatedAccessorPreferred = _generatedAccessorPreferred;
+        String _methodInvokerBackend;
+        try {
+            _methodInvokerBackend = System.getProperty("com.tianscar.util.reflect.methodInvoker");
+        } catch (SecurityException e) {
+            _methodInvokerBackend = null;
+        }
+        methodInvokerBackend = _methodInvokerBackend;
+
+        boolean _forkJoinAvailable;
+        try {
+            Class.forName("java.util.concurrent.ForkJoinPool"); // Java 7+
+            _forkJoinAvailable = true;
         } catch (ClassNotFoundException e) {
-            // Java 6
-            _bindToMethod = null;
-            _invokeWithArgumentsMethod = null;
-        } catch (NoSuchMethodException e) {
-            // Unexpected
-            _bindToMethod = null;
-            _invokeWithArgumentsMethod = null;
+            _forkJoinAvailable = false; // Java 6
         }
-        bindToMethod = _bindToMethod;
-        invokeWithArgumentsMethod = _invokeWithArgumentsMethod;
+        forkJoinAvailable = _forkJoinAvailable;
     }
 
     /**
@@ -143,16 +195,37 @@ public final class Reflects {
      * @throws NullPointerException if the specified accessible object is null
      *
      */
+    @SuppressWarnings("deprecation")
     public static boolean trySetAccessible(AccessibleObject accessible) throws SecurityException, NullPointerException {
-        try {
-            return (Boolean) AccessibleObject.class.getDeclaredMethod("trySetAccessible").invoke(accessible); // Java 9+
-        } catch (NoSuchMethodException e) {
+        if (accessible.isAccessible()) return true;
+        ClassMetadata metadata = metadata(((Member) accessible).getDeclaringClass());
+        Boolean granted = metadata.getAccessible(accessible);
+        if (granted == null) {
+            granted = trySetAccessible0(accessible);
+            metadata.putAccessible(accessible, granted);
+            return granted;
+        }
+        else if (granted) {
+            // Reflected objects are copied by the JDK, the flag of this copy may not be set yet
+            accessible.setAccessible(true);
+            return true;
+        }
+        else return false;
+    }
+
+    private static boolean trySetAccessible0(AccessibleObject accessible) throws SecurityException {
+        if (trySetAccessibleMethod == null) {
             accessible.setAccessible(true); // Java 6-8
             return true;
+        }
+        try {
+            return (Boolean) trySetAccessibleMethod.invoke(accessible); // Java 9+
         } catch (IllegalAccessException e) {
             return false; // Unexpected
         } catch (InvocationTargetException e) {
-            return false; // Unexpected
+            Throwable cause = e.getCause();
+            if (cause instanceof SecurityException) throw (SecurityException) cause;
+            else return false; // Unexpected
         }
     }
 
@@ -169,6 +242,244 @@ public final class Reflects {
         return (T) unsafe.allocateInstance(clazz); // Java 6+
     }
 
+    static ClassMetadata metadata(Class<?> clazz) {
+        return metadataCache.get(clazz);
+    }
+
+    static FieldLayout layout(Class<?> clazz) {
+        return metadata(clazz).layout(unsafe);
+    }
+
+    /**
+     * Copies the value of every instance field declared by the class of {@code src} and all its superclasses,
+     * including private and final fields, from {@code src} to {@code dst}.
+     * The fields are resolved once per class, then copied with typed loads and stores without boxing.
+     *
+     * <p>Elements of arrays are not copied, use {@link System#arraycopy(Object, int, Object, int, int)} instead.
+     * Fields filtered from reflection by the JDK are not copied.
+     *
+     * @param src the object to copy the fields from
+     * @param dst the object to copy the fields to
+     *
+     * @throws    IllegalArgumentException  if {@code dst} is not an instance of the class of {@code src},
+     *              or if a field cannot be set (e.g. a final field of a record on Java 16+).
+     * @throws    NullPointerException      if either of the specified objects is null
+     */
+    public static void copyFields(Object src, Object dst) throws IllegalArgumentException, NullPointerException {
+        Class<?> clazz = src.getClass();
+        if (!clazz.isInstance(dst)) {
+            // NOTE: will throw NullPointerException, as specified, if dst is null
+            throw new IllegalArgumentException("Can not copy fields of " + clazz.getName() + " to " + dst.getClass().getName());
+        }
+        layout(clazz).copy(src, dst);
+    }
+
+    /**
+     * Creates a shallow copy of the specified object without running any constructor or {@code clone()} method,
+     * whether the class implements {@link Cloneable} or not. The fields are copied by {@link #copyFields(Object, Object)}.
+     * Arrays are copied with {@link System#arraycopy(Object, int, Object, int, int)}.
+     *
+     * @param object the object to copy
+     * @return the shallow copy of the specified object
+     *
+     * @throws    IllegalArgumentException  if the class of the object cannot be instantiated
+     *              without a constructor (e.g. {@code java.lang.Class}), or if a field cannot be set.
+     * @throws    NullPointerException      if the specified object is null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T shallowClone(T object) throws IllegalArgumentException, NullPointerException {
+        Class<?> clazz = object.getClass();
+        if (clazz.isArray()) {
+            int length = Array.getLength(object);
+            Object clone = Array.newInstance(clazz.getComponentType(), length);
+            System.arraycopy(object, 0, clone, 0, length);
+            return (T) clone;
+        }
+        Object clone;
+        try {
+            clone = unsafe.allocateInstance(clazz); // Java 6+
+        } catch (InstantiationException e) {
+            throw new IllegalArgumentException(e);
+        }
+        layout(clazz).copy(object, clone);
+        return (T) clone;
+    }
+
+    /**
+     * Creates a deep copy of the specified object graph. Every reachable object is allocated without running
+     * any constructor, then every instance field, including private and final fields of superclasses,
+     * is copied through the cached field layout of its class. Shared references and cycles are preserved.
+     *
+     * <p>Strings, primitive wrappers, classes and enum constants are immutable and shared with the copy,
+     * arrays are copied element by element. The graph is walked without recursion, so deep graphs
+     * (e.g. long linked lists) don't overflow the stack. Hash based collections whose keys rely on the
+     * identity hash code can't find the copied keys anymore.
+     *
+     * @param object the root of the object graph to copy
+     * @return the deep copy of the specified object graph, or null if the object is null
+     *
+     * @throws    IllegalArgumentException  if a reachable object cannot be instantiated
+     *              without a constructor, or if a field cannot be set.
+     *
+     * @see #parallelDeepClone(Object)
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T deepClone(T object) throws IllegalArgumentException {
+        return (T) new SequentialGraphCopier(unsafe).copy(object);
+    }
+
+    /**
+     * Creates a deep copy of the specified object graph like {@link #deepClone(Object)}, but splits independent
+     * subtrees across the common {@code ForkJoinPool} as the pending work grows. Cycles and shared references
+     * are tracked by a concurrent identity map. This only pays off for large and wide graphs; a long chain
+     * of objects can't be split and is effectively copied by a single thread.
+     *
+     * <p>The object graph must not be modified concurrently. On Java 6, the copy runs sequentially.
+     *
+     * @param object the root of the object graph to copy
+     * @return the deep copy of the specified object graph, or null if the object is null
+     *
+     * @throws    IllegalArgumentException  if a reachable object cannot be instantiated
+     *              without a constructor, or if a field cannot be set.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T parallelDeepClone(T object) throws IllegalArgumentException {
+        if (forkJoinAvailable) return (T) new ParallelGraphCopier(unsafe).copy(object); // Java 7+
+        else return deepClone(object); // Java 6
+    }
+
+    /**
+     * Compares the specified object graphs structurally. Every instance field, including private and final
+     * fields of superclasses, is compared through the cached field layout of its class: primitive fields are
+     * compared with typed loads without boxing, like the {@code equals} methods of their wrappers, and
+     * reference fields are compared deeply. Arrays are compared element by element. The {@code equals}
+     * methods of the objects are not called, except for strings and primitive wrappers; classes and enum
+     * constants are compared by identity.
+     *
+     * <p>Both graphs must have the same shape: each object of the first graph is paired with a single object
+     * of the second one, so shared references and cycles must be shared in the same way. An object graph
+     * always equals its {@link #deepClone(Object) deep clone}. The graphs are walked without recursion.
+     *
+     * @param a the root of the first object graph
+     * @param b the root of the second object graph
+     * @return true if the specified object graphs are equal, or both null
+     *
+     * @throws    IllegalArgumentException  if a field of a reachable object cannot be read
+     *              (e.g. a field of a record of the JDK on Java 16+).
+     *
+     * @see #fieldHash(Object)
+     * @see #diff(Object, Object)
+     */
+    public static boolean deepEquals(Object a, Object b) throws IllegalArgumentException {
+        return GraphComparator.equals(a, b);
+    }
+
+    /**
+     * Returns a hash code of the specified object graph, consistent with {@link #deepEquals(Object, Object)}:
+     * equal graphs have equal hash codes. Primitive fields are hashed like their wrappers without boxing,
+     * strings and primitive wrappers with their {@code hashCode} methods.
+     *
+     * @param object the root of the object graph to hash
+     * @return the hash code of the specified object graph, or 0 if the object is null
+     *
+     * @throws    IllegalArgumentException  if a field of a reachable object cannot be read
+     *              (e.g. a field of a record of the JDK on Java 16+).
+     */
+    public static int fieldHash(Object object) throws IllegalArgumentException {
+        return GraphComparator.hash(object);
+    }
+
+    /**
+     * Compares the specified object graphs like {@link #deepEquals(Object, Object)}, and returns the paths
+     * of every difference instead of stopping at the first one, e.g. {@code "address.city"} for a field
+     * of a field of the roots or {@code "items[2]"} for an element of an array. The empty path stands for
+     * the roots themselves.
+     *
+     * <p>A path is reported, and not walked further, where the values are null in only one graph, are instances
+     * of different classes, are arrays of different lengths or of different primitive elements, or break the
+     * shape of the graph (see {@link #deepEquals(Object, Object)}). Fields are named by their simple names,
+     * a field hidden by a field of the same name in a subclass can't be told apart from it.
+     *
+     * @param a the root of the first object graph, e.g. a snapshot taken with {@link #deepClone(Object)}
+     * @param b the root of the second object graph
+     * @return the paths of the differences, empty if the object graphs are equal
+     *
+     * @throws    IllegalArgumentException  if a field of a reachable object cannot be read
+     *              (e.g. a field of a record of the JDK on Java 16+).
+     */
+    public static List<String> diff(Object a, Object b) throws IllegalArgumentException {
+        return GraphComparator.diff(a, b);
+    }
+
+    /**
+     * Writes the specified object graph to the buffer in a compact binary format, starting at its current position.
+     * No class needs to implement {@code Serializable} or to have an accessible constructor. Every instance field
+     * (including private, final and transient fields of superclasses) is written straight from its offset
+     * without boxing, primitive arrays are copied in bulk. Shared references and cycles are preserved.
+     * Strings, classes and enum constants are written by value and name.
+     *
+     * <p>The format has no class versioning, the classes must have the same fields when the graph is read back
+     * by {@link #deserialize(ByteBuffer)}. Values are written in the byte order of the buffer,
+     * use {@link java.nio.ByteOrder#nativeOrder()} for the fastest bulk copies.
+     * Direct buffers write the graph off-heap.
+     *
+     * @param object the root of the object graph to write, may be null
+     * @param buffer the buffer to write to
+     *
+     * @throws    BufferOverflowException   if the buffer has not enough remaining space,
+     *              its position is undefined then.
+     * @throws    ReadOnlyBufferException   if the buffer is read-only
+     * @throws    IllegalArgumentException  if a field cannot be read
+     * @throws    NullPointerException      if the specified buffer is null
+     */
+    public static void serialize(Object object, ByteBuffer buffer) throws BufferOverflowException, ReadOnlyBufferException,
+            IllegalArgumentException, NullPointerException {
+        if (buffer.isReadOnly()) throw new ReadOnlyBufferException();
+        new BinaryWriter(unsafe, buffer).write(object);
+    }
+
+    /**
+     * Reads an object graph written by {@link #serialize(Object, ByteBuffer)} from the buffer, starting at its
+     * current position. Objects are allocated without running any constructor, and classes are loaded by the
+     * context class loader of the current thread.
+     *
+     * <p>Like Java serialization, any class named by the data can be instantiated, so only read trusted data.
+     *
+     * @param buffer the buffer to read from, in the byte order it was written with
+     * @return the root of the object graph
+     *
+     * @throws    ClassNotFoundException    if a class of the object graph cannot be found
+     * @throws    BufferUnderflowException  if the buffer ends before the object graph
+     * @throws    IllegalArgumentException  if the data is corrupted, if a class cannot be instantiated
+     *              without a constructor, or if a field cannot be set.
+     * @throws    NullPointerException      if the specified buffer is null
+     */
+    public static Object deserialize(ByteBuffer buffer) throws ClassNotFoundException, BufferUnderflowException,
+            IllegalArgumentException, NullPointerException {
+        return deserialize(buffer, Thread.currentThread().getContextClassLoader());
+    }
+
+    /**
+     * Reads an object graph written by {@link #serialize(Object, ByteBuffer)} from the buffer, starting at its
+     * current position. Objects are allocated without running any constructor.
+     *
+     * <p>Like Java serialization, any class named by the data can be instantiated, so only read trusted data.
+     *
+     * @param buffer the buffer to read from, in the byte order it was written with
+     * @param classLoader the class loader to load classes from, null for the bootstrap class loader
+     * @return the root of the object graph
+     *
+     * @throws    ClassNotFoundException    if a class of the object graph cannot be found
+     * @throws    BufferUnderflowException  if the buffer ends before the object graph
+     * @throws    IllegalArgumentException  if the data is corrupted, if a class cannot be instantiated
+     *              without a constructor, or if a field cannot be set.
+     * @throws    NullPointerException      if the specified buffer is null
+     */
+    public static Object deserialize(ByteBuffer buffer, ClassLoader classLoader) throws ClassNotFoundException,
+            BufferUnderflowException, IllegalArgumentException, NullPointerException {
+        return new BinaryReader(unsafe, buffer, classLoader).read();
+    }
+
     /**
      * Uses the constructor represented by this {@code Constructor} object to
      * create and initialize a new instance of the constructor's
@@ -215,21 +526,41 @@ public final class Reflects {
      * @throws    ExceptionInInitializerError if the initialization provoked
      *              by this method fails.
      */
-    @SuppressWarnings("unchecked")
     public static <T> T newInstance(Constructor<T> constructor, Object... args) throws InstantiationException, InvocationTargetException,
             NullPointerException, IllegalArgumentException, ExceptionInInitializerError {
-        try {
-            if (trySetAccessible(constructor)) return constructor.newInstance(args); // Java 6-15
-        } catch (IllegalAccessException ignored) {
+        return metadata(constructor.getDeclaringClass()).factory(constructor).newInstance(args);
+    }
+
+    /**
+     * Creates a {@link ConstructorFactory} for the specified constructor.
+     * On Java 6-7, a dedicated accessor class is generated for the constructor once; on Java 8+, the constructor is
+     * unreflected through the trusted lookup and adapted to a spreader once, so the returned
+     * factory should be reused for repeated instantiations. The backend can be forced with the
+     * {@code com.tianscar.util.reflect.methodInvoker} system property
+     * ({@code bytecode}, {@code methodhandle} or {@code reflect}).
+     *
+     * @param constructor the constructor to create instances with
+     * @return the factory of the specified constructor
+     *
+     * @throws    NullPointerException      if the specified constructor is null
+     */
+    public static <T> ConstructorFactory<T> factory(Constructor<T> constructor) throws NullPointerException {
+        String backend = methodInvokerBackend;
+        if (backend == null ? generatedAccessorPreferred : backend.equals("bytecode")) {
+            InvocationHandler accessor = metadata(constructor.getDeclaringClass()).generatedAccessor(constructor);
+            if (accessor != null) return new BytecodeConstructorFactory<T>(constructor, accessor); // Java 6-7
         }
-        try {
-            return (T) invokeWithArgumentsMethod.invoke(unreflectConstructorMethod.invoke(lookup, constructor), (Object) args); // Java 16+
-        } catch (IllegalAccessException e) {
-            return null; // Unexpected
+        if (lookup != null && (backend == null || !backend.equals("reflect"))) {
+            try {
+                return new MethodHandleConstructorFactory<T>(lookup, constructor); // Java 7+
+            } catch (IllegalAccessException ignored) {
+                // Unexpected
+            }
         }
+        return new ReflectConstructorFactory<T>(constructor); // Java 6
     }
 
-    private static Object checkObject(Object object, Field field) {
+    static Object checkObject(Object object, Field field) {
         // NOTE: will throw NullPointerException, as specified, if object is null
         if (!field.getDeclaringClass().isAssignableFrom(object.getClass())) {
             StringBuilder builder = new StringBuilder("Can not set ");
@@ -265,14 +596,7 @@ public final class Reflects {
      */
     public static Object getObjectField(Object object, Field field) throws IllegalArgumentException, NullPointerException, ExceptionInInitializerError {
         if (field.getType().isPrimitive()) throw new IllegalArgumentException("Illegal field type; expected non-primitive");
-        try {
-            if (trySetAccessible(field)) return field.get(object); // Java 6-15
-        } catch (IllegalAccessException ignored) {
-        }
-        // Java 16+
-        return isStatic(field.getModifiers()) ?
-                unsafe.getObject(field.getDeclaringClass(), unsafe.staticFieldOffset(field)) :
-                unsafe.getObject(checkObject(object, field), unsafe.objectFieldOffset(field));
+        return metadata(field.getDeclaringClass()).accessor(field).getObject(object);
     }
 
     /**
@@ -297,14 +621,7 @@ public final class Reflects {
      */
     public static boolean getBooleanField(Object object, Field field) throws IllegalArgumentException, NullPointerException, ExceptionInInitializerError {
         if (field.getType() != boolean.class) throw new IllegalArgumentException("Illegal field type; expected boolean");
-        try {
-            if (trySetAccessible(field)) return field.getBoolean(object); // Java 6-15
-        } catch (IllegalAccessException ignored) {
-        }
-        // Java 16+
-        return isStatic(field.getModifiers()) ?
-                unsafe.getBoolean(field.getDeclaringClass(), unsafe.staticFieldOffset(field)) :
-                unsafe.getBoolean(checkObject(object, field), unsafe.objectFieldOffset(field));
+        return metadata(field.getDeclaringClass()).accessor(field).getBoolean(object);
     }
 
     /**
@@ -329,14 +646,7 @@ public final class Reflects {
      */
     public static byte getByteField(Object object, Field field) throws IllegalArgumentException, NullPointerException, ExceptionInInitializerError {
         if (field.getType() != byte.class) throw new IllegalArgumentException("Illegal field type; expected byte");
-        try {
-            if (trySetAccessible(field)) return field.getByte(object); // Java 6-15
-        } catch (IllegalAccessException ignored) {
-        }
-        // Java 16+
-        return isStatic(field.getModifiers()) ?
-                unsafe.getByte(field.getDeclaringClass(), unsafe.staticFieldOffset(field)) :
-                unsafe.getByte(checkObject(object, field), unsafe.objectFieldOffset(field));
+        return metadata(field.getDeclaringClass()).accessor(field).getByte(object);
     }
 
     /**
@@ -361,14 +671,7 @@ public final class Reflects {
      */
     public static char getCharField(Object object, Field field) throws IllegalArgumentException, NullPointerException, ExceptionInInitializerError {
         if (field.getType() != char.class) throw new IllegalArgumentException("Illegal field type; expected char");
-        try {
-            if (trySetAccessible(field)) return field.getChar(object); // Java 6-15
-        } catch (IllegalAccessException ignored) {
-        }
-        // Java 16+
-        return isStatic(field.getModifiers()) ?
-                unsafe.getChar(field.getDeclaringClass(), unsafe.staticFieldOffset(field)) :
-                unsafe.getChar(checkObject(object, field), unsafe.objectFieldOffset(field));
+        return metadata(field.getDeclaringClass()).accessor(field).getChar(object);
     }
 
     /**
@@ -393,14 +696,7 @@ public final class Reflects {
      */
     public static short getShortField(Object object, Field field) throws IllegalArgumentException, NullPointerException, ExceptionInInitializerError {
         if (field.getType() != short.class) throw new IllegalArgumentException("Illegal field type; expected short");
-        try {
-            if (trySetAccessible(field)) return field.getShort(object); // Java 6-15
-        } catch (IllegalAccessException ignored) {
-        }
-        // Java 16+
-        return isStatic(field.getModifiers()) ?
-                unsafe.getShort(field.getDeclaringClass(), unsafe.staticFieldOffset(field)) :
-                unsafe.getShort(checkObject(object, field), unsafe.objectFieldOffset(field));
+        return metadata(field.getDeclaringClass()).accessor(field).getShort(object);
     }
 
     /**
@@ -425,14 +721,7 @@ public final class Reflects {
      */
     public static int getIntField(Object object, Field field) throws IllegalArgumentException, NullPointerException, ExceptionInInitializerError {
         if (field.getType() != int.class) throw new IllegalArgumentException("Illegal field type; expected int");
-        try {
-            if (trySetAccessible(field)) return field.getInt(object); // Java 6-15
-        } catch (IllegalAccessException ignored) {
-        }
-        // Java 16+
-        return isStatic(field.getModifiers()) ?
-                unsafe.getInt(field.getDeclaringClass(), unsafe.staticFieldOffset(field)) :
-                unsafe.getInt(checkObject(object, field), unsafe.objectFieldOffset(field));
+        return metadata(field.getDeclaringClass()).accessor(field).getInt(object);
     }
 
     /**
@@ -457,14 +746,7 @@ public final class Reflects {
      */
     public static long getLongField(Object object, Field field) throws IllegalArgumentException, NullPointerException, ExceptionInInitializerError {
         if (field.getType() != long.class) throw new IllegalArgumentException("Illegal field type; expected long");
-        try {
-            if (trySetAccessible(field)) return field.getLong(object); // Java 6-15
-        } catch (IllegalAccessException ignored) {
-        }
-        // Java 16+
-        return isStatic(field.getModifiers()) ?
-                unsafe.getLong(field.getDeclaringClass(), unsafe.staticFieldOffset(field)) :
-                unsafe.getLong(checkObject(object, field), unsafe.objectFieldOffset(field));
+        return metadata(field.getDeclaringClass()).accessor(field).getLong(object);
     }
 
     /**
@@ -489,14 +771,7 @@ public final class Reflects {
      */
     public static float getFloatField(Object object, Field field) throws IllegalArgumentException, NullPointerException, ExceptionInInitializerError {
         if (field.getType() != float.class) throw new IllegalArgumentException("Illegal field type; expected float");
-        try {
-            if (trySetAccessible(field)) return field.getFloat(object); // Java 6-15
-        } catch (IllegalAccessException ignored) {
-        }
-        // Java 16+
-        return isStatic(field.getModifiers()) ?
-                unsafe.getFloat(field.getDeclaringClass(), unsafe.staticFieldOffset(field)) :
-                unsafe.getFloat(checkObject(object, field), unsafe.objectFieldOffset(field));
+        return metadata(field.getDeclaringClass()).accessor(field).getFloat(object);
     }
 
     /**
@@ -521,14 +796,7 @@ public final class Reflects {
      */
     public static double getDoubleField(Object object, Field field) throws IllegalArgumentException, NullPointerException, ExceptionInInitializerError {
         if (field.getType() != double.class) throw new IllegalArgumentException("Illegal field type; expected double");
-        try {
-            if (trySetAccessible(field)) return field.getDouble(object); // Java 6-15
-        } catch (IllegalAccessException ignored) {
-        }
-        // Java 16+
-        return isStatic(field.getModifiers()) ?
-                unsafe.getDouble(field.getDeclaringClass(), unsafe.staticFieldOffset(field)) :
-                unsafe.getDouble(checkObject(object, field), unsafe.objectFieldOffset(field));
+        return metadata(field.getDeclaringClass()).accessor(field).getDouble(object);
     }
 
     /**
@@ -576,37 +844,10 @@ public final class Reflects {
      *              by this method fails.
      */
     public static Object getField(Object object, Field field) throws IllegalArgumentException, NullPointerException, ExceptionInInitializerError {
-        try {
-            if (trySetAccessible(field)) return field.get(object); // Java 6-15
-        } catch (IllegalAccessException ignored) {
-        }
-        // Java 16+
-        Class<?> fieldType = field.getType();
-        if (isStatic(field.getModifiers())) {
-            if (fieldType == boolean.class) return unsafe.getBoolean(field.getDeclaringClass(), unsafe.staticFieldOffset(field));
-            else if (fieldType == byte.class) return unsafe.getByte(field.getDeclaringClass(), unsafe.staticFieldOffset(field));
-            else if (fieldType == char.class) return unsafe.getChar(field.getDeclaringClass(), unsafe.staticFieldOffset(field));
-            else if (fieldType == short.class) return unsafe.getShort(field.getDeclaringClass(), unsafe.staticFieldOffset(field));
-            else if (fieldType == int.class) return unsafe.getInt(field.getDeclaringClass(), unsafe.staticFieldOffset(field));
-            else if (fieldType == long.class) return unsafe.getLong(field.getDeclaringClass(), unsafe.staticFieldOffset(field));
-            else if (fieldType == float.class) return unsafe.getFloat(field.getDeclaringClass(), unsafe.staticFieldOffset(field));
-            else if (fieldType == double.class) return unsafe.getDouble(field.getDeclaringClass(), unsafe.staticFieldOffset(field));
-            else return unsafe.getObject(field.getDeclaringClass(), unsafe.staticFieldOffset(field));
-        }
-        else {
-            if (fieldType == boolean.class) return unsafe.getBoolean(checkObject(object, field), unsafe.objectFieldOffset(field));
-            else if (fieldType == byte.class) return unsafe.getByte(checkObject(object, field), unsafe.objectFieldOffset(field));
-            else if (fieldType == char.class) return unsafe.getChar(checkObject(object, field), unsafe.objectFieldOffset(field));
-            else if (fieldType == short.class) return unsafe.getShort(checkObject(object, field), unsafe.objectFieldOffset(field));
-            else if (fieldType == int.class) return unsafe.getInt(checkObject(object, field), unsafe.objectFieldOffset(field));
-            else if (fieldType == long.class) return unsafe.getLong(checkObject(object, field), unsafe.objectFieldOffset(field));
-            else if (fieldType == float.class) return unsafe.getFloat(checkObject(object, field), unsafe.objectFieldOffset(field));
-            else if (fieldType == double.class) return unsafe.getDouble(checkObject(object, field), unsafe.objectFieldOffset(field));
-            else return unsafe.getObject(checkObject(object, field), unsafe.objectFieldOffset(field));
-        }
+        return metadata(field.getDeclaringClass()).accessor(field).get(object);
     }
 
-    private static String getTypeName(Class<?> clazz) {
+    static String getTypeName(Class<?> clazz) {
         if (clazz.isArray()) {
             try {
                 StringBuilder builder = new StringBuilder();
@@ -643,16 +884,7 @@ public final class Reflects {
     public static void setObjectField(Object object, Field field, Object value) throws IllegalArgumentException, NullPointerException, ExceptionInInitializerError {
         if (!field.getType().isAssignableFrom(value.getClass()))
             throw new IllegalArgumentException("Illegal field type; expected " + getTypeName(field.getType()));
-        try {
-            if (trySetAccessible(field)) {
-                field.set(object, value); // Java 6-15
-                return;
-            }
-        } catch (IllegalAccessException ignored) {
-        }
-        // Java 16+
-        if (isStatic(field.getModifiers())) unsafe.putObject(field.getDeclaringClass(), unsafe.staticFieldOffset(field), value);
-        else unsafe.putObject(checkObject(object, field), unsafe.objectFieldOffset(field), value);
+        metadata(field.getDeclaringClass()).accessor(field).setObject(object, value);
     }
 
     /**
@@ -675,16 +907,7 @@ public final class Reflects {
      */
     public static void setBooleanField(Object object, Field field, boolean value) throws IllegalArgumentException, NullPointerException, ExceptionInInitializerError {
         if (field.getType() != boolean.class) throw new IllegalArgumentException("Illegal field type; expected boolean");
-        try {
-            if (trySetAccessible(field)) {
-                field.setBoolean(object, value); // Java 6-15
-                return;
-            }
-        } catch (IllegalAccessException ignored) {
-        }
-        // Java 16+
-        if (isStatic(field.getModifiers())) unsafe.putBoolean(field.getDeclaringClass(), unsafe.staticFieldOffset(field), value);
-        else unsafe.putBoolean(checkObject(object, field), unsafe.objectFieldOffset(field), value);
+        metadata(field.getDeclaringClass()).accessor(field).setBoolean(object, value);
     }
 
     /**
@@ -707,16 +930,7 @@ public final class Reflects {
      */
     public static void setByteField(Object object, Field field, byte value) throws IllegalArgumentException, NullPointerException, ExceptionInInitializerError {
         if (field.getType() != byte.class) throw new IllegalArgumentException("Illegal field type; expected byte");
-        try {
-            if (trySetAccessible(field)) {
-                field.setByte(object, value); // Java 6-15
-                return;
-            }
-        } catch (IllegalAccessException ignored) {
-        }
-        // Java 16+
-        if (isStatic(field.getModifiers())) unsafe.putByte(field.getDeclaringClass(), unsafe.staticFieldOffset(field), value);
-        else unsafe.putByte(checkObject(object, field), unsafe.objectFieldOffset(field), value);
+        metadata(field.getDeclaringClass()).accessor(field).setByte(object, value);
     }
 
     /**
@@ -739,16 +953,7 @@ public final class Reflects {
      */
     public static void setCharField(Object object, Field field, char value) throws IllegalArgumentException, NullPointerException, ExceptionInInitializerError {
         if (field.getType() != char.class) throw new IllegalArgumentException("Illegal field type; expected char");
-        try {
-            if (trySetAccessible(field)) {
-                field.setChar(object, value); // Java 6-15
-                return;
-            }
-        } catch (IllegalAccessException ignored) {
-        }
-        // Java 16+
-        if (isStatic(field.getModifiers())) unsafe.putChar(field.getDeclaringClass(), unsafe.staticFieldOffset(field), value);
-        else unsafe.putChar(checkObject(object, field), unsafe.objectFieldOffset(field), value);
+        metadata(field.getDeclaringClass()).accessor(field).setChar(object, value);
     }
 
     /**
@@ -771,16 +976,7 @@ public final class Reflects {
      */
     public static void setShortField(Object object, Field field, short value) throws IllegalArgumentException, NullPointerException, ExceptionInInitializerError {
         if (field.getType() != short.class) throw new IllegalArgumentException("Illegal field type; expected short");
-        try {
-            if (trySetAccessible(field)) {
-                field.setShort(object, value); // Java 6-15
-                return;
-            }
-        } catch (IllegalAccessException ignored) {
-        }
-        // Java 16+
-        if (isStatic(field.getModifiers())) unsafe.putShort(field.getDeclaringClass(), unsafe.staticFieldOffset(field), value);
-        else unsafe.putShort(checkObject(object, field), unsafe.objectFieldOffset(field), value);
+        metadata(field.getDeclaringClass()).accessor(field).setShort(object, value);
     }
 
     /**
@@ -803,16 +999,7 @@ public final class Reflects {
      */
     public static void setIntField(Object object, Field field, int value) throws IllegalArgumentException, NullPointerException, ExceptionInInitializerError {
         if (field.getType() != int.class) throw new IllegalArgumentException("Illegal field type; expected int");
-        try {
-            if (trySetAccessible(field)) {
-                field.setInt(object, value); // Java 6-15
-                return;
-            }
-        } catch (IllegalAccessException ignored) {
-        }
-        // Java 16+
-        if (isStatic(field.getModifiers())) unsafe.putInt(field.getDeclaringClass(), unsafe.staticFieldOffset(field), value);
-        else unsafe.putInt(checkObject(object, field), unsafe.objectFieldOffset(field), value);
+        metadata(field.getDeclaringClass()).accessor(field).setInt(object, value);
     }
 
     /**
@@ -835,16 +1022,7 @@ public final class Reflects {
      */
     public static void setLongField(Object object, Field field, long value) throws IllegalArgumentException, NullPointerException, ExceptionInInitializerError {
         if (field.getType() != long.class) throw new IllegalArgumentException("Illegal field type; expected long");
-        try {
-            if (trySetAccessible(field)) {
-                field.setLong(object, value); // Java 6-15
-                return;
-            }
-        } catch (IllegalAccessException ignored) {
-        }
-        // Java 16+
-        if (isStatic(field.getModifiers())) unsafe.putLong(field.getDeclaringClass(), unsafe.staticFieldOffset(field), value);
-        else unsafe.putLong(checkObject(object, field), unsafe.objectFieldOffset(field), value);
+        metadata(field.getDeclaringClass()).accessor(field).setLong(object, value);
     }
 
     /**
@@ -867,16 +1045,7 @@ public final class Reflects {
      */
     public static void setFloatField(Object object, Field field, float value) throws IllegalArgumentException, NullPointerException, ExceptionInInitializerError {
         if (field.getType() != float.class) throw new IllegalArgumentException("Illegal field type; expected float");
-        try {
-            if (trySetAccessible(field)) {
-                field.setFloat(object, value); // Java 6-15
-                return;
-            }
-        } catch (IllegalAccessException ignored) {
-        }
-        // Java 16+
-        if (isStatic(field.getModifiers())) unsafe.putFloat(field.getDeclaringClass(), unsafe.staticFieldOffset(field), value);
-        else unsafe.putFloat(checkObject(object, field), unsafe.objectFieldOffset(field), value);
+        metadata(field.getDeclaringClass()).accessor(field).setFloat(object, value);
     }
 
     /**
@@ -899,16 +1068,7 @@ public final class Reflects {
      */
     public static void setDoubleField(Object object, Field field, double value) throws IllegalArgumentException, NullPointerException, ExceptionInInitializerError {
         if (field.getType() != double.class) throw new IllegalArgumentException("Illegal field type; expected double");
-        try {
-            if (trySetAccessible(field)) {
-                field.setDouble(object, value); // Java 6-15
-                return;
-            }
-        } catch (IllegalAccessException ignored) {
-        }
-        // Java 16+
-        if (isStatic(field.getModifiers())) unsafe.putDouble(field.getDeclaringClass(), unsafe.staticFieldOffset(field), value);
-        else unsafe.putDouble(checkObject(object, field), unsafe.objectFieldOffset(field), value);
+        metadata(field.getDeclaringClass()).accessor(field).setDouble(object, value);
     }
 
     /**
@@ -984,6 +1144,411 @@ public final class Reflects {
         }
     }
 
+    static void ensureClassInitialized(Class<?> clazz) throws ExceptionInInitializerError {
+        try {
+            Class.forName(clazz.getName(), true, clazz.getClassLoader());
+        } catch (ClassNotFoundException ignored) {
+            // Unexpected, e.g. hidden classes; the class will be initialized on its first active use
+        }
+    }
+
+    /**
+     * Gets the values of the specified field of the specified objects into the specified array, in order,
+     * resolving the accessor of the field and checking its type once for the whole batch.
+     * The component type of the array must be the type of the field, or {@code Object} for non-primitive fields.
+     *
+     * @param objects the objects to extract the values from
+     * @param field the field to get
+     * @param values the array to store the values into, from index 0, e.g. an {@code int[]} for an {@code int} field
+     *
+     * @throws    IllegalArgumentException    if the specified values is not an array of the type of the field,
+     *              or if some of the specified objects is not an instance of the class or interface declaring
+     *              the underlying field (or a subclass or implementor thereof).
+     * @throws    IndexOutOfBoundsException   if the specified array is shorter than the specified objects
+     * @throws    NullPointerException        if the specified objects, field or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     * @throws    ExceptionInInitializerError if the initialization provoked
+     *              by this method fails.
+     *
+     * @see FieldAccessor#getInts(Object[], int[])
+     */
+    public static void getFields(Object[] objects, Field field, Object values) throws IllegalArgumentException,
+            IndexOutOfBoundsException, NullPointerException, ExceptionInInitializerError {
+        if (objects == null) throw new NullPointerException();
+        batchGet(metadata(field.getDeclaringClass()).accessor(field), objects, values);
+    }
+
+    /**
+     * Gets the values of the specified field of the specified objects into the specified array, in order,
+     * like {@link #getFields(Object[], Field, Object)} does.
+     *
+     * @param objects the objects to extract the values from
+     * @param field the field to get
+     * @param values the array to store the values into, from index 0, e.g. an {@code int[]} for an {@code int} field
+     *
+     * @throws    IllegalArgumentException    if the specified values is not an array of the type of the field,
+     *              or if some of the specified objects is not an instance of the class or interface declaring
+     *              the underlying field (or a subclass or implementor thereof).
+     * @throws    IndexOutOfBoundsException   if the specified array is shorter than the specified objects
+     * @throws    NullPointerException        if the specified objects, field or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     * @throws    ExceptionInInitializerError if the initialization provoked
+     *              by this method fails.
+     *
+     * @see FieldAccessor#getInts(List, int[])
+     */
+    public static void getFields(List<?> objects, Field field, Object values) throws IllegalArgumentException,
+            IndexOutOfBoundsException, NullPointerException, ExceptionInInitializerError {
+        if (objects == null) throw new NullPointerException();
+        batchGet(metadata(field.getDeclaringClass()).accessor(field), objects, values);
+    }
+
+    /**
+     * Sets the specified field of the specified objects to the values of the same index in the specified array,
+     * resolving the accessor of the field and checking its type once for the whole batch.
+     * The component type of the array must be the type of the field, or {@code Object} for non-primitive fields.
+     *
+     * @param objects the objects whose field should be modified
+     * @param field the field to set
+     * @param values the new values for the field, from index 0, e.g. an {@code int[]} for an {@code int} field
+     *
+     * @throws    IllegalArgumentException    if the specified values is not an array of the type of the field,
+     *              or if some of the specified objects is not an instance of the class or interface declaring
+     *              the underlying field (or a subclass or implementor thereof).
+     * @throws    IndexOutOfBoundsException   if the specified array is shorter than the specified objects
+     * @throws    NullPointerException        if the specified objects, field or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     * @throws    ExceptionInInitializerError if the initialization provoked
+     *              by this method fails.
+     *
+     * @see FieldAccessor#setInts(Object[], int[])
+     */
+    public static void setFields(Object[] objects, Field field, Object values) throws IllegalArgumentException,
+            IndexOutOfBoundsException, NullPointerException, ExceptionInInitializerError {
+        if (objects == null) throw new NullPointerException();
+        batchSet(metadata(field.getDeclaringClass()).accessor(field), objects, values);
+    }
+
+    /**
+     * Sets the specified field of the specified objects to the values of the same index in the specified array,
+     * like {@link #setFields(Object[], Field, Object)} does.
+     *
+     * @param objects the objects whose field should be modified
+     * @param field the field to set
+     * @param values the new values for the field, from index 0, e.g. an {@code int[]} for an {@code int} field
+     *
+     * @throws    IllegalArgumentException    if the specified values is not an array of the type of the field,
+     *              or if some of the specified objects is not an instance of the class or interface declaring
+     *              the underlying field (or a subclass or implementor thereof).
+     * @throws    IndexOutOfBoundsException   if the specified array is shorter than the specified objects
+     * @throws    NullPointerException        if the specified objects, field or array is null, or if some of the
+     *              specified objects is null and the field is an instance field.
+     * @throws    ExceptionInInitializerError if the initialization provoked
+     *              by this method fails.
+     *
+     * @see FieldAccessor#setInts(List, int[])
+     */
+    public static void setFields(List<?> objects, Field field, Object values) throws IllegalArgumentException,
+            IndexOutOfBoundsException, NullPointerException, ExceptionInInitializerError {
+        if (objects == null) throw new NullPointerException();
+        batchSet(metadata(field.getDeclaringClass()).accessor(field), objects, values);
+    }
+
+    private static RuntimeException illegalValues(Object values) {
+        if (values == null) return new NullPointerException();
+        else return new IllegalArgumentException("Illegal values; expected an array, got " + values.getClass().getName());
+    }
+
+    private static void batchGet(FieldAccessor accessor, Object[] objects, Object values) {
+        if (values instanceof boolean[]) accessor.getBooleans(objects, (boolean[]) values);
+        else if (values instanceof byte[]) accessor.getBytes(objects, (byte[]) values);
+        else if (values instanceof char[]) accessor.getChars(objects, (char[]) values);
+        else if (values instanceof short[]) accessor.getShorts(objects, (short[]) values);
+        else if (values instanceof int[]) accessor.getInts(objects, (int[]) values);
+        else if (values instanceof long[]) accessor.getLongs(objects, (long[]) values);
+        else if (values instanceof float[]) accessor.getFloats(objects, (float[]) values);
+        else if (values instanceof double[]) accessor.getDoubles(objects, (double[]) values);
+        else if (values instanceof Object[]) accessor.getObjects(objects, (Object[]) values);
+        else throw illegalValues(values);
+    }
+
+    private static void batchGet(FieldAccessor accessor, List<?> objects, Object values) {
+        if (values instanceof boolean[]) accessor.getBooleans(objects, (boolean[]) values);
+        else if (values instanceof byte[]) accessor.getBytes(objects, (byte[]) values);
+        else if (values instanceof char[]) accessor.getChars(objects, (char[]) values);
+        else if (values instanceof short[]) accessor.getShorts(objects, (short[]) values);
+        else if (values instanceof int[]) accessor.getInts(objects, (int[]) values);
+        else if (values instanceof long[]) accessor.getLongs(objects, (long[]) values);
+        else if (values instanceof float[]) accessor.getFloats(objects, (float[]) values);
+        else if (values instanceof double[]) accessor.getDoubles(objects, (double[]) values);
+        else if (values instanceof Object[]) accessor.getObjects(objects, (Object[]) values);
+        else throw illegalValues(values);
+    }
+
+    private static void batchSet(FieldAccessor accessor, Object[] objects, Object values) {
+        if (values instanceof boolean[]) accessor.setBooleans(objects, (boolean[]) values);
+        else if (values instanceof byte[]) accessor.setBytes(objects, (byte[]) values);
+        else if (values instanceof char[]) accessor.setChars(objects, (char[]) values);
+        else if (values instanceof short[]) accessor.setShorts(objects, (short[]) values);
+        else if (values instanceof int[]) accessor.setInts(objects, (int[]) values);
+        else if (values instanceof long[]) accessor.setLongs(objects, (long[]) values);
+        else if (values instanceof float[]) accessor.setFloats(objects, (float[]) values);
+        else if (values instanceof double[]) accessor.setDoubles(objects, (double[]) values);
+        else if (values instanceof Object[]) accessor.setObjects(objects, (Object[]) values);
+        else throw illegalValues(values);
+    }
+
+    private static void batchSet(FieldAccessor accessor, List<?> objects, Object values) {
+        if (values instanceof boolean[]) accessor.setBooleans(objects, (boolean[]) values);
+        else if (values instanceof byte[]) accessor.setBytes(objects, (byte[]) values);
+        else if (values instanceof char[]) accessor.setChars(objects, (char[]) values);
+        else if (values instanceof short[]) accessor.setShorts(objects, (short[]) values);
+        else if (values instanceof int[]) accessor.setInts(objects, (int[]) values);
+        else if (values instanceof long[]) accessor.setLongs(objects, (long[]) values);
+        else if (values instanceof float[]) accessor.setFloats(objects, (float[]) values);
+        else if (values instanceof double[]) accessor.setDoubles(objects, (double[]) values);
+        else if (values instanceof Object[]) accessor.setObjects(objects, (Object[]) values);
+        else throw illegalValues(values);
+    }
+
+    /**
+     * Creates a {@link FieldAccessor} for the specified field.
+     * The backend, the field offset, the static base and the field type are resolved once,
+     * so the returned accessor should be reused for repeated accesses.
+     *
+     * <p>Fields are accessed through {@code sun.misc.Unsafe}, a plain load or store at the field offset, which
+     * the JIT compiles like a direct access. The backend can be forced by setting the system property
+     * {@code com.tianscar.util.reflect.fieldAccessor} to {@code varhandle} (Java 9+, non-final fields only),
+     * {@code unsafe} or {@code reflect}; unavailable backends fall back to the next one. The {@code VarHandle}
+     * backend is not the default, its method handles are held by the accessor instance, so the JIT can't inline
+     * them as constants. The offsets of the fields of hidden classes and records are not available on Java 15+,
+     * their final fields are read-only through a {@code VarHandle} instead, or through reflection if
+     * {@code VarHandle} is unavailable.
+     *
+     * <p>If the underlying field is static, the class that declared the
+     * field is initialized if it has not already been initialized.
+     *
+     * @param field the field to access
+     * @return the accessor of the specified field
+     *
+     * @throws    NullPointerException      if the specified field is null
+     * @throws    ExceptionInInitializerError if the initialization provoked
+     *              by this method fails.
+     */
+    public static FieldAccessor accessor(Field field) throws NullPointerException, ExceptionInInitializerError {
+        String backend = fieldAccessorBackend;
+        // VarHandles of final fields are read-only
+        if (varHandleAvailable && !isFinal(field.getModifiers()) && backend != null && backend.equals("varhandle")) {
+            try {
+                return new VarHandleFieldAccessor(lookup, field); // Java 9+
+            } catch (IllegalAccessException ignored) {
+                // Unexpected
+            }
+        }
+        if (unsafe != null && (backend == null || !backend.equals("reflect"))) {
+            try {
+                return new UnsafeFieldAccessor(unsafe, field); // Java 6+
+            } catch (UnsupportedOperationException e) {
+                // Java 15+ hidden classes and records, the trusted lookup still gets a read-only VarHandle of their final fields
+                if (varHandleAvailable) {
+                    try {
+                        return new VarHandleFieldAccessor(lookup, field);
+                    } catch (IllegalAccessException ignored) {
+                        // Unexpected
+                    }
+                }
+            }
+        }
+        return new ReflectFieldAccessor(field); // Unexpected
+    }
+
+    /**
+     * Creates a {@link MethodInvoker} for the specified method.
+     * On Java 6-7, a dedicated accessor class is generated for the method once; on Java 8+, the method is
+     * unreflected through the trusted lookup and adapted to a spreader once, so the returned
+     * invoker should be reused for repeated invocations. The backend can be forced with the
+     * {@code com.tianscar.util.reflect.methodInvoker} system property
+     * ({@code bytecode}, {@code methodhandle} or {@code reflect}).
+     *
+     * @param method the method to invoke
+     * @return the invoker of the specified method
+     *
+     * @throws    NullPointerException      if the specified method is null
+     */
+    public static MethodInvoker invoker(Method method) throws NullPointerException {
+        String backend = methodInvokerBackend;
+        if (backend == null ? generatedAccessorPreferred : backend.equals("bytecode")) {
+            InvocationHandler accessor = metadata(method.getDeclaringClass()).generatedAccessor(method);
+            if (accessor != null) return new BytecodeMethodInvoker(method, accessor); // Java 6-7
+        }
+        if (lookup != null && (backend == null || !backend.equals("reflect"))) {
+            try {
+                return new MethodHandleInvoker(lookup, method); // Java 7+
+            } catch (IllegalAccessException ignored) {
+                // Unexpected
+            }
+        }
+        return new ReflectMethodInvoker(method); // Java 6
+    }
+
+    /**
+     * Finds the field of the specified name declared by the specified class, its superinterfaces or its
+     * superclasses, in the order the JVM resolves fields, including non-public fields, and returns its accessor.
+     *
+     * <p>The members of every class are indexed by name once, and the results of lookups (including missing
+     * fields) as well as the accessors are cached per class, so repeated lookups are a hash lookup.
+     * The returned accessor is shared, don't rely on its identity.
+     *
+     * <p>If the field is static, the class that declared the
+     * field is initialized if it has not already been initialized.
+     *
+     * @param clazz the class to search the field from
+     * @param name the name of the field
+     * @return the accessor of the field, or null if there is no such field
+     *
+     * @throws    NullPointerException      if the specified class or name is null
+     * @throws    ExceptionInInitializerError if the initialization provoked
+     *              by this method fails.
+     */
+    public static FieldAccessor findField(Class<?> clazz, String name) throws NullPointerException, ExceptionInInitializerError {
+        if (name == null) throw new NullPointerException();
+        Field field = metadata(clazz).findField(name);
+        return field == null ? null : metadata(field.getDeclaringClass()).accessor(field);
+    }
+
+    /**
+     * Finds the method of the specified name and parameter types declared by the specified class, its superclasses
+     * or its superinterfaces, in the order of {@link Class#getMethod(String, Class[])} but including non-public
+     * methods, and returns its invoker. If several methods only differ by return type (e.g. bridge methods),
+     * the one with the most specific return type is returned.
+     *
+     * <p>The members of every class are indexed by name once, and the results of lookups (including missing
+     * methods) as well as the invokers are cached per class, so repeated lookups are a hash lookup.
+     * The returned invoker is shared, don't rely on its identity.
+     *
+     * @param clazz the class to search the method from
+     * @param name the name of the method
+     * @param parameterTypes the parameter types of the method, null is treated as an empty array
+     * @return the invoker of the method, or null if there is no such method
+     *
+     * @throws    NullPointerException      if the specified class or name is null
+     */
+    public static MethodInvoker findMethod(Class<?> clazz, String name, Class<?>... parameterTypes) throws NullPointerException {
+        if (name == null) throw new NullPointerException();
+        Method method = metadata(clazz).findMethod(name, parameterTypes == null ? EMPTY_TYPES : parameterTypes);
+        return method == null ? null : metadata(method.getDeclaringClass()).invoker(method);
+    }
+
+    /**
+     * Creates an implementation of the specified interface which calls the members of the class of the specified
+     * target on the target, including private members and JDK internal members.
+     * Every abstract method of the interface is mapped onto a method or a field of the class as described by
+     * {@link Bind}; static members are called on the class.
+     *
+     * <p>The members are resolved once per interface and class. On Java 7+, the interface is implemented by a class
+     * generated in its package, which calls the method handles of the members directly with the arguments of the
+     * interface methods, so there is no boxing and no argument array, and the calls can be inlined; otherwise
+     * a {@link java.lang.reflect.Proxy} backed by the invokers and accessors of the members is returned.
+     *
+     * @param iface the interface to implement
+     * @param target the object to call the members on
+     * @return an implementation of the interface
+     *
+     * @throws    IllegalArgumentException  if the specified class is not an interface, or if some of its abstract
+     *                                      methods can't be mapped onto a member of the class of the target
+     * @throws    NullPointerException      if the specified interface or target is null
+     */
+    public static <I> I bind(Class<I> iface, Object target) throws IllegalArgumentException, NullPointerException {
+        return iface.cast(binding(iface, target.getClass(), false).bind(target));
+    }
+
+    /**
+     * Creates an implementation of the specified interface which calls the static members of the specified class,
+     * including private members and JDK internal members, like {@link #bind(Class, Object)} does.
+     *
+     * @param iface the interface to implement
+     * @param clazz the class to call the static members of
+     * @return an implementation of the interface
+     *
+     * @throws    IllegalArgumentException  if the specified class is not an interface, or if some of its abstract
+     *                                      methods can't be mapped onto a static member of the specified class
+     * @throws    NullPointerException      if the specified interface or class is null
+     */
+    public static <I> I bindStatic(Class<I> iface, Class<?> clazz) throws IllegalArgumentException, NullPointerException {
+        if (clazz == null) throw new NullPointerException();
+        return iface.cast(binding(iface, clazz, true).bind(null));
+    }
+
+    // A binding references both the interface and the class, so it's cached by the class if its class loader delegates
+    // to the one of the interface (e.g. a plugin class bound to an interface of the application), otherwise by the
+    // interface (e.g. a JDK class bound to an interface of a plugin), so it never keeps a class loader reachable
+    // from a class loader which may outlive it.
+    private static InterfaceBinding binding(Class<?> iface, Class<?> clazz, boolean isStatic) throws IllegalArgumentException {
+        return metadata(delegatesTo(clazz.getClassLoader(), iface.getClassLoader()) ? clazz : iface).binding(iface, clazz, isStatic);
+    }
+
+    private static boolean delegatesTo(ClassLoader classLoader, ClassLoader parent) {
+        if (parent == null) return true; // Bootstrap class loader
+        try {
+            for (ClassLoader cl = classLoader; cl != null; cl = cl.getParent()) {
+                if (cl == parent) return true;
+            }
+        } catch (SecurityException ignored) {
+        }
+        return false;
+    }
+
+    /**
+     * Defines a class from the specified bytecode in the package, the class loader and the protection domain of the
+     * specified host class, and initializes it, so it's ready to be used with the other methods of this class.
+     * Uses {@code MethodHandles.Lookup#defineClass} with the trusted lookup on Java 9+, and
+     * {@code ClassLoader#defineClass} on Java 6-8.
+     *
+     * <p>The class gets package access to the host class, and stays loaded as long as its class loader.
+     *
+     * @param host the class to define the class next to
+     * @param bytes the bytecode of the class, which must be in the package of the host class
+     * @return the defined class
+     *
+     * @throws    IllegalArgumentException       if the class is not in the package of the host class (Java 9+)
+     * @throws    LinkageError                   if the bytecode is malformed or can't be verified, or if a class of
+     *                                           the same name is already defined by the class loader
+     * @throws    UnsupportedOperationException  if classes can't be defined on this runtime environment
+     * @throws    NullPointerException           if the specified host class or bytecode is null
+     */
+    public static Class<?> defineClass(Class<?> host, byte[] bytes) throws IllegalArgumentException, LinkageError,
+            UnsupportedOperationException, NullPointerException {
+        if (host == null || bytes == null) throw new NullPointerException();
+        return ClassDefiner.defineClass(host, bytes);
+    }
+
+    /**
+     * Defines a hidden class from the specified bytecode next to the specified host class, and initializes it,
+     * so it's ready to be used with the other methods of this class. Uses {@code MethodHandles.Lookup#defineHiddenClass}
+     * with the trusted lookup on Java 15+, making the class a nestmate of the host class, and
+     * {@code Unsafe#defineAnonymousClass} on Java 7-14, making the host class its host; either way the class
+     * may access the private members of the host class directly, so its calls can be inlined.
+     * On Java 6, this method falls back to {@link #defineClass(Class, byte[])}.
+     *
+     * <p>Hidden classes can't be found by name, several of them may be defined from the same bytecode,
+     * and they are unloaded once unreachable, independently of the class loader of the host class.
+     * Note that the fields of hidden classes can't be accessed with {@code sun.misc.Unsafe} on Java 15+.
+     *
+     * @param host the class to define the class next to
+     * @param bytes the bytecode of the class, which must be in the package of the host class
+     * @return the defined class
+     *
+     * @throws    IllegalArgumentException       if the class is not in the package of the host class (Java 9+)
+     * @throws    LinkageError                   if the bytecode is malformed or can't be verified
+     * @throws    UnsupportedOperationException  if classes can't be defined on this runtime environment
+     * @throws    NullPointerException           if the specified host class or bytecode is null
+     */
+    public static Class<?> defineHiddenClass(Class<?> host, byte[] bytes) throws IllegalArgumentException, LinkageError,
+            UnsupportedOperationException, NullPointerException {
+        if (host == null || bytes == null) throw new NullPointerException();
+        return ClassDefiner.defineHiddenClass(host, bytes);
+    }
+
     /**
      * Invokes the underlying method represented by this {@code Method}
      * object, on the specified object with the specified parameters.
@@ -1075,7 +1640,7 @@ public final class Reflects {
     public static boolean invokeBooleanMethod(Object object, Method method, Object... args)
             throws InvocationTargetException, IllegalArgumentException, NullPointerException, ExceptionInInitializerError {
         if (method.getReturnType() != boolean.class) throw new IllegalArgumentException("Illegal return type; expected boolean");
-        else return (Boolean) invokeMethod(object, method, args);
+        else return metadata(method.getDeclaringClass()).invoker(method).invokeBoolean(object, args);
     }
 
     /**
@@ -1107,7 +1672,7 @@ public final class Reflects {
     public static byte invokeByteMethod(Object object, Method method, Object... args)
             throws InvocationTargetException, IllegalArgumentException, NullPointerException, ExceptionInInitializerError {
         if (method.getReturnType() != byte.class) throw new IllegalArgumentException("Illegal return type; expected byte");
-        else return (Byte) invokeMethod(object, method, args);
+        else return metadata(method.getDeclaringClass()).invoker(method).invokeByte(object, args);
     }
 
     /**
@@ -1139,7 +1704,7 @@ public final class Reflects {
     public static char invokeCharMethod(Object object, Method method, Object... args)
             throws InvocationTargetException, IllegalArgumentException, NullPointerException, ExceptionInInitializerError {
         if (method.getReturnType() != char.class) throw new IllegalArgumentException("Illegal return type; expected char");
-        else return (Character) invokeMethod(object, method, args);
+        else return metadata(method.getDeclaringClass()).invoker(method).invokeChar(object, args);
     }
 
     /**
@@ -1171,7 +1736,7 @@ public final class Reflects {
     public static short invokeShortMethod(Object object, Method method, Object... args)
             throws InvocationTargetException, IllegalArgumentException, NullPointerException, ExceptionInInitializerError {
         if (method.getReturnType() != short.class) throw new IllegalArgumentException("Illegal return type; expected short");
-        else return (Short) invokeMethod(object, method, args);
+        else return metadata(method.getDeclaringClass()).invoker(method).invokeShort(object, args);
     }
 
     /**
@@ -1203,7 +1768,7 @@ public final class Reflects {
     public static int invokeIntMethod(Object object, Method method, Object... args)
             throws InvocationTargetException, IllegalArgumentException, NullPointerException, ExceptionInInitializerError {
         if (method.getReturnType() != int.class) throw new IllegalArgumentException("Illegal return type; expected int");
-        else return (Integer) invokeMethod(object, method, args);
+        else return metadata(method.getDeclaringClass()).invoker(method).invokeInt(object, args);
     }
 
     /**
@@ -1235,7 +1800,7 @@ public final class Reflects {
     public static long invokeLongMethod(Object object, Method method, Object... args)
             throws InvocationTargetException, IllegalArgumentException, NullPointerException, ExceptionInInitializerError {
         if (method.getReturnType() != long.class) throw new IllegalArgumentException("Illegal return type; expected long");
-        else return (Long) invokeMethod(object, method, args);
+        else return metadata(method.getDeclaringClass()).invoker(method).invokeLong(object, args);
     }
 
     /**
@@ -1267,7 +1832,7 @@ public final class Reflects {
     public static float invokeFloatMethod(Object object, Method method, Object... args)
             throws InvocationTargetException, IllegalArgumentException, NullPointerException, ExceptionInInitializerError {
         if (method.getReturnType() != float.class) throw new IllegalArgumentException("Illegal return type; expected float");
-        else return (Float) invokeMethod(object, method, args);
+        else return metadata(method.getDeclaringClass()).invoker(method).invokeFloat(object, args);
     }
 
     /**
@@ -1299,7 +1864,7 @@ public final class Reflects {
     public static double invokeDoubleMethod(Object object, Method method, Object... args)
             throws InvocationTargetException, IllegalArgumentException, NullPointerException, ExceptionInInitializerError {
         if (method.getReturnType() != double.class) throw new IllegalArgumentException("Illegal return type; expected double");
-        else return (Double) invokeMethod(object, method, args);
+        else return metadata(method.getDeclaringClass()).invoker(method).invokeDouble(object, args);
     }
 
     /**
@@ -1355,17 +1920,7 @@ public final class Reflects {
      */
     public static Object invokeMethod(Object object, Method method, Object... args)
             throws InvocationTargetException, IllegalArgumentException, NullPointerException, ExceptionInInitializerError {
-        try {
-            if (trySetAccessible(method)) return method.invoke(object, args); // Java 6-15
-            else {
-                // Java 16+
-                Object methodHandle = unreflectMethod.invoke(lookup, method);
-                if (!isStatic(method.getModifiers())) methodHandle = bindToMethod.invoke(methodHandle, object);
-                return invokeWithArgumentsMethod.invoke(methodHandle, (Object) args);
-            }
-        } catch (IllegalAccessException e) {
-            return null; // Unexpected
-        }
+        return metadata(method.getDeclaringClass()).invoker(method).invoke(object, args);
     }
 
 }
@@ -0,0 +1,42 @@
+package com.tianscar.util.reflect;
+
+import sun.misc.Unsafe;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+final class SequentialGraphCopier extends GraphCopier {
+
+    private final Map<Object, Object> copies = new IdentityHashMap<Object, Object>();
+
+    SequentialGraphCopier(Unsafe unsafe) {
+        super(unsafe);
+    }
+
+    @Override
+    Object copy(Object root) {
+        List<Object> pending = new ArrayList<Object>();
+        Object copy = resolve(root, pending);
+        while (!pending.isEmpty()) {
+            int size = pending.size();
+            Object pendingCopy = pending.remove(size - 1);
+            Object src = pending.remove(size - 2);
+            fill(src, pendingCopy, pending);
+        }
+        return copy;
+    }
+
+    @Override
+    Object getCopy(Object src) {
+        return copies.get(src);
+    }
+
+    @Override
+    Object putCopyIfAbsent(Object src, Object copy) {
+        copies.put(src, copy);
+        return null;
+    }
+
+}
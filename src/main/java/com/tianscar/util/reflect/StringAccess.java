@@ -0,0 +1,202 @@
+package com.tianscar.util.reflect;
+
+import sun.misc.Unsafe;
+
+import java.lang.reflect.Field;
+
+/**
+ * Zero-copy access to the internal representation of {@link String}s.
+ *
+ * <p>Java 6-8 (and Android 5-) store the characters in a {@code char[]}, Java 6 (and Android 5-) also share it
+ * between substrings with an offset and a count. Java 9+ store them in a {@code byte[]} with a coder, which is
+ * {@link #LATIN1} (one byte per character) if compact strings are enabled and every character fits in a byte,
+ * otherwise {@link #UTF16} (two bytes per character, in the native byte order).
+ * Android 6+ store the characters inside the {@code String} object itself, which is not supported.
+ *
+ * <p>The arrays returned and wrapped by this class are shared with the strings, they must never be modified
+ * afterwards, otherwise the immutability of the strings (and every hash table they are the keys of) is broken.
+ */
+public final class StringAccess {
+
+    private StringAccess() {
+        throw new AssertionError("No " + StringAccess.class.getName() + " instances for you!");
+    }
+
+    /**
+     * The coder of strings which store one byte per character.
+     */
+    public static final byte LATIN1 = 0;
+
+    /**
+     * The coder of strings which store two bytes per character.
+     */
+    public static final byte UTF16 = 1;
+
+    private static final Unsafe unsafe = Reflects.unsafe;
+
+    private static final Class<?> valueType;
+    private static final long valueOffset;  // -1 on Android 6+
+    private static final long coderOffset;  // -1 on Java 6-8
+    private static final long offsetOffset; // -1 on Java 7+
+    private static final long countOffset;  // -1 on Java 7+
+    private static final boolean compactStrings;
+
+    static {
+        Field valueField = getDeclaredField("value");
+        if (valueField == null || (valueField.getType() != byte[].class && valueField.getType() != char[].class)) {
+            valueType = null; // Android 6+
+            valueOffset = -1;
+        }
+        else {
+            valueType = valueField.getType();
+            valueOffset = unsafe.objectFieldOffset(valueField);
+        }
+        coderOffset = objectFieldOffset(getDeclaredField("coder"));
+        offsetOffset = objectFieldOffset(getDeclaredField("offset"));
+        countOffset = objectFieldOffset(getDeclaredField("count"));
+        Field compactStringsField = getDeclaredField("COMPACT_STRINGS");
+        if (compactStringsField == null) compactStrings = false; // Java 6-8
+        else compactStrings = unsafe.getBoolean(unsafe.staticFieldBase(compactStringsField),
+                unsafe.staticFieldOffset(compactStringsField)); // Java 9+
+    }
+
+    private static Field getDeclaredField(String name) {
+        try {
+            return String.class.getDeclaredField(name);
+        } catch (NoSuchFieldException e) {
+            return null;
+        }
+    }
+
+    private static long objectFieldOffset(Field field) {
+        return field == null ? -1 : unsafe.objectFieldOffset(field);
+    }
+
+    private static void checkSupported() throws UnsupportedOperationException {
+        if (valueType == null) throw new UnsupportedOperationException("Unsupported String layout");
+    }
+
+    /**
+     * Returns the type of the internal array of strings on this runtime environment.
+     *
+     * @return {@code byte[].class} on Java 9+, {@code char[].class} on Java 6-8,
+     * or null if strings don't store their characters in an array (Android 6+)
+     */
+    public static Class<?> valueType() {
+        return valueType;
+    }
+
+    /**
+     * Returns whether strings of which every character fits in a byte are stored with the {@link #LATIN1} coder.
+     *
+     * @return true on Java 9+ unless disabled with {@code -XX:-CompactStrings}, false otherwise
+     */
+    public static boolean compactStrings() {
+        return compactStrings;
+    }
+
+    /**
+     * Returns the internal array of the specified string, without copying.
+     *
+     * @param string the string
+     * @return a {@code byte[]} on Java 9+, a {@code char[]} on Java 6-8
+     *
+     * @throws    UnsupportedOperationException  if strings don't store their characters in an array
+     * @throws    NullPointerException           if the specified string is null
+     */
+    public static Object value(String string) throws UnsupportedOperationException, NullPointerException {
+        checkSupported();
+        if (string == null) throw new NullPointerException();
+        return unsafe.getObject(string, valueOffset);
+    }
+
+    /**
+     * Returns the coder of the specified string.
+     *
+     * @param string the string
+     * @return {@link #LATIN1} or {@link #UTF16}; always {@link #UTF16} on Java 6-8
+     *
+     * @throws    UnsupportedOperationException  if strings don't store their characters in an array
+     * @throws    NullPointerException           if the specified string is null
+     */
+    public static byte coder(String string) throws UnsupportedOperationException, NullPointerException {
+        checkSupported();
+        if (string == null) throw new NullPointerException();
+        return coderOffset == -1 ? UTF16 : unsafe.getByte(string, coderOffset);
+    }
+
+    /**
+     * Returns the index of the first character of the specified string in its internal array.
+     *
+     * @param string the string
+     * @return the offset of the string; always 0 on Java 7+
+     *
+     * @throws    UnsupportedOperationException  if strings don't store their characters in an array
+     * @throws    NullPointerException           if the specified string is null
+     */
+    public static int offset(String string) throws UnsupportedOperationException, NullPointerException {
+        checkSupported();
+        if (string == null) throw new NullPointerException();
+        return offsetOffset == -1 ? 0 : unsafe.getInt(string, offsetOffset);
+    }
+
+    private static String allocate() {
+        try {
+            return (String) unsafe.allocateInstance(String.class); // Java 6+
+        } catch (InstantiationException e) {
+            throw new UnsupportedOperationException(e); // Unexpected
+        }
+    }
+
+    /**
+     * Creates a string which uses the specified array as its internal array, without copying.
+     *
+     * @param value the characters of the string
+     * @return the string
+     *
+     * @throws    UnsupportedOperationException  if strings don't store their characters in a {@code char[]} (Java 9+)
+     * @throws    NullPointerException           if the specified array is null
+     */
+    public static String wrap(char[] value) throws UnsupportedOperationException, NullPointerException {
+        if (valueType != char[].class) throw new UnsupportedOperationException("Unsupported String layout");
+        if (value == null) throw new NullPointerException();
+        String string = allocate();
+        if (countOffset != -1) unsafe.putInt(string, countOffset, value.length); // Java 6
+        unsafe.putOrderedObject(string, valueOffset, value); // Published like a final field
+        return string;
+    }
+
+    /**
+     * Creates a string which uses the specified array as its internal array, without copying.
+     *
+     * <p>Strings of the {@link #UTF16} coder store every character in two bytes of the native byte order.
+     * If compact strings are enabled, the {@link #UTF16} coder must only be used if some character doesn't fit
+     * in a byte, otherwise the string is not equal to the other strings of the same characters.
+     *
+     * @param value the bytes of the string
+     * @param coder {@link #LATIN1} or {@link #UTF16}
+     * @return the string
+     *
+     * @throws    UnsupportedOperationException  if strings don't store their characters in a {@code byte[]} (Java 6-8)
+     * @throws    IllegalArgumentException       if the specified coder is illegal, or is {@link #LATIN1} while compact
+     *                                           strings are disabled, or is {@link #UTF16} while the length of the
+     *                                           specified array is odd
+     * @throws    NullPointerException           if the specified array is null
+     */
+    public static String wrap(byte[] value, byte coder) throws UnsupportedOperationException, IllegalArgumentException, NullPointerException {
+        if (valueType != byte[].class) throw new UnsupportedOperationException("Unsupported String layout");
+        if (value == null) throw new NullPointerException();
+        if (coder == LATIN1) {
+            if (!compactStrings) throw new IllegalArgumentException("Compact strings disabled");
+        }
+        else if (coder == UTF16) {
+            if ((value.length & 1) != 0) throw new IllegalArgumentException("Illegal UTF16 length: " + value.length);
+        }
+        else throw new IllegalArgumentException("Illegal coder: " + coder);
+        String string = allocate();
+        unsafe.putByte(string, coderOffset, coder);
+        unsafe.putOrderedObject(string, valueOffset, value); // Published like a final field
+        return string;
+    }
+
+}
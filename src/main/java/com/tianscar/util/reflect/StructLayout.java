@@ -0,0 +1,438 @@
+package com.tianscar.util.reflect;
+
+import sun.misc.Unsafe;
+
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Maps the primitive instance fields of a class onto a fixed layout in native memory or in a {@link ByteBuffer},
+ * so large numbers of objects can be staged off-heap and rehydrated later.
+ *
+ * <p>The layout doesn't depend on the VM: the primitive fields of the class and all its superclasses are laid
+ * out from the top superclass down, then by name, each one aligned to its own size, and the size of the struct
+ * is rounded up to the size of its largest field, like a C struct, so the fields of contiguous structs stay
+ * aligned. Values are stored in the native byte order, whatever the order of the buffer. Reference fields are
+ * not stored: they are left untouched when a struct is read into an existing object, and null in the objects
+ * created by {@link #read(long)}, which are allocated without running any constructor.
+ *
+ * <p>Fields are copied with typed {@code sun.misc.Unsafe} loads and stores between their cached offsets in the
+ * object and their offsets in the struct, including private and final fields. Addresses are not checked,
+ * buffer indices are.
+ *
+ * @param <T> the class of the objects
+ */
+public final class StructLayout<T> {
+
+    private static final Unsafe unsafe = Reflects.unsafe;
+    private static final long BYTE_ARRAY_BASE = unsafe.arrayBaseOffset(byte[].class);
+
+    // The array and the array offset of heap buffers, which ByteBuffer#array and ByteBuffer#arrayOffset
+    // refuse to return for read-only buffers
+    private static final long arrayFieldOffset;
+    private static final long bufferOffsetFieldOffset;
+
+    static {
+        long _arrayFieldOffset;
+        long _bufferOffsetFieldOffset;
+        try {
+            _arrayFieldOffset = unsafe.objectFieldOffset(ByteBuffer.class.getDeclaredField("hb")); // Java 6+
+            _bufferOffsetFieldOffset = unsafe.objectFieldOffset(ByteBuffer.class.getDeclaredField("offset"));
+        } catch (NoSuchFieldException e) {
+            _arrayFieldOffset = -1; // Unexpected
+            _bufferOffsetFieldOffset = -1;
+        }
+        arrayFieldOffset = _arrayFieldOffset;
+        bufferOffsetFieldOffset = _bufferOffsetFieldOffset;
+    }
+
+    private final Class<T> clazz;
+    // The primitive fields in the order of the struct
+    private final Field[] fields;
+    private final int[] types;
+    private final long[] objectOffsets;
+    private final long[] structOffsets;
+    private final long size;
+
+    private StructLayout(Class<T> clazz, FieldLayout layout) {
+        this.clazz = clazz;
+        int count = layout.primitives.length;
+        fields = new Field[count];
+        types = new int[count];
+        objectOffsets = new long[count];
+        structOffsets = new long[count];
+        long offset = 0;
+        int alignment = 1;
+        int j = 0;
+        for (int i : layout.serialOrder) {
+            if (layout.types[i] == FieldLayout.OBJECT) continue;
+            int fieldSize = fieldSize(layout.types[i]);
+            offset = (offset + fieldSize - 1) & -fieldSize;
+            fields[j] = layout.fields[i];
+            types[j] = layout.types[i];
+            objectOffsets[j] = layout.offsets[i];
+            structOffsets[j] = offset;
+            offset += fieldSize;
+            alignment = Math.max(alignment, fieldSize);
+            j ++;
+        }
+        size = (offset + alignment - 1) & -alignment;
+    }
+
+    // Called once per class by ClassMetadata#structLayout()
+    static <T> StructLayout<T> create(Class<T> clazz, FieldLayout layout) throws UnsupportedOperationException {
+        // Java 15+ hidden classes and records
+        if (layout.offsets == null) throw new UnsupportedOperationException("Unsupported struct layout of " + clazz.getName());
+        return new StructLayout<T>(clazz, layout);
+    }
+
+    private static int fieldSize(int type) {
+        switch (type) {
+            case FieldLayout.BOOLEAN: case FieldLayout.BYTE: return 1;
+            case FieldLayout.CHAR: case FieldLayout.SHORT: return 2;
+            case FieldLayout.INT: case FieldLayout.FLOAT: return 4;
+            default: return 8;
+        }
+    }
+
+    /**
+     * Returns the struct layout of the specified class, which is computed once per class.
+     *
+     * @param clazz the class of the objects
+     * @return the struct layout of the specified class
+     *
+     * @throws    IllegalArgumentException     if the specified class is an array, primitive or interface type
+     * @throws    UnsupportedOperationException if the field offsets of the class are not available
+     *              (e.g. for records and hidden classes on Java 15+)
+     * @throws    NullPointerException         if the specified class is null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> StructLayout<T> of(Class<T> clazz) throws IllegalArgumentException, UnsupportedOperationException,
+            NullPointerException {
+        if (clazz.isArray() || clazz.isPrimitive() || clazz.isInterface())
+            throw new IllegalArgumentException(clazz.getName() + " has no instance fields");
+        return (StructLayout<T>) Reflects.metadata(clazz).structLayout();
+    }
+
+    /**
+     * Returns the class of the objects of this layout.
+     *
+     * @return the class of the objects
+     */
+    public Class<T> type() {
+        return clazz;
+    }
+
+    /**
+     * Returns the size of a struct, which is also the distance between contiguous structs.
+     *
+     * @return the size of a struct in bytes
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns the offsets of the primitive fields in a struct.
+     *
+     * @return an unmodifiable map of the primitive fields to their offsets in a struct, ordered by offset
+     */
+    public Map<Field, Long> fieldOffsets() {
+        Map<Field, Long> offsets = new LinkedHashMap<Field, Long>(fields.length * 4 / 3 + 1);
+        for (int i = 0; i < fields.length; i ++) {
+            offsets.put(fields[i], structOffsets[i]);
+        }
+        return Collections.unmodifiableMap(offsets);
+    }
+
+    /**
+     * Allocates native memory for the specified number of contiguous structs, which must be released with
+     * {@link #free(long)}. The memory is not initialized.
+     *
+     * @param count the number of structs
+     * @return the address of the memory
+     *
+     * @throws    IllegalArgumentException if the specified count is negative
+     * @throws    OutOfMemoryError         if the memory can't be allocated
+     */
+    public long allocate(long count) throws IllegalArgumentException, OutOfMemoryError {
+        if (count < 0) throw new IllegalArgumentException("Illegal count: " + count);
+        return unsafe.allocateMemory(count * size);
+    }
+
+    /**
+     * Releases native memory allocated by {@link #allocate(long)}. Has no effect if the address is 0.
+     *
+     * @param address the address of the memory
+     */
+    public static void free(long address) {
+        if (address != 0) unsafe.freeMemory(address);
+    }
+
+    private void checkInstance(Object object) throws IllegalArgumentException, NullPointerException {
+        if (!clazz.isInstance(object)) {
+            // NOTE: will throw NullPointerException, as specified, if object is null
+            throw new IllegalArgumentException("Illegal object; expected " + clazz.getName() + ", got " + object.getClass().getName());
+        }
+    }
+
+    private T newInstance() throws IllegalArgumentException {
+        try {
+            return clazz.cast(unsafe.allocateInstance(clazz)); // Java 6+
+        } catch (InstantiationException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private void write0(Object object, Object base, long offset) {
+        for (int i = 0; i < types.length; i ++) {
+            long src = objectOffsets[i];
+            long dst = offset + structOffsets[i];
+            switch (types[i]) {
+                case FieldLayout.BOOLEAN: unsafe.putByte(base, dst, unsafe.getBoolean(object, src) ? (byte) 1 : (byte) 0); break;
+                case FieldLayout.BYTE: unsafe.putByte(base, dst, unsafe.getByte(object, src)); break;
+                case FieldLayout.CHAR: unsafe.putChar(base, dst, unsafe.getChar(object, src)); break;
+                case FieldLayout.SHORT: unsafe.putShort(base, dst, unsafe.getShort(object, src)); break;
+                case FieldLayout.INT: unsafe.putInt(base, dst, unsafe.getInt(object, src)); break;
+                case FieldLayout.LONG: unsafe.putLong(base, dst, unsafe.getLong(object, src)); break;
+                case FieldLayout.FLOAT: unsafe.putFloat(base, dst, unsafe.getFloat(object, src)); break;
+                default: unsafe.putDouble(base, dst, unsafe.getDouble(object, src)); break;
+            }
+        }
+    }
+
+    private void read0(Object base, long offset, Object object) {
+        for (int i = 0; i < types.length; i ++) {
+            long src = offset + structOffsets[i];
+            long dst = objectOffsets[i];
+            switch (types[i]) {
+                case FieldLayout.BOOLEAN: unsafe.putBoolean(object, dst, unsafe.getByte(base, src) != 0); break;
+                case FieldLayout.BYTE: unsafe.putByte(object, dst, unsafe.getByte(base, src)); break;
+                case FieldLayout.CHAR: unsafe.putChar(object, dst, unsafe.getChar(base, src)); break;
+                case FieldLayout.SHORT: unsafe.putShort(object, dst, unsafe.getShort(base, src)); break;
+                case FieldLayout.INT: unsafe.putInt(object, dst, unsafe.getInt(base, src)); break;
+                case FieldLayout.LONG: unsafe.putLong(object, dst, unsafe.getLong(base, src)); break;
+                case FieldLayout.FLOAT: unsafe.putFloat(object, dst, unsafe.getFloat(base, src)); break;
+                default: unsafe.putDouble(object, dst, unsafe.getDouble(base, src)); break;
+            }
+        }
+    }
+
+    private void writeAll0(T[] objects, Object base, long offset) {
+        for (T object : objects) {
+            checkInstance(object);
+        }
+        for (T object : objects) {
+            write0(object, base, offset);
+            offset += size;
+        }
+    }
+
+    private void readAll0(Object base, long offset, T[] objects) {
+        for (T object : objects) {
+            if (object != null) checkInstance(object);
+        }
+        for (int i = 0; i < objects.length; i ++) {
+            T object = objects[i];
+            if (object == null) objects[i] = object = newInstance();
+            read0(base, offset, object);
+            offset += size;
+        }
+    }
+
+    // The memory of direct buffers is addressed absolutely, the one of heap buffers relatively to their array
+    private static Object base(ByteBuffer buffer, boolean write) throws ReadOnlyBufferException, IllegalArgumentException {
+        if (write && buffer.isReadOnly()) throw new ReadOnlyBufferException();
+        if (buffer.isDirect()) return null;
+        else if (arrayFieldOffset != -1) return unsafe.getObject(buffer, arrayFieldOffset);
+        else if (buffer.hasArray()) return buffer.array();
+        else throw new IllegalArgumentException("Illegal buffer; expected direct or backed by an accessible array");
+    }
+
+    private long offset(ByteBuffer buffer, int index, long count) throws IndexOutOfBoundsException {
+        if (index < 0 || index > buffer.limit() - count * size)
+            throw new IndexOutOfBoundsException("Range [" + index + ", " + index + " + " + count * size + ") out of bounds for limit " + buffer.limit());
+        if (buffer.isDirect()) return BufferAccess.address(buffer) + index;
+        else if (bufferOffsetFieldOffset != -1) return BYTE_ARRAY_BASE + unsafe.getInt(buffer, bufferOffsetFieldOffset) + index;
+        else return BYTE_ARRAY_BASE + buffer.arrayOffset() + index;
+    }
+
+    /**
+     * Writes the primitive fields of the specified object to a struct at the specified address.
+     *
+     * @param object the object to write
+     * @param address the address of the struct
+     *
+     * @throws    IllegalArgumentException if the specified object is not an instance of the class of this layout
+     * @throws    NullPointerException     if the specified object is null
+     */
+    public void write(T object, long address) throws IllegalArgumentException, NullPointerException {
+        checkInstance(object);
+        write0(object, null, address);
+    }
+
+    /**
+     * Reads the primitive fields of the specified object from a struct at the specified address.
+     *
+     * @param address the address of the struct
+     * @param object the object to read into
+     *
+     * @throws    IllegalArgumentException if the specified object is not an instance of the class of this layout
+     * @throws    NullPointerException     if the specified object is null
+     */
+    public void read(long address, T object) throws IllegalArgumentException, NullPointerException {
+        checkInstance(object);
+        read0(null, address, object);
+    }
+
+    /**
+     * Creates an object from a struct at the specified address, without running any constructor.
+     *
+     * @param address the address of the struct
+     * @return the new object
+     *
+     * @throws    IllegalArgumentException if the class of this layout cannot be instantiated
+     *              without a constructor (e.g. an abstract class)
+     */
+    public T read(long address) throws IllegalArgumentException {
+        T object = newInstance();
+        read0(null, address, object);
+        return object;
+    }
+
+    /**
+     * Writes the primitive fields of the specified objects to contiguous structs from the specified address.
+     * Either all objects are written, or none if one of them is illegal.
+     *
+     * @param objects the objects to write
+     * @param address the address of the first struct
+     *
+     * @throws    IllegalArgumentException if some of the specified objects is not an instance of the class of this layout
+     * @throws    NullPointerException     if the specified array, or some of the specified objects, is null
+     */
+    public void writeAll(T[] objects, long address) throws IllegalArgumentException, NullPointerException {
+        writeAll0(objects, null, address);
+    }
+
+    /**
+     * Reads the primitive fields of the specified objects from contiguous structs from the specified address.
+     * Null elements of the array are replaced by objects created without running any constructor.
+     *
+     * @param address the address of the first struct
+     * @param objects the objects to read into
+     *
+     * @throws    IllegalArgumentException if some of the specified objects is not an instance of the class of this layout,
+     *              or if the class cannot be instantiated without a constructor
+     * @throws    NullPointerException     if the specified array is null
+     */
+    public void readAll(long address, T[] objects) throws IllegalArgumentException, NullPointerException {
+        readAll0(null, address, objects);
+    }
+
+    /**
+     * Writes the primitive fields of the specified object to a struct at the specified index of the specified buffer,
+     * without changing its position.
+     *
+     * @param object the object to write
+     * @param buffer the buffer
+     * @param index the index of the struct in bytes
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an instance of the class of this layout,
+     *              or if the specified buffer is a heap buffer whose array can't be accessed
+     * @throws    IndexOutOfBoundsException if the struct doesn't fit between the specified index and the limit of the buffer
+     * @throws    ReadOnlyBufferException   if the specified buffer is read-only
+     * @throws    NullPointerException      if the specified object or buffer is null
+     */
+    public void write(T object, ByteBuffer buffer, int index) throws IllegalArgumentException, IndexOutOfBoundsException,
+            ReadOnlyBufferException, NullPointerException {
+        checkInstance(object);
+        write0(object, base(buffer, true), offset(buffer, index, 1));
+    }
+
+    /**
+     * Reads the primitive fields of the specified object from a struct at the specified index of the specified buffer,
+     * without changing its position.
+     *
+     * @param buffer the buffer
+     * @param index the index of the struct in bytes
+     * @param object the object to read into
+     *
+     * @throws    IllegalArgumentException  if the specified object is not an instance of the class of this layout,
+     *              or if the specified buffer is a heap buffer whose array can't be accessed
+     * @throws    IndexOutOfBoundsException if the struct doesn't fit between the specified index and the limit of the buffer
+     * @throws    NullPointerException      if the specified buffer or object is null
+     */
+    public void read(ByteBuffer buffer, int index, T object) throws IllegalArgumentException, IndexOutOfBoundsException,
+            NullPointerException {
+        checkInstance(object);
+        read0(base(buffer, false), offset(buffer, index, 1), object);
+    }
+
+    /**
+     * Creates an object from a struct at the specified index of the specified buffer, without running any constructor
+     * and without changing the position of the buffer.
+     *
+     * @param buffer the buffer
+     * @param index the index of the struct in bytes
+     * @return the new object
+     *
+     * @throws    IllegalArgumentException  if the specified buffer is a heap buffer whose array can't be accessed,
+     *              or if the class of this layout cannot be instantiated without a constructor
+     * @throws    IndexOutOfBoundsException if the struct doesn't fit between the specified index and the limit of the buffer
+     * @throws    NullPointerException      if the specified buffer is null
+     */
+    public T read(ByteBuffer buffer, int index) throws IllegalArgumentException, IndexOutOfBoundsException, NullPointerException {
+        Object base = base(buffer, false);
+        long offset = offset(buffer, index, 1);
+        T object = newInstance();
+        read0(base, offset, object);
+        return object;
+    }
+
+    /**
+     * Writes the primitive fields of the specified objects to contiguous structs from the specified index of the
+     * specified buffer, without changing its position. Either all objects are written, or none if one of them
+     * is illegal.
+     *
+     * @param objects the objects to write
+     * @param buffer the buffer
+     * @param index the index of the first struct in bytes
+     *
+     * @throws    IllegalArgumentException  if some of the specified objects is not an instance of the class of this layout,
+     *              or if the specified buffer is a heap buffer whose array can't be accessed
+     * @throws    IndexOutOfBoundsException if the structs don't fit between the specified index and the limit of the buffer
+     * @throws    ReadOnlyBufferException   if the specified buffer is read-only
+     * @throws    NullPointerException      if the specified array or buffer, or some of the specified objects, is null
+     */
+    public void writeAll(T[] objects, ByteBuffer buffer, int index) throws IllegalArgumentException, IndexOutOfBoundsException,
+            ReadOnlyBufferException, NullPointerException {
+        Object base = base(buffer, true);
+        writeAll0(objects, base, offset(buffer, index, objects.length));
+    }
+
+    /**
+     * Reads the primitive fields of the specified objects from contiguous structs from the specified index of the
+     * specified buffer, without changing its position. Null elements of the array are replaced by objects created
+     * without running any constructor.
+     *
+     * @param buffer the buffer
+     * @param index the index of the first struct in bytes
+     * @param objects the objects to read into
+     *
+     * @throws    IllegalArgumentException  if some of the specified objects is not an instance of the class of this layout,
+     *              if the specified buffer is a heap buffer whose array can't be accessed,
+     *              or if the class cannot be instantiated without a constructor
+     * @throws    IndexOutOfBoundsException if the structs don't fit between the specified index and the limit of the buffer
+     * @throws    NullPointerException      if the specified buffer or array is null
+     */
+    public void readAll(ByteBuffer buffer, int index, T[] objects) throws IllegalArgumentException, IndexOutOfBoundsException,
+            NullPointerException {
+        Object base = base(buffer, false);
+        readAll0(base, offset(buffer, index, objects.length), objects);
+    }
+
+}
@@ -0,0 +1,849 @@
+package com.tianscar.util.reflect;
+
+import sun.misc.Unsafe;
+
+import java.lang.reflect.Field;
+import java.nio.ByteOrder;
+
+final class UnsafeFieldAccessor extends FieldAccessor {
+
+    private static final boolean BIG_ENDIAN = ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN;
+
+    private final Unsafe unsafe;
+    private final Object base;
+    private final long offset;
+    // Only the int, long and reference atomics are available everywhere (including Android),
+    // sub-word fields are accessed through the aligned int word which contains them.
+    private final long wordOffset;
+    private final int shift;
+    private final int mask;
+
+    UnsafeFieldAccessor(Unsafe unsafe, Field field) {
+        super(field);
+        this.unsafe = unsafe;
+        if (isStatic) {
+            Reflects.ensureClassInitialized(declaringClass);
+            base = unsafe.staticFieldBase(field);
+            offset = unsafe.staticFieldOffset(field);
+        }
+        else {
+            base = null;
+            offset = unsafe.objectFieldOffset(field);
+        }
+        int size;
+        if (type == boolean.class || type == byte.class) size = 1;
+        else if (type == char.class || type == short.class) size = 2;
+        else size = 0;
+        if (size == 0) {
+            wordOffset = offset;
+            shift = 0;
+            mask = -1;
+        }
+        else {
+            wordOffset = offset & ~3L;
+            int byteShift = (int) (offset & 3L);
+            if (BIG_ENDIAN) byteShift = 4 - size - byteShift;
+            shift = byteShift << 3;
+            mask = (size == 1 ? 0xFF : 0xFFFF) << shift;
+        }
+    }
+
+    private Object base(Object object) {
+        return isStatic ? base : checkObject(object);
+    }
+
+    private int getBitsVolatile(Object base) {
+        return (unsafe.getIntVolatile(base, wordOffset) & mask) >>> shift;
+    }
+
+    private boolean compareAndSwapBits(Object base, int expected, int value) {
+        expected = (expected << shift) & mask;
+        value = (value << shift) & mask;
+        int word;
+        do {
+            word = unsafe.getIntVolatile(base, wordOffset);
+            if ((word & mask) != expected) return false;
+        } while (!unsafe.compareAndSwapInt(base, wordOffset, word, (word & ~mask) | value));
+        return true;
+    }
+
+    private int getAndSetBits(Object base, int value) {
+        value = (value << shift) & mask;
+        int word;
+        do {
+            word = unsafe.getIntVolatile(base, wordOffset);
+        } while (!unsafe.compareAndSwapInt(base, wordOffset, word, (word & ~mask) | value));
+        return (word & mask) >>> shift;
+    }
+
+    @Override
+    public Object get(Object object) {
+        Object base = base(object);
+        if (type == boolean.class) return unsafe.getBoolean(base, offset);
+        else if (type == byte.class) return unsafe.getByte(base, offset);
+        else if (type == char.class) return unsafe.getChar(base, offset);
+        else if (type == short.class) return unsafe.getShort(base, offset);
+        else if (type == int.class) return unsafe.getInt(base, offset);
+        else if (type == long.class) return unsafe.getLong(base, offset);
+        else if (type == float.class) return unsafe.getFloat(base, offset);
+        else if (type == double.class) return unsafe.getDouble(base, offset);
+        else return unsafe.getObject(base, offset);
+    }
+
+    @Override
+    public Object getObject(Object object) {
+        if (type.isPrimitive()) throw illegalType("non-primitive");
+        return unsafe.getObject(base(object), offset);
+    }
+
+    @Override
+    public boolean getBoolean(Object object) {
+        if (type != boolean.class) throw illegalType("boolean");
+        return unsafe.getBoolean(base(object), offset);
+    }
+
+    @Override
+    public byte getByte(Object object) {
+        if (type != byte.class) throw illegalType("byte");
+        return unsafe.getByte(base(object), offset);
+    }
+
+    @Override
+    public char getChar(Object object) {
+        if (type != char.class) throw illegalType("char");
+        return unsafe.getChar(base(object), offset);
+    }
+
+    @Override
+    public short getShort(Object object) {
+        if (type != short.class) throw illegalType("short");
+        return unsafe.getShort(base(object), offset);
+    }
+
+    @Override
+    public int getInt(Object object) {
+        if (type != int.class) throw illegalType("int");
+        return unsafe.getInt(base(object), offset);
+    }
+
+    @Override
+    public long getLong(Object object) {
+        if (type != long.class) throw illegalType("long");
+        return unsafe.getLong(base(object), offset);
+    }
+
+    @Override
+    public float getFloat(Object object) {
+        if (type != float.class) throw illegalType("float");
+        return unsafe.getFloat(base(object), offset);
+    }
+
+    @Override
+    public double getDouble(Object object) {
+        if (type != double.class) throw illegalType("double");
+        return unsafe.getDouble(base(object), offset);
+    }
+
+    @Override
+    public void set(Object object, Object value) {
+        try {
+            if (type == boolean.class) setBoolean(object, (Boolean) value);
+            else if (type == byte.class) setByte(object, (Byte) value);
+            else if (type == char.class) setChar(object, (Character) value);
+            else if (type == short.class) setShort(object, (Short) value);
+            else if (type == int.class) setInt(object, (Integer) value);
+            else if (type == long.class) setLong(object, (Long) value);
+            else if (type == float.class) setFloat(object, (Float) value);
+            else if (type == double.class) setDouble(object, (Double) value);
+            else setObject(object, value);
+        } catch (ClassCastException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    @Override
+    public void setObject(Object object, Object value) {
+        if (type.isPrimitive() || (value != null && !type.isInstance(value)))
+            throw illegalType(Reflects.getTypeName(type));
+        unsafe.putObject(base(object), offset, value);
+    }
+
+    @Override
+    public void setBoolean(Object object, boolean value) {
+        if (type != boolean.class) throw illegalType("boolean");
+        unsafe.putBoolean(base(object), offset, value);
+    }
+
+    @Override
+    public void setByte(Object object, byte value) {
+        if (type != byte.class) throw illegalType("byte");
+        unsafe.putByte(base(object), offset, value);
+    }
+
+    @Override
+    public void setChar(Object object, char value) {
+        if (type != char.class) throw illegalType("char");
+        unsafe.putChar(base(object), offset, value);
+    }
+
+    @Override
+    public void setShort(Object object, short value) {
+        if (type != short.class) throw illegalType("short");
+        unsafe.putShort(base(object), offset, value);
+    }
+
+    @Override
+    public void setInt(Object object, int value) {
+        if (type != int.class) throw illegalType("int");
+        unsafe.putInt(base(object), offset, value);
+    }
+
+    @Override
+    public void setLong(Object object, long value) {
+        if (type != long.class) throw illegalType("long");
+        unsafe.putLong(base(object), offset, value);
+    }
+
+    @Override
+    public void setFloat(Object object, float value) {
+        if (type != float.class) throw illegalType("float");
+        unsafe.putFloat(base(object), offset, value);
+    }
+
+    @Override
+    public void setDouble(Object object, double value) {
+        if (type != double.class) throw illegalType("double");
+        unsafe.putDouble(base(object), offset, value);
+    }
+
+    @Override
+    boolean loadBoolean(Object object) {
+        return unsafe.getBoolean(base(object), offset);
+    }
+
+    @Override
+    void storeBoolean(Object object, boolean value) {
+        unsafe.putBoolean(base(object), offset, value);
+    }
+
+    @Override
+    byte loadByte(Object object) {
+        return unsafe.getByte(base(object), offset);
+    }
+
+    @Override
+    void storeByte(Object object, byte value) {
+        unsafe.putByte(base(object), offset, value);
+    }
+
+    @Override
+    char loadChar(Object object) {
+        return unsafe.getChar(base(object), offset);
+    }
+
+    @Override
+    void storeChar(Object object, char value) {
+        unsafe.putChar(base(object), offset, value);
+    }
+
+    @Override
+    short loadShort(Object object) {
+        return unsafe.getShort(base(object), offset);
+    }
+
+    @Override
+    void storeShort(Object object, short value) {
+        unsafe.putShort(base(object), offset, value);
+    }
+
+    @Override
+    int loadInt(Object object) {
+        return unsafe.getInt(base(object), offset);
+    }
+
+    @Override
+    void storeInt(Object object, int value) {
+        unsafe.putInt(base(object), offset, value);
+    }
+
+    @Override
+    long loadLong(Object object) {
+        return unsafe.getLong(base(object), offset);
+    }
+
+    @Override
+    void storeLong(Object object, long value) {
+        unsafe.putLong(base(object), offset, value);
+    }
+
+    @Override
+    float loadFloat(Object object) {
+        return unsafe.getFloat(base(object), offset);
+    }
+
+    @Override
+    void storeFloat(Object object, float value) {
+        unsafe.putFloat(base(object), offset, value);
+    }
+
+    @Override
+    double loadDouble(Object object) {
+        return unsafe.getDouble(base(object), offset);
+    }
+
+    @Override
+    void storeDouble(Object object, double value) {
+        unsafe.putDouble(base(object), offset, value);
+    }
+
+    @Override
+    Object loadObject(Object object) {
+        return unsafe.getObject(base(object), offset);
+    }
+
+    @Override
+    void storeObject(Object object, Object value) {
+        if (value != null && !type.isInstance(value)) throw illegalType(Reflects.getTypeName(type));
+        unsafe.putObject(base(object), offset, value);
+    }
+
+    @Override
+    public Object getObjectVolatile(Object object) {
+        if (type.isPrimitive()) throw illegalType("non-primitive");
+        return unsafe.getObjectVolatile(base(object), offset);
+    }
+
+    @Override
+    public Object getObjectAcquire(Object object) {
+        if (type.isPrimitive()) throw illegalType("non-primitive");
+        return unsafe.getObjectVolatile(base(object), offset);
+    }
+
+    @Override
+    public Object getObjectOpaque(Object object) {
+        if (type.isPrimitive()) throw illegalType("non-primitive");
+        return unsafe.getObjectVolatile(base(object), offset);
+    }
+
+    @Override
+    public void setObjectVolatile(Object object, Object value) {
+        if (type.isPrimitive() || (value != null && !type.isInstance(value)))
+            throw illegalType(Reflects.getTypeName(type));
+        unsafe.putObjectVolatile(base(object), offset, value);
+    }
+
+    @Override
+    public void setObjectRelease(Object object, Object value) {
+        if (type.isPrimitive() || (value != null && !type.isInstance(value)))
+            throw illegalType(Reflects.getTypeName(type));
+        unsafe.putOrderedObject(base(object), offset, value);
+    }
+
+    @Override
+    public void setObjectOpaque(Object object, Object value) {
+        if (type.isPrimitive() || (value != null && !type.isInstance(value)))
+            throw illegalType(Reflects.getTypeName(type));
+        unsafe.putOrderedObject(base(object), offset, value);
+    }
+
+    @Override
+    public boolean compareAndSetObject(Object object, Object expected, Object value) {
+        if (type.isPrimitive() || (value != null && !type.isInstance(value)))
+            throw illegalType(Reflects.getTypeName(type));
+        return unsafe.compareAndSwapObject(base(object), offset, expected, value);
+    }
+
+    @Override
+    public Object getAndSetObject(Object object, Object value) {
+        if (type.isPrimitive() || (value != null && !type.isInstance(value)))
+            throw illegalType(Reflects.getTypeName(type));
+        Object base = base(object);
+        Object current;
+        do {
+            current = unsafe.getObjectVolatile(base, offset);
+        } while (!unsafe.compareAndSwapObject(base, offset, current, value));
+        return current;
+    }
+
+    @Override
+    public boolean getBooleanVolatile(Object object) {
+        if (type != boolean.class) throw illegalType("boolean");
+        return getBitsVolatile(base(object)) != 0;
+    }
+
+    @Override
+    public boolean getBooleanAcquire(Object object) {
+        if (type != boolean.class) throw illegalType("boolean");
+        return getBitsVolatile(base(object)) != 0;
+    }
+
+    @Override
+    public boolean getBooleanOpaque(Object object) {
+        if (type != boolean.class) throw illegalType("boolean");
+        return getBitsVolatile(base(object)) != 0;
+    }
+
+    @Override
+    public void setBooleanVolatile(Object object, boolean value) {
+        if (type != boolean.class) throw illegalType("boolean");
+        getAndSetBits(base(object), value ? 1 : 0);
+    }
+
+    @Override
+    public void setBooleanRelease(Object object, boolean value) {
+        if (type != boolean.class) throw illegalType("boolean");
+        getAndSetBits(base(object), value ? 1 : 0);
+    }
+
+    @Override
+    public void setBooleanOpaque(Object object, boolean value) {
+        if (type != boolean.class) throw illegalType("boolean");
+        getAndSetBits(base(object), value ? 1 : 0);
+    }
+
+    @Override
+    public boolean compareAndSetBoolean(Object object, boolean expected, boolean value) {
+        if (type != boolean.class) throw illegalType("boolean");
+        return compareAndSwapBits(base(object), expected ? 1 : 0, value ? 1 : 0);
+    }
+
+    @Override
+    public boolean getAndSetBoolean(Object object, boolean value) {
+        if (type != boolean.class) throw illegalType("boolean");
+        return getAndSetBits(base(object), value ? 1 : 0) != 0;
+    }
+
+    @Override
+    public byte getByteVolatile(Object object) {
+        if (type != byte.class) throw illegalType("byte");
+        return (byte) getBitsVolatile(base(object));
+    }
+
+    @Override
+    public byte getByteAcquire(Object object) {
+        if (type != byte.class) throw illegalType("byte");
+        return (byte) getBitsVolatile(base(object));
+    }
+
+    @Override
+    public byte getByteOpaque(Object object) {
+        if (type != byte.class) throw illegalType("byte");
+        return (byte) getBitsVolatile(base(object));
+    }
+
+    @Override
+    public void setByteVolatile(Object object, byte value) {
+        if (type != byte.class) throw illegalType("byte");
+        getAndSetBits(base(object), value);
+    }
+
+    @Override
+    public void setByteRelease(Object object, byte value) {
+        if (type != byte.class) throw illegalType("byte");
+        getAndSetBits(base(object), value);
+    }
+
+    @Override
+    public void setByteOpaque(Object object, byte value) {
+        if (type != byte.class) throw illegalType("byte");
+        getAndSetBits(base(object), value);
+    }
+
+    @Override
+    public boolean compareAndSetByte(Object object, byte expected, byte value) {
+        if (type != byte.class) throw illegalType("byte");
+        return compareAndSwapBits(base(object), expected, value);
+    }
+
+    @Override
+    public byte getAndSetByte(Object object, byte value) {
+        if (type != byte.class) throw illegalType("byte");
+        return (byte) getAndSetBits(base(object), value);
+    }
+
+    @Override
+    public byte getAndAddByte(Object object, byte delta) {
+        if (type != byte.class) throw illegalType("byte");
+        Object base = base(object);
+        byte current;
+        do {
+            current = (byte) getBitsVolatile(base);
+        } while (!compareAndSwapBits(base, current, current + delta));
+        return current;
+    }
+
+    @Override
+    public char getCharVolatile(Object object) {
+        if (type != char.class) throw illegalType("char");
+        return (char) getBitsVolatile(base(object));
+    }
+
+    @Override
+    public char getCharAcquire(Object object) {
+        if (type != char.class) throw illegalType("char");
+        return (char) getBitsVolatile(base(object));
+    }
+
+    @Override
+    public char getCharOpaque(Object object) {
+        if (type != char.class) throw illegalType("char");
+        return (char) getBitsVolatile(base(object));
+    }
+
+    @Override
+    public void setCharVolatile(Object object, char value) {
+        if (type != char.class) throw illegalType("char");
+        getAndSetBits(base(object), value);
+    }
+
+    @Override
+    public void setCharRelease(Object object, char value) {
+        if (type != char.class) throw illegalType("char");
+        getAndSetBits(base(object), value);
+    }
+
+    @Override
+    public void setCharOpaque(Object object, char value) {
+        if (type != char.class) throw illegalType("char");
+        getAndSetBits(base(object), value);
+    }
+
+    @Override
+    public boolean compareAndSetChar(Object object, char expected, char value) {
+        if (type != char.class) throw illegalType("char");
+        return compareAndSwapBits(base(object), expected, value);
+    }
+
+    @Override
+    public char getAndSetChar(Object object, char value) {
+        if (type != char.class) throw illegalType("char");
+        return (char) getAndSetBits(base(object), value);
+    }
+
+    @Override
+    public char getAndAddChar(Object object, char delta) {
+        if (type != char.class) throw illegalType("char");
+        Object base = base(object);
+        char current;
+        do {
+            current = (char) getBitsVolatile(base);
+        } while (!compareAndSwapBits(base, current, current + delta));
+        return current;
+    }
+
+    @Override
+    public short getShortVolatile(Object object) {
+        if (type != short.class) throw illegalType("short");
+        return (short) getBitsVolatile(base(object));
+    }
+
+    @Override
+    public short getShortAcquire(Object object) {
+        if (type != short.class) throw illegalType("short");
+        return (short) getBitsVolatile(base(object));
+    }
+
+    @Override
+    public short getShortOpaque(Object object) {
+        if (type != short.class) throw illegalType("short");
+        return (short) getBitsVolatile(base(object));
+    }
+
+    @Override
+    public void setShortVolatile(Object object, short value) {
+        if (type != short.class) throw illegalType("short");
+        getAndSetBits(base(object), value);
+    }
+
+    @Override
+    public void setShortRelease(Object object, short value) {
+        if (type != short.class) throw illegalType("short");
+        getAndSetBits(base(object), value);
+    }
+
+    @Override
+    public void setShortOpaque(Object object, short value) {
+        if (type != short.class) throw illegalType("short");
+        getAndSetBits(base(object), value);
+    }
+
+    @Override
+    public boolean compareAndSetShort(Object object, short expected, short value) {
+        if (type != short.class) throw illegalType("short");
+        return compareAndSwapBits(base(object), expected, value);
+    }
+
+    @Override
+    public short getAndSetShort(Object object, short value) {
+        if (type != short.class) throw illegalType("short");
+        return (short) getAndSetBits(base(object), value);
+    }
+
+    @Override
+    public short getAndAddShort(Object object, short delta) {
+        if (type != short.class) throw illegalType("short");
+        Object base = base(object);
+        short current;
+        do {
+            current = (short) getBitsVolatile(base);
+        } while (!compareAndSwapBits(base, current, current + delta));
+        return current;
+    }
+
+    @Override
+    public int getIntVolatile(Object object) {
+        if (type != int.class) throw illegalType("int");
+        return unsafe.getIntVolatile(base(object), offset);
+    }
+
+    @Override
+    public int getIntAcquire(Object object) {
+        if (type != int.class) throw illegalType("int");
+        return unsafe.getIntVolatile(base(object), offset);
+    }
+
+    @Override
+    public int getIntOpaque(Object object) {
+        if (type != int.class) throw illegalType("int");
+        return unsafe.getIntVolatile(base(object), offset);
+    }
+
+    @Override
+    public void setIntVolatile(Object object, int value) {
+        if (type != int.class) throw illegalType("int");
+        unsafe.putIntVolatile(base(object), offset, value);
+    }
+
+    @Override
+    public void setIntRelease(Object object, int value) {
+        if (type != int.class) throw illegalType("int");
+        unsafe.putOrderedInt(base(object), offset, value);
+    }
+
+    @Override
+    public void setIntOpaque(Object object, int value) {
+        if (type != int.class) throw illegalType("int");
+        unsafe.putOrderedInt(base(object), offset, value);
+    }
+
+    @Override
+    public boolean compareAndSetInt(Object object, int expected, int value) {
+        if (type != int.class) throw illegalType("int");
+        return unsafe.compareAndSwapInt(base(object), offset, expected, value);
+    }
+
+    @Override
+    public int getAndSetInt(Object object, int value) {
+        if (type != int.class) throw illegalType("int");
+        Object base = base(object);
+        int current;
+        do {
+            current = unsafe.getIntVolatile(base, offset);
+        } while (!unsafe.compareAndSwapInt(base, offset, current, value));
+        return current;
+    }
+
+    @Override
+    public int getAndAddInt(Object object, int delta) {
+        if (type != int.class) throw illegalType("int");
+        Object base = base(object);
+        int current;
+        do {
+            current = unsafe.getIntVolatile(base, offset);
+        } while (!unsafe.compareAndSwapInt(base, offset, current, current + delta));
+        return current;
+    }
+
+    @Override
+    public long getLongVolatile(Object object) {
+        if (type != long.class) throw illegalType("long");
+        return unsafe.getLongVolatile(base(object), offset);
+    }
+
+    @Override
+    public long getLongAcquire(Object object) {
+        if (type != long.class) throw illegalType("long");
+        return unsafe.getLongVolatile(base(object), offset);
+    }
+
+    @Override
+    public long getLongOpaque(Object object) {
+        if (type != long.class) throw illegalType("long");
+        return unsafe.getLongVolatile(base(object), offset);
+    }
+
+    @Override
+    public void setLongVolatile(Object object, long value) {
+        if (type != long.class) throw illegalType("long");
+        unsafe.putLongVolatile(base(object), offset, value);
+    }
+
+    @Override
+    public void setLongRelease(Object object, long value) {
+        if (type != long.class) throw illegalType("long");
+        unsafe.putOrderedLong(base(object), offset, value);
+    }
+
+    @Override
+    public void setLongOpaque(Object object, long value) {
+        if (type != long.class) throw illegalType("long");
+        unsafe.putOrderedLong(base(object), offset, value);
+    }
+
+    @Override
+    public boolean compareAndSetLong(Object object, long expected, long value) {
+        if (type != long.class) throw illegalType("long");
+        return unsafe.compareAndSwapLong(base(object), offset, expected, value);
+    }
+
+    @Override
+    public long getAndSetLong(Object object, long value) {
+        if (type != long.class) throw illegalType("long");
+        Object base = base(object);
+        long current;
+        do {
+            current = unsafe.getLongVolatile(base, offset);
+        } while (!unsafe.compareAndSwapLong(base, offset, current, value));
+        return current;
+    }
+
+    @Override
+    public long getAndAddLong(Object object, long delta) {
+        if (type != long.class) throw illegalType("long");
+        Object base = base(object);
+        long current;
+        do {
+            current = unsafe.getLongVolatile(base, offset);
+        } while (!unsafe.compareAndSwapLong(base, offset, current, current + delta));
+        return current;
+    }
+
+    @Override
+    public float getFloatVolatile(Object object) {
+        if (type != float.class) throw illegalType("float");
+        return Float.intBitsToFloat(unsafe.getIntVolatile(base(object), offset));
+    }
+
+    @Override
+    public float getFloatAcquire(Object object) {
+        if (type != float.class) throw illegalType("float");
+        return Float.intBitsToFloat(unsafe.getIntVolatile(base(object), offset));
+    }
+
+    @Override
+    public float getFloatOpaque(Object object) {
+        if (type != float.class) throw illegalType("float");
+        return Float.intBitsToFloat(unsafe.getIntVolatile(base(object), offset));
+    }
+
+    @Override
+    public void setFloatVolatile(Object object, float value) {
+        if (type != float.class) throw illegalType("float");
+        unsafe.putIntVolatile(base(object), offset, Float.floatToRawIntBits(value));
+    }
+
+    @Override
+    public void setFloatRelease(Object object, float value) {
+        if (type != float.class) throw illegalType("float");
+        unsafe.putOrderedInt(base(object), offset, Float.floatToRawIntBits(value));
+    }
+
+    @Override
+    public void setFloatOpaque(Object object, float value) {
+        if (type != float.class) throw illegalType("float");
+        unsafe.putOrderedInt(base(object), offset, Float.floatToRawIntBits(value));
+    }
+
+    @Override
+    public boolean compareAndSetFloat(Object object, float expected, float value) {
+        if (type != float.class) throw illegalType("float");
+        return unsafe.compareAndSwapInt(base(object), offset, Float.floatToRawIntBits(expected), Float.floatToRawIntBits(value));
+    }
+
+    @Override
+    public float getAndSetFloat(Object object, float value) {
+        if (type != float.class) throw illegalType("float");
+        Object base = base(object);
+        int current;
+        do {
+            current = unsafe.getIntVolatile(base, offset);
+        } while (!unsafe.compareAndSwapInt(base, offset, current, Float.floatToRawIntBits(value)));
+        return Float.intBitsToFloat(current);
+    }
+
+    @Override
+    public float getAndAddFloat(Object object, float delta) {
+        if (type != float.class) throw illegalType("float");
+        Object base = base(object);
+        int current;
+        do {
+            current = unsafe.getIntVolatile(base, offset);
+        } while (!unsafe.compareAndSwapInt(base, offset, current, Float.floatToRawIntBits(Float.intBitsToFloat(current) + delta)));
+        return Float.intBitsToFloat(current);
+    }
+
+    @Override
+    public double getDoubleVolatile(Object object) {
+        if (type != double.class) throw illegalType("double");
+        return Double.longBitsToDouble(unsafe.getLongVolatile(base(object), offset));
+    }
+
+    @Override
+    public double getDoubleAcquire(Object object) {
+        if (type != double.class) throw illegalType("double");
+        return Double.longBitsToDouble(unsafe.getLongVolatile(base(object), offset));
+    }
+
+    @Override
+    public double getDoubleOpaque(Object object) {
+        if (type != double.class) throw illegalType("double");
+        return Double.longBitsToDouble(unsafe.getLongVolatile(base(object), offset));
+    }
+
+    @Override
+    public void setDoubleVolatile(Object object, double value) {
+        if (type != double.class) throw illegalType("double");
+        unsafe.putLongVolatile(base(object), offset, Double.doubleToRawLongBits(value));
+    }
+
+    @Override
+    public void setDoubleRelease(Object object, double value) {
+        if (type != double.class) throw illegalType("double");
+        unsafe.putOrderedLong(base(object), offset, Double.doubleToRawLongBits(value));
+    }
+
+    @Override
+    public void setDoubleOpaque(Object object, double value) {
+        if (type != double.class) throw illegalType("double");
+        unsafe.putOrderedLong(base(object), offset, Double.doubleToRawLongBits(value));
+    }
+
+    @Override
+    public boolean compareAndSetDouble(Object object, double expected, double value) {
+        if (type != double.class) throw illegalType("double");
+        return unsafe.compareAndSwapLong(base(object), offset, Double.doubleToRawLongBits(expected), Double.doubleToRawLongBits(value));
+    }
+
+    @Override
+    public double getAndSetDouble(Object object, double value) {
+        if (type != double.class) throw illegalType("double");
+        Object base = base(object);
+        long current;
+        do {
+            current = unsafe.getLongVolatile(base, offset);
+        } while (!unsafe.compareAndSwapLong(base, offset, current, Double.doubleToRawLongBits(value)));
+        return Double.longBitsToDouble(current);
+    }
+
+    @Override
+    public double getAndAddDouble(Object object, double delta) {
+        if (type != double.class) throw illegalType("double");
+        Object base = base(object);
+        long current;
+        do {
+            current = unsafe.getLongVolatile(base, offset);
+        } while (!unsafe.compareAndSwapLong(base, offset, current, Double.doubleToRawLongBits(Double.longBitsToDouble(current) + delta)));
+        return Double.longBitsToDouble(current);
+    }
+
+}
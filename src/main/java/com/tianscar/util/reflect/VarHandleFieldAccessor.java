@@ -0,0 +1,1289 @@
+package com.tianscar.util.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+
+// Java 9+ only, never load this class before checking that java.lang.invoke.VarHandle and the trusted lookup are available.
+// Java 7-8 doesn't have java.lang.invoke.VarHandle, so we use it via reflection and invoke the method handles of its access modes.
+final class VarHandleFieldAccessor extends FieldAccessor {
+
+    private static final Method unreflectVarHandleMethod;
+    private static final Method toMethodHandleMethod;
+    private static final Class<?> accessModeClass;
+
+    static {
+        try {
+            unreflectVarHandleMethod = MethodHandles.Lookup.class.getDeclaredMethod("unreflectVarHandle", Field.class);
+            accessModeClass = Class.forName("java.lang.invoke.VarHandle$AccessMode");
+            toMethodHandleMethod = Class.forName("java.lang.invoke.VarHandle").getDeclaredMethod("toMethodHandle", accessModeClass);
+        } catch (NoSuchMethodException e) {
+            throw new ExceptionInInitializerError(e); // Unexpected
+        } catch (ClassNotFoundException e) {
+            throw new ExceptionInInitializerError(e); // Unexpected
+        }
+    }
+
+    private static final String[] ACCESS_MODES = new String[] {
+            "GET_VOLATILE", "SET_VOLATILE", "GET_ACQUIRE", "SET_RELEASE", "GET_OPAQUE", "SET_OPAQUE",
+            "COMPARE_AND_SET", "GET_AND_SET", "GET_AND_ADD"
+    };
+    private static final int GET_VOLATILE = 0;
+    private static final int SET_VOLATILE = 1;
+    private static final int GET_ACQUIRE = 2;
+    private static final int SET_RELEASE = 3;
+    private static final int GET_OPAQUE = 4;
+    private static final int SET_OPAQUE = 5;
+    private static final int COMPARE_AND_SET = 6;
+    private static final int GET_AND_SET = 7;
+    private static final int GET_AND_ADD = 8;
+
+    private final Object varHandle;
+    private final Class<?> erasedType;
+    // (Object)T, the argument is ignored if the field is static
+    private final MethodHandle getter;
+    // (Object, T)void, the first argument is ignored if the field is static
+    private final MethodHandle setter;
+    // Created on first use, racy initialization is fine since method handles are immutable
+    private final MethodHandle[] accessModeHandles = new MethodHandle[ACCESS_MODES.length];
+
+    VarHandleFieldAccessor(Object lookup, Field field) throws IllegalAccessException {
+        super(field);
+        if (isStatic) Reflects.ensureClassInitialized(declaringClass);
+        try {
+            varHandle = unreflectVarHandleMethod.invoke(lookup, field);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IllegalAccessException) throw (IllegalAccessException) cause;
+            else throw new UndeclaredThrowableException(cause); // Unexpected
+        }
+        erasedType = type.isPrimitive() ? type : Object.class;
+        getter = toMethodHandle(varHandle, "GET", MethodType.methodType(erasedType, Object.class));
+        setter = toMethodHandle(varHandle, "SET", MethodType.methodType(void.class, Object.class, erasedType));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private MethodHandle toMethodHandle(Object varHandle, String accessMode, MethodType type) throws IllegalAccessException {
+        MethodHandle handle;
+        try {
+            handle = (MethodHandle) toMethodHandleMethod.invoke(varHandle, Enum.valueOf((Class) accessModeClass, accessMode));
+        } catch (InvocationTargetException e) {
+            throw new UndeclaredThrowableException(e.getCause()); // Unexpected
+        }
+        if (isStatic) handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        return handle.asType(type);
+    }
+
+    private MethodHandle accessModeHandle(int accessMode) {
+        MethodHandle handle = accessModeHandles[accessMode];
+        if (handle == null) {
+            MethodType methodType;
+            switch (accessMode) {
+                case GET_VOLATILE: case GET_ACQUIRE: case GET_OPAQUE:
+                    methodType = MethodType.methodType(erasedType, Object.class);
+                    break;
+                case SET_VOLATILE: case SET_RELEASE: case SET_OPAQUE:
+                    methodType = MethodType.methodType(void.class, Object.class, erasedType);
+                    break;
+                case COMPARE_AND_SET:
+                    methodType = MethodType.methodType(boolean.class, Object.class, erasedType, erasedType);
+                    break;
+                default: // GET_AND_SET, GET_AND_ADD
+                    methodType = MethodType.methodType(erasedType, Object.class, erasedType);
+                    break;
+            }
+            try {
+                handle = toMethodHandle(varHandle, ACCESS_MODES[accessMode], methodType);
+            } catch (IllegalAccessException e) {
+                throw new UndeclaredThrowableException(e); // Unexpected
+            }
+            accessModeHandles[accessMode] = handle;
+        }
+        return handle;
+    }
+
+    private Object base(Object object) {
+        return isStatic ? null : checkObject(object);
+    }
+
+    static RuntimeException rethrow(Throwable e) {
+        if (e instanceof RuntimeException) throw (RuntimeException) e;
+        else if (e instanceof Error) throw (Error) e;
+        else throw new UndeclaredThrowableException(e); // Unexpected
+    }
+
+    @Override
+    public Object get(Object object) {
+        if (type == boolean.class) return getBoolean(object);
+        else if (type == byte.class) return getByte(object);
+        else if (type == char.class) return getChar(object);
+        else if (type == short.class) return getShort(object);
+        else if (type == int.class) return getInt(object);
+        else if (type == long.class) return getLong(object);
+        else if (type == float.class) return getFloat(object);
+        else if (type == double.class) return getDouble(object);
+        else return getObject(object);
+    }
+
+    @Override
+    public Object getObject(Object object) {
+        if (type.isPrimitive()) throw illegalType("non-primitive");
+        try {
+            return (Object) getter.invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public boolean getBoolean(Object object) {
+        if (type != boolean.class) throw illegalType("boolean");
+        try {
+            return (boolean) getter.invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public byte getByte(Object object) {
+        if (type != byte.class) throw illegalType("byte");
+        try {
+            return (byte) getter.invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public char getChar(Object object) {
+        if (type != char.class) throw illegalType("char");
+        try {
+            return (char) getter.invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public short getShort(Object object) {
+        if (type != short.class) throw illegalType("short");
+        try {
+            return (short) getter.invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int getInt(Object object) {
+        if (type != int.class) throw illegalType("int");
+        try {
+            return (int) getter.invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public long getLong(Object object) {
+        if (type != long.class) throw illegalType("long");
+        try {
+            return (long) getter.invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public float getFloat(Object object) {
+        if (type != float.class) throw illegalType("float");
+        try {
+            return (float) getter.invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public double getDouble(Object object) {
+        if (type != double.class) throw illegalType("double");
+        try {
+            return (double) getter.invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void set(Object object, Object value) {
+        try {
+            if (type == boolean.class) setBoolean(object, (Boolean) value);
+            else if (type == byte.class) setByte(object, (Byte) value);
+            else if (type == char.class) setChar(object, (Character) value);
+            else if (type == short.class) setShort(object, (Short) value);
+            else if (type == int.class) setInt(object, (Integer) value);
+            else if (type == long.class) setLong(object, (Long) value);
+            else if (type == float.class) setFloat(object, (Float) value);
+            else if (type == double.class) setDouble(object, (Double) value);
+            else setObject(object, value);
+        } catch (ClassCastException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    @Override
+    public void setObject(Object object, Object value) {
+        if (type.isPrimitive() || (value != null && !type.isInstance(value)))
+            throw illegalType(Reflects.getTypeName(type));
+        try {
+            setter.invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setBoolean(Object object, boolean value) {
+        if (type != boolean.class) throw illegalType("boolean");
+        try {
+            setter.invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setByte(Object object, byte value) {
+        if (type != byte.class) throw illegalType("byte");
+        try {
+            setter.invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setChar(Object object, char value) {
+        if (type != char.class) throw illegalType("char");
+        try {
+            setter.invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setShort(Object object, short value) {
+        if (type != short.class) throw illegalType("short");
+        try {
+            setter.invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setInt(Object object, int value) {
+        if (type != int.class) throw illegalType("int");
+        try {
+            setter.invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setLong(Object object, long value) {
+        if (type != long.class) throw illegalType("long");
+        try {
+            setter.invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setFloat(Object object, float value) {
+        if (type != float.class) throw illegalType("float");
+        try {
+            setter.invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setDouble(Object object, double value) {
+        if (type != double.class) throw illegalType("double");
+        try {
+            setter.invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    boolean loadBoolean(Object object) {
+        try {
+            return (boolean) getter.invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    void storeBoolean(Object object, boolean value) {
+        try {
+            setter.invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    byte loadByte(Object object) {
+        try {
+            return (byte) getter.invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    void storeByte(Object object, byte value) {
+        try {
+            setter.invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    char loadChar(Object object) {
+        try {
+            return (char) getter.invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    void storeChar(Object object, char value) {
+        try {
+            setter.invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    short loadShort(Object object) {
+        try {
+            return (short) getter.invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    void storeShort(Object object, short value) {
+        try {
+            setter.invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    int loadInt(Object object) {
+        try {
+            return (int) getter.invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    void storeInt(Object object, int value) {
+        try {
+            setter.invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    long loadLong(Object object) {
+        try {
+            return (long) getter.invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    void storeLong(Object object, long value) {
+        try {
+            setter.invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    float loadFloat(Object object) {
+        try {
+            return (float) getter.invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    void storeFloat(Object object, float value) {
+        try {
+            setter.invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    double loadDouble(Object object) {
+        try {
+            return (double) getter.invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    void storeDouble(Object object, double value) {
+        try {
+            setter.invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    Object loadObject(Object object) {
+        try {
+            return (Object) getter.invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    void storeObject(Object object, Object value) {
+        if (value != null && !type.isInstance(value)) throw illegalType(Reflects.getTypeName(type));
+        try {
+            setter.invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public Object getObjectVolatile(Object object) {
+        if (type.isPrimitive()) throw illegalType("non-primitive");
+        try {
+            return (Object) accessModeHandle(GET_VOLATILE).invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public Object getObjectAcquire(Object object) {
+        if (type.isPrimitive()) throw illegalType("non-primitive");
+        try {
+            return (Object) accessModeHandle(GET_ACQUIRE).invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public Object getObjectOpaque(Object object) {
+        if (type.isPrimitive()) throw illegalType("non-primitive");
+        try {
+            return (Object) accessModeHandle(GET_OPAQUE).invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setObjectVolatile(Object object, Object value) {
+        if (type.isPrimitive() || (value != null && !type.isInstance(value)))
+            throw illegalType(Reflects.getTypeName(type));
+        try {
+            accessModeHandle(SET_VOLATILE).invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setObjectRelease(Object object, Object value) {
+        if (type.isPrimitive() || (value != null && !type.isInstance(value)))
+            throw illegalType(Reflects.getTypeName(type));
+        try {
+            accessModeHandle(SET_RELEASE).invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setObjectOpaque(Object object, Object value) {
+        if (type.isPrimitive() || (value != null && !type.isInstance(value)))
+            throw illegalType(Reflects.getTypeName(type));
+        try {
+            accessModeHandle(SET_OPAQUE).invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public boolean compareAndSetObject(Object object, Object expected, Object value) {
+        if (type.isPrimitive() || (value != null && !type.isInstance(value)))
+            throw illegalType(Reflects.getTypeName(type));
+        if (expected != null && !type.isInstance(expected)) return false;
+        try {
+            return (boolean) accessModeHandle(COMPARE_AND_SET).invokeExact(base(object), expected, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public Object getAndSetObject(Object object, Object value) {
+        if (type.isPrimitive() || (value != null && !type.isInstance(value)))
+            throw illegalType(Reflects.getTypeName(type));
+        try {
+            return (Object) accessModeHandle(GET_AND_SET).invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public boolean getBooleanVolatile(Object object) {
+        if (type != boolean.class) throw illegalType("boolean");
+        try {
+            return (boolean) accessModeHandle(GET_VOLATILE).invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public boolean getBooleanAcquire(Object object) {
+        if (type != boolean.class) throw illegalType("boolean");
+        try {
+            return (boolean) accessModeHandle(GET_ACQUIRE).invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public boolean getBooleanOpaque(Object object) {
+        if (type != boolean.class) throw illegalType("boolean");
+        try {
+            return (boolean) accessModeHandle(GET_OPAQUE).invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setBooleanVolatile(Object object, boolean value) {
+        if (type != boolean.class) throw illegalType("boolean");
+        try {
+            accessModeHandle(SET_VOLATILE).invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setBooleanRelease(Object object, boolean value) {
+        if (type != boolean.class) throw illegalType("boolean");
+        try {
+            accessModeHandle(SET_RELEASE).invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setBooleanOpaque(Object object, boolean value) {
+        if (type != boolean.class) throw illegalType("boolean");
+        try {
+            accessModeHandle(SET_OPAQUE).invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public boolean compareAndSetBoolean(Object object, boolean expected, boolean value) {
+        if (type != boolean.class) throw illegalType("boolean");
+        try {
+            return (boolean) accessModeHandle(COMPARE_AND_SET).invokeExact(base(object), expected, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public boolean getAndSetBoolean(Object object, boolean value) {
+        if (type != boolean.class) throw illegalType("boolean");
+        try {
+            return (boolean) accessModeHandle(GET_AND_SET).invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public byte getByteVolatile(Object object) {
+        if (type != byte.class) throw illegalType("byte");
+        try {
+            return (byte) accessModeHandle(GET_VOLATILE).invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public byte getByteAcquire(Object object) {
+        if (type != byte.class) throw illegalType("byte");
+        try {
+            return (byte) accessModeHandle(GET_ACQUIRE).invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public byte getByteOpaque(Object object) {
+        if (type != byte.class) throw illegalType("byte");
+        try {
+            return (byte) accessModeHandle(GET_OPAQUE).invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setByteVolatile(Object object, byte value) {
+        if (type != byte.class) throw illegalType("byte");
+        try {
+            accessModeHandle(SET_VOLATILE).invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setByteRelease(Object object, byte value) {
+        if (type != byte.class) throw illegalType("byte");
+        try {
+            accessModeHandle(SET_RELEASE).invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setByteOpaque(Object object, byte value) {
+        if (type != byte.class) throw illegalType("byte");
+        try {
+            accessModeHandle(SET_OPAQUE).invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public boolean compareAndSetByte(Object object, byte expected, byte value) {
+        if (type != byte.class) throw illegalType("byte");
+        try {
+            return (boolean) accessModeHandle(COMPARE_AND_SET).invokeExact(base(object), expected, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public byte getAndSetByte(Object object, byte value) {
+        if (type != byte.class) throw illegalType("byte");
+        try {
+            return (byte) accessModeHandle(GET_AND_SET).invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public byte getAndAddByte(Object object, byte delta) {
+        if (type != byte.class) throw illegalType("byte");
+        try {
+            return (byte) accessModeHandle(GET_AND_ADD).invokeExact(base(object), delta);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public char getCharVolatile(Object object) {
+        if (type != char.class) throw illegalType("char");
+        try {
+            return (char) accessModeHandle(GET_VOLATILE).invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public char getCharAcquire(Object object) {
+        if (type != char.class) throw illegalType("char");
+        try {
+            return (char) accessModeHandle(GET_ACQUIRE).invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public char getCharOpaque(Object object) {
+        if (type != char.class) throw illegalType("char");
+        try {
+            return (char) accessModeHandle(GET_OPAQUE).invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setCharVolatile(Object object, char value) {
+        if (type != char.class) throw illegalType("char");
+        try {
+            accessModeHandle(SET_VOLATILE).invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setCharRelease(Object object, char value) {
+        if (type != char.class) throw illegalType("char");
+        try {
+            accessModeHandle(SET_RELEASE).invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setCharOpaque(Object object, char value) {
+        if (type != char.class) throw illegalType("char");
+        try {
+            accessModeHandle(SET_OPAQUE).invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public boolean compareAndSetChar(Object object, char expected, char value) {
+        if (type != char.class) throw illegalType("char");
+        try {
+            return (boolean) accessModeHandle(COMPARE_AND_SET).invokeExact(base(object), expected, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public char getAndSetChar(Object object, char value) {
+        if (type != char.class) throw illegalType("char");
+        try {
+            return (char) accessModeHandle(GET_AND_SET).invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public char getAndAddChar(Object object, char delta) {
+        if (type != char.class) throw illegalType("char");
+        try {
+            return (char) accessModeHandle(GET_AND_ADD).invokeExact(base(object), delta);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public short getShortVolatile(Object object) {
+        if (type != short.class) throw illegalType("short");
+        try {
+            return (short) accessModeHandle(GET_VOLATILE).invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public short getShortAcquire(Object object) {
+        if (type != short.class) throw illegalType("short");
+        try {
+            return (short) accessModeHandle(GET_ACQUIRE).invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public short getShortOpaque(Object object) {
+        if (type != short.class) throw illegalType("short");
+        try {
+            return (short) accessModeHandle(GET_OPAQUE).invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setShortVolatile(Object object, short value) {
+        if (type != short.class) throw illegalType("short");
+        try {
+            accessModeHandle(SET_VOLATILE).invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setShortRelease(Object object, short value) {
+        if (type != short.class) throw illegalType("short");
+        try {
+            accessModeHandle(SET_RELEASE).invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setShortOpaque(Object object, short value) {
+        if (type != short.class) throw illegalType("short");
+        try {
+            accessModeHandle(SET_OPAQUE).invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public boolean compareAndSetShort(Object object, short expected, short value) {
+        if (type != short.class) throw illegalType("short");
+        try {
+            return (boolean) accessModeHandle(COMPARE_AND_SET).invokeExact(base(object), expected, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public short getAndSetShort(Object object, short value) {
+        if (type != short.class) throw illegalType("short");
+        try {
+            return (short) accessModeHandle(GET_AND_SET).invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public short getAndAddShort(Object object, short delta) {
+        if (type != short.class) throw illegalType("short");
+        try {
+            return (short) accessModeHandle(GET_AND_ADD).invokeExact(base(object), delta);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int getIntVolatile(Object object) {
+        if (type != int.class) throw illegalType("int");
+        try {
+            return (int) accessModeHandle(GET_VOLATILE).invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int getIntAcquire(Object object) {
+        if (type != int.class) throw illegalType("int");
+        try {
+            return (int) accessModeHandle(GET_ACQUIRE).invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int getIntOpaque(Object object) {
+        if (type != int.class) throw illegalType("int");
+        try {
+            return (int) accessModeHandle(GET_OPAQUE).invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setIntVolatile(Object object, int value) {
+        if (type != int.class) throw illegalType("int");
+        try {
+            accessModeHandle(SET_VOLATILE).invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setIntRelease(Object object, int value) {
+        if (type != int.class) throw illegalType("int");
+        try {
+            accessModeHandle(SET_RELEASE).invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setIntOpaque(Object object, int value) {
+        if (type != int.class) throw illegalType("int");
+        try {
+            accessModeHandle(SET_OPAQUE).invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public boolean compareAndSetInt(Object object, int expected, int value) {
+        if (type != int.class) throw illegalType("int");
+        try {
+            return (boolean) accessModeHandle(COMPARE_AND_SET).invokeExact(base(object), expected, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int getAndSetInt(Object object, int value) {
+        if (type != int.class) throw illegalType("int");
+        try {
+            return (int) accessModeHandle(GET_AND_SET).invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public int getAndAddInt(Object object, int delta) {
+        if (type != int.class) throw illegalType("int");
+        try {
+            return (int) accessModeHandle(GET_AND_ADD).invokeExact(base(object), delta);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public long getLongVolatile(Object object) {
+        if (type != long.class) throw illegalType("long");
+        try {
+            return (long) accessModeHandle(GET_VOLATILE).invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public long getLongAcquire(Object object) {
+        if (type != long.class) throw illegalType("long");
+        try {
+            return (long) accessModeHandle(GET_ACQUIRE).invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public long getLongOpaque(Object object) {
+        if (type != long.class) throw illegalType("long");
+        try {
+            return (long) accessModeHandle(GET_OPAQUE).invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setLongVolatile(Object object, long value) {
+        if (type != long.class) throw illegalType("long");
+        try {
+            accessModeHandle(SET_VOLATILE).invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setLongRelease(Object object, long value) {
+        if (type != long.class) throw illegalType("long");
+        try {
+            accessModeHandle(SET_RELEASE).invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setLongOpaque(Object object, long value) {
+        if (type != long.class) throw illegalType("long");
+        try {
+            accessModeHandle(SET_OPAQUE).invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public boolean compareAndSetLong(Object object, long expected, long value) {
+        if (type != long.class) throw illegalType("long");
+        try {
+            return (boolean) accessModeHandle(COMPARE_AND_SET).invokeExact(base(object), expected, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public long getAndSetLong(Object object, long value) {
+        if (type != long.class) throw illegalType("long");
+        try {
+            return (long) accessModeHandle(GET_AND_SET).invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public long getAndAddLong(Object object, long delta) {
+        if (type != long.class) throw illegalType("long");
+        try {
+            return (long) accessModeHandle(GET_AND_ADD).invokeExact(base(object), delta);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public float getFloatVolatile(Object object) {
+        if (type != float.class) throw illegalType("float");
+        try {
+            return (float) accessModeHandle(GET_VOLATILE).invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public float getFloatAcquire(Object object) {
+        if (type != float.class) throw illegalType("float");
+        try {
+            return (float) accessModeHandle(GET_ACQUIRE).invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public float getFloatOpaque(Object object) {
+        if (type != float.class) throw illegalType("float");
+        try {
+            return (float) accessModeHandle(GET_OPAQUE).invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setFloatVolatile(Object object, float value) {
+        if (type != float.class) throw illegalType("float");
+        try {
+            accessModeHandle(SET_VOLATILE).invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setFloatRelease(Object object, float value) {
+        if (type != float.class) throw illegalType("float");
+        try {
+            accessModeHandle(SET_RELEASE).invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setFloatOpaque(Object object, float value) {
+        if (type != float.class) throw illegalType("float");
+        try {
+            accessModeHandle(SET_OPAQUE).invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public boolean compareAndSetFloat(Object object, float expected, float value) {
+        if (type != float.class) throw illegalType("float");
+        try {
+            return (boolean) accessModeHandle(COMPARE_AND_SET).invokeExact(base(object), expected, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public float getAndSetFloat(Object object, float value) {
+        if (type != float.class) throw illegalType("float");
+        try {
+            return (float) accessModeHandle(GET_AND_SET).invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public float getAndAddFloat(Object object, float delta) {
+        if (type != float.class) throw illegalType("float");
+        try {
+            return (float) accessModeHandle(GET_AND_ADD).invokeExact(base(object), delta);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public double getDoubleVolatile(Object object) {
+        if (type != double.class) throw illegalType("double");
+        try {
+            return (double) accessModeHandle(GET_VOLATILE).invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public double getDoubleAcquire(Object object) {
+        if (type != double.class) throw illegalType("double");
+        try {
+            return (double) accessModeHandle(GET_ACQUIRE).invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public double getDoubleOpaque(Object object) {
+        if (type != double.class) throw illegalType("double");
+        try {
+            return (double) accessModeHandle(GET_OPAQUE).invokeExact(base(object));
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setDoubleVolatile(Object object, double value) {
+        if (type != double.class) throw illegalType("double");
+        try {
+            accessModeHandle(SET_VOLATILE).invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setDoubleRelease(Object object, double value) {
+        if (type != double.class) throw illegalType("double");
+        try {
+            accessModeHandle(SET_RELEASE).invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public void setDoubleOpaque(Object object, double value) {
+        if (type != double.class) throw illegalType("double");
+        try {
+            accessModeHandle(SET_OPAQUE).invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public boolean compareAndSetDouble(Object object, double expected, double value) {
+        if (type != double.class) throw illegalType("double");
+        try {
+            return (boolean) accessModeHandle(COMPARE_AND_SET).invokeExact(base(object), expected, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public double getAndSetDouble(Object object, double value) {
+        if (type != double.class) throw illegalType("double");
+        try {
+            return (double) accessModeHandle(GET_AND_SET).invokeExact(base(object), value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public double getAndAddDouble(Object object, double delta) {
+        if (type != double.class) throw illegalType("double");
+        try {
+            return (double) accessModeHandle(GET_AND_ADD).invokeExact(base(object), delta);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+}
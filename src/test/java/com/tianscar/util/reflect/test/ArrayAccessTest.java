@@ -0,0 +1,163 @@
+package com.tianscar.util.reflect.test;
+
+import com.tianscar.util.reflect.ArrayAccess;
+import com.tianscar.util.reflect.Reflects;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import sun.misc.Unsafe;
+
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+
+public class ArrayAccessTest {
+
+    @Test
+    public void testAccessModes() {
+        int[] ints = new int[] {1, 2};
+        ArrayAccess.setIntVolatile(ints, 1, 3);
+        Assertions.assertEquals(3, ArrayAccess.getIntAcquire(ints, 1));
+        Assertions.assertTrue(ArrayAccess.compareAndSetInt(ints, 0, 1, 4));
+        Assertions.assertFalse(ArrayAccess.compareAndSetInt(ints, 0, 1, 5));
+        Assertions.assertEquals(4, ArrayAccess.getAndAddInt(ints, 0, 2));
+        Assertions.assertEquals(6, ArrayAccess.getAndSetInt(ints, 0, 7));
+        Assertions.assertArrayEquals(new int[] {7, 3}, ints);
+        long[] longs = new long[1];
+        ArrayAccess.setLongRelease(longs, 0, Long.MAX_VALUE);
+        Assertions.assertEquals(Long.MAX_VALUE, ArrayAccess.getAndAddLong(longs, 0, 1L));
+        Assertions.assertEquals(Long.MIN_VALUE, ArrayAccess.getLongOpaque(longs, 0));
+        double[] doubles = new double[] {0.5};
+        Assertions.assertTrue(ArrayAccess.compareAndSetDouble(doubles, 0, 0.5, 1.0));
+        Assertions.assertEquals(1.0, ArrayAccess.getAndAddDouble(doubles, 0, 1.0));
+        Assertions.assertEquals(2.0, ArrayAccess.getDoubleVolatile(doubles, 0));
+        byte[] bytes = new byte[] {1, 2, 3, 4, 5};
+        Assertions.assertTrue(ArrayAccess.compareAndSetByte(bytes, 2, (byte) 3, (byte) -1));
+        Assertions.assertEquals((byte) -1, ArrayAccess.getAndAddByte(bytes, 2, (byte) 1));
+        ArrayAccess.setByteVolatile(bytes, 4, Byte.MIN_VALUE);
+        Assertions.assertArrayEquals(new byte[] {1, 2, 0, 4, Byte.MIN_VALUE}, bytes);
+        char[] chars = new char[] {'a', 'b', 'c'};
+        Assertions.assertEquals('b', ArrayAccess.getAndSetChar(chars, 1, 'd'));
+        Assertions.assertArrayEquals(new char[] {'a', 'd', 'c'}, chars);
+        boolean[] booleans = new boolean[3];
+        Assertions.assertTrue(ArrayAccess.compareAndSetBoolean(booleans, 1, false, true));
+        Assertions.assertFalse(ArrayAccess.getBooleanVolatile(booleans, 0));
+        Assertions.assertTrue(ArrayAccess.getBooleanVolatile(booleans, 1));
+        Assertions.assertFalse(ArrayAccess.getBooleanVolatile(booleans, 2));
+        String[] strings = new String[] {"A"};
+        Assertions.assertTrue(ArrayAccess.compareAndSetObject(strings, 0, "A", "B"));
+        Assertions.assertEquals("B", ArrayAccess.getAndSetObject(strings, 0, "C"));
+        Assertions.assertEquals("C", ArrayAccess.getObjectVolatile(strings, 0));
+    }
+
+    @Test
+    public void testInternalArray() throws NoSuchFieldException {
+        ArrayList<String> list = new ArrayList<String>();
+        list.add("A");
+        Object[] elementData = (Object[]) Reflects.accessor(ArrayList.class.getDeclaredField("elementData")).getObject(list);
+        Assertions.assertTrue(ArrayAccess.compareAndSetObject(elementData, 0, "A", "B"));
+        Assertions.assertEquals("B", list.get(0));
+        Object value = Reflects.accessor(String.class.getDeclaredField("value")).getObject("TEST STRING");
+        if (value instanceof byte[]) Assertions.assertEquals((byte) 'T', ArrayAccess.getByteVolatile((byte[]) value, 0));
+        else Assertions.assertEquals('T', ArrayAccess.getCharVolatile((char[]) value, 0));
+    }
+
+    @Test
+    public void testAtomicAccessModes() throws InterruptedException {
+        final byte[] bytes = new byte[8];
+        final short[] shorts = new short[8];
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i ++) {
+            final int index = i;
+            threads[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int j = 0; j < 1000; j ++) {
+                        ArrayAccess.getAndAddByte(bytes, index, (byte) 1);
+                        ArrayAccess.getAndAddShort(shorts, 0, (short) 1);
+                        ArrayAccess.getAndAddShort(shorts, index, (short) 1);
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (int i = 0; i < 8; i ++) {
+            Assertions.assertEquals((byte) 1000, bytes[i]);
+        }
+        Assertions.assertEquals((short) 9000, shorts[0]);
+        for (int i = 1; i < 8; i ++) {
+            Assertions.assertEquals((short) 1000, shorts[i]);
+        }
+    }
+
+    @Test
+    public void testCopyMemory() throws NoSuchFieldException, IllegalAccessException {
+        int[] ints = new int[] {0x01020304, 0x05060708};
+        byte[] bytes = new byte[8];
+        ArrayAccess.copyMemory(ints, 0, bytes, 0, 8);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.nativeOrder());
+        Assertions.assertEquals(0x01020304, buffer.getInt(0));
+        Assertions.assertEquals(0x05060708, buffer.getInt(4));
+        ArrayAccess.copyMemory(ints, 0, ints, 4, 4);
+        Assertions.assertArrayEquals(new int[] {0x01020304, 0x01020304}, ints);
+        Field field = Unsafe.class.getDeclaredField("theUnsafe");
+        field.setAccessible(true);
+        Unsafe unsafe = (Unsafe) field.get(null);
+        long address = unsafe.allocateMemory(8);
+        try {
+            ArrayAccess.copyToMemory(bytes, 0, address, 8);
+            Assertions.assertEquals(0x05060708, unsafe.getInt(address + 4));
+            long[] longs = new long[1];
+            ArrayAccess.copyFromMemory(address, longs, 0, 8);
+            Assertions.assertEquals(buffer.getLong(0), longs[0]);
+        } finally {
+            unsafe.freeMemory(address);
+        }
+    }
+
+    @Test
+    public void testIllegalArguments() {
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                ArrayAccess.getIntVolatile(new int[1], 1);
+            }
+        });
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                ArrayAccess.setByteVolatile(new byte[1], -1, (byte) 0);
+            }
+        });
+        Assertions.assertThrows(NullPointerException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                ArrayAccess.getLongVolatile(null, 0);
+            }
+        });
+        Assertions.assertThrows(ArrayStoreException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                Object[] strings = new String[1];
+                ArrayAccess.setObjectVolatile(strings, 0, 1);
+            }
+        });
+        Assertions.assertThrows(IndexOutOfBoundsException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                ArrayAccess.copyMemory(new int[1], 0, new byte[8], 5, 4);
+            }
+        });
+        Assertions.assertThrows(IllegalArgumentException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                ArrayAccess.copyMemory(new Object[1], 0, new byte[8], 0, 4);
+            }
+        });
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.tianscar.util.reflect.test;
+
+import com.tianscar.util.reflect.ArrayAccess;
+import com.tianscar.util.reflect.BufferAccess;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+public class BufferAccessTest {
+
+    @Test
+    public void testAddress() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(8);
+        buffer.put(0, (byte) 1).put(7, (byte) 2);
+        long address = BufferAccess.address(buffer);
+        byte[] bytes = new byte[8];
+        ArrayAccess.copyFromMemory(address, bytes, 0, 8);
+        Assertions.assertEquals(1, bytes[0]);
+        Assertions.assertEquals(2, bytes[7]);
+        Assertions.assertEquals(address, BufferAccess.address(buffer.asIntBuffer()));
+    }
+
+    @Test
+    public void testWrap() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(16);
+        ByteBuffer wrapped = BufferAccess.wrap(BufferAccess.address(buffer) + 8, 8);
+        Assertions.assertTrue(wrapped.isDirect());
+        Assertions.assertEquals(8, wrapped.capacity());
+        wrapped.putLong(0, 0x0102030405060708L);
+        Assertions.assertEquals(0x0102030405060708L, buffer.getLong(8));
+        BufferAccess.free(wrapped); // Doesn't own the memory
+        Assertions.assertEquals(0x0102030405060708L, buffer.getLong(8));
+    }
+
+    @Test
+    public void testFree() throws IOException {
+        BufferAccess.free(ByteBuffer.allocateDirect(1 << 20));
+        File file = File.createTempFile("BufferAccessTest", null);
+        try {
+            RandomAccessFile raf = new RandomAccessFile(file, "rw");
+            try {
+                MappedByteBuffer buffer = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, 4096);
+                buffer.putInt(0, 42);
+                buffer.force();
+                BufferAccess.free(buffer);
+                Assertions.assertEquals(42, raf.readInt());
+            } finally {
+                raf.close();
+            }
+        } finally {
+            Assertions.assertTrue(file.delete());
+        }
+    }
+
+    @Test
+    public void testIllegalArguments() {
+        Assertions.assertThrows(IllegalArgumentException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                BufferAccess.address(ByteBuffer.allocate(8));
+            }
+        });
+        Assertions.assertThrows(IllegalArgumentException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                BufferAccess.free(ByteBuffer.allocate(8));
+            }
+        });
+        Assertions.assertThrows(IllegalArgumentException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                BufferAccess.free(ByteBuffer.allocateDirect(8).duplicate());
+            }
+        });
+        Assertions.assertThrows(IllegalArgumentException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                BufferAccess.wrap(0, -1);
+            }
+        });
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.tianscar.util.reflect.test;
+
+import com.tianscar.util.reflect.ConstructorFactory;
+import com.tianscar.util.reflect.Reflects;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+public class ConstructorFactoryTest {
+
+    private static abstract class AbstractPoint {
+    }
+
+    private static final class Point extends AbstractPoint {
+        private final int x;
+        private final int y;
+        private Point() {
+            this(0, 0);
+        }
+        private Point(int x, int y) {
+            if (x < 0 || y < 0) throw new IllegalStateException();
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    @Test
+    public void testNewInstance() throws NoSuchMethodException, InstantiationException, InvocationTargetException {
+        ConstructorFactory<Point> factory = Reflects.factory(Point.class.getDeclaredConstructor());
+        Point point = factory.newInstance();
+        Assertions.assertEquals(0, point.x);
+        factory = Reflects.factory(Point.class.getDeclaredConstructor(int.class, int.class));
+        point = factory.newInstance(1, 2);
+        Assertions.assertEquals(1, point.x);
+        Assertions.assertEquals(2, point.y);
+        point = factory.newInstance(new Object[] {3, (short) 4});
+        Assertions.assertEquals(3, point.x);
+        Assertions.assertEquals(4, point.y);
+    }
+
+    @Test
+    public void testNewInternalInstance() throws NoSuchMethodException, InstantiationException, InvocationTargetException {
+        final char[] chars = "UTF16LE STRING".toCharArray();
+        try {
+            Constructor<String> constructor = String.class.getDeclaredConstructor(char[].class, int.class, int.class, Void.class);
+            Assertions.assertEquals("UTF16LE STRING", Reflects.factory(constructor).newInstance(chars, 0, chars.length, null));
+        }
+        catch (NoSuchMethodException e) {
+            Constructor<String> constructor = String.class.getDeclaredConstructor(char[].class, boolean.class);
+            Assertions.assertEquals("UTF16LE STRING", Reflects.factory(constructor).newInstance(chars, true));
+        }
+    }
+
+    // Run by the bytecodeTest task, the generated accessors must not silently fall back to another backend
+    @Test
+    public void testBytecodeBackend() throws NoSuchMethodException {
+        if (!"bytecode".equals(System.getProperty("com.tianscar.util.reflect.methodInvoker"))) return;
+        try {
+            Class.forName("sun.reflect.MagicAccessorImpl"); // Java 6-8
+        }
+        catch (ClassNotFoundException e) {
+            return;
+        }
+        Assertions.assertEquals("BytecodeConstructorFactory",
+                Reflects.factory(Point.class.getDeclaredConstructor(int.class, int.class)).getClass().getSimpleName());
+        Assertions.assertEquals("BytecodeConstructorFactory",
+                Reflects.factory(String.class.getDeclaredConstructor(char[].class)).getClass().getSimpleName());
+    }
+
+    @Test
+    public void testFailures() throws NoSuchMethodException {
+        final ConstructorFactory<Point> factory = Reflects.factory(Point.class.getDeclaredConstructor(int.class, int.class));
+        Assertions.assertThrows(IllegalArgumentException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                factory.newInstance(1);
+            }
+        });
+        Assertions.assertThrows(IllegalArgumentException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                factory.newInstance(1, "TEST STRING");
+            }
+        });
+        InvocationTargetException e = Assertions.assertThrows(InvocationTargetException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                factory.newInstance(-1, -1);
+            }
+        });
+        Assertions.assertTrue(e.getCause() instanceof IllegalStateException);
+        final ConstructorFactory<AbstractPoint> abstractFactory = Reflects.factory(AbstractPoint.class.getDeclaredConstructor());
+        Assertions.assertThrows(InstantiationException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                abstractFactory.newInstance();
+            }
+        });
+    }
+
+}
@@ -0,0 +1,318 @@
+package com.tianscar.util.reflect.test;
+
+import com.tianscar.util.reflect.FieldAccessor;
+import com.tianscar.util.reflect.Reflects;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.lang.reflect.Field;
+import java.nio.file.attribute.GroupPrincipal;
+import java.nio.file.attribute.UserPrincipal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+public class FieldAccessorTest {
+
+    private static final long TEST_LONG = 0L;
+    private static Object staticValue;
+
+    private boolean booleanValue;
+    private byte byteValue;
+    private char charValue;
+    private short shortValue;
+    private int intValue;
+    private long longValue;
+    private float floatValue;
+    private double doubleValue;
+    private final String stringValue = "";
+    private Object objectValue;
+    private byte byteCounter;
+    private short shortCounter;
+
+    @Test
+    public void testPrimitiveFields() throws NoSuchFieldException {
+        FieldAccessorTest object = new FieldAccessorTest();
+        FieldAccessor accessor = Reflects.accessor(FieldAccessorTest.class.getDeclaredField("booleanValue"));
+        accessor.setBoolean(object, true);
+        Assertions.assertTrue(accessor.getBoolean(object));
+        accessor = Reflects.accessor(FieldAccessorTest.class.getDeclaredField("byteValue"));
+        accessor.setByte(object, (byte) 1);
+        Assertions.assertEquals((byte) 1, accessor.getByte(object));
+        accessor = Reflects.accessor(FieldAccessorTest.class.getDeclaredField("charValue"));
+        accessor.setChar(object, 'c');
+        Assertions.assertEquals('c', accessor.getChar(object));
+        accessor = Reflects.accessor(FieldAccessorTest.class.getDeclaredField("shortValue"));
+        accessor.setShort(object, (short) 2);
+        Assertions.assertEquals((short) 2, accessor.getShort(object));
+        accessor = Reflects.accessor(FieldAccessorTest.class.getDeclaredField("intValue"));
+        accessor.setInt(object, 3);
+        Assertions.assertEquals(3, accessor.getInt(object));
+        accessor = Reflects.accessor(FieldAccessorTest.class.getDeclaredField("longValue"));
+        accessor.setLong(object, 4L);
+        Assertions.assertEquals(4L, accessor.getLong(object));
+        accessor = Reflects.accessor(FieldAccessorTest.class.getDeclaredField("floatValue"));
+        accessor.setFloat(object, 5.0f);
+        Assertions.assertEquals(5.0f, accessor.getFloat(object));
+        accessor = Reflects.accessor(FieldAccessorTest.class.getDeclaredField("doubleValue"));
+        accessor.setDouble(object, 6.0);
+        Assertions.assertEquals(6.0, accessor.getDouble(object));
+        accessor.set(object, 7.0);
+        Assertions.assertEquals(7.0, accessor.get(object));
+    }
+
+    @Test
+    public void testFinalFields() throws NoSuchFieldException {
+        FieldAccessor accessor = Reflects.accessor(FieldAccessorTest.class.getDeclaredField("TEST_LONG"));
+        accessor.setLong(null, 1L);
+        Assertions.assertEquals(1L, accessor.getLong(null));
+        FieldAccessorTest object = new FieldAccessorTest();
+        accessor = Reflects.accessor(FieldAccessorTest.class.getDeclaredField("stringValue"));
+        accessor.setObject(object, "TEST STRING");
+        Assertions.assertEquals("TEST STRING", accessor.getObject(object));
+    }
+
+    @Test
+    public void testStaticField() throws NoSuchFieldException {
+        FieldAccessor accessor = Reflects.accessor(FieldAccessorTest.class.getDeclaredField("staticValue"));
+        accessor.setObject(null, "TEST STRING");
+        Assertions.assertEquals("TEST STRING", accessor.getObject(null));
+        accessor.set("IGNORED", 1);
+        Assertions.assertEquals(1, accessor.get("IGNORED"));
+        Assertions.assertThrows(IllegalArgumentException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                Reflects.accessor(FieldAccessorTest.class.getDeclaredField("staticValue")).getInt(null);
+            }
+        });
+    }
+
+    @Test
+    public void testInternalField() throws NoSuchFieldException {
+        FieldAccessor accessor = Reflects.accessor(String.class.getDeclaredField("value"));
+        Object value = accessor.getObject("TEST STRING");
+        if (value.getClass() == byte[].class) Assertions.assertEquals("TEST STRING", new String((byte[]) value));
+        else Assertions.assertEquals("TEST STRING", new String((char[]) value));
+    }
+
+    @Test
+    public void testRecordField() throws Exception {
+        final Class<?> clazz;
+        try {
+            clazz = Class.forName("jdk.net.UnixDomainPrincipal"); // Java 16+
+        } catch (ClassNotFoundException e) {
+            return;
+        }
+        final UserPrincipal user = new UserPrincipal() {
+            @Override
+            public String getName() {
+                return "user";
+            }
+        };
+        GroupPrincipal group = new GroupPrincipal() {
+            @Override
+            public String getName() {
+                return "group";
+            }
+        };
+        final Object principal = clazz.getConstructor(UserPrincipal.class, GroupPrincipal.class).newInstance(user, group);
+        Assertions.assertSame(user, Reflects.accessor(clazz.getDeclaredField("user")).getObject(principal));
+        Assertions.assertSame(group, Reflects.findField(clazz, "group").get(principal));
+        Object[] values = new Object[1];
+        Reflects.findField(clazz, "user").getObjects(new Object[] {principal}, values);
+        Assertions.assertSame(user, values[0]);
+        // Record fields are read-only
+        Assertions.assertThrows(UnsupportedOperationException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                Reflects.accessor(clazz.getDeclaredField("user")).setObject(principal, user);
+            }
+        });
+    }
+
+    @Test
+    public void testAccessModes() throws NoSuchFieldException {
+        FieldAccessorTest object = new FieldAccessorTest();
+        FieldAccessor accessor = Reflects.accessor(FieldAccessorTest.class.getDeclaredField("intValue"));
+        accessor.setIntVolatile(object, 1);
+        Assertions.assertEquals(1, accessor.getIntAcquire(object));
+        Assertions.assertTrue(accessor.compareAndSetInt(object, 1, 2));
+        Assertions.assertFalse(accessor.compareAndSetInt(object, 1, 3));
+        Assertions.assertEquals(2, accessor.getAndAddInt(object, 3));
+        Assertions.assertEquals(5, accessor.getAndSetInt(object, 6));
+        Assertions.assertEquals(6, accessor.getIntVolatile(object));
+        accessor = Reflects.accessor(FieldAccessorTest.class.getDeclaredField("longValue"));
+        accessor.setLongRelease(object, 1L);
+        Assertions.assertEquals(1L, accessor.getAndAddLong(object, 1L));
+        Assertions.assertEquals(2L, accessor.getLongOpaque(object));
+        accessor = Reflects.accessor(FieldAccessorTest.class.getDeclaredField("doubleValue"));
+        accessor.setDoubleOpaque(object, 1.5);
+        Assertions.assertTrue(accessor.compareAndSetDouble(object, 1.5, 2.0));
+        Assertions.assertEquals(2.0, accessor.getAndAddDouble(object, 0.5));
+        Assertions.assertEquals(2.5, accessor.getDoubleVolatile(object));
+        accessor = Reflects.accessor(FieldAccessorTest.class.getDeclaredField("objectValue"));
+        Assertions.assertTrue(accessor.compareAndSetObject(object, null, "TEST STRING"));
+        Assertions.assertFalse(accessor.compareAndSetObject(object, new String("TEST STRING"), null));
+        Assertions.assertEquals("TEST STRING", accessor.getAndSetObject(object, null));
+        Assertions.assertNull(accessor.getObjectVolatile(object));
+        accessor = Reflects.accessor(FieldAccessorTest.class.getDeclaredField("booleanValue"));
+        Assertions.assertTrue(accessor.compareAndSetBoolean(object, false, true));
+        Assertions.assertTrue(accessor.getAndSetBoolean(object, false));
+        Assertions.assertFalse(accessor.getBooleanVolatile(object));
+        accessor = Reflects.accessor(FieldAccessorTest.class.getDeclaredField("charValue"));
+        accessor.setCharVolatile(object, 'a');
+        Assertions.assertEquals('a', accessor.getAndAddChar(object, (char) 1));
+        Assertions.assertEquals('b', accessor.getCharVolatile(object));
+        accessor = Reflects.accessor(FieldAccessorTest.class.getDeclaredField("byteValue"));
+        accessor.setByteVolatile(object, (byte) -1);
+        Assertions.assertTrue(accessor.compareAndSetByte(object, (byte) -1, Byte.MAX_VALUE));
+        Assertions.assertEquals(Byte.MAX_VALUE, accessor.getAndAddByte(object, (byte) 1));
+        Assertions.assertEquals(Byte.MIN_VALUE, accessor.getByteVolatile(object));
+        // JDK internal field
+        ArrayList<Object> list = new ArrayList<Object>();
+        accessor = Reflects.accessor(java.util.AbstractList.class.getDeclaredField("modCount"));
+        int modCount = accessor.getIntVolatile(list);
+        list.add(list);
+        Assertions.assertEquals(modCount + 1, accessor.getAndAddInt(list, 1));
+        final FieldAccessor finalAccessor = accessor;
+        Assertions.assertThrows(IllegalArgumentException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                finalAccessor.compareAndSetLong(new ArrayList<Object>(), 0L, 1L);
+            }
+        });
+    }
+
+    @Test
+    public void testAtomicAccessModes() throws NoSuchFieldException, InterruptedException {
+        final FieldAccessorTest object = new FieldAccessorTest();
+        final FieldAccessor[] accessors = new FieldAccessor[] {
+                Reflects.accessor(FieldAccessorTest.class.getDeclaredField("intValue")),
+                Reflects.accessor(FieldAccessorTest.class.getDeclaredField("byteCounter")),
+                Reflects.accessor(FieldAccessorTest.class.getDeclaredField("shortCounter")),
+                Reflects.accessor(FieldAccessorTest.class.getDeclaredField("floatValue"))
+        };
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i ++) {
+            threads[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int j = 0; j < 1000; j ++) {
+                        accessors[0].getAndAddInt(object, 1);
+                        accessors[1].getAndAddByte(object, (byte) 1);
+                        accessors[2].getAndAddShort(object, (short) 1);
+                        accessors[3].getAndAddFloat(object, 1.0f);
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assertions.assertEquals(8000, object.intValue);
+        Assertions.assertEquals((byte) 8000, object.byteCounter);
+        Assertions.assertEquals(8000, object.shortCounter);
+        Assertions.assertEquals(8000.0f, object.floatValue);
+    }
+
+    @Test
+    public void testIllegalArguments() throws NoSuchFieldException {
+        final FieldAccessor accessor = Reflects.accessor(FieldAccessorTest.class.getDeclaredField("intValue"));
+        Assertions.assertThrows(IllegalArgumentException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                accessor.getLong(new FieldAccessorTest());
+            }
+        });
+        Assertions.assertThrows(IllegalArgumentException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                accessor.getInt("TEST STRING");
+            }
+        });
+        Assertions.assertThrows(NullPointerException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                accessor.setInt(null, 1);
+            }
+        });
+    }
+
+    @Test
+    public void testBatchAccess() throws NoSuchFieldException {
+        FieldAccessorTest[] objects = new FieldAccessorTest[] {
+                new FieldAccessorTest(), new FieldAccessorTest(), new FieldAccessorTest() };
+        List<FieldAccessorTest> list = new LinkedList<FieldAccessorTest>(Arrays.asList(objects));
+        FieldAccessor accessor = Reflects.accessor(FieldAccessorTest.class.getDeclaredField("intValue"));
+        accessor.setInts(objects, new int[] { 1, 2, 3 });
+        Assertions.assertEquals(2, objects[1].intValue);
+        int[] ints = new int[3];
+        accessor.getInts(list, ints);
+        Assertions.assertArrayEquals(new int[] { 1, 2, 3 }, ints);
+        accessor.setInts(list, new int[] { 4, 5, 6, 7 });
+        Assertions.assertEquals(6, objects[2].intValue);
+        Field field = FieldAccessorTest.class.getDeclaredField("objectValue");
+        Reflects.setFields(objects, field, new Object[] { "a", "b", "c" });
+        Object[] values = new Object[3];
+        Reflects.getFields(new ArrayList<FieldAccessorTest>(list), field, values);
+        Assertions.assertArrayEquals(new Object[] { "a", "b", "c" }, values);
+        double[] doubles = new double[3];
+        Reflects.getFields(objects, FieldAccessorTest.class.getDeclaredField("doubleValue"), doubles);
+        Assertions.assertArrayEquals(new double[3], doubles);
+        accessor = Reflects.accessor(FieldAccessorTest.class.getDeclaredField("byteValue"));
+        accessor.setBytes(list, new byte[] { -1, 0, 1 });
+        byte[] bytes = new byte[3];
+        accessor.getBytes(objects, bytes);
+        Assertions.assertArrayEquals(new byte[] { -1, 0, 1 }, bytes);
+        accessor = Reflects.accessor(FieldAccessorTest.class.getDeclaredField("charValue"));
+        accessor.setChars(objects, "abc".toCharArray());
+        char[] chars = new char[3];
+        accessor.getChars(list, chars);
+        Assertions.assertArrayEquals("abc".toCharArray(), chars);
+        accessor = Reflects.accessor(FieldAccessorTest.class.getDeclaredField("staticValue"));
+        accessor.setObjects(new Object[] { null, null }, new Object[] { "a", "b" });
+        Assertions.assertEquals("b", staticValue);
+        staticValue = null;
+    }
+
+    @Test
+    public void testIllegalBatchArguments() throws NoSuchFieldException {
+        final FieldAccessorTest[] objects = new FieldAccessorTest[] { new FieldAccessorTest(), null };
+        final Field field = FieldAccessorTest.class.getDeclaredField("intValue");
+        final FieldAccessor accessor = Reflects.accessor(field);
+        Assertions.assertThrows(IllegalArgumentException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                accessor.getLongs(objects, new long[2]);
+            }
+        });
+        Assertions.assertThrows(IllegalArgumentException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                Reflects.getFields(objects, field, new long[2]);
+            }
+        });
+        Assertions.assertThrows(IllegalArgumentException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                Reflects.getFields(objects, field, "TEST STRING");
+            }
+        });
+        Assertions.assertThrows(IndexOutOfBoundsException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                accessor.getInts(objects, new int[1]);
+            }
+        });
+        Assertions.assertThrows(NullPointerException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                accessor.setInts(objects, new int[2]);
+            }
+        });
+    }
+
+}
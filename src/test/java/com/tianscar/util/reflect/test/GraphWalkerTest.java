@@ -0,0 +1,98 @@
+package com.tianscar.util.reflect.test;
+
+import com.tianscar.util.reflect.GraphVisitor;
+import com.tianscar.util.reflect.GraphWalker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+public class GraphWalkerTest {
+
+    private static class Node {
+        private final int id;
+        private Node next;
+        private Object value;
+        Node(int id) {
+            this.id = id;
+        }
+    }
+
+    private static final class CountingVisitor extends GraphVisitor {
+        private int objects;
+        private int references;
+        private final List<Field> fields = new ArrayList<Field>();
+        @Override
+        public boolean visitObject(Object object) {
+            objects ++;
+            return true;
+        }
+        @Override
+        public boolean visitReference(Object referrer, Field field, int index, Object referent) {
+            references ++;
+            if (field != null) {
+                Assertions.assertEquals(-1, index);
+                fields.add(field);
+            }
+            return !(referent instanceof String);
+        }
+    }
+
+    @Test
+    public void testWalk() throws NoSuchFieldException {
+        Node first = new Node(1);
+        Node second = new Node(2);
+        first.next = second;
+        second.next = first;
+        first.value = new Object[] { second, "TEST STRING", null, new int[10] };
+        CountingVisitor visitor = new CountingVisitor();
+        GraphWalker walker = new GraphWalker();
+        walker.walk(first, visitor);
+        // first, second, the Object[] and the int[]; the String is skipped
+        Assertions.assertEquals(4, visitor.objects);
+        Assertions.assertEquals(4, walker.reachedCount());
+        Assertions.assertEquals(6, visitor.references);
+        Assertions.assertTrue(walker.isReached(second));
+        Assertions.assertFalse(walker.isReached("TEST STRING"));
+        Assertions.assertTrue(visitor.fields.contains(Node.class.getDeclaredField("next")));
+        // Already reached
+        walker.walk(second, visitor);
+        Assertions.assertEquals(4, visitor.objects);
+        walker.reset();
+        Assertions.assertFalse(walker.isReached(first));
+        walker.walk(second, visitor);
+        Assertions.assertEquals(8, visitor.objects);
+    }
+
+    @Test
+    public void testDeepGraph() {
+        Node head = new Node(0);
+        Node node = head;
+        for (int i = 1; i < 1000000; i ++) {
+            node = node.next = new Node(i);
+        }
+        GraphWalker walker = new GraphWalker();
+        walker.walk(head, new GraphVisitor() {
+            @Override
+            public boolean visitObject(Object object) {
+                return ((Node) object).id < 500000;
+            }
+        });
+        Assertions.assertEquals(500001, walker.reachedCount());
+        Assertions.assertFalse(walker.isReached(node));
+    }
+
+    @Test
+    public void testIllegalArguments() {
+        Assertions.assertThrows(NullPointerException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                new GraphWalker().walk(new Object(), null);
+            }
+        });
+    }
+
+}
@@ -0,0 +1,134 @@
+package com.tianscar.util.reflect.test;
+
+import com.tianscar.util.reflect.Lambdas;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.lang.reflect.Proxy;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+public class LambdasTest {
+
+    public interface Length {
+        int length(String string);
+    }
+
+    public interface LongLength {
+        long length(String string);
+    }
+
+    // Inherits the default methods of Function
+    public interface StringFunction extends Function<String, String> {
+    }
+
+    private int value;
+    private String name = "TEST STRING";
+
+    private static final class Name {
+        private final String name;
+        private Name() {
+            name = "TEST STRING";
+        }
+    }
+
+    private int add(int a) {
+        return value + a;
+    }
+
+    private static int multiply(int a, int b) {
+        return a * b;
+    }
+
+    @Test
+    public void testMethods() throws NoSuchMethodException {
+        LambdasTest object = new LambdasTest();
+        object.value = 1;
+        // Generic functional interfaces can only be passed as raw class literals
+        @SuppressWarnings("unchecked")
+        BiFunction<LambdasTest, Integer, Integer> add =
+                Lambdas.lambda(BiFunction.class, LambdasTest.class.getDeclaredMethod("add", int.class));
+        Assertions.assertEquals(3, (int) add.apply(object, 2));
+        IntBinaryOperator multiply =
+                Lambdas.lambda(IntBinaryOperator.class, LambdasTest.class.getDeclaredMethod("multiply", int.class, int.class));
+        Assertions.assertEquals(6, multiply.applyAsInt(2, 3));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testInternalMethod() throws NoSuchMethodException {
+        Function<String, Integer> length = Lambdas.lambda(Function.class, String.class.getDeclaredMethod("length"));
+        Assertions.assertEquals(11, (int) length.apply("TEST STRING"));
+        try {
+            Predicate<String> isLatin1 = Lambdas.lambda(Predicate.class, String.class.getDeclaredMethod("isLatin1"));
+            Assertions.assertTrue(isLatin1.test("TEST STRING"));
+        }
+        catch (NoSuchMethodException ignored) {
+        }
+    }
+
+    @Test
+    public void testInvisibleInterface() throws NoSuchMethodException {
+        // Not visible from the bootstrap class loader, implemented in the package of the interface instead of a proxy
+        Length length = Lambdas.lambda(Length.class, String.class.getDeclaredMethod("length"));
+        Assertions.assertFalse(Proxy.isProxyClass(length.getClass()));
+        Assertions.assertEquals(11, length.length("TEST STRING"));
+        Assertions.assertEquals(length, length);
+        LongLength longLength = Lambdas.lambda(LongLength.class, String.class.getDeclaredMethod("length"));
+        Assertions.assertEquals(11L, longLength.length("TEST STRING"));
+        StringFunction function = Lambdas.lambda(StringFunction.class, String.class.getDeclaredMethod("trim"));
+        Assertions.assertEquals("TEST STRING", function.andThen(function).apply(" TEST STRING "));
+        try {
+            Length coder = Lambdas.lambda(Length.class, String.class.getDeclaredMethod("coder")); // Java 9+
+            Assertions.assertEquals(0, coder.length("TEST STRING"));
+        }
+        catch (NoSuchMethodException ignored) {
+        }
+    }
+
+    @Test
+    public void testConstructor() throws NoSuchMethodException {
+        Supplier<Name> supplier = Lambdas.supplier(Name.class.getDeclaredConstructor());
+        Assertions.assertEquals("TEST STRING", supplier.get().name);
+    }
+
+    @Test
+    public void testFields() throws NoSuchFieldException {
+        LambdasTest object = new LambdasTest();
+        ObjIntConsumer<LambdasTest> setter = Lambdas.intSetter(LambdasTest.class.getDeclaredField("value"));
+        ToIntFunction<LambdasTest> getter = Lambdas.intGetter(LambdasTest.class.getDeclaredField("value"));
+        setter.accept(object, 1);
+        Assertions.assertEquals(1, getter.applyAsInt(object));
+        Function<LambdasTest, String> name = Lambdas.getter(LambdasTest.class.getDeclaredField("name"));
+        Assertions.assertEquals("TEST STRING", name.apply(object));
+    }
+
+    @Test
+    public void testIllegalArguments() {
+        Assertions.assertThrows(IllegalArgumentException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                Lambdas.lambda(Runnable.class, LambdasTest.class.getDeclaredMethod("add", int.class));
+            }
+        });
+        Assertions.assertThrows(IllegalArgumentException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                Lambdas.lambda(String.class, LambdasTest.class.getDeclaredMethod("add", int.class));
+            }
+        });
+        Assertions.assertThrows(IllegalArgumentException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                Lambdas.longGetter(LambdasTest.class.getDeclaredField("value"));
+            }
+        });
+    }
+
+}
@@ -0,0 +1,181 @@
+package com.tianscar.util.reflect.test;
+
+import com.tianscar.util.reflect.MethodInvoker;
+import com.tianscar.util.reflect.Reflects;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Comparator;
+
+public class MethodInvokerTest {
+
+    private int value;
+
+    private int add(int a, long b) {
+        return (int) (value + a + b);
+    }
+
+    private static String concat(String a, String b) {
+        return a + b;
+    }
+
+    private void set(int value) {
+        this.value = value;
+    }
+
+    private static int sum(int... values) {
+        int sum = 0;
+        for (int value : values) sum += value;
+        return sum;
+    }
+
+    private static void fail() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Test
+    public void testInvokeMethods() throws NoSuchMethodException, InvocationTargetException {
+        MethodInvokerTest object = new MethodInvokerTest();
+        MethodInvoker invoker = Reflects.invoker(MethodInvokerTest.class.getDeclaredMethod("set", int.class));
+        Assertions.assertNull(invoker.invoke(object, 1));
+        invoker = Reflects.invoker(MethodInvokerTest.class.getDeclaredMethod("add", int.class, long.class));
+        Assertions.assertEquals(6, invoker.invoke(object, 2, 3));
+        invoker = Reflects.invoker(MethodInvokerTest.class.getDeclaredMethod("concat", String.class, String.class));
+        Assertions.assertEquals("TEST STRING", invoker.invoke(null, "TEST ", "STRING"));
+        invoker = Reflects.invoker(MethodInvokerTest.class.getDeclaredMethod("sum", int[].class));
+        Assertions.assertEquals(6, invoker.invoke(null, (Object) new int[] {1, 2, 3}));
+    }
+
+    @Test
+    public void testInvokeTypedMethods() throws NoSuchMethodException, InvocationTargetException {
+        MethodInvokerTest object = new MethodInvokerTest();
+        object.value = 1;
+        MethodInvoker invoker = Reflects.invoker(MethodInvokerTest.class.getDeclaredMethod("add", int.class, long.class));
+        Assertions.assertEquals(6, invoker.invokeInt(object, 2, 3L));
+        Assertions.assertEquals(6, invoker.invokeInt(object, new Object[] {2, 3L}));
+        Assertions.assertEquals(6, invoker.invoke(object, (byte) 2, 3));
+        invoker = Reflects.invoker(String.class.getDeclaredMethod("length"));
+        Assertions.assertEquals(11, invoker.invokeInt("TEST STRING"));
+        invoker = Reflects.invoker(Long.class.getDeclaredMethod("sum", long.class, long.class));
+        Assertions.assertEquals(3L, invoker.invokeLong(null, 1L, 2L));
+        invoker = Reflects.invoker(Math.class.getDeclaredMethod("max", double.class, double.class));
+        Assertions.assertEquals(2.0, invoker.invokeDouble(null, 1.0, 2.0f));
+    }
+
+    @Test
+    public void testInvokeStaticInterfaceMethod() throws InvocationTargetException {
+        Method method;
+        try {
+            method = Comparator.class.getDeclaredMethod("naturalOrder"); // Java 8+
+        }
+        catch (NoSuchMethodException e) {
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Comparator<String> comparator = (Comparator<String>) Reflects.invoker(method).invoke(null);
+        Assertions.assertTrue(comparator.compare("A", "B") < 0);
+    }
+
+    // Run by the bytecodeTest task, the generated accessors must not silently fall back to another backend
+    @Test
+    public void testBytecodeBackend() throws NoSuchMethodException {
+        if (!"bytecode".equals(System.getProperty("com.tianscar.util.reflect.methodInvoker"))) return;
+        try {
+            Class.forName("sun.reflect.MagicAccessorImpl"); // Java 6-8
+        }
+        catch (ClassNotFoundException e) {
+            return;
+        }
+        Method[] methods = new Method[] {
+                MethodInvokerTest.class.getDeclaredMethod("set", int.class),
+                MethodInvokerTest.class.getDeclaredMethod("add", int.class, long.class),
+                MethodInvokerTest.class.getDeclaredMethod("concat", String.class, String.class),
+                Math.class.getDeclaredMethod("max", double.class, double.class)
+        };
+        for (Method method : methods) {
+            Assertions.assertEquals("BytecodeMethodInvoker", Reflects.invoker(method).getClass().getSimpleName());
+        }
+        try {
+            Method method = Comparator.class.getDeclaredMethod("naturalOrder"); // Java 8
+            Assertions.assertEquals("BytecodeMethodInvoker", Reflects.invoker(method).getClass().getSimpleName());
+        }
+        catch (NoSuchMethodException ignored) {
+        }
+    }
+
+    @Test
+    public void testIllegalReturnType() throws NoSuchMethodException {
+        final MethodInvoker invoker = Reflects.invoker(String.class.getDeclaredMethod("length"));
+        Assertions.assertThrows(IllegalArgumentException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                invoker.invokeLong("TEST STRING");
+            }
+        });
+        Assertions.assertThrows(IllegalArgumentException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                invoker.invokeInt("TEST STRING", 1);
+            }
+        });
+    }
+
+    @Test
+    public void testInvokeInternalMethod() throws NoSuchMethodException, InvocationTargetException {
+        MethodInvoker invoker = Reflects.invoker(String.class.getDeclaredMethod("indexOf", int.class, int.class));
+        Assertions.assertEquals(5, invoker.invoke("TEST STRING", (int) 'S', 3));
+        Method method;
+        try {
+            method = String.class.getDeclaredMethod("isLatin1");
+        }
+        catch (NoSuchMethodException e) {
+            return;
+        }
+        Assertions.assertEquals(Boolean.TRUE, Reflects.invoker(method).invoke("TEST STRING"));
+    }
+
+    @Test
+    public void testIllegalArguments() throws NoSuchMethodException {
+        final MethodInvoker invoker = Reflects.invoker(MethodInvokerTest.class.getDeclaredMethod("set", int.class));
+        Assertions.assertThrows(IllegalArgumentException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                invoker.invoke(new MethodInvokerTest(), "TEST STRING");
+            }
+        });
+        Assertions.assertThrows(IllegalArgumentException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                invoker.invoke(new MethodInvokerTest(), 1, 2);
+            }
+        });
+        Assertions.assertThrows(IllegalArgumentException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                invoker.invoke("TEST STRING", 1);
+            }
+        });
+        Assertions.assertThrows(NullPointerException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                invoker.invoke(null, 1);
+            }
+        });
+    }
+
+    @Test
+    public void testInvocationTargetException() throws NoSuchMethodException {
+        final MethodInvoker invoker = Reflects.invoker(MethodInvokerTest.class.getDeclaredMethod("fail"));
+        InvocationTargetException e = Assertions.assertThrows(InvocationTargetException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                invoker.invoke(null);
+            }
+        });
+        Assertions.assertTrue(e.getCause() instanceof UnsupportedOperationException);
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.tianscar.util.reflect.test;
+
+import com.tianscar.util.reflect.ObjectLayout;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class ObjectLayoutTest {
+
+    private static class Base {
+        private byte flag;
+        private Object next;
+    }
+
+    private static final class Node extends Base {
+        private long id;
+        private int[] data;
+        private TimeUnit unit;
+        private Node peer;
+    }
+
+    @Test
+    public void testLayout() throws NoSuchFieldException {
+        int headerSize = ObjectLayout.headerSize();
+        int alignment = ObjectLayout.objectAlignment();
+        Assertions.assertTrue(headerSize >= 8);
+        Assertions.assertTrue(ObjectLayout.referenceSize() == 4 || ObjectLayout.referenceSize() == 8);
+        Assertions.assertEquals(0, alignment & (alignment - 1));
+        Map<Field, Long> offsets = ObjectLayout.fieldOffsets(Node.class);
+        Assertions.assertEquals(6, offsets.size());
+        Assertions.assertTrue(offsets.containsKey(Base.class.getDeclaredField("flag")));
+        long previous = headerSize - 1;
+        for (long offset : offsets.values()) {
+            Assertions.assertTrue(offset > previous);
+            previous = offset;
+        }
+        long size = ObjectLayout.instanceSize(Node.class);
+        Assertions.assertEquals(0, size % alignment);
+        Assertions.assertTrue(size >= headerSize + 1 + 8 + ObjectLayout.referenceSize() * 4);
+        Assertions.assertTrue(size > previous);
+        Assertions.assertEquals((headerSize + alignment - 1) / alignment * alignment, ObjectLayout.instanceSize(Object.class));
+        Assertions.assertTrue(ObjectLayout.arraySize(byte[].class, 0) >= headerSize + 4);
+        Assertions.assertEquals(ObjectLayout.arraySize(long[].class, 0) + 8 * alignment,
+                ObjectLayout.arraySize(long[].class, alignment));
+    }
+
+    @Test
+    public void testSizes() {
+        Node first = new Node();
+        Node second = new Node();
+        first.peer = second;
+        second.peer = first;
+        ((Base) first).next = second;
+        first.data = new int[100];
+        second.data = first.data;
+        first.unit = TimeUnit.SECONDS;
+        Assertions.assertEquals(0, ObjectLayout.shallowSize(null));
+        Assertions.assertEquals(ObjectLayout.instanceSize(Node.class), ObjectLayout.shallowSize(first));
+        Assertions.assertEquals(ObjectLayout.arraySize(int[].class, 100), ObjectLayout.shallowSize(first.data));
+        Assertions.assertEquals(ObjectLayout.instanceSize(Node.class) * 2 + ObjectLayout.arraySize(int[].class, 100),
+                ObjectLayout.retainedSize(first));
+        Assertions.assertEquals(ObjectLayout.retainedSize(first), ObjectLayout.retainedSize(second));
+        Assertions.assertEquals(0, ObjectLayout.retainedSize(TimeUnit.SECONDS));
+        Object[] array = new Object[] { first, first, "" };
+        Assertions.assertEquals(ObjectLayout.shallowSize(array) + ObjectLayout.retainedSize(first)
+                + ObjectLayout.retainedSize(""), ObjectLayout.retainedSize(array));
+    }
+
+    @Test
+    public void testIllegalArguments() {
+        Assertions.assertThrows(IllegalArgumentException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                ObjectLayout.instanceSize(int[].class);
+            }
+        });
+        Assertions.assertThrows(IllegalArgumentException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                ObjectLayout.arraySize(String.class, 1);
+            }
+        });
+        Assertions.assertThrows(IllegalArgumentException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                ObjectLayout.arraySize(int[].class, -1);
+            }
+        });
+    }
+
+}
@@ -1,14 +1,34 @@
 package com.tianscar.util.reflect.test;
 
+import com.tianscar.util.reflect.Bind;
+import com.tianscar.util.reflect.FieldAccessor;
+import com.tianscar.util.reflect.MethodInvoker;
 import com.tianscar.util.reflect.Reflects;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.attribute.GroupPrincipal;
+import java.nio.file.attribute.UserPrincipal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 
 // Tested with Eclipse Temurin 8, 11, 17
 public class ReflectsTest {
@@ -16,6 +36,18 @@ public class ReflectsTest {
     private static final String TEST_STRING = "TEST STRING";
     private static final int TEST_INT = 0;
 
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testTrySetAccessibleCached() throws NoSuchFieldException {
+        Field field = String.class.getDeclaredField("hash");
+        Field copy = String.class.getDeclaredField("hash");
+        Assertions.assertNotSame(field, copy);
+        boolean accessible = Reflects.trySetAccessible(field);
+        Assertions.assertEquals(accessible, Reflects.trySetAccessible(copy));
+        Assertions.assertEquals(accessible, copy.isAccessible());
+        Assertions.assertTrue(Reflects.trySetAccessible(ReflectsTest.class.getDeclaredField("TEST_STRING")));
+    }
+
     @Test
     public void testGetInternalObjectField() throws NoSuchFieldException {
         final Field field = String.class.getDeclaredField("value");
@@ -43,6 +75,39 @@ public class ReflectsTest {
         Assertions.assertEquals(1, Reflects.getField(null, field));
     }
 
+    @Test
+    public void testGetHiddenClassField() throws IOException, NoSuchFieldException {
+        Class<?> clazz = Reflects.defineHiddenClass(ReflectsTest.class, readClass(Generated.class.getName()));
+        Field field = clazz.getDeclaredField("ANSWER");
+        Assertions.assertEquals(42, Reflects.getIntField(null, field));
+        Assertions.assertEquals(42, Reflects.getField(null, field));
+    }
+
+    @Test
+    public void testGetRecordField() throws Exception {
+        Class<?> clazz;
+        try {
+            clazz = Class.forName("jdk.net.UnixDomainPrincipal"); // Java 16+
+        } catch (ClassNotFoundException e) {
+            return;
+        }
+        UserPrincipal user = new UserPrincipal() {
+            @Override
+            public String getName() {
+                return "user";
+            }
+        };
+        GroupPrincipal group = new GroupPrincipal() {
+            @Override
+            public String getName() {
+                return "group";
+            }
+        };
+        Object principal = clazz.getConstructor(UserPrincipal.class, GroupPrincipal.class).newInstance(user, group);
+        Assertions.assertSame(user, Reflects.getObjectField(principal, clazz.getDeclaredField("user")));
+        Assertions.assertSame(group, Reflects.getField(principal, clazz.getDeclaredField("group")));
+    }
+
     @Test
     public void testInvokeInternalMethod() throws NoSuchMethodException, InvocationTargetException {
         try {
@@ -69,6 +134,24 @@ public class ReflectsTest {
         }
     }
 
+    @Test
+    public void testInvokePrimitiveMethods() throws NoSuchMethodException, InvocationTargetException {
+        Assertions.assertFalse(Reflects.invokeBooleanMethod("TEST", String.class.getMethod("isEmpty")));
+        Assertions.assertEquals((byte) 1, Reflects.invokeByteMethod(null, Byte.class.getMethod("parseByte", String.class), "1"));
+        Assertions.assertEquals('E', Reflects.invokeCharMethod("TEST", String.class.getMethod("charAt", int.class), 1));
+        Assertions.assertEquals((short) 2, Reflects.invokeShortMethod(null, Short.class.getMethod("parseShort", String.class), "2"));
+        Assertions.assertEquals(4, Reflects.invokeIntMethod("TEST", String.class.getMethod("length")));
+        Assertions.assertEquals(3L, Reflects.invokeLongMethod(null, Long.class.getMethod("parseLong", String.class), "3"));
+        Assertions.assertEquals(4.0f, Reflects.invokeFloatMethod(null, Float.class.getMethod("parseFloat", String.class), "4"));
+        Assertions.assertEquals(5.0, Reflects.invokeDoubleMethod(null, Double.class.getMethod("parseDouble", String.class), "5"));
+        Assertions.assertThrows(IllegalArgumentException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                Reflects.invokeLongMethod("TEST", String.class.getMethod("length"));
+            }
+        });
+    }
+
     @Test
     public void testInvokeInternalConstructor() throws NoSuchMethodException, InvocationTargetException, InstantiationException {
         try {
@@ -95,4 +178,571 @@ public class ReflectsTest {
         }
     }
 
+    private static class Base {
+        private final long id;
+        private final String name;
+        Base(long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    private static final class Derived extends Base {
+        private final boolean flag;
+        private final char c;
+        private final double value;
+        private final int[] array;
+        Derived(long id, String name, boolean flag, char c, double value, int[] array) {
+            super(id, name);
+            this.flag = flag;
+            this.c = c;
+            this.value = value;
+            this.array = array;
+        }
+    }
+
+    private interface Shape {
+        String KIND = "shape";
+        Shape copy();
+    }
+
+    private static class Square implements Shape {
+        private int side = 2;
+        private int area() {
+            return side * side;
+        }
+        @Override
+        public Square copy() {
+            return new Square();
+        }
+    }
+
+    private static final class ColoredSquare extends Square {
+        private final String color = "red";
+    }
+
+    @Test
+    public void testFindField() {
+        ColoredSquare square = new ColoredSquare();
+        FieldAccessor side = Reflects.findField(ColoredSquare.class, "side");
+        Assertions.assertEquals(Square.class, side.getField().getDeclaringClass());
+        Assertions.assertEquals(2, side.getInt(square));
+        Assertions.assertSame(side, Reflects.findField(ColoredSquare.class, "side"));
+        Assertions.assertEquals("red", Reflects.findField(ColoredSquare.class, "color").getObject(square));
+        Assertions.assertEquals("shape", Reflects.findField(ColoredSquare.class, "KIND").getObject(null));
+        Assertions.assertNull(Reflects.findField(ColoredSquare.class, "missing"));
+        Assertions.assertNull(Reflects.findField(ColoredSquare.class, "missing"));
+    }
+
+    @Test
+    public void testFindMethod() throws InvocationTargetException {
+        ColoredSquare square = new ColoredSquare();
+        MethodInvoker area = Reflects.findMethod(ColoredSquare.class, "area");
+        Assertions.assertEquals(4, area.invoke(square));
+        Assertions.assertSame(area, Reflects.findMethod(ColoredSquare.class, "area", (Class<?>[]) null));
+        // The bridge method returning Shape is skipped
+        Assertions.assertEquals(Square.class, Reflects.findMethod(ColoredSquare.class, "copy").getMethod().getReturnType());
+        Assertions.assertEquals(Shape.class, Reflects.findMethod(Shape.class, "copy").getMethod().getDeclaringClass());
+        Assertions.assertEquals(Object.class, Reflects.findMethod(ColoredSquare.class, "hashCode").getMethod().getDeclaringClass());
+        Assertions.assertTrue((Boolean) Reflects.findMethod(ColoredSquare.class, "equals", Object.class).invoke(square, square));
+        Assertions.assertNull(Reflects.findMethod(ColoredSquare.class, "area", int.class));
+    }
+
+    @Test
+    public void testCopyFields() {
+        Derived src = new Derived(1L, TEST_STRING, true, 'c', 2.0, new int[] {3});
+        Derived dst = new Derived(0L, null, false, '\0', 0.0, null);
+        Reflects.copyFields(src, dst);
+        Assertions.assertEquals(1L, ((Base) dst).id);
+        Assertions.assertSame(TEST_STRING, ((Base) dst).name);
+        Assertions.assertTrue(dst.flag);
+        Assertions.assertEquals('c', dst.c);
+        Assertions.assertEquals(2.0, dst.value);
+        Assertions.assertSame(src.array, dst.array);
+        final Base base = new Base(1L, TEST_STRING);
+        Assertions.assertThrows(IllegalArgumentException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                Reflects.copyFields(base, TEST_STRING);
+            }
+        });
+        Assertions.assertThrows(NullPointerException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                Reflects.copyFields(base, null);
+            }
+        });
+    }
+
+    @Test
+    public void testShallowClone() {
+        Derived src = new Derived(1L, TEST_STRING, true, 'c', 2.0, new int[] {3});
+        Derived clone = Reflects.shallowClone(src);
+        Assertions.assertNotSame(src, clone);
+        Assertions.assertEquals(1L, ((Base) clone).id);
+        Assertions.assertSame(TEST_STRING, ((Base) clone).name);
+        Assertions.assertEquals('c', clone.c);
+        Assertions.assertSame(src.array, clone.array);
+        List<String> list = new ArrayList<String>(Arrays.asList("A", "B"));
+        List<String> listClone = Reflects.shallowClone(list);
+        Assertions.assertEquals(list, listClone);
+        listClone.set(0, "C");
+        Assertions.assertEquals("C", list.get(0));
+        String string = new String(TEST_STRING);
+        Assertions.assertEquals(TEST_STRING, Reflects.shallowClone(string));
+        int[] array = new int[] {1, 2, 3};
+        Assertions.assertArrayEquals(array, Reflects.shallowClone(array));
+        Assertions.assertNotSame(array, Reflects.shallowClone(array));
+    }
+
+    private static final class Node {
+        private final String name;
+        private final List<Node> children = new ArrayList<Node>();
+        private Node parent;
+        private final int[] values;
+        Node(String name, int... values) {
+            this.name = name;
+            this.values = values;
+        }
+        Node add(Node child) {
+            child.parent = this;
+            children.add(child);
+            return child;
+        }
+    }
+
+    private static Node createTree(int width, int depth) {
+        Node root = new Node("root", 0);
+        List<Node> level = new ArrayList<Node>();
+        level.add(root);
+        for (int i = 0; i < depth; i ++) {
+            List<Node> next = new ArrayList<Node>();
+            for (Node node : level) {
+                for (int j = 0; j < width; j ++) {
+                    next.add(node.add(new Node(node.name + "." + j, i, j)));
+                }
+            }
+            level = next;
+        }
+        return root;
+    }
+
+    private static int assertDeepCopy(Node node, Node copy) {
+        Assertions.assertNotSame(node, copy);
+        Assertions.assertEquals(node.name, copy.name);
+        Assertions.assertNotSame(node.values, copy.values);
+        Assertions.assertArrayEquals(node.values, copy.values);
+        Assertions.assertEquals(node.children.size(), copy.children.size());
+        int count = 1;
+        for (int i = 0; i < node.children.size(); i ++) {
+            Assertions.assertSame(copy, copy.children.get(i).parent);
+            count += assertDeepCopy(node.children.get(i), copy.children.get(i));
+        }
+        return count;
+    }
+
+    @Test
+    public void testDeepClone() {
+        Assertions.assertNull(Reflects.deepClone(null));
+        Node root = createTree(3, 4);
+        Assertions.assertEquals(1 + 3 + 9 + 27 + 81, assertDeepCopy(root, Reflects.deepClone(root)));
+        Map<String, Object> map = new HashMap<String, Object>();
+        map.put(TEST_STRING, map);
+        Object[] array = new Object[] {map, map, Thread.State.NEW};
+        Object[] arrayCopy = Reflects.deepClone(array);
+        Assertions.assertNotSame(array[0], arrayCopy[0]);
+        Assertions.assertSame(arrayCopy[0], arrayCopy[1]);
+        Assertions.assertSame(arrayCopy[0], ((Map<?, ?>) arrayCopy[0]).get(TEST_STRING));
+        Assertions.assertSame(Thread.State.NEW, arrayCopy[2]);
+        List<Integer> list = new LinkedList<Integer>();
+        for (int i = 0; i < 100000; i ++) {
+            list.add(i);
+        }
+        Assertions.assertEquals(list, Reflects.deepClone(list));
+    }
+
+    @Test
+    public void testParallelDeepClone() {
+        Node root = createTree(8, 5);
+        Node copy = Reflects.parallelDeepClone(root);
+        Assertions.assertEquals(1 + 8 + 64 + 512 + 4096 + 32768, assertDeepCopy(root, copy));
+        Map<String, Object> map = new HashMap<String, Object>();
+        map.put(TEST_STRING, root);
+        map.put("", root);
+        Map<String, Object> mapCopy = Reflects.parallelDeepClone(map);
+        Assertions.assertSame(mapCopy.get(TEST_STRING), mapCopy.get(""));
+        assertDeepCopy(root, (Node) mapCopy.get(""));
+    }
+
+    @Test
+    public void testDeepEquals() {
+        Node root = createTree(3, 3);
+        Node copy = Reflects.deepClone(root);
+        Assertions.assertTrue(Reflects.deepEquals(root, copy));
+        Assertions.assertEquals(Reflects.fieldHash(root), Reflects.fieldHash(copy));
+        Assertions.assertTrue(Reflects.deepEquals(createTree(3, 3), root));
+        Assertions.assertTrue(Reflects.deepEquals(new Primitives(), new Primitives()));
+        Assertions.assertEquals(Reflects.fieldHash(new Primitives()), Reflects.fieldHash(new Primitives()));
+        Assertions.assertTrue(Reflects.deepEquals(null, null));
+        Assertions.assertFalse(Reflects.deepEquals(root, null));
+        Assertions.assertEquals(0, Reflects.fieldHash(null));
+        copy.children.get(2).children.get(1).values[0] = -1;
+        Assertions.assertFalse(Reflects.deepEquals(root, copy));
+        Assertions.assertFalse(Reflects.fieldHash(root) == Reflects.fieldHash(copy));
+        // Same values, different shapes
+        Node shared = new Node("shared");
+        Node first = new Node("first");
+        Node second = new Node("second");
+        Object[] sharing = new Object[] {shared, shared};
+        Object[] notSharing = new Object[] {new Node("shared"), new Node("shared")};
+        Assertions.assertFalse(Reflects.deepEquals(sharing, notSharing));
+        Assertions.assertTrue(Reflects.deepEquals(new Object[] {first, second}, new Object[] {new Node("first"), new Node("second")}));
+        Assertions.assertFalse(Reflects.deepEquals(new Object[] {first, first.values}, new Object[] {new Node("first"), new int[0]}));
+    }
+
+    @Test
+    public void testDiff() {
+        Node root = createTree(2, 2);
+        Node copy = Reflects.deepClone(root);
+        Assertions.assertTrue(Reflects.diff(root, copy).isEmpty());
+        copy.children.get(1).values[0] = -1;
+        copy.children.get(0).children.add(new Node("new"));
+        Derived derived = new Derived(1L, TEST_STRING, true, 'c', 2.0, new int[] {3});
+        Derived changed = new Derived(2L, TEST_STRING, true, 'd', 2.0, new int[] {3});
+        List<String> differences = Reflects.diff(root, copy);
+        Assertions.assertEquals(4, differences.size());
+        Assertions.assertTrue(differences.contains("children.elementData[1].values"));
+        Assertions.assertTrue(differences.contains("children.elementData[0].children.size"));
+        Assertions.assertTrue(differences.contains("children.elementData[0].children.modCount"));
+        Assertions.assertTrue(differences.contains("children.elementData[0].children.elementData[2]"));
+        differences = Reflects.diff(derived, changed);
+        Assertions.assertEquals(2, differences.size());
+        Assertions.assertTrue(differences.contains("id"));
+        Assertions.assertTrue(differences.contains("c"));
+        Assertions.assertEquals(Arrays.asList(""), Reflects.diff(root, derived));
+    }
+
+    private static final class Primitives {
+        private final boolean z = true;
+        private final byte b = -1;
+        private final char c = 'c';
+        private final short s = -2;
+        private final int i = -3;
+        private final long j = Long.MIN_VALUE;
+        private final float f = 0.5f;
+        private final double d = Double.NaN;
+        private final boolean[] zs = new boolean[] {true, false};
+        private final byte[] bs = new byte[] {1, 2};
+        private final char[] cs = new char[] {'a', 'b'};
+        private final short[] ss = new short[] {3, 4};
+        private final int[] is = new int[] {5, 6};
+        private final long[] js = new long[] {7L, 8L};
+        private final float[] fs = new float[] {9.0f, 10.0f};
+        private final double[] ds = new double[] {11.0, 12.0};
+        private final Object[] values = new Object[] {int.class, Primitives.class, Thread.State.BLOCKED, TEST_STRING, null, 1};
+    }
+
+    @Test
+    public void testSerialize() throws ClassNotFoundException {
+        ByteBuffer[] buffers = new ByteBuffer[] {
+                ByteBuffer.allocate(1 << 20).order(ByteOrder.nativeOrder()),
+                ByteBuffer.allocate(1 << 20).order(ByteOrder.BIG_ENDIAN),
+                ByteBuffer.allocate(1 << 20).order(ByteOrder.LITTLE_ENDIAN),
+                ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.nativeOrder())
+        };
+        for (ByteBuffer buffer : buffers) {
+            Node root = createTree(4, 3);
+            Reflects.serialize(root, buffer);
+            ((Buffer) buffer).flip();
+            Assertions.assertEquals(1 + 4 + 16 + 64, assertDeepCopy(root, (Node) Reflects.deserialize(buffer)));
+            Assertions.assertFalse(buffer.hasRemaining());
+            ((Buffer) buffer).clear();
+            Primitives primitives = new Primitives();
+            Reflects.serialize(primitives, buffer);
+            ((Buffer) buffer).flip();
+            Primitives copy = (Primitives) Reflects.deserialize(buffer);
+            Assertions.assertTrue(copy.z);
+            Assertions.assertEquals((byte) -1, copy.b);
+            Assertions.assertEquals('c', copy.c);
+            Assertions.assertEquals((short) -2, copy.s);
+            Assertions.assertEquals(-3, copy.i);
+            Assertions.assertEquals(Long.MIN_VALUE, copy.j);
+            Assertions.assertEquals(0.5f, copy.f);
+            Assertions.assertTrue(Double.isNaN(copy.d));
+            Assertions.assertTrue(copy.zs[0] && !copy.zs[1]);
+            Assertions.assertArrayEquals(primitives.bs, copy.bs);
+            Assertions.assertArrayEquals(primitives.cs, copy.cs);
+            Assertions.assertArrayEquals(primitives.ss, copy.ss);
+            Assertions.assertArrayEquals(primitives.is, copy.is);
+            Assertions.assertArrayEquals(primitives.js, copy.js);
+            Assertions.assertArrayEquals(primitives.fs, copy.fs);
+            Assertions.assertArrayEquals(primitives.ds, copy.ds);
+            Assertions.assertSame(int.class, copy.values[0]);
+            Assertions.assertSame(Primitives.class, copy.values[1]);
+            Assertions.assertSame(Thread.State.BLOCKED, copy.values[2]);
+            Assertions.assertEquals(TEST_STRING, copy.values[3]);
+            Assertions.assertNull(copy.values[4]);
+            Assertions.assertEquals(1, copy.values[5]);
+            ((Buffer) buffer).clear();
+            Map<String, Object> map = new HashMap<String, Object>();
+            map.put(TEST_STRING, map);
+            Reflects.serialize(map, buffer);
+            ((Buffer) buffer).flip();
+            Map<?, ?> mapCopy = (Map<?, ?>) Reflects.deserialize(buffer);
+            Assertions.assertSame(mapCopy, mapCopy.get(TEST_STRING));
+        }
+    }
+
+    @Test
+    public void testSerializeIllegalArguments() {
+        final ByteBuffer buffer = ByteBuffer.allocate(16);
+        Assertions.assertThrows(BufferOverflowException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                Reflects.serialize(new Primitives(), buffer);
+            }
+        });
+        ((Buffer) buffer).clear();
+        ((Buffer) buffer.put((byte) 42)).flip();
+        Assertions.assertThrows(IllegalArgumentException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                Reflects.deserialize(buffer);
+            }
+        });
+        final ByteBuffer array = ByteBuffer.allocate(32);
+        ((Buffer) array.put((byte) 2).putInt(-1).putInt(2).putChar('[').putChar('I').putInt(Integer.MAX_VALUE)).flip();
+        Assertions.assertThrows(IllegalArgumentException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                Reflects.deserialize(array);
+            }
+        });
+    }
+
+    public static final class Plugin {
+        private int value = 42;
+    }
+
+    private static byte[] readClass(String name) throws IOException {
+        InputStream in = ReflectsTest.class.getClassLoader().getResourceAsStream(name.replace('.', '/') + ".class");
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            for (int n; (n = in.read(buffer)) != -1; ) {
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            in.close();
+        }
+    }
+
+    // Defines its own copy of Plugin, like an application server loading a plugin
+    private static final class PluginClassLoader extends ClassLoader {
+        PluginClassLoader() {
+            super(ReflectsTest.class.getClassLoader());
+        }
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(Plugin.class.getName())) return super.loadClass(name, resolve);
+            try {
+                byte[] bytes = readClass(name);
+                return defineClass(name, bytes, 0, bytes.length);
+            } catch (IOException e) {
+                throw new ClassNotFoundException(name, e);
+            }
+        }
+    }
+
+    private static WeakReference<ClassLoader> accessPlugin() throws ClassNotFoundException, NoSuchFieldException, InstantiationException {
+        ClassLoader classLoader = new PluginClassLoader();
+        Class<?> clazz = classLoader.loadClass(Plugin.class.getName());
+        Assertions.assertNotSame(Plugin.class, clazz);
+        Object plugin = Reflects.allocateInstance(clazz);
+        Field field = clazz.getDeclaredField("value");
+        Reflects.setIntField(plugin, field, 42);
+        Assertions.assertEquals(42, Reflects.getIntField(plugin, field));
+        Assertions.assertNotNull(Reflects.shallowClone(plugin));
+        return new WeakReference<ClassLoader>(classLoader);
+    }
+
+    @Test
+    public void testClassUnloading() throws ClassNotFoundException, NoSuchFieldException, InstantiationException, InterruptedException {
+        WeakReference<ClassLoader> classLoader = accessPlugin();
+        for (int i = 0; i < 50 && classLoader.get() != null; i ++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        Assertions.assertNull(classLoader.get());
+    }
+
+    // Shared by every plugin
+    interface PluginValue {
+        int value();
+    }
+
+    private static WeakReference<ClassLoader> bindPlugin() throws ClassNotFoundException, NoSuchMethodException,
+            IllegalAccessException, InstantiationException, InvocationTargetException {
+        ClassLoader classLoader = new PluginClassLoader();
+        Object plugin = classLoader.loadClass(Plugin.class.getName()).getDeclaredConstructor().newInstance();
+        Assertions.assertEquals(42, Reflects.bind(PluginValue.class, plugin).value());
+        return new WeakReference<ClassLoader>(classLoader);
+    }
+
+    @Test
+    public void testBindingUnloading() throws ClassNotFoundException, NoSuchMethodException, IllegalAccessException,
+            InstantiationException, InvocationTargetException, InterruptedException {
+        WeakReference<ClassLoader> classLoader = bindPlugin();
+        for (int i = 0; i < 50 && classLoader.get() != null; i ++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        Assertions.assertNull(classLoader.get());
+    }
+
+    private static final class Account {
+        private static int count;
+        private final String owner;
+        private long balance;
+        private Account(String owner) {
+            this.owner = owner;
+            count ++;
+        }
+        private long deposit(int amount) {
+            return balance += amount;
+        }
+        private static String format(Account account) {
+            return account.owner + ": " + account.balance;
+        }
+    }
+
+    interface AccountView {
+        long deposit(int amount);
+        long balance();
+        @Bind(value = "balance", kind = Bind.Kind.SETTER)
+        void reset(long balance);
+        @Bind("owner")
+        String name();
+        @Bind("owner")
+        void rename(String owner);
+        // Account is inaccessible from code which would bind it
+        @Bind("format")
+        String describe(Object account);
+        int count();
+    }
+
+    interface AccountStatics {
+        @Bind("format")
+        String describe(Object account);
+        int count();
+    }
+
+    interface ListInternals {
+        int size();
+        @Bind(value = "elementData", kind = Bind.Kind.GETTER)
+        Object[] elements();
+    }
+
+    interface Sized {
+        int size();
+    }
+
+    interface Counted {
+        int size();
+    }
+
+    interface SizedList extends Sized, Counted {
+        @Bind(value = "elementData", kind = Bind.Kind.GETTER)
+        Object[] elements();
+    }
+
+    @Test
+    public void testBind() {
+        Account account = new Account("Alice");
+        AccountView view = Reflects.bind(AccountView.class, account);
+        Assertions.assertEquals(3L, view.deposit(3));
+        Assertions.assertEquals(7L, view.deposit(4));
+        Assertions.assertEquals(7L, view.balance());
+        view.reset(1L);
+        Assertions.assertEquals(1L, account.balance);
+        Assertions.assertEquals("Alice", view.name());
+        view.rename("Bob");
+        Assertions.assertEquals("Bob", view.name());
+        Assertions.assertEquals("Bob: 1", view.describe(account));
+        Assertions.assertTrue(view.count() > 0);
+        Assertions.assertEquals(view, view);
+        Assertions.assertSame(view.getClass(), Reflects.bind(AccountView.class, new Account("Carol")).getClass());
+        AccountStatics statics = Reflects.bindStatic(AccountStatics.class, Account.class);
+        Assertions.assertEquals("Bob: 1", statics.describe(account));
+        Assertions.assertEquals(view.count(), statics.count());
+        List<String> list = new ArrayList<String>();
+        list.add("TEST STRING");
+        ListInternals internals = Reflects.bind(ListInternals.class, list);
+        Assertions.assertEquals(1, internals.size());
+        Assertions.assertEquals("TEST STRING", internals.elements()[0]);
+        // The same abstract method inherited twice is implemented once, by the generated class
+        SizedList sized = Reflects.bind(SizedList.class, list);
+        Assertions.assertFalse(Proxy.isProxyClass(sized.getClass()));
+        Assertions.assertEquals(1, sized.size());
+        Assertions.assertEquals(1, ((Counted) sized).size());
+    }
+
+    @Test
+    public void testIllegalBinding() {
+        Assertions.assertThrows(IllegalArgumentException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                Reflects.bind(ListInternals.class, new LinkedList<String>());
+            }
+        });
+        Assertions.assertThrows(IllegalArgumentException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                Reflects.bindStatic(AccountView.class, Account.class);
+            }
+        });
+        Assertions.assertThrows(IllegalArgumentException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                Reflects.bind(Account.class, new Account("Alice"));
+            }
+        });
+    }
+
+    public static final class Generated {
+        private static final int ANSWER;
+        static {
+            ANSWER = 42;
+        }
+        public static int answer() {
+            return ANSWER;
+        }
+    }
+
+    @Test
+    public void testDefineClass() throws IOException, ClassNotFoundException, NoSuchMethodException, InvocationTargetException {
+        Class<?> host = new PluginClassLoader().loadClass(Plugin.class.getName());
+        Class<?> clazz = Reflects.defineClass(host, readClass(Generated.class.getName()));
+        Assertions.assertNotSame(Generated.class, clazz);
+        Assertions.assertEquals(Generated.class.getName(), clazz.getName());
+        Assertions.assertSame(host.getClassLoader(), clazz.getClassLoader());
+        Assertions.assertEquals(42, Reflects.invoker(clazz.getDeclaredMethod("answer")).invokeInt(null));
+    }
+
+    @Test
+    public void testDefineHiddenClass() throws IOException, NoSuchMethodException, InvocationTargetException {
+        byte[] bytes = readClass(Generated.class.getName());
+        Class<?> clazz = Reflects.defineHiddenClass(ReflectsTest.class, bytes);
+        Assertions.assertNotSame(Generated.class, clazz);
+        Assertions.assertNotSame(clazz, Reflects.defineHiddenClass(ReflectsTest.class, bytes));
+        Assertions.assertEquals(42, Reflects.invoker(clazz.getDeclaredMethod("answer")).invokeInt(null));
+        Assertions.assertThrows(NullPointerException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                Reflects.defineHiddenClass(ReflectsTest.class, null);
+            }
+        });
+    }
+
 }
@@ -0,0 +1,101 @@
+package com.tianscar.util.reflect.test;
+
+import com.tianscar.util.reflect.StringAccess;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+public class StringAccessTest {
+
+    private static final String TEST_STRING = "TEST STRING";
+    private static final String TEST_UTF16_STRING = "TEST \u5b57\u7b26\u4e32";
+
+    @Test
+    public void testValue() {
+        Object value = StringAccess.value(TEST_STRING);
+        Assertions.assertSame(value, StringAccess.value(TEST_STRING));
+        if (StringAccess.valueType() == byte[].class) {
+            if (StringAccess.compactStrings()) {
+                Assertions.assertEquals(StringAccess.LATIN1, StringAccess.coder(TEST_STRING));
+                Assertions.assertArrayEquals(TEST_STRING.getBytes(), (byte[]) value);
+            }
+            else Assertions.assertEquals(StringAccess.UTF16, StringAccess.coder(TEST_STRING));
+            Assertions.assertEquals(StringAccess.UTF16, StringAccess.coder(TEST_UTF16_STRING));
+            Assertions.assertEquals(TEST_UTF16_STRING.length() << 1, ((byte[]) StringAccess.value(TEST_UTF16_STRING)).length);
+        }
+        else {
+            Assertions.assertEquals(StringAccess.UTF16, StringAccess.coder(TEST_STRING));
+            char[] chars = (char[]) value;
+            int offset = StringAccess.offset(TEST_STRING);
+            Assertions.assertEquals(TEST_STRING, new String(chars, offset, TEST_STRING.length()));
+        }
+    }
+
+    @Test
+    public void testWrap() {
+        if (StringAccess.valueType() == byte[].class) {
+            if (StringAccess.compactStrings()) {
+                byte[] latin1 = TEST_STRING.getBytes();
+                String string = StringAccess.wrap(latin1, StringAccess.LATIN1);
+                Assertions.assertEquals(TEST_STRING, string);
+                Assertions.assertEquals(TEST_STRING.hashCode(), string.hashCode());
+                Assertions.assertSame(latin1, StringAccess.value(string));
+            }
+            ByteBuffer utf16 = ByteBuffer.allocate(TEST_UTF16_STRING.length() << 1).order(ByteOrder.nativeOrder());
+            utf16.asCharBuffer().put(TEST_UTF16_STRING);
+            Assertions.assertEquals(TEST_UTF16_STRING, StringAccess.wrap(utf16.array(), StringAccess.UTF16));
+            Assertions.assertThrows(UnsupportedOperationException.class, new Executable() {
+                @Override
+                public void execute() throws Throwable {
+                    StringAccess.wrap(TEST_STRING.toCharArray());
+                }
+            });
+        }
+        else {
+            char[] chars = TEST_UTF16_STRING.toCharArray();
+            String string = StringAccess.wrap(chars);
+            Assertions.assertEquals(TEST_UTF16_STRING, string);
+            Assertions.assertEquals(TEST_UTF16_STRING.hashCode(), string.hashCode());
+            Assertions.assertSame(chars, StringAccess.value(string));
+            Assertions.assertEquals(0, StringAccess.offset(string));
+        }
+        Assertions.assertEquals("", StringAccess.valueType() == byte[].class ?
+                StringAccess.wrap(new byte[0], StringAccess.compactStrings() ? StringAccess.LATIN1 : StringAccess.UTF16) : StringAccess.wrap(new char[0]));
+    }
+
+    @Test
+    public void testIllegalArguments() {
+        if (StringAccess.valueType() == byte[].class) {
+            Assertions.assertThrows(IllegalArgumentException.class, new Executable() {
+                @Override
+                public void execute() throws Throwable {
+                    StringAccess.wrap(new byte[3], StringAccess.UTF16);
+                }
+            });
+            Assertions.assertThrows(IllegalArgumentException.class, new Executable() {
+                @Override
+                public void execute() throws Throwable {
+                    StringAccess.wrap(new byte[2], (byte) 2);
+                }
+            });
+        }
+        else {
+            Assertions.assertThrows(UnsupportedOperationException.class, new Executable() {
+                @Override
+                public void execute() throws Throwable {
+                    StringAccess.wrap(new byte[2], StringAccess.LATIN1);
+                }
+            });
+        }
+        Assertions.assertThrows(NullPointerException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                StringAccess.value(null);
+            }
+        });
+    }
+
+}
@@ -0,0 +1,141 @@
+package com.tianscar.util.reflect.test;
+
+import com.tianscar.util.reflect.StructLayout;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.util.Arrays;
+import java.util.Map;
+
+public class StructLayoutTest {
+
+    private static class Base {
+        private short s;
+    }
+
+    private static final class Point extends Base {
+        private final long a;
+        private int b;
+        private boolean c;
+        private double d;
+        private String name = "TEST STRING";
+        Point(short s, long a, int b, boolean c, double d) {
+            ((Base) this).s = s;
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.d = d;
+        }
+        void assertEquals(Point point) {
+            Assertions.assertEquals(((Base) this).s, ((Base) point).s);
+            Assertions.assertEquals(a, point.a);
+            Assertions.assertEquals(b, point.b);
+            Assertions.assertEquals(c, point.c);
+            Assertions.assertEquals(d, point.d);
+        }
+    }
+
+    private static Point[] createPoints(int count) {
+        Point[] points = new Point[count];
+        for (int i = 0; i < count; i ++) {
+            points[i] = new Point((short) i, i * 31L, -i, (i & 1) == 0, i / 2.0);
+        }
+        return points;
+    }
+
+    @Test
+    public void testLayout() throws NoSuchFieldException {
+        StructLayout<Point> layout = StructLayout.of(Point.class);
+        Assertions.assertSame(layout, StructLayout.of(Point.class));
+        Assertions.assertSame(Point.class, layout.type());
+        // s at 0, then a at 8, b at 16, c at 20, d at 24
+        Assertions.assertEquals(32, layout.size());
+        Map<Field, Long> offsets = layout.fieldOffsets();
+        Assertions.assertEquals(5, offsets.size());
+        Assertions.assertEquals(Long.valueOf(0), offsets.get(Base.class.getDeclaredField("s")));
+        Assertions.assertEquals(Long.valueOf(8), offsets.get(Point.class.getDeclaredField("a")));
+        Assertions.assertEquals(Long.valueOf(20), offsets.get(Point.class.getDeclaredField("c")));
+        Assertions.assertFalse(offsets.containsKey(Point.class.getDeclaredField("name")));
+    }
+
+    @Test
+    public void testAddress() {
+        StructLayout<Point> layout = StructLayout.of(Point.class);
+        Point[] points = createPoints(1000);
+        long address = layout.allocate(points.length);
+        try {
+            layout.writeAll(points, address);
+            Point[] copies = new Point[points.length];
+            copies[1] = new Point((short) 0, 0L, 0, false, 0.0);
+            layout.readAll(address, copies);
+            for (int i = 0; i < points.length; i ++) {
+                points[i].assertEquals(copies[i]);
+            }
+            Assertions.assertEquals("TEST STRING", copies[1].name);
+            Assertions.assertNull(copies[2].name);
+            layout.write(points[999], address);
+            points[999].assertEquals(layout.read(address));
+        } finally {
+            StructLayout.free(address);
+        }
+    }
+
+    @Test
+    public void testBuffer() {
+        StructLayout<Point> layout = StructLayout.of(Point.class);
+        Point[] points = createPoints(100);
+        for (ByteBuffer buffer : new ByteBuffer[] { ByteBuffer.allocateDirect(3208), ByteBuffer.allocate(3208) }) {
+            layout.writeAll(points, buffer, 8);
+            Assertions.assertEquals(0, buffer.position());
+            Point[] copies = new Point[points.length];
+            layout.readAll(buffer, 8, copies);
+            for (int i = 0; i < points.length; i ++) {
+                points[i].assertEquals(copies[i]);
+            }
+            points[42].assertEquals(layout.read(buffer, 8 + 42 * 32));
+            layout.write(points[0], buffer, 3176);
+            points[0].assertEquals(layout.read(buffer.asReadOnlyBuffer(), 3176));
+        }
+    }
+
+    @Test
+    public void testIllegalArguments() {
+        final StructLayout<Point> layout = StructLayout.of(Point.class);
+        final Point[] points = createPoints(2);
+        Assertions.assertThrows(IndexOutOfBoundsException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                layout.writeAll(points, ByteBuffer.allocate(63), 0);
+            }
+        });
+        Assertions.assertThrows(IndexOutOfBoundsException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                layout.read(ByteBuffer.allocate(64), -1);
+            }
+        });
+        Assertions.assertThrows(ReadOnlyBufferException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                layout.write(points[0], ByteBuffer.allocate(64).asReadOnlyBuffer(), 0);
+            }
+        });
+        Assertions.assertThrows(NullPointerException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                layout.writeAll(Arrays.copyOf(points, 3), ByteBuffer.allocate(96), 0);
+            }
+        });
+        Assertions.assertThrows(IllegalArgumentException.class, new Executable() {
+            @Override
+            public void execute() throws Throwable {
+                StructLayout.of(int[].class);
+            }
+        });
+    }
+
+}